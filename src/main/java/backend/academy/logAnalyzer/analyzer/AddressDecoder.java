@@ -0,0 +1,289 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import java.util.Arrays;
+import lombok.experimental.UtilityClass;
+import static backend.academy.logAnalyzer.constants.ConstValues.NO_ADDRESS;
+
+@UtilityClass
+public class AddressDecoder {
+
+    private static final int DECIMAL_BASE = 10;
+    private static final int HEX_BASE = 16;
+    private static final int IPV4_OCTETS = 4;
+    private static final int MAX_OCTET = 255;
+    private static final int MAX_OCTET_DIGITS = 3;
+    private static final int IPV6_GROUPS = 8;
+    private static final int GROUPS_IN_LONG = 4;
+    private static final int MAX_GROUP_DIGITS = 4;
+    private static final int BITS_IN_OCTET = 8;
+    private static final int BITS_IN_GROUP = 16;
+    private static final int GROUP_MASK = 0xFFFF;
+    private static final int OCTET_MASK = 0xFF;
+    private static final int IPV4_BITS = 32;
+    private static final long IPV4_MAPPED_PREFIX = 0xFFFFL;
+    private static final long IPV4_MASK = 0xFFFFFFFFL;
+    private static final int LOWER_CASE_BIT = 0x20;
+    private static final String GAP = "::";
+    private static final char OCTETS_SEPARATOR = '.';
+    private static final char GROUPS_SEPARATOR = ':';
+
+    public static long decodeIpv4(CharSequence address, int start, int end) {
+        long result = 0;
+        int octets = 0;
+        int index = start;
+
+        while (octets < IPV4_OCTETS) {
+            final int octetStart = index;
+            int octet = 0;
+
+            while (index < end && index - octetStart < MAX_OCTET_DIGITS && isDigit(address.charAt(index))) {
+                octet = octet * DECIMAL_BASE + address.charAt(index) - '0';
+                index++;
+            }
+
+            if (index == octetStart || octet > MAX_OCTET) {
+                return NO_ADDRESS;
+            }
+
+            result = result << BITS_IN_OCTET | octet;
+            octets++;
+
+            if (octets < IPV4_OCTETS) {
+                if (index >= end || address.charAt(index) != OCTETS_SEPARATOR) {
+                    return NO_ADDRESS;
+                }
+
+                index++;
+            }
+        }
+
+        return index == end ? result : NO_ADDRESS;
+    }
+
+    public static boolean decodeIpv6(CharSequence address, int start, int end, long[] result) {
+        final int[] groups = new int[IPV6_GROUPS];
+        int count = 0;
+        int gap = -1;
+        int index = start;
+
+        if (end - start >= 2 && address.charAt(start) == GROUPS_SEPARATOR) {
+            if (address.charAt(start + 1) != GROUPS_SEPARATOR) {
+                return false;
+            }
+
+            gap = 0;
+            index += 2;
+        }
+
+        while (index < end) {
+            final int groupEnd = getGroupEnd(address, index, end);
+
+            if (groupEnd == end && count <= IPV6_GROUPS - 2 && contains(address, index, end, OCTETS_SEPARATOR)) {
+                final long ipv4 = decodeIpv4(address, index, end);
+
+                if (ipv4 == NO_ADDRESS) {
+                    return false;
+                }
+
+                groups[count++] = (int) (ipv4 >>> BITS_IN_GROUP);
+                groups[count++] = (int) (ipv4 & GROUP_MASK);
+                index = end;
+                break;
+            }
+
+            final int group = decodeGroup(address, index, groupEnd);
+
+            if (group < 0 || count == IPV6_GROUPS) {
+                return false;
+            }
+
+            groups[count++] = group;
+            index = groupEnd;
+
+            if (index < end) {
+                index++;
+
+                if (index == end) {
+                    return false;
+                }
+
+                if (address.charAt(index) == GROUPS_SEPARATOR) {
+                    if (gap >= 0) {
+                        return false;
+                    }
+
+                    gap = count;
+                    index++;
+                }
+            }
+        }
+
+        if (gap < 0 ? count != IPV6_GROUPS : count >= IPV6_GROUPS) {
+            return false;
+        }
+
+        if (gap >= 0) {
+            final int shift = IPV6_GROUPS - count;
+
+            System.arraycopy(groups, gap, groups, gap + shift, count - gap);
+            Arrays.fill(groups, gap, gap + shift, 0);
+        }
+
+        result[0] = packGroups(groups, 0);
+        result[1] = packGroups(groups, GROUPS_IN_LONG);
+
+        return true;
+    }
+
+    public static boolean isCanonicalIpv4(CharSequence address, long decoded) {
+        int length = IPV4_OCTETS - 1;
+
+        for (int shift = (IPV4_OCTETS - 1) * BITS_IN_OCTET; shift >= 0; shift -= BITS_IN_OCTET) {
+            length++;
+
+            for (long octet = decoded >>> shift & OCTET_MASK; octet >= DECIMAL_BASE; octet /= DECIMAL_BASE) {
+                length++;
+            }
+        }
+
+        return length == address.length();
+    }
+
+    public static boolean isCanonicalIpv6(CharSequence address, long high, long low) {
+        return encodeIpv6(high, low).contentEquals(address);
+    }
+
+    public static String encodeIpv4(long address) {
+        final StringBuilder result = new StringBuilder();
+
+        for (int shift = (IPV4_OCTETS - 1) * BITS_IN_OCTET; shift >= 0; shift -= BITS_IN_OCTET) {
+            result.append(address >>> shift & OCTET_MASK);
+
+            if (shift > 0) {
+                result.append(OCTETS_SEPARATOR);
+            }
+        }
+
+        return result.toString();
+    }
+
+    public static String encodeIpv6(long high, long low) {
+        if (high == 0 && low >>> IPV4_BITS == IPV4_MAPPED_PREFIX) {
+            return GAP + Long.toHexString(IPV4_MAPPED_PREFIX) + GROUPS_SEPARATOR + encodeIpv4(low & IPV4_MASK);
+        }
+
+        final int[] groups = new int[IPV6_GROUPS];
+
+        unpackGroups(high, groups, 0);
+        unpackGroups(low, groups, GROUPS_IN_LONG);
+
+        int gap = -1;
+        int gapLength = 1;
+        int index = 0;
+
+        while (index < IPV6_GROUPS) {
+            int zeros = 0;
+
+            while (index + zeros < IPV6_GROUPS && groups[index + zeros] == 0) {
+                zeros++;
+            }
+
+            if (zeros > gapLength) {
+                gap = index;
+                gapLength = zeros;
+            }
+
+            index += zeros + 1;
+        }
+
+        final StringBuilder result = new StringBuilder();
+
+        index = 0;
+
+        while (index < IPV6_GROUPS) {
+            if (index == gap) {
+                result.append(GAP);
+                index += gapLength;
+            } else {
+                if (!result.isEmpty() && result.charAt(result.length() - 1) != GROUPS_SEPARATOR) {
+                    result.append(GROUPS_SEPARATOR);
+                }
+
+                result.append(Integer.toHexString(groups[index]));
+                index++;
+            }
+        }
+
+        return result.toString();
+    }
+
+    private static int getGroupEnd(CharSequence address, int start, int end) {
+        int index = start;
+
+        while (index < end && address.charAt(index) != GROUPS_SEPARATOR) {
+            index++;
+        }
+
+        return index;
+    }
+
+    private static int decodeGroup(CharSequence address, int start, int end) {
+        if (start == end || end - start > MAX_GROUP_DIGITS) {
+            return -1;
+        }
+
+        int group = 0;
+
+        for (int i = start; i < end; i++) {
+            final int digit = getHexDigit(address.charAt(i));
+
+            if (digit < 0) {
+                return -1;
+            }
+
+            group = group * HEX_BASE + digit;
+        }
+
+        return group;
+    }
+
+    private static long packGroups(int[] groups, int from) {
+        long result = 0;
+
+        for (int i = from; i < from + GROUPS_IN_LONG; i++) {
+            result = result << BITS_IN_GROUP | groups[i];
+        }
+
+        return result;
+    }
+
+    private static void unpackGroups(long value, int[] groups, int from) {
+        for (int i = 0; i < GROUPS_IN_LONG; i++) {
+            groups[from + i] = (int) (value >>> (GROUPS_IN_LONG - 1 - i) * BITS_IN_GROUP & GROUP_MASK);
+        }
+    }
+
+    private static boolean contains(CharSequence address, int start, int end, char symbol) {
+        for (int i = start; i < end; i++) {
+            if (address.charAt(i) == symbol) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static int getHexDigit(char symbol) {
+        if (isDigit(symbol)) {
+            return symbol - '0';
+        }
+
+        final char lowerSymbol = (char) (symbol | LOWER_CASE_BIT);
+
+        return lowerSymbol >= 'a' && lowerSymbol <= 'f' ? lowerSymbol - 'a' + DECIMAL_BASE : -1;
+    }
+
+    private static boolean isDigit(char symbol) {
+        return symbol >= '0' && symbol <= '9';
+    }
+}
@@ -0,0 +1,50 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+public class ByteCharSequence implements CharSequence {
+
+    private static final int BYTE_MASK = 0xFF;
+
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    public ByteCharSequence(ByteBuffer buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.limit());
+
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, length);
+
+        return (char) (buffer.get(offset + index) & BYTE_MASK);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, length);
+
+        return new ByteCharSequence(buffer, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        final byte[] bytes = new byte[length];
+
+        buffer.get(offset, bytes);
+
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,196 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import backend.academy.logAnalyzer.enums.LogField;
+import java.util.EnumSet;
+import java.util.Set;
+
+public class CombinedLogTokenizer implements LogTokenizer {
+
+    private static final int FIELDS_COUNT = LogField.values().length;
+    private static final Set<LogField> FIELDS = EnumSet.range(LogField.REMOTE_ADDRESS, LogField.HTTP_USER_AGENT);
+
+    private static final char QUOTE = '"';
+    private static final String ADDRESS_SEPARATOR = " - ";
+    private static final String TIME_LOCAL_BEGIN = " [";
+    private static final String TIME_LOCAL_END = "] \"";
+    private static final String FIELDS_SEPARATOR = " ";
+    private static final String QUOTED_FIELD_BEGIN = " \"";
+    private static final String QUOTED_FIELDS_SEPARATOR = "\" \"";
+
+    private final int[] starts = new int[FIELDS_COUNT];
+    private final int[] ends = new int[FIELDS_COUNT];
+
+    private CharSequence line;
+    private int position;
+
+    @Override
+    public boolean tokenize(CharSequence logEntry) {
+        line = logEntry;
+        position = 0;
+
+        return readToken(LogField.REMOTE_ADDRESS)
+            && skip(ADDRESS_SEPARATOR)
+            && readToken(LogField.REMOTE_USER)
+            && skip(TIME_LOCAL_BEGIN)
+            && readTimeLocal()
+            && readRequest()
+            && skip(FIELDS_SEPARATOR)
+            && readDigits(LogField.HTTP_STATUS)
+            && skip(FIELDS_SEPARATOR)
+            && readDigits(LogField.BODY_BYTES_SEND)
+            && skip(QUOTED_FIELD_BEGIN)
+            && readQuotedFields();
+    }
+
+    @Override
+    public boolean contains(LogField field) {
+        return FIELDS.contains(field);
+    }
+
+    @Override
+    public CharSequence field(LogField field) {
+        return line.subSequence(starts[field.ordinal()], ends[field.ordinal()]);
+    }
+
+    private boolean readToken(LogField field) {
+        final int start = position;
+
+        while (position < line.length() && !isWhitespace(line.charAt(position))) {
+            position++;
+        }
+
+        return setField(field, start, position);
+    }
+
+    private boolean readDigits(LogField field) {
+        final int start = position;
+
+        while (position < line.length() && isDigit(line.charAt(position))) {
+            position++;
+        }
+
+        return setField(field, start, position);
+    }
+
+    private boolean readTimeLocal() {
+        final int start = position;
+
+        if (start >= line.length() || isLineTerminator(line.charAt(start))) {
+            return false;
+        }
+
+        final int end = indexOf(TIME_LOCAL_END, start + 1);
+
+        if (end < 0) {
+            return false;
+        }
+
+        position = end + TIME_LOCAL_END.length();
+
+        return setField(LogField.TIME_LOCAL, start, end);
+    }
+
+    private boolean readRequest() {
+        final int start = position;
+
+        if (!readToken(LogField.HTTP_METHOD)
+            || !skip(FIELDS_SEPARATOR)
+            || !readToken(LogField.RESOURCE)
+            || !skip(FIELDS_SEPARATOR)
+            || !readToken(LogField.HTTP_PROTOCOL)) {
+            return false;
+        }
+
+        final int end = position - 1;
+
+        if (line.charAt(end) != QUOTE) {
+            return false;
+        }
+
+        return setField(LogField.HTTP_PROTOCOL, starts[LogField.HTTP_PROTOCOL.ordinal()], end)
+            && setField(LogField.REQUEST, start, end);
+    }
+
+    private boolean readQuotedFields() {
+        final int lastIndex = line.length() - 1;
+        final int refererEnd = indexOf(QUOTED_FIELDS_SEPARATOR, position);
+        final int userAgentStart = refererEnd + QUOTED_FIELDS_SEPARATOR.length();
+
+        if (refererEnd < 0 || userAgentStart > lastIndex || line.charAt(lastIndex) != QUOTE) {
+            return false;
+        }
+
+        for (int i = userAgentStart; i < lastIndex; i++) {
+            if (isLineTerminator(line.charAt(i))) {
+                return false;
+            }
+        }
+
+        starts[LogField.HTTP_REFERER.ordinal()] = position;
+        ends[LogField.HTTP_REFERER.ordinal()] = refererEnd;
+        starts[LogField.HTTP_USER_AGENT.ordinal()] = userAgentStart;
+        ends[LogField.HTTP_USER_AGENT.ordinal()] = lastIndex;
+        position = line.length();
+
+        return true;
+    }
+
+    private boolean skip(String expected) {
+        if (!matchesAt(expected, position)) {
+            return false;
+        }
+
+        position += expected.length();
+
+        return true;
+    }
+
+    private int indexOf(String expected, int from) {
+        for (int i = from; i <= line.length() - expected.length(); i++) {
+            if (matchesAt(expected, i)) {
+                return i;
+            }
+
+            if (isLineTerminator(line.charAt(i))) {
+                return -1;
+            }
+        }
+
+        return -1;
+    }
+
+    private boolean matchesAt(String expected, int index) {
+        if (index + expected.length() > line.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < expected.length(); i++) {
+            if (line.charAt(index + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean setField(LogField field, int start, int end) {
+        starts[field.ordinal()] = start;
+        ends[field.ordinal()] = end;
+
+        return start < end;
+    }
+
+    private static boolean isDigit(char symbol) {
+        return symbol >= '0' && symbol <= '9';
+    }
+
+    private static boolean isWhitespace(char symbol) {
+        return symbol == ' ' || symbol == '\t' || symbol == '\n' || symbol == '\u000B'
+            || symbol == '\f' || symbol == '\r';
+    }
+
+    private static boolean isLineTerminator(char symbol) {
+        return symbol == '\n' || symbol == '\r' || symbol == '\u0085' || symbol == '\u2028'
+            || symbol == '\u2029';
+    }
+}
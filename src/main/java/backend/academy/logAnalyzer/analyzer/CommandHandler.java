@@ -1,118 +1,149 @@
 package backend.academy.logAnalyzer.analyzer;
 
 import backend.academy.logAnalyzer.dto.Command;
+import backend.academy.logAnalyzer.dto.FileRange;
 import backend.academy.logAnalyzer.dto.GeneralInformation;
-import backend.academy.logAnalyzer.dto.Log;
+import backend.academy.logAnalyzer.dto.ProcessingSettings;
 import backend.academy.logAnalyzer.dto.ProcessingResponse;
-import backend.academy.logAnalyzer.dto.Request;
-import backend.academy.logAnalyzer.dto.RequestStatistics;
-import backend.academy.logAnalyzer.enums.FilterField;
-import backend.academy.logAnalyzer.enums.HttpMethod;
-import backend.academy.logAnalyzer.enums.HttpStatus;
+import backend.academy.logAnalyzer.enums.LogField;
 import backend.academy.logAnalyzer.exception.ExitFromCurrentDirectoryException;
 import backend.academy.logAnalyzer.exception.FileDataReadException;
 import backend.academy.logAnalyzer.exception.FindLocalFilesException;
 import backend.academy.logAnalyzer.exception.LogFilesNotFoundException;
 import backend.academy.logAnalyzer.exception.UrlDataReadException;
-import java.io.BufferedReader;
-import java.io.FileReader;
+import backend.academy.logAnalyzer.filter.LogMatcher;
+import backend.academy.logAnalyzer.filter.LogPredicate;
+import backend.academy.logAnalyzer.statistics.LogStatistics;
 import java.io.IOException;
-import java.math.BigDecimal;
-import java.math.BigInteger;
-import java.math.RoundingMode;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystems;
 import java.nio.file.FileVisitOption;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
-import java.util.EnumMap;
 import java.util.EnumSet;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 import static backend.academy.logAnalyzer.constants.ConstValues.BASE_PATH;
-import static backend.academy.logAnalyzer.constants.ConstValues.STATISTICS_LIMIT;
+import static backend.academy.logAnalyzer.constants.ConstValues.BYTES_IN_KILOBYTE;
+import static backend.academy.logAnalyzer.constants.ConstValues.LOG_FORMAT;
+import static backend.academy.logAnalyzer.constants.ConstValues.ROLLUP_EXTENSION;
+import static backend.academy.logAnalyzer.constants.ConstValues.TIME_INDEX_EXTENSION;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_COMMAND_EXCEPTION_TEXT;
 
 public class CommandHandler {
 
-    private Map<String, Integer> resources;
-    private Map<HttpStatus, Integer> httpStatuses;
-    private Map<String, Integer> addresses;
-    private Map<HttpMethod, Integer> methods;
-    private List<BigInteger> requestsBytes;
+    private static final long FILE_RANGE_SIZE = 32L * 1024 * 1024;
 
     public ProcessingResponse process(Command command) {
         if (command == null) {
             throw new NullPointerException(NULL_COMMAND_EXCEPTION_TEXT);
         }
 
-        initializeStatistics();
-
         final String urlBeginning = "http";
+        final LogPredicate predicate = LogPredicate.compile(command);
         final Set<String> filePaths;
+        final LogStatistics statistics;
 
         if (command.filePath().startsWith(urlBeginning)) {
             filePaths = Set.of(command.filePath());
-            processLogsFromUrl(command.filePath(), command);
+            statistics = processLogsFromUrl(command.filePath(), command, predicate);
         } else {
             filePaths = findLocalFiles(command.filePath());
 
             if (filePaths.isEmpty()) {
                 throw new LogFilesNotFoundException(command.filePath());
             }
-            for (String filePath : filePaths) {
-                processLogsFromLocalFile(filePath, command);
-            }
-        }
-
-        final int requestsCount = requestsBytes.size();
-        final BigInteger bytesCount = new BigInteger(String.valueOf(getSum(requestsBytes)));
 
-        final Map<String, Integer> sortedLimitedResources = getLimitedSortedMap(resources);
-        final Map<HttpStatus, Integer> sortedLimitedHttpStatuses = getLimitedSortedMap(httpStatuses);
-        final Map<String, Integer> sortedLimitedAddresses = getLimitedSortedMap(addresses);
-        final Map<HttpMethod, Integer> sortedLimitedMethods = getLimitedSortedMap(methods);
+            statistics = processLogsFromLocalFiles(filePaths.stream().sorted().toList(), command, predicate);
+        }
 
-        final RequestStatistics requestStatistics = new RequestStatistics(
-            sortedLimitedResources, sortedLimitedHttpStatuses, sortedLimitedAddresses, sortedLimitedMethods
-        );
         final GeneralInformation generalInformation = new GeneralInformation(
-            filePaths, command.from(), command.to(), requestsCount,
-            getResponseAverageSize(bytesCount, requestsCount), getPercentile(requestsBytes)
+            filePaths, command.from(), command.to(), statistics.requestsCount(),
+            statistics.getResponseAverageSize(), statistics.getPercentiles(command.statisticsSettings().percentiles())
+        );
+
+        return new ProcessingResponse(
+            generalInformation, statistics.getRequestStatistics(command.statisticsSettings().top()),
+            statistics.getLatencyStatistics(command.statisticsSettings().top()),
+            statistics.getBotStatistics(command.statisticsSettings().top())
         );
+    }
+
+    private LogStatistics processLogsFromLocalFiles(List<String> filePaths, Command command,
+        LogPredicate predicate) {
+        final List<Future<LogStatistics>> partials = new ArrayList<>(filePaths.size());
+        final List<TimeIndex> timeIndexes = new ArrayList<>();
+
+        try (ForkJoinPool pool = new ForkJoinPool(command.processingSettings().threads())) {
+            final LogStatistics statistics = new LogStatistics(command.statisticsSettings());
+
+            try {
+                for (String filePath : filePaths) {
+                    partials.addAll(submitLogFileTasks(filePath, command, predicate, pool, timeIndexes));
+                }
+
+                for (Future<LogStatistics> partial : partials) {
+                    statistics.merge(getPartialResult(partial));
+                }
+            } catch (RuntimeException ex) {
+                partials.forEach(partial -> partial.cancel(true));
+
+                throw ex;
+            }
+
+            saveTimeIndexes(timeIndexes);
 
-        return new ProcessingResponse(generalInformation, requestStatistics);
+            return statistics;
+        }
+    }
+
+    private void saveTimeIndexes(List<TimeIndex> timeIndexes) {
+        try {
+            for (TimeIndex timeIndex : timeIndexes) {
+                timeIndex.save();
+            }
+        } catch (IOException ex) {
+            throw new FileDataReadException(ex);
+        }
     }
 
-    private <T> Map<T, Integer> getLimitedSortedMap(Map<T, Integer> map) {
-        return map.entrySet().stream().sorted(Map.Entry.<T, Integer>comparingByValue().reversed())
-            .limit(STATISTICS_LIMIT)
-            .collect(Collectors.toMap(
-                Map.Entry::getKey,
-                Map.Entry::getValue,
-                (oldValue, newValue) -> oldValue,
-                LinkedHashMap::new
-            ));
+    private <T> T getPartialResult(Future<T> partial) {
+        try {
+            return partial.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+
+            throw new FileDataReadException(ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw new FileDataReadException(ex);
+        }
     }
 
-    private void processLogsFromUrl(String filePath, Command command) {
+    private LogStatistics processLogsFromUrl(String filePath, Command command, LogPredicate predicate) {
         final int timeoutValueSeconds = 10;
         final HttpRequest request = HttpRequest.newBuilder()
             .uri(URI.create(filePath))
@@ -128,96 +159,155 @@ public class CommandHandler {
             final HttpResponse<Stream<String>> response
                 = httpClient.send(request, HttpResponse.BodyHandlers.ofLines());
 
-            processLogs(response.body(), command);
+            return processLogs(response.body(), command, predicate);
         } catch (Exception ex) {
             throw new UrlDataReadException(ex);
         }
     }
 
-    private void processLogsFromLocalFile(String filePath, Command command) {
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath, StandardCharsets.UTF_8))) {
-            processLogs(reader.lines(), command);
-        } catch (IOException ex) {
+    private List<Future<LogStatistics>> submitLogFileTasks(String filePath, Command command,
+        LogPredicate predicate, ForkJoinPool pool, List<TimeIndex> timeIndexes) {
+        try {
+            final Path path = Path.of(filePath);
+            final List<Future<LogStatistics>> partials = new ArrayList<>();
+            final TimeIndex timeIndex = !isRollupEnabled(command) ? getTimeIndex(path, command) : null;
+            final List<FileRange> ranges;
+
+            if (isRollupEnabled(command)) {
+                final DailyRollup rollup = DailyRollup.getOrBuild(path, command.processingSettings().rollupDirectory(),
+                    getLogFormat(command), command.statisticsSettings(),
+                    range -> scanDailyRollup(path, range, command, pool));
+
+                partials.add(CompletableFuture.completedFuture(rollup.getStatistics(command.from(), command.to())));
+                ranges = List.of(new FileRange(rollup.coveredEnd(), Math.max(rollup.coveredEnd(), Files.size(path))));
+            } else if (timeIndex != null) {
+                ranges = timeIndex.getRanges(getStartOfDay(command.from()), getStartOfDay(command.to()));
+            } else {
+                ranges = getFileRanges(path, command);
+            }
+
+            for (FileRange range : ranges) {
+                partials.add(submitLogFileTask(path, range, command, predicate, pool, null));
+            }
+
+            if (timeIndex != null && !timeIndex.isComplete()) {
+                partials.add(submitLogFileTask(path, timeIndex.getUnindexedRange(), command, predicate, pool,
+                    timeIndex));
+                timeIndexes.add(timeIndex);
+            }
+
+            return partials;
+        } catch (IOException | InvalidPathException ex) {
             throw new FileDataReadException(ex);
         }
     }
 
-    private void processLogs(Stream<String> logs, Command command) {
-        logs
-            .map(LogParser::parse)
-            .filter(log -> isValidForFilter(command, log))
-            .forEach(this::updateStatistics);
-    }
-
-    private void initializeStatistics() {
-        resources = new HashMap<>();
-        httpStatuses = new EnumMap<>(HttpStatus.class);
-        addresses = new HashMap<>();
-        methods = new EnumMap<>(HttpMethod.class);
-        requestsBytes = new ArrayList<>();
+    private Future<LogStatistics> submitLogFileTask(Path path, FileRange range, Command command,
+        LogPredicate predicate, ForkJoinPool pool, TimeIndex timeIndex) {
+        return pool.submit(new LogFileTask(path, range.start(), range.end(), FILE_RANGE_SIZE,
+            logs -> processLogs(logs, command, predicate), timeIndex));
     }
 
-    private void updateStatistics(Log log) {
-        final Request request = log.request();
+    private DailyRollup scanDailyRollup(Path path, FileRange range, Command command, ForkJoinPool pool) {
+        final List<Future<DailyRollup>> partials = new ArrayList<>();
+        final DailyRollup rollup = new DailyRollup(command.statisticsSettings());
 
-        requestsBytes.add(log.bodyBytesSend());
-        resources.put(request.resource(), resources.getOrDefault(request.resource(), 0) + 1);
-        httpStatuses.put(log.httpStatus(), httpStatuses.getOrDefault(log.httpStatus(), 0) + 1);
-        addresses.put(log.remoteAddress(), addresses.getOrDefault(log.remoteAddress(), 0) + 1);
-        methods.put(request.httpMethod(), methods.getOrDefault(request.httpMethod(), 0) + 1);
-    }
+        for (long start = range.start(); start < range.end(); start += FILE_RANGE_SIZE) {
+            final FileRange partialRange = new FileRange(start, Math.min(start + FILE_RANGE_SIZE, range.end()));
 
-    private boolean isValidForFilter(Command command, Log log) {
-        if (command.from() != null
-            && log.timeLocal().isBefore(command.from().atStartOfDay(ZoneId.systemDefault()))) {
-            return false;
+            partials.add(pool.submit(() -> readDailyRollup(path, partialRange, command)));
         }
 
-        if (command.to() != null
-            && log.timeLocal().isAfter(command.to().atStartOfDay(ZoneId.systemDefault()))) {
-            return false;
+        for (Future<DailyRollup> partial : partials) {
+            rollup.merge(getPartialResult(partial));
         }
 
-        return command.filterField() == null
-            || isValidForFilterField(command.filterField(), command.filterValue(), log);
+        return rollup;
     }
 
-    private BigDecimal getResponseAverageSize(BigInteger bytesCount, int requestsCount) {
-        if (requestsCount == 0) {
-            return BigDecimal.ZERO;
+    private DailyRollup readDailyRollup(Path path, FileRange range, Command command) throws IOException {
+        final DailyRollup rollup = new DailyRollup(command.statisticsSettings());
+        final Set<LogField> logFields = EnumSet.copyOf(command.requiredLogFields());
+
+        logFields.add(LogField.TIME_LOCAL);
+
+        final LogLine logLine = new LogLine(createTokenizer(command), logFields);
+
+        try (FileRangeReader reader = new FileRangeReader(path, range.start(), range.end())) {
+            reader.lines().forEach(log -> addToStatistics(rollup.getBucket(logLine.parse(log).timeLocal()), logLine));
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
         }
 
-        final int scale = 2;
+        return rollup;
+    }
+
+    private boolean isRollupEnabled(Command command) {
+        return command.processingSettings().rollupDirectory() != null && command.filterField() == null
+            && command.filterExpression() == null && command.statisticsSettings().botSignatures() == null;
+    }
+
+    private String getLogFormat(Command command) {
+        final CompiledLogFormat logFormat = command.processingSettings().logFormat();
+
+        return logFormat != null ? logFormat.toString() : LOG_FORMAT;
+    }
 
-        return new BigDecimal(bytesCount)
-            .divide(BigDecimal.valueOf(requestsCount), scale, RoundingMode.HALF_UP);
+    private TimeIndex getTimeIndex(Path path, Command command) throws IOException {
+        final Integer indexStride = command.processingSettings().indexStride();
+
+        if (indexStride == null || command.from() == null && command.to() == null) {
+            return null;
+        }
+
+        return TimeIndex.getOrCreate(path, getLogFormat(command), () -> createTokenizer(command),
+            indexStride * BYTES_IN_KILOBYTE);
     }
 
-    private BigInteger getPercentile(List<BigInteger> list) {
-        if (list.isEmpty()) {
-            return BigInteger.ZERO;
+    private List<FileRange> getFileRanges(Path path, Command command) throws IOException {
+        final ProcessingSettings settings = command.processingSettings();
+        final ZonedDateTime from = getStartOfDay(command.from());
+        final ZonedDateTime to = getStartOfDay(command.to());
+
+        if (from == null && to == null) {
+            return List.of(new FileRange(0, Files.size(path)));
         }
 
-        final List<BigInteger> sortedList = new ArrayList<>(list.stream().sorted().toList());
-        final double percentileRatio = 0.95;
-        final int index = (int) Math.ceil(percentileRatio * list.size()) - 1;
+        return List.of(settings.timeTolerance() != null
+            ? TimeRangeSeeker.seek(path, createTokenizer(command), from, to, settings.timeTolerance())
+            : new FileRange(0, Files.size(path)));
+    }
+
+    private LogStatistics processLogs(Stream<? extends CharSequence> logs, Command command,
+        LogPredicate predicate) {
+        final LogStatistics statistics = new LogStatistics(command.statisticsSettings());
+        final LogLine logLine = new LogLine(createTokenizer(command), command.requiredLogFields());
+        final LogMatcher matcher = predicate.createMatcher();
+
+        logs
+            .filter(log -> logLine.parse(log, matcher))
+            .filter(log -> predicate.testTime(logLine.timeLocalEpochSecond()))
+            .forEach(log -> addToStatistics(statistics, logLine));
 
-        return sortedList.get(index);
+        return statistics;
     }
 
-    private BigInteger getSum(List<BigInteger> list) {
-        return list.stream()
-            .reduce(BigInteger.ZERO, BigInteger::add);
+    private LogTokenizer createTokenizer(Command command) {
+        final CompiledLogFormat logFormat = command.processingSettings().logFormat();
+
+        return logFormat != null ? logFormat.tokenizer() : new CombinedLogTokenizer();
+    }
+
+    private void addToStatistics(LogStatistics statistics, LogLine log) {
+        final String resource = log.resource().toString();
+
+        statistics.add(log.remoteAddress(), log.httpMethod(), resource, log.httpStatus(), log.bodyBytesSend());
+        statistics.addLatency(resource, log.requestTime(), log.upstreamResponseTime());
+        statistics.addUserAgent(log.httpUserAgent());
     }
 
-    private boolean isValidForFilterField(FilterField filterField, String filterValue, Log log) {
-        return switch (filterField) {
-            case ADDRESS -> log.remoteAddress().equalsIgnoreCase(filterValue);
-            case USER -> log.remoteUser().equalsIgnoreCase(filterValue);
-            case HTTP_METHOD -> log.request().httpMethod().toString().equalsIgnoreCase(filterValue);
-            case AGENT -> log.httpUserAgent().toLowerCase().contains(filterValue.toLowerCase());
-            case HTTP_STATUS -> log.httpStatus().code() == Integer.parseInt(filterValue);
-        };
+    private ZonedDateTime getStartOfDay(LocalDate date) {
+        return date != null ? date.atStartOfDay(ZoneId.systemDefault()) : null;
     }
 
     private Set<String> findLocalFiles(String path) {
@@ -253,7 +343,8 @@ public class CommandHandler {
                 new SimpleFileVisitor<>() {
                     @Override
                     public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
-                        if (matcher.matches(file)) {
+                        if (matcher.matches(file) && !file.toString().endsWith(TIME_INDEX_EXTENSION)
+                            && !file.toString().endsWith(ROLLUP_EXTENSION)) {
                             logFiles.add(file.toString());
                         }
                         return FileVisitResult.CONTINUE;
@@ -1,60 +1,130 @@
 package backend.academy.logAnalyzer.analyzer;
 
 import backend.academy.logAnalyzer.dto.Command;
+import backend.academy.logAnalyzer.dto.ProcessingSettings;
+import backend.academy.logAnalyzer.dto.StatisticsSettings;
 import backend.academy.logAnalyzer.enums.FilterField;
 import backend.academy.logAnalyzer.enums.OutputFormat;
 import backend.academy.logAnalyzer.exception.IncorrectCommandException;
+import backend.academy.logAnalyzer.filter.FilterExpression;
+import backend.academy.logAnalyzer.filter.FilterExpressionParser;
+import backend.academy.logAnalyzer.statistics.BotSignatures;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import lombok.experimental.UtilityClass;
 import org.apache.commons.lang3.StringUtils;
 import static backend.academy.logAnalyzer.constants.ConstValues.BEGIN_COMMAND_VALUE;
+import static backend.academy.logAnalyzer.constants.ConstValues.BOT_SIGNATURES_ARGUMENT;
 import static backend.academy.logAnalyzer.constants.ConstValues.COMMAND_ARGUMENTS_DESCRIPTION;
+import static backend.academy.logAnalyzer.constants.ConstValues.DEFAULT_PERCENTILES;
+import static backend.academy.logAnalyzer.constants.ConstValues.DEFAULT_THREADS;
 import static backend.academy.logAnalyzer.constants.ConstValues.FILE_PATH_ARGUMENT;
+import static backend.academy.logAnalyzer.constants.ConstValues.FILTER_ARGUMENT;
 import static backend.academy.logAnalyzer.constants.ConstValues.FILTER_FIELD_ARGUMENT;
 import static backend.academy.logAnalyzer.constants.ConstValues.FILTER_VALUE_ARGUMENT;
 import static backend.academy.logAnalyzer.constants.ConstValues.FORMAT_ARGUMENT;
 import static backend.academy.logAnalyzer.constants.ConstValues.FROM_ARGUMENT;
+import static backend.academy.logAnalyzer.constants.ConstValues.HEAVY_HITTERS_ARGUMENT;
+import static backend.academy.logAnalyzer.constants.ConstValues.INDEX_STRIDE_ARGUMENT;
+import static backend.academy.logAnalyzer.constants.ConstValues.LOG_FORMAT_ARGUMENT;
 import static backend.academy.logAnalyzer.constants.ConstValues.NO_LOG_ANALYZE_ARGUMENTS;
+import static backend.academy.logAnalyzer.constants.ConstValues.PERCENTILES_ARGUMENT;
+import static backend.academy.logAnalyzer.constants.ConstValues.PERCENTILES_SEPARATOR;
+import static backend.academy.logAnalyzer.constants.ConstValues.PERCENTILE_ERROR_ARGUMENT;
+import static backend.academy.logAnalyzer.constants.ConstValues.ROLLUP_DIRECTORY_ARGUMENT;
+import static backend.academy.logAnalyzer.constants.ConstValues.STATISTICS_LIMIT;
+import static backend.academy.logAnalyzer.constants.ConstValues.THREADS_ARGUMENT;
+import static backend.academy.logAnalyzer.constants.ConstValues.TIME_TOLERANCE_ARGUMENT;
+import static backend.academy.logAnalyzer.constants.ConstValues.TOP_ARGUMENT;
 import static backend.academy.logAnalyzer.constants.ConstValues.TO_ARGUMENT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.DUPLICATE_ARGUMENTS_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_BEGIN_COMMAND_VALUE_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_DATE_FORMAT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_HEAVY_HITTERS_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_INDEX_STRIDE_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_PERCENTILES_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_PERCENTILE_ERROR_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_ROLLUP_DIRECTORY_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_THREADS_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_TIME_TOLERANCE_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_TOP_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_BOT_SIGNATURES_ARGUMENT_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_FILE_PATH_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_FILTER_ARGUMENT_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_FILTER_FIELD_ARGUMENT_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_FILTER_VALUE_ARGUMENT_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_FORMAT_ARGUMENT_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_FROM_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_HEAVY_HITTERS_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_INDEX_STRIDE_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_LOG_FORMAT_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_PERCENTILES_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_PERCENTILE_ERROR_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_ROLLUP_DIRECTORY_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_THREADS_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_TIME_TOLERANCE_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_TOP_ARGUMENT_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_TO_ARGUMENT_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NO_LOG_ANALYZE_ARGUMENT_WITH_OTHERS_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_COMMAND_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_BOT_SIGNATURES_ARGUMENT_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_FILE_PATH_ARGUMENT_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_FILTER_FIELD_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_FILTER_VALUE_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_FORMAT_ARGUMENT_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_FROM_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_HEAVY_HITTERS_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_INDEX_STRIDE_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_PERCENTILES_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_PERCENTILE_ERROR_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_ROLLUP_DIRECTORY_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_THREADS_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_TIME_TOLERANCE_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_TOP_ARGUMENT_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_TO_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.UNBALANCED_QUOTES_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.VALUE_WITHOUT_ARGUMENT_EXCEPTION_TEXT;
 
 @UtilityClass
 public class CommandParser {
 
-    private static final String SPACES_REGEX = "\\s+";
+    private static final char QUOTE = '\'';
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("(?:'[^']*'|[^\\s'])+");
 
     private static String filePath;
     private static String format;
     private static String filterField;
     private static String filterValue;
+    private static String filter;
     private static LocalDate from;
     private static LocalDate to;
+    private static String percentiles;
+    private static String percentileError;
+    private static String top;
+    private static String heavyHitters;
+    private static String threads;
+    private static String logFormat;
+    private static String timeTolerance;
+    private static String indexStride;
+    private static String rollupDirectory;
+    private static String botSignatures;
     private static String currentArgument;
+    private static String currentSeparator;
 
     public static Command parse(String input) {
         validateInput(input);
 
-        final String[] command = processInput(input);
+        final List<String> separators = new ArrayList<>();
+        final String[] command = processInput(input, separators);
         final Map<String, Boolean> availableCommands = getAvailableCommands();
 
         validateCommand(command);
@@ -72,6 +142,7 @@ public class CommandParser {
 
                 handleCommand(command[i], availableCommands);
             } else {
+                currentSeparator = separators.get(i);
                 setValueForArgument(command[i]);
             }
         }
@@ -80,9 +151,18 @@ public class CommandParser {
 
         final OutputFormat resultOutputFormat = getOutputFormat(format);
         final FilterField resultFilterField = getFilterField(filterField);
+        final StatisticsSettings statisticsSettings = new StatisticsSettings(
+            getPercentiles(percentiles), getPercentileError(percentileError), getTop(top),
+            getHeavyHitters(heavyHitters), getBotSignatures(botSignatures)
+        );
+        final ProcessingSettings processingSettings = new ProcessingSettings(
+            getThreads(threads), getLogFormat(logFormat), getTimeTolerance(timeTolerance),
+            getIndexStride(indexStride), getRollupDirectory(rollupDirectory)
+        );
 
         return new Command(
-            filePath, from, to, resultOutputFormat, resultFilterField, filterValue
+            filePath, from, to, resultOutputFormat, resultFilterField, filterValue, getFilter(filter),
+            statisticsSettings, processingSettings
         );
     }
 
@@ -93,11 +173,7 @@ public class CommandParser {
 
         switch (currentArgument) {
             case FILE_PATH_ARGUMENT:
-                if (filePath != null) {
-                    throw new IncorrectCommandException(SOME_VALUES_IN_FILE_PATH_ARGUMENT_EXCEPTION_TEXT);
-                }
-
-                filePath = value;
+                filePath = getSingleValue(filePath, value, SOME_VALUES_IN_FILE_PATH_ARGUMENT_EXCEPTION_TEXT);
                 break;
             case FROM_ARGUMENT:
                 if (from != null) {
@@ -114,54 +190,114 @@ public class CommandParser {
                 to = getLocalDate(value);
                 break;
             case FORMAT_ARGUMENT:
-                if (format != null) {
-                    throw new IncorrectCommandException(SOME_VALUES_IN_FORMAT_ARGUMENT_EXCEPTION_TEXT);
-                }
-
-                format = value;
+                format = getSingleValue(format, value, SOME_VALUES_IN_FORMAT_ARGUMENT_EXCEPTION_TEXT);
                 break;
             case FILTER_FIELD_ARGUMENT:
-                if (filterField != null) {
-                    throw new IncorrectCommandException(SOME_VALUES_IN_FILTER_FIELD_EXCEPTION_TEXT);
-                }
-
-                filterField = value;
+                filterField = getSingleValue(filterField, value, SOME_VALUES_IN_FILTER_FIELD_EXCEPTION_TEXT);
                 break;
             case FILTER_VALUE_ARGUMENT:
-                if (StringUtils.isNotBlank(filterValue)) {
-                    throw new IncorrectCommandException(SOME_VALUES_IN_FILTER_VALUE_EXCEPTION_TEXT);
-                }
-
-                filterValue = value;
+                filterValue = getSingleValue(filterValue, value, SOME_VALUES_IN_FILTER_VALUE_EXCEPTION_TEXT);
+                break;
+            case FILTER_ARGUMENT:
+                filter = appendValue(filter, value);
+                break;
+            case PERCENTILES_ARGUMENT:
+                percentiles = getSingleValue(percentiles, value, SOME_VALUES_IN_PERCENTILES_EXCEPTION_TEXT);
+                break;
+            case PERCENTILE_ERROR_ARGUMENT:
+                percentileError = getSingleValue(percentileError, value,
+                    SOME_VALUES_IN_PERCENTILE_ERROR_EXCEPTION_TEXT);
+                break;
+            case TOP_ARGUMENT:
+                top = getSingleValue(top, value, SOME_VALUES_IN_TOP_ARGUMENT_EXCEPTION_TEXT);
+                break;
+            case HEAVY_HITTERS_ARGUMENT:
+                heavyHitters = getSingleValue(heavyHitters, value,
+                    SOME_VALUES_IN_HEAVY_HITTERS_ARGUMENT_EXCEPTION_TEXT);
+                break;
+            case THREADS_ARGUMENT:
+                threads = getSingleValue(threads, value, SOME_VALUES_IN_THREADS_ARGUMENT_EXCEPTION_TEXT);
+                break;
+            case LOG_FORMAT_ARGUMENT:
+                logFormat = appendValue(logFormat, value);
+                break;
+            case TIME_TOLERANCE_ARGUMENT:
+                timeTolerance = getSingleValue(timeTolerance, value,
+                    SOME_VALUES_IN_TIME_TOLERANCE_ARGUMENT_EXCEPTION_TEXT);
+                break;
+            case INDEX_STRIDE_ARGUMENT:
+                indexStride = getSingleValue(indexStride, value, SOME_VALUES_IN_INDEX_STRIDE_ARGUMENT_EXCEPTION_TEXT);
+                break;
+            case ROLLUP_DIRECTORY_ARGUMENT:
+                rollupDirectory = getSingleValue(rollupDirectory, value,
+                    SOME_VALUES_IN_ROLLUP_DIRECTORY_ARGUMENT_EXCEPTION_TEXT);
+                break;
+            case BOT_SIGNATURES_ARGUMENT:
+                botSignatures = getSingleValue(botSignatures, value,
+                    SOME_VALUES_IN_BOT_SIGNATURES_ARGUMENT_EXCEPTION_TEXT);
                 break;
             default:
                 break;
         }
     }
 
-    private void validateValueContains(Map<String, Boolean> availableCommands) {
-        if (StringUtils.isBlank(filePath)) {
-            throw new IncorrectCommandException(NOT_VALUE_FOR_FILE_PATH_ARGUMENT_EXCEPTION_TEXT);
+    private static String getSingleValue(String currentValue, String value, String exceptionText) {
+        if (StringUtils.isNotBlank(currentValue)) {
+            throw new IncorrectCommandException(exceptionText);
         }
 
-        if (from == null && availableCommands.get(FROM_ARGUMENT)) {
-            throw new IncorrectCommandException(NOT_VALUE_FOR_FROM_ARGUMENT_EXCEPTION_TEXT);
-        }
+        return value;
+    }
 
-        if (to == null && availableCommands.get(TO_ARGUMENT)) {
-            throw new IncorrectCommandException(NOT_VALUE_FOR_TO_ARGUMENT_EXCEPTION_TEXT);
-        }
+    private static String appendValue(String currentValue, String value) {
+        return currentValue != null
+            ? currentValue + currentSeparator + value
+            : value;
+    }
 
-        if (StringUtils.isBlank(format) && availableCommands.get(FORMAT_ARGUMENT)) {
-            throw new IncorrectCommandException(NOT_VALUE_FOR_FORMAT_ARGUMENT_EXCEPTION_TEXT);
+    private void validateValueContains(Map<String, Boolean> availableCommands) {
+        if (StringUtils.isBlank(filePath)) {
+            throw new IncorrectCommandException(NOT_VALUE_FOR_FILE_PATH_ARGUMENT_EXCEPTION_TEXT);
         }
 
-        if (StringUtils.isBlank(filterField) && availableCommands.get(FILTER_FIELD_ARGUMENT)) {
-            throw new IncorrectCommandException(NOT_VALUE_FOR_FILTER_FIELD_ARGUMENT_EXCEPTION_TEXT);
-        }
+        validateValueContains(from == null, FROM_ARGUMENT, availableCommands,
+            NOT_VALUE_FOR_FROM_ARGUMENT_EXCEPTION_TEXT);
+        validateValueContains(to == null, TO_ARGUMENT, availableCommands,
+            NOT_VALUE_FOR_TO_ARGUMENT_EXCEPTION_TEXT);
+        validateValueContains(StringUtils.isBlank(format), FORMAT_ARGUMENT, availableCommands,
+            NOT_VALUE_FOR_FORMAT_ARGUMENT_EXCEPTION_TEXT);
+        validateValueContains(StringUtils.isBlank(filterField), FILTER_FIELD_ARGUMENT, availableCommands,
+            NOT_VALUE_FOR_FILTER_FIELD_ARGUMENT_EXCEPTION_TEXT);
+        validateValueContains(StringUtils.isBlank(filterValue), FILTER_VALUE_ARGUMENT, availableCommands,
+            NOT_VALUE_FOR_FILTER_VALUE_ARGUMENT_EXCEPTION_TEXT);
+        validateValueContains(StringUtils.isBlank(filter), FILTER_ARGUMENT, availableCommands,
+            NOT_VALUE_FOR_FILTER_ARGUMENT_EXCEPTION_TEXT);
+        validateValueContains(StringUtils.isBlank(percentiles), PERCENTILES_ARGUMENT, availableCommands,
+            NOT_VALUE_FOR_PERCENTILES_ARGUMENT_EXCEPTION_TEXT);
+        validateValueContains(StringUtils.isBlank(percentileError), PERCENTILE_ERROR_ARGUMENT, availableCommands,
+            NOT_VALUE_FOR_PERCENTILE_ERROR_ARGUMENT_EXCEPTION_TEXT);
+        validateValueContains(StringUtils.isBlank(top), TOP_ARGUMENT, availableCommands,
+            NOT_VALUE_FOR_TOP_ARGUMENT_EXCEPTION_TEXT);
+        validateValueContains(StringUtils.isBlank(heavyHitters), HEAVY_HITTERS_ARGUMENT, availableCommands,
+            NOT_VALUE_FOR_HEAVY_HITTERS_ARGUMENT_EXCEPTION_TEXT);
+        validateValueContains(StringUtils.isBlank(threads), THREADS_ARGUMENT, availableCommands,
+            NOT_VALUE_FOR_THREADS_ARGUMENT_EXCEPTION_TEXT);
+        validateValueContains(StringUtils.isBlank(logFormat), LOG_FORMAT_ARGUMENT, availableCommands,
+            NOT_VALUE_FOR_LOG_FORMAT_ARGUMENT_EXCEPTION_TEXT);
+        validateValueContains(StringUtils.isBlank(timeTolerance), TIME_TOLERANCE_ARGUMENT, availableCommands,
+            NOT_VALUE_FOR_TIME_TOLERANCE_ARGUMENT_EXCEPTION_TEXT);
+        validateValueContains(StringUtils.isBlank(indexStride), INDEX_STRIDE_ARGUMENT, availableCommands,
+            NOT_VALUE_FOR_INDEX_STRIDE_ARGUMENT_EXCEPTION_TEXT);
+        validateValueContains(StringUtils.isBlank(rollupDirectory), ROLLUP_DIRECTORY_ARGUMENT, availableCommands,
+            NOT_VALUE_FOR_ROLLUP_DIRECTORY_ARGUMENT_EXCEPTION_TEXT);
+        validateValueContains(StringUtils.isBlank(botSignatures), BOT_SIGNATURES_ARGUMENT, availableCommands,
+            NOT_VALUE_FOR_BOT_SIGNATURES_ARGUMENT_EXCEPTION_TEXT);
+    }
 
-        if (StringUtils.isBlank(filterValue) && availableCommands.get(FILTER_VALUE_ARGUMENT)) {
-            throw new IncorrectCommandException(NOT_VALUE_FOR_FILTER_VALUE_ARGUMENT_EXCEPTION_TEXT);
+    private static void validateValueContains(boolean noValue, String argument,
+        Map<String, Boolean> availableCommands, String exceptionText) {
+        if (noValue && availableCommands.get(argument)) {
+            throw new IncorrectCommandException(exceptionText);
         }
     }
 
@@ -178,9 +314,21 @@ public class CommandParser {
         format = null;
         filterField = null;
         filterValue = null;
+        filter = null;
         from = null;
         to = null;
+        percentiles = null;
+        percentileError = null;
+        top = null;
+        heavyHitters = null;
+        threads = null;
+        logFormat = null;
+        timeTolerance = null;
+        indexStride = null;
+        rollupDirectory = null;
+        botSignatures = null;
         currentArgument = null;
+        currentSeparator = null;
     }
 
     private static FilterField getFilterField(String filterField) {
@@ -189,6 +337,123 @@ public class CommandParser {
             : null;
     }
 
+    private static FilterExpression getFilter(String filter) {
+        return StringUtils.isNotBlank(filter)
+            ? FilterExpressionParser.parse(filter)
+            : null;
+    }
+
+    private static List<Double> getPercentiles(String percentiles) {
+        if (StringUtils.isBlank(percentiles)) {
+            return DEFAULT_PERCENTILES;
+        }
+
+        try {
+            return Arrays.stream(percentiles.split(PERCENTILES_SEPARATOR))
+                .map(Double::valueOf)
+                .distinct()
+                .toList();
+        } catch (NumberFormatException ex) {
+            throw new IncorrectCommandException(INCORRECT_PERCENTILES_EXCEPTION_TEXT, ex);
+        }
+    }
+
+    private static Double getPercentileError(String percentileError) {
+        if (StringUtils.isBlank(percentileError)) {
+            return null;
+        }
+
+        try {
+            return Double.valueOf(percentileError);
+        } catch (NumberFormatException ex) {
+            throw new IncorrectCommandException(INCORRECT_PERCENTILE_ERROR_EXCEPTION_TEXT, ex);
+        }
+    }
+
+    private static int getTop(String top) {
+        if (StringUtils.isBlank(top)) {
+            return STATISTICS_LIMIT;
+        }
+
+        try {
+            return Integer.parseInt(top);
+        } catch (NumberFormatException ex) {
+            throw new IncorrectCommandException(INCORRECT_TOP_EXCEPTION_TEXT, ex);
+        }
+    }
+
+    private static Integer getHeavyHitters(String heavyHitters) {
+        if (StringUtils.isBlank(heavyHitters)) {
+            return null;
+        }
+
+        try {
+            return Integer.valueOf(heavyHitters);
+        } catch (NumberFormatException ex) {
+            throw new IncorrectCommandException(INCORRECT_HEAVY_HITTERS_EXCEPTION_TEXT, ex);
+        }
+    }
+
+    private static int getThreads(String threads) {
+        if (StringUtils.isBlank(threads)) {
+            return DEFAULT_THREADS;
+        }
+
+        try {
+            return Integer.parseInt(threads);
+        } catch (NumberFormatException ex) {
+            throw new IncorrectCommandException(INCORRECT_THREADS_EXCEPTION_TEXT, ex);
+        }
+    }
+
+    private static Long getTimeTolerance(String timeTolerance) {
+        if (StringUtils.isBlank(timeTolerance)) {
+            return null;
+        }
+
+        try {
+            return Long.valueOf(timeTolerance);
+        } catch (NumberFormatException ex) {
+            throw new IncorrectCommandException(INCORRECT_TIME_TOLERANCE_EXCEPTION_TEXT, ex);
+        }
+    }
+
+    private static Integer getIndexStride(String indexStride) {
+        if (StringUtils.isBlank(indexStride)) {
+            return null;
+        }
+
+        try {
+            return Integer.valueOf(indexStride);
+        } catch (NumberFormatException ex) {
+            throw new IncorrectCommandException(INCORRECT_INDEX_STRIDE_EXCEPTION_TEXT, ex);
+        }
+    }
+
+    private static Path getRollupDirectory(String rollupDirectory) {
+        if (StringUtils.isBlank(rollupDirectory)) {
+            return null;
+        }
+
+        try {
+            return Path.of(rollupDirectory);
+        } catch (InvalidPathException ex) {
+            throw new IncorrectCommandException(INCORRECT_ROLLUP_DIRECTORY_EXCEPTION_TEXT, ex);
+        }
+    }
+
+    private static BotSignatures getBotSignatures(String botSignatures) {
+        return StringUtils.isNotBlank(botSignatures)
+            ? BotSignatures.load(botSignatures)
+            : null;
+    }
+
+    private static CompiledLogFormat getLogFormat(String logFormat) {
+        return StringUtils.isNotBlank(logFormat)
+            ? LogFormatCompiler.compile(logFormat)
+            : null;
+    }
+
     private static OutputFormat getOutputFormat(String format) {
         return StringUtils.isNotBlank(format)
             ? OutputFormat.getOutputFormatByValue(format)
@@ -217,11 +482,27 @@ public class CommandParser {
         }
     }
 
-    private static String[] processInput(String input) {
-        return input
-            .trim()
-            .replaceAll(SPACES_REGEX, " ")
-            .split(" ");
+    private static String[] processInput(String input, List<String> separators) {
+        final Matcher matcher = TOKEN_PATTERN.matcher(input);
+        final List<String> tokens = new ArrayList<>();
+        int previousEnd = 0;
+
+        while (matcher.find()) {
+            validateSeparator(input, previousEnd, matcher.start());
+            tokens.add(StringUtils.remove(matcher.group(), QUOTE));
+            separators.add(input.substring(previousEnd, matcher.start()));
+            previousEnd = matcher.end();
+        }
+
+        validateSeparator(input, previousEnd, input.length());
+
+        return tokens.toArray(String[]::new);
+    }
+
+    private static void validateSeparator(String input, int start, int end) {
+        if (input.substring(start, end).indexOf(QUOTE) >= 0) {
+            throw new IncorrectCommandException(UNBALANCED_QUOTES_EXCEPTION_TEXT);
+        }
     }
 
     private static Map<String, Boolean> getAvailableCommands() {
@@ -0,0 +1,74 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import backend.academy.logAnalyzer.enums.LogField;
+import java.util.EnumSet;
+import java.util.Set;
+
+public class CompiledLogFormat {
+
+    private static final int FIELDS_COUNT = LogField.values().length;
+
+    private final String logFormat;
+    private final LogFormatStep[] steps;
+    private final Set<LogField> fields;
+
+    public CompiledLogFormat(String logFormat, LogFormatStep[] steps, Set<LogField> fields) {
+        this.logFormat = logFormat;
+        this.steps = steps.clone();
+        this.fields = EnumSet.copyOf(fields);
+    }
+
+    public LogTokenizer tokenizer() {
+        return new Tokenizer();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof CompiledLogFormat compiledLogFormat && logFormat.equals(compiledLogFormat.logFormat);
+    }
+
+    @Override
+    public int hashCode() {
+        return logFormat.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return logFormat;
+    }
+
+    private final class Tokenizer implements LogTokenizer {
+
+        private final int[] starts = new int[FIELDS_COUNT];
+        private final int[] ends = new int[FIELDS_COUNT];
+
+        private CharSequence line;
+
+        @Override
+        public boolean tokenize(CharSequence logEntry) {
+            line = logEntry;
+
+            int position = 0;
+
+            for (LogFormatStep step : steps) {
+                position = step.read(logEntry, position, starts, ends);
+
+                if (position == LogFormatStep.NOT_MATCHED) {
+                    return false;
+                }
+            }
+
+            return position == logEntry.length();
+        }
+
+        @Override
+        public boolean contains(LogField field) {
+            return fields.contains(field);
+        }
+
+        @Override
+        public CharSequence field(LogField field) {
+            return line.subSequence(starts[field.ordinal()], ends[field.ordinal()]);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import backend.academy.logAnalyzer.dto.FileRange;
+import backend.academy.logAnalyzer.dto.StatisticsSettings;
+import backend.academy.logAnalyzer.statistics.LogStatistics;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.Getter;
+import static backend.academy.logAnalyzer.constants.ConstValues.ROLLUP_EXTENSION;
+
+public class DailyRollup {
+
+    private static final int MAGIC = 0x4C415244;
+    private static final int VERSION = 1;
+    private static final int TAIL_BUFFER_SIZE = 8192;
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+
+    private final StatisticsSettings settings;
+    private final ZoneId zone;
+    private final Map<LocalDate, LogStatistics> days = new TreeMap<>();
+    private final Map<LocalDate, LogStatistics> dayStarts = new TreeMap<>();
+
+    private FileFingerprint fingerprint;
+    private int formatHash;
+    @Getter
+    private long coveredEnd;
+    private LocalDate currentDay;
+    private long currentDayStart;
+    private long nextDayStart;
+
+    public DailyRollup(StatisticsSettings settings) {
+        this(settings, ZoneId.systemDefault());
+    }
+
+    private DailyRollup(StatisticsSettings settings, ZoneId zone) {
+        this.settings = settings;
+        this.zone = zone;
+    }
+
+    public static DailyRollup getOrBuild(Path filePath, Path rollupDirectory, String logFormat,
+        StatisticsSettings settings, Function<FileRange, DailyRollup> scanner) throws IOException {
+        final Path rollupPath = getRollupPath(rollupDirectory, filePath);
+        final FileFingerprint currentFingerprint = FileFingerprint.of(filePath);
+        final long currentCoveredEnd = getLastLineEnd(filePath, currentFingerprint.size());
+        final DailyRollup rollup = load(rollupPath, settings);
+
+        if (rollup != null && rollup.formatHash == logFormat.hashCode() && rollup.zone.equals(ZoneId.systemDefault())
+            && rollup.coveredEnd <= currentCoveredEnd && rollup.fingerprint.isPrefixOf(filePath, currentFingerprint)) {
+            if (rollup.fingerprint.equals(currentFingerprint)) {
+                return rollup;
+            }
+
+            if (rollup.fingerprint.size() < currentFingerprint.size()) {
+                rollup.merge(scanner.apply(new FileRange(rollup.coveredEnd, currentCoveredEnd)));
+
+                return rollup.setFile(currentFingerprint, currentCoveredEnd).save(rollupPath);
+            }
+        }
+
+        final DailyRollup newRollup = scanner.apply(new FileRange(0, currentCoveredEnd));
+
+        newRollup.formatHash = logFormat.hashCode();
+
+        return newRollup.setFile(currentFingerprint, currentCoveredEnd).save(rollupPath);
+    }
+
+    public static Path getRollupPath(Path rollupDirectory, Path filePath) {
+        final String fileKey = filePath.toAbsolutePath().normalize().toString();
+
+        return rollupDirectory.resolve(
+            UUID.nameUUIDFromBytes(fileKey.getBytes(StandardCharsets.UTF_8)) + ROLLUP_EXTENSION
+        );
+    }
+
+    public LogStatistics getBucket(ZonedDateTime timeLocal) {
+        final long epochSecond = timeLocal.toEpochSecond();
+
+        if (currentDay == null || epochSecond < currentDayStart || epochSecond >= nextDayStart) {
+            currentDay = LocalDate.ofInstant(Instant.ofEpochSecond(epochSecond), zone);
+            currentDayStart = currentDay.atStartOfDay(zone).toEpochSecond();
+            nextDayStart = currentDay.plusDays(1).atStartOfDay(zone).toEpochSecond();
+        }
+
+        return (epochSecond == currentDayStart ? dayStarts : days)
+            .computeIfAbsent(currentDay, day -> new LogStatistics(settings));
+    }
+
+    public void merge(DailyRollup other) {
+        merge(days, other.days);
+        merge(dayStarts, other.dayStarts);
+    }
+
+    public LogStatistics getStatistics(LocalDate from, LocalDate to) {
+        final LogStatistics statistics = new LogStatistics(settings);
+
+        days.forEach((day, dayStatistics) -> {
+            if ((from == null || !day.isBefore(from)) && (to == null || day.isBefore(to))) {
+                statistics.merge(dayStatistics);
+            }
+        });
+        dayStarts.forEach((day, dayStatistics) -> {
+            if ((from == null || !day.isBefore(from)) && (to == null || !day.isAfter(to))) {
+                statistics.merge(dayStatistics);
+            }
+        });
+
+        return statistics;
+    }
+
+    private void merge(Map<LocalDate, LogStatistics> statistics, Map<LocalDate, LogStatistics> otherStatistics) {
+        otherStatistics.forEach((day, dayStatistics) -> statistics
+            .computeIfAbsent(day, key -> new LogStatistics(settings))
+            .merge(dayStatistics));
+    }
+
+    private DailyRollup setFile(FileFingerprint fingerprint, long coveredEnd) {
+        this.fingerprint = fingerprint;
+        this.coveredEnd = coveredEnd;
+
+        return this;
+    }
+
+    private DailyRollup save(Path rollupPath) throws IOException {
+        final Path temporaryPath = rollupPath.resolveSibling(rollupPath.getFileName() + TEMPORARY_EXTENSION);
+
+        Files.createDirectories(rollupPath.toAbsolutePath().getParent());
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+            Files.newOutputStream(temporaryPath)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            fingerprint.write(output);
+            output.writeInt(formatHash);
+            output.writeLong(coveredEnd);
+            output.writeUTF(zone.getId());
+            output.writeInt(getHeavyHitters(settings));
+            output.writeDouble(getPercentileError(settings));
+            writeDays(output, days);
+            writeDays(output, dayStarts);
+        }
+
+        Files.move(temporaryPath, rollupPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        return this;
+    }
+
+    private static void writeDays(DataOutputStream output, Map<LocalDate, LogStatistics> statistics)
+        throws IOException {
+        output.writeInt(statistics.size());
+
+        for (Map.Entry<LocalDate, LogStatistics> entry : statistics.entrySet()) {
+            output.writeLong(entry.getKey().toEpochDay());
+            entry.getValue().write(output);
+        }
+    }
+
+    private static DailyRollup load(Path rollupPath, StatisticsSettings settings) {
+        if (!Files.isRegularFile(rollupPath)) {
+            return null;
+        }
+
+        try (DataInputStream input = new DataInputStream(
+            new BufferedInputStream(Files.newInputStream(rollupPath)))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                return null;
+            }
+
+            final FileFingerprint fingerprint = FileFingerprint.read(input);
+            final int formatHash = input.readInt();
+            final long coveredEnd = input.readLong();
+            final ZoneId zone = ZoneId.of(input.readUTF());
+
+            if (input.readInt() != getHeavyHitters(settings)
+                || Double.compare(input.readDouble(), getPercentileError(settings)) != 0) {
+                return null;
+            }
+
+            final DailyRollup rollup = new DailyRollup(settings, zone);
+
+            rollup.formatHash = formatHash;
+            readDays(input, rollup.days, settings);
+            readDays(input, rollup.dayStarts, settings);
+
+            return rollup.setFile(fingerprint, coveredEnd);
+        } catch (IOException | DateTimeException ex) {
+            return null;
+        }
+    }
+
+    private static void readDays(DataInputStream input, Map<LocalDate, LogStatistics> statistics,
+        StatisticsSettings settings) throws IOException {
+        final int daysCount = input.readInt();
+
+        for (int i = 0; i < daysCount; i++) {
+            statistics.put(LocalDate.ofEpochDay(input.readLong()), LogStatistics.read(input, settings));
+        }
+    }
+
+    private static long getLastLineEnd(Path filePath, long size) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(TAIL_BUFFER_SIZE);
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long end = size;
+
+            while (end > 0) {
+                final long start = Math.max(end - TAIL_BUFFER_SIZE, 0);
+
+                int read = 0;
+
+                buffer.clear().limit((int) (end - start));
+
+                while (buffer.hasRemaining() && read >= 0) {
+                    read = channel.read(buffer, start + buffer.position());
+                }
+
+                for (int i = buffer.position() - 1; i >= 0; i--) {
+                    if (buffer.get(i) == '\n' || buffer.get(i) == '\r') {
+                        return start + i + 1;
+                    }
+                }
+
+                end = start;
+            }
+        }
+
+        return 0;
+    }
+
+    private static int getHeavyHitters(StatisticsSettings settings) {
+        return settings.heavyHitters() != null ? settings.heavyHitters() : 0;
+    }
+
+    private static double getPercentileError(StatisticsSettings settings) {
+        return settings.percentileError() != null ? settings.percentileError() : 0;
+    }
+}
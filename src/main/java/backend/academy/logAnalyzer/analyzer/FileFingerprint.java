@@ -0,0 +1,45 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+public record FileFingerprint(long size, long lastModified, long headChecksum) {
+
+    private static final int HEAD_SIZE = 4096;
+
+    public static FileFingerprint of(Path filePath) throws IOException {
+        final long size = Files.size(filePath);
+
+        return new FileFingerprint(size, Files.getLastModifiedTime(filePath).toMillis(),
+            getHeadChecksum(filePath, size));
+    }
+
+    public static FileFingerprint read(DataInput input) throws IOException {
+        return new FileFingerprint(input.readLong(), input.readLong(), input.readLong());
+    }
+
+    public boolean isPrefixOf(Path filePath, FileFingerprint current) throws IOException {
+        return size <= current.size && headChecksum == getHeadChecksum(filePath, size);
+    }
+
+    public void write(DataOutput output) throws IOException {
+        output.writeLong(size);
+        output.writeLong(lastModified);
+        output.writeLong(headChecksum);
+    }
+
+    private static long getHeadChecksum(Path filePath, long size) throws IOException {
+        final CRC32 checksum = new CRC32();
+
+        try (InputStream input = Files.newInputStream(filePath)) {
+            checksum.update(input.readNBytes((int) Math.min(HEAD_SIZE, size)));
+        }
+
+        return checksum.getValue();
+    }
+}
@@ -0,0 +1,211 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.stream.Stream;
+import lombok.Getter;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.TOO_LONG_LOG_LINE_EXCEPTION_TEXT;
+
+public class FileRangeReader implements Closeable {
+
+    private static final long WINDOW_MARGIN = 1 << 16;
+    private static final long MAX_WINDOW_SIZE = Integer.MAX_VALUE;
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long LINE_FEED_BYTES = LOW_BITS * '\n';
+    private static final long CARRIAGE_RETURN_BYTES = LOW_BITS * '\r';
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final long end;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    @Getter
+    private long position;
+
+    public FileRangeReader(Path filePath, long start, long end) throws IOException {
+        this.channel = FileChannel.open(filePath, StandardOpenOption.READ);
+        this.end = end;
+
+        try {
+            this.fileSize = channel.size();
+
+            map(Math.max(start - 1, 0), end - start + 1 + WINDOW_MARGIN);
+            moveToLineStart(start);
+        } catch (IOException ex) {
+            channel.close();
+
+            throw ex;
+        }
+    }
+
+    public CharSequence readLine() throws IOException {
+        if (position >= end || position >= fileSize) {
+            return null;
+        }
+
+        long lineEnd = position;
+        long highBits = 0;
+
+        while (lineEnd < fileSize) {
+            if (lineEnd >= windowStart + window.limit()) {
+                extendWindow();
+            }
+
+            final int index = (int) (lineEnd - windowStart);
+
+            if (index + Long.BYTES <= window.limit()) {
+                final long word = window.getLong(index);
+                final long terminators = findBytes(word, LINE_FEED_BYTES) | findBytes(word, CARRIAGE_RETURN_BYTES);
+
+                if (terminators == 0) {
+                    highBits |= word;
+                    lineEnd += Long.BYTES;
+                    continue;
+                }
+
+                final int count = Long.numberOfTrailingZeros(terminators) / Byte.SIZE;
+
+                highBits |= word & ((1L << (count * Byte.SIZE)) - 1);
+                lineEnd += count;
+                break;
+            }
+
+            final byte symbol = window.get(index);
+
+            if (isLineTerminator(symbol)) {
+                break;
+            }
+
+            highBits |= symbol;
+            lineEnd++;
+        }
+
+        final int offset = (int) (position - windowStart);
+        final int length = (int) (lineEnd - position);
+        final CharSequence line = (highBits & HIGH_BITS) == 0
+            ? new ByteCharSequence(window, offset, length)
+            : decode(offset, length);
+
+        position = lineEnd;
+        skipLineTerminator();
+
+        return line;
+    }
+
+    public void seek(long start) throws IOException {
+        map(Math.max(start - 1, 0), WINDOW_MARGIN);
+        moveToLineStart(start);
+    }
+
+    public Stream<CharSequence> lines() {
+        return Stream.iterate(readNextLine(), Objects::nonNull, previous -> readNextLine());
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private CharSequence readNextLine() {
+        try {
+            return readLine();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private String decode(int offset, int length) {
+        final byte[] bytes = new byte[length];
+
+        window.get(offset, bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void moveToLineStart(long start) throws IOException {
+        position = start;
+
+        if (start == 0 || start > fileSize) {
+            return;
+        }
+
+        final byte previous = getByte(start - 1);
+
+        if (previous == '\r') {
+            skipLineFeed();
+        }
+
+        if (isLineTerminator(previous)) {
+            return;
+        }
+
+        while (position < fileSize && !isLineTerminator(getByte(position))) {
+            position++;
+        }
+
+        skipLineTerminator();
+    }
+
+    private void skipLineTerminator() throws IOException {
+        if (position >= fileSize) {
+            return;
+        }
+
+        final byte symbol = getByte(position);
+
+        position++;
+
+        if (symbol == '\r') {
+            skipLineFeed();
+        }
+    }
+
+    private void skipLineFeed() throws IOException {
+        if (position < fileSize && getByte(position) == '\n') {
+            position++;
+        }
+    }
+
+    private byte getByte(long index) throws IOException {
+        if (index < windowStart || index >= windowStart + window.limit()) {
+            map(index, WINDOW_MARGIN);
+        }
+
+        return window.get((int) (index - windowStart));
+    }
+
+    private void extendWindow() throws IOException {
+        if (windowStart == position && window.limit() == MAX_WINDOW_SIZE) {
+            throw new IOException(TOO_LONG_LOG_LINE_EXCEPTION_TEXT);
+        }
+
+        map(position, Math.max((long) window.limit() * 2, WINDOW_MARGIN));
+    }
+
+    private void map(long start, long size) throws IOException {
+        windowStart = start;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start,
+            Math.max(Math.min(Math.min(size, MAX_WINDOW_SIZE), fileSize - start), 0));
+        window.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static long findBytes(long word, long pattern) {
+        final long difference = word ^ pattern;
+
+        return (difference - LOW_BITS) & ~difference & HIGH_BITS;
+    }
+
+    private static boolean isLineTerminator(byte symbol) {
+        return symbol == '\n' || symbol == '\r';
+    }
+}
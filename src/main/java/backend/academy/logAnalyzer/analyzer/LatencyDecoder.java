@@ -0,0 +1,96 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import backend.academy.logAnalyzer.exception.IncorrectLogFormatException;
+import lombok.experimental.UtilityClass;
+import static backend.academy.logAnalyzer.constants.ConstValues.NO_LATENCY;
+
+@UtilityClass
+public class LatencyDecoder {
+
+    private static final int DECIMAL_BASE = 10;
+    private static final int FRACTION_DIGITS = 6;
+    private static final long MICROSECONDS_IN_SECOND = 1_000_000;
+    private static final char FRACTION_SEPARATOR = '.';
+    private static final char NO_VALUE = '-';
+
+    public static long decode(CharSequence latency) {
+        long total = NO_LATENCY;
+        int start = 0;
+
+        try {
+            for (int i = 0; i <= latency.length(); i++) {
+                if (i < latency.length() && !isValuesSeparator(latency.charAt(i))) {
+                    continue;
+                }
+
+                if (i > start) {
+                    final long value = decodeValue(latency, start, i);
+
+                    total = value != NO_LATENCY ? Math.addExact(Math.max(total, 0), value) : total;
+                }
+
+                start = i + 1;
+            }
+        } catch (ArithmeticException ex) {
+            throw new IncorrectLogFormatException(ex);
+        }
+
+        return total;
+    }
+
+    private static long decodeValue(CharSequence latency, int start, int end) {
+        if (end - start == 1 && latency.charAt(start) == NO_VALUE) {
+            return NO_LATENCY;
+        }
+
+        int index = start;
+        long seconds = 0;
+
+        while (index < end && isDigit(latency.charAt(index))) {
+            seconds = Math.addExact(Math.multiplyExact(seconds, DECIMAL_BASE), latency.charAt(index) - '0');
+            index++;
+        }
+
+        if (index == start) {
+            throw new IncorrectLogFormatException();
+        }
+
+        long fraction = 0;
+        int fractionDigits = 0;
+
+        if (index < end && latency.charAt(index) == FRACTION_SEPARATOR) {
+            index++;
+
+            while (index < end && isDigit(latency.charAt(index))) {
+                if (fractionDigits < FRACTION_DIGITS) {
+                    fraction = fraction * DECIMAL_BASE + latency.charAt(index) - '0';
+                    fractionDigits++;
+                }
+
+                index++;
+            }
+
+            if (fractionDigits == 0) {
+                throw new IncorrectLogFormatException();
+            }
+        }
+
+        if (index != end) {
+            throw new IncorrectLogFormatException();
+        }
+
+        for (; fractionDigits < FRACTION_DIGITS; fractionDigits++) {
+            fraction *= DECIMAL_BASE;
+        }
+
+        return Math.addExact(Math.multiplyExact(seconds, MICROSECONDS_IN_SECOND), fraction);
+    }
+
+    private static boolean isValuesSeparator(char symbol) {
+        return symbol == ',' || symbol == ':' || symbol == ' ';
+    }
+
+    private static boolean isDigit(char symbol) {
+        return symbol >= '0' && symbol <= '9';
+    }
+}
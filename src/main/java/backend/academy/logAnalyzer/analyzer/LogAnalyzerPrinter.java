@@ -36,11 +36,22 @@ public class LogAnalyzerPrinter {
         OUTPUT.format(
             format,
             Scene.renderGeneralInformation(processingResponse.generalInformation(), outputFormat),
-            Scene.renderResourcesInformation(processingResponse.requestStatistics().resources(), outputFormat),
+            Scene.renderResourcesInformation(processingResponse.requestStatistics().resources(),
+                processingResponse.requestStatistics().resourceErrors(), outputFormat),
             Scene.renderResponseCodesInformation(processingResponse.requestStatistics().httpStatuses(), outputFormat),
-            Scene.renderAddressesInformation(processingResponse.requestStatistics().addresses(), outputFormat),
+            Scene.renderAddressesInformation(processingResponse.requestStatistics().addresses(),
+                processingResponse.requestStatistics().addressErrors(), outputFormat),
             Scene.renderMethodsInformation(processingResponse.requestStatistics().httpMethods(), outputFormat)
         );
+
+        if (processingResponse.latencyStatistics() != null) {
+            OUTPUT.format("%n%s%n", Scene.renderLatencyInformation(processingResponse.latencyStatistics(),
+                outputFormat));
+        }
+
+        if (processingResponse.botStatistics() != null) {
+            OUTPUT.format("%n%s%n", Scene.renderBotsInformation(processingResponse.botStatistics(), outputFormat));
+        }
     }
 
     public static void printErrorText(String errorText, String decisionText) {
@@ -0,0 +1,66 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import backend.academy.logAnalyzer.exception.FileDataReadException;
+import backend.academy.logAnalyzer.statistics.LogStatistics;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+public class LogFileTask extends RecursiveTask<LogStatistics> {
+
+    private final transient Path filePath;
+    private final long start;
+    private final long end;
+    private final long rangeSize;
+    private final transient Function<Stream<CharSequence>, LogStatistics> processor;
+    private final transient TimeIndex timeIndex;
+
+    public LogFileTask(Path filePath, long start, long end, long rangeSize,
+        Function<Stream<CharSequence>, LogStatistics> processor, TimeIndex timeIndex) {
+        this.filePath = filePath;
+        this.start = start;
+        this.end = end;
+        this.rangeSize = rangeSize;
+        this.processor = processor;
+        this.timeIndex = timeIndex;
+    }
+
+    @Override
+    protected LogStatistics compute() {
+        if (end - start <= rangeSize) {
+            return processRange();
+        }
+
+        final long middle = start + (end - start) / 2;
+        final LogFileTask left = new LogFileTask(filePath, start, middle, rangeSize, processor, timeIndex);
+        final LogFileTask right = new LogFileTask(filePath, middle, end, rangeSize, processor, timeIndex);
+
+        left.fork();
+
+        final LogStatistics rightStatistics = right.compute();
+        final LogStatistics statistics = left.join();
+
+        statistics.merge(rightStatistics);
+
+        return statistics;
+    }
+
+    private LogStatistics processRange() {
+        try (FileRangeReader reader = new FileRangeReader(filePath, start, end)) {
+            if (timeIndex == null) {
+                return processor.apply(reader.lines());
+            }
+
+            final TimeIndex.BlockScanner scanner = timeIndex.createScanner(start, reader.position());
+
+            return processor.apply(reader.lines().peek(line -> scanner.add(line, reader.position())));
+        } catch (IOException ex) {
+            throw new FileDataReadException(ex);
+        } catch (UncheckedIOException ex) {
+            throw new FileDataReadException(ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import backend.academy.logAnalyzer.enums.LogField;
+import backend.academy.logAnalyzer.exception.IncorrectCommandException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.StringUtils;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.ADJACENT_LOG_FORMAT_VARIABLES_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.MISSING_LOG_FORMAT_VARIABLES_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_LOG_FORMAT_ARGUMENT_EXCEPTION_TEXT;
+
+@UtilityClass
+public class LogFormatCompiler {
+
+    private static final char VARIABLE_BEGIN = '$';
+    private static final char NAME_BEGIN = '{';
+    private static final char NAME_END = '}';
+    private static final char REQUEST_SEPARATOR = ' ';
+    private static final int BRACED_NAME_SYMBOLS = 3;
+    private static final int UNTRACKED_FIELD = -1;
+
+    private static final Set<LogField> REQUIRED_FIELDS = EnumSet.of(
+        LogField.REMOTE_ADDRESS, LogField.TIME_LOCAL, LogField.HTTP_METHOD, LogField.RESOURCE,
+        LogField.HTTP_STATUS, LogField.BODY_BYTES_SEND
+    );
+    private static final Set<LogField> REQUEST_FIELDS = EnumSet.of(
+        LogField.HTTP_METHOD, LogField.RESOURCE, LogField.HTTP_PROTOCOL
+    );
+
+    public static CompiledLogFormat compile(String logFormat) {
+        if (StringUtils.isBlank(logFormat)) {
+            throw new IncorrectCommandException(NOT_VALUE_FOR_LOG_FORMAT_ARGUMENT_EXCEPTION_TEXT);
+        }
+
+        final List<String> literals = new ArrayList<>();
+        final List<LogField> variables = new ArrayList<>();
+        final String trailingLiteral = splitLogFormat(logFormat, literals, variables);
+        final Set<LogField> fields = getFields(variables);
+
+        validateLiterals(literals);
+
+        if (!fields.containsAll(REQUIRED_FIELDS)) {
+            throw new IncorrectCommandException(MISSING_LOG_FORMAT_VARIABLES_EXCEPTION_TEXT);
+        }
+
+        final List<LogFormatStep> steps = new ArrayList<>();
+
+        if (!literals.getFirst().isEmpty()) {
+            steps.add(new LiteralStep(literals.getFirst()));
+        }
+
+        for (int i = 0; i < variables.size(); i++) {
+            final int field = variables.get(i) != null ? variables.get(i).ordinal() : UNTRACKED_FIELD;
+
+            if (i + 1 < variables.size()) {
+                steps.add(createDelimitedStep(field, literals.get(i + 1)));
+            } else if (trailingLiteral.isEmpty()) {
+                steps.add(new RestStep(field));
+            } else {
+                steps.add(new SuffixStep(field, trailingLiteral));
+            }
+        }
+
+        if (variables.contains(LogField.REQUEST)) {
+            steps.add(new RequestStep(
+                !variables.contains(LogField.HTTP_METHOD),
+                !variables.contains(LogField.RESOURCE),
+                !variables.contains(LogField.HTTP_PROTOCOL)
+            ));
+        }
+
+        return new CompiledLogFormat(logFormat, steps.toArray(LogFormatStep[]::new), fields);
+    }
+
+    private static String splitLogFormat(String logFormat, List<String> literals, List<LogField> variables) {
+        final StringBuilder literal = new StringBuilder();
+        int position = 0;
+
+        while (position < logFormat.length()) {
+            final String name = readVariableName(logFormat, position);
+
+            if (name == null) {
+                literal.append(logFormat.charAt(position));
+                position++;
+                continue;
+            }
+
+            literals.add(literal.toString());
+            variables.add(LogField.findLogFieldByValue(name));
+            literal.setLength(0);
+            position += logFormat.charAt(position + 1) == NAME_BEGIN
+                ? name.length() + BRACED_NAME_SYMBOLS
+                : name.length() + 1;
+        }
+
+        return literal.toString();
+    }
+
+    private static String readVariableName(String logFormat, int position) {
+        if (logFormat.charAt(position) != VARIABLE_BEGIN || position + 1 >= logFormat.length()) {
+            return null;
+        }
+
+        final boolean braced = logFormat.charAt(position + 1) == NAME_BEGIN;
+        final int nameStart = braced ? position + 2 : position + 1;
+        int nameEnd = nameStart;
+
+        while (nameEnd < logFormat.length() && isNameSymbol(logFormat.charAt(nameEnd))) {
+            nameEnd++;
+        }
+
+        if (nameEnd == nameStart
+            || (braced && (nameEnd >= logFormat.length() || logFormat.charAt(nameEnd) != NAME_END))) {
+            return null;
+        }
+
+        return logFormat.substring(nameStart, nameEnd);
+    }
+
+    private static Set<LogField> getFields(List<LogField> variables) {
+        final Set<LogField> fields = EnumSet.noneOf(LogField.class);
+
+        for (LogField variable : variables) {
+            if (variable != null) {
+                fields.add(variable);
+            }
+        }
+
+        if (fields.contains(LogField.REQUEST)) {
+            fields.addAll(REQUEST_FIELDS);
+        }
+
+        return fields;
+    }
+
+    private static void validateLiterals(List<String> literals) {
+        for (int i = 1; i < literals.size(); i++) {
+            if (literals.get(i).isEmpty()) {
+                throw new IncorrectCommandException(ADJACENT_LOG_FORMAT_VARIABLES_EXCEPTION_TEXT);
+            }
+        }
+    }
+
+    private static LogFormatStep createDelimitedStep(int field, String delimiter) {
+        return delimiter.length() == 1
+            ? new CharDelimitedStep(field, delimiter.charAt(0))
+            : new DelimitedStep(field, delimiter);
+    }
+
+    private static int setField(int field, int start, int end, int[] starts, int[] ends) {
+        if (start >= end) {
+            return LogFormatStep.NOT_MATCHED;
+        }
+
+        if (field != UNTRACKED_FIELD) {
+            starts[field] = start;
+            ends[field] = end;
+        }
+
+        return end;
+    }
+
+    private static int indexOf(CharSequence line, char expected, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (line.charAt(i) == expected) {
+                return i;
+            }
+        }
+
+        return LogFormatStep.NOT_MATCHED;
+    }
+
+    private static int lastIndexOf(CharSequence line, char expected, int from, int to) {
+        for (int i = to - 1; i >= from; i--) {
+            if (line.charAt(i) == expected) {
+                return i;
+            }
+        }
+
+        return LogFormatStep.NOT_MATCHED;
+    }
+
+    private static boolean matchesAt(CharSequence line, String expected, int index) {
+        if (index < 0 || index + expected.length() > line.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < expected.length(); i++) {
+            if (line.charAt(index + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isNameSymbol(char symbol) {
+        return symbol >= 'a' && symbol <= 'z' || symbol >= 'A' && symbol <= 'Z'
+            || symbol >= '0' && symbol <= '9' || symbol == '_';
+    }
+
+    private record LiteralStep(String literal) implements LogFormatStep {
+
+        @Override
+        public int read(CharSequence line, int position, int[] starts, int[] ends) {
+            return matchesAt(line, literal, position) ? position + literal.length() : NOT_MATCHED;
+        }
+    }
+
+    private record CharDelimitedStep(int field, char delimiter) implements LogFormatStep {
+
+        @Override
+        public int read(CharSequence line, int position, int[] starts, int[] ends) {
+            final int end = indexOf(line, delimiter, position, line.length());
+
+            if (end == NOT_MATCHED || setField(field, position, end, starts, ends) == NOT_MATCHED) {
+                return NOT_MATCHED;
+            }
+
+            return end + 1;
+        }
+    }
+
+    private record DelimitedStep(int field, String delimiter) implements LogFormatStep {
+
+        @Override
+        public int read(CharSequence line, int position, int[] starts, int[] ends) {
+            final char first = delimiter.charAt(0);
+            int end = indexOf(line, first, position, line.length());
+
+            while (end != NOT_MATCHED && !matchesAt(line, delimiter, end)) {
+                end = indexOf(line, first, end + 1, line.length());
+            }
+
+            if (end == NOT_MATCHED || setField(field, position, end, starts, ends) == NOT_MATCHED) {
+                return NOT_MATCHED;
+            }
+
+            return end + delimiter.length();
+        }
+    }
+
+    private record RestStep(int field) implements LogFormatStep {
+
+        @Override
+        public int read(CharSequence line, int position, int[] starts, int[] ends) {
+            return setField(field, position, line.length(), starts, ends);
+        }
+    }
+
+    private record SuffixStep(int field, String suffix) implements LogFormatStep {
+
+        @Override
+        public int read(CharSequence line, int position, int[] starts, int[] ends) {
+            final int end = line.length() - suffix.length();
+
+            if (!matchesAt(line, suffix, end) || setField(field, position, end, starts, ends) == NOT_MATCHED) {
+                return NOT_MATCHED;
+            }
+
+            return line.length();
+        }
+    }
+
+    private record RequestStep(boolean method, boolean resource, boolean protocol) implements LogFormatStep {
+
+        @Override
+        public int read(CharSequence line, int position, int[] starts, int[] ends) {
+            final int start = starts[LogField.REQUEST.ordinal()];
+            final int end = ends[LogField.REQUEST.ordinal()];
+            final int methodEnd = indexOf(line, REQUEST_SEPARATOR, start, end);
+            final int protocolStart = lastIndexOf(line, REQUEST_SEPARATOR, start, end) + 1;
+
+            if (methodEnd <= start || protocolStart - 1 <= methodEnd + 1 || protocolStart >= end) {
+                return NOT_MATCHED;
+            }
+
+            if (method) {
+                setField(LogField.HTTP_METHOD.ordinal(), start, methodEnd, starts, ends);
+            }
+
+            if (resource) {
+                setField(LogField.RESOURCE.ordinal(), methodEnd + 1, protocolStart - 1, starts, ends);
+            }
+
+            if (protocol) {
+                setField(LogField.HTTP_PROTOCOL.ordinal(), protocolStart, end, starts, ends);
+            }
+
+            return position;
+        }
+    }
+}
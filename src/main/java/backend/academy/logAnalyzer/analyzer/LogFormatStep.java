@@ -0,0 +1,8 @@
+package backend.academy.logAnalyzer.analyzer;
+
+public interface LogFormatStep {
+
+    int NOT_MATCHED = -1;
+
+    int read(CharSequence line, int position, int[] starts, int[] ends);
+}
@@ -0,0 +1,170 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import backend.academy.logAnalyzer.dto.Log;
+import backend.academy.logAnalyzer.dto.Request;
+import backend.academy.logAnalyzer.enums.HttpMethod;
+import backend.academy.logAnalyzer.enums.HttpProtocol;
+import backend.academy.logAnalyzer.enums.HttpStatus;
+import backend.academy.logAnalyzer.enums.LogField;
+import backend.academy.logAnalyzer.exception.IncorrectLogFormatException;
+import backend.academy.logAnalyzer.filter.LogMatcher;
+import java.time.ZonedDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import static backend.academy.logAnalyzer.constants.ConstValues.NO_LATENCY;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_HTTP_REFERER_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_LOG_DATA_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_USER_AGENT_EXCEPTION_TEXT;
+
+public class LogLine {
+
+    private static final int DECIMAL_RADIX = 10;
+
+    private final LogTokenizer tokenizer;
+    private final Set<LogField> fields;
+    private final TimeLocalDecoder timeLocalDecoder = new TimeLocalDecoder();
+
+    @Getter
+    private ZonedDateTime timeLocal;
+    @Getter
+    private long timeLocalEpochSecond;
+    @Getter
+    private HttpMethod httpMethod;
+    @Getter
+    private HttpProtocol httpProtocol;
+    @Getter
+    private HttpStatus httpStatus;
+    @Getter
+    private long bodyBytesSend;
+    @Getter
+    private long requestTime;
+    @Getter
+    private long upstreamResponseTime;
+
+    public LogLine() {
+        this(new CombinedLogTokenizer());
+    }
+
+    public LogLine(LogTokenizer tokenizer) {
+        this(tokenizer, EnumSet.allOf(LogField.class));
+    }
+
+    public LogLine(LogTokenizer tokenizer, Set<LogField> fields) {
+        this.tokenizer = tokenizer;
+        this.fields = EnumSet.noneOf(LogField.class);
+
+        for (LogField field : fields) {
+            if (tokenizer.contains(field)) {
+                this.fields.add(field);
+            }
+        }
+    }
+
+    public LogLine parse(CharSequence logEntry) {
+        parse(logEntry, null);
+
+        return this;
+    }
+
+    public boolean parse(CharSequence logEntry, LogMatcher matcher) {
+        if (StringUtils.isBlank(logEntry)) {
+            throw new NullPointerException(NULL_LOG_DATA_EXCEPTION_TEXT);
+        }
+
+        if (!tokenizer.tokenize(logEntry)) {
+            throw new IncorrectLogFormatException();
+        }
+
+        if (matcher != null && !matcher.matches(tokenizer)) {
+            return false;
+        }
+
+        decodeFields();
+
+        return true;
+    }
+
+    public CharSequence remoteAddress() {
+        return tokenizer.field(LogField.REMOTE_ADDRESS);
+    }
+
+    public CharSequence remoteUser() {
+        return tokenizer.field(LogField.REMOTE_USER);
+    }
+
+    public CharSequence resource() {
+        return tokenizer.field(LogField.RESOURCE);
+    }
+
+    public CharSequence httpReferer() {
+        return tokenizer.field(LogField.HTTP_REFERER);
+    }
+
+    public CharSequence httpUserAgent() {
+        return tokenizer.field(LogField.HTTP_USER_AGENT);
+    }
+
+    public Log toLog() {
+        return new Log(
+            remoteAddress().toString(), remoteUser().toString(), timeLocal,
+            new Request(httpMethod, resource().toString(), httpProtocol),
+            httpStatus, bodyBytesSend, httpReferer().toString(), httpUserAgent().toString()
+        );
+    }
+
+    private void decodeFields() {
+        timeLocal = fields.contains(LogField.TIME_LOCAL)
+            ? timeLocalDecoder.decode(tokenizer.field(LogField.TIME_LOCAL))
+            : null;
+        timeLocalEpochSecond = timeLocal != null ? timeLocal.toEpochSecond() : 0;
+        httpMethod = fields.contains(LogField.HTTP_METHOD)
+            ? HttpMethod.getHttpMethodByValue(tokenizer.field(LogField.HTTP_METHOD))
+            : null;
+        httpProtocol = fields.contains(LogField.HTTP_PROTOCOL)
+            ? HttpProtocol.getHttpProtocolByValue(tokenizer.field(LogField.HTTP_PROTOCOL))
+            : null;
+        httpStatus = fields.contains(LogField.HTTP_STATUS)
+            ? HttpStatus.getHttpStatusByCode(getHttpStatusCode(tokenizer.field(LogField.HTTP_STATUS)))
+            : null;
+        bodyBytesSend = fields.contains(LogField.BODY_BYTES_SEND)
+            ? getBodyBytesSend(tokenizer.field(LogField.BODY_BYTES_SEND))
+            : 0;
+
+        if (fields.contains(LogField.HTTP_REFERER)
+            && StringUtils.isBlank(tokenizer.field(LogField.HTTP_REFERER))) {
+            throw new NullPointerException(NULL_HTTP_REFERER_EXCEPTION_TEXT);
+        }
+
+        if (fields.contains(LogField.HTTP_USER_AGENT)
+            && StringUtils.isBlank(tokenizer.field(LogField.HTTP_USER_AGENT))) {
+            throw new NullPointerException(NULL_USER_AGENT_EXCEPTION_TEXT);
+        }
+
+        requestTime = getLatency(LogField.REQUEST_TIME);
+        upstreamResponseTime = getLatency(LogField.UPSTREAM_RESPONSE_TIME);
+    }
+
+    private long getLatency(LogField field) {
+        return fields.contains(field)
+            ? LatencyDecoder.decode(tokenizer.field(field))
+            : NO_LATENCY;
+    }
+
+    private static int getHttpStatusCode(CharSequence status) {
+        try {
+            return Integer.parseInt(status, 0, status.length(), DECIMAL_RADIX);
+        } catch (NumberFormatException ex) {
+            throw new IncorrectLogFormatException(ex);
+        }
+    }
+
+    private static long getBodyBytesSend(CharSequence bodyBytesSend) {
+        try {
+            return Long.parseLong(bodyBytesSend, 0, bodyBytesSend.length(), DECIMAL_RADIX);
+        } catch (NumberFormatException ex) {
+            throw new IncorrectLogFormatException(ex);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import backend.academy.logAnalyzer.enums.LogField;
+
+public interface LogTokenizer {
+
+    boolean tokenize(CharSequence logEntry);
+
+    boolean contains(LogField field);
+
+    CharSequence field(LogField field);
+
+    default String text(LogField field) {
+        return field(field).toString();
+    }
+}
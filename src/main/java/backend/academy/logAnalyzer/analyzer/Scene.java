@@ -1,9 +1,13 @@
 package backend.academy.logAnalyzer.analyzer;
 
+import backend.academy.logAnalyzer.dto.BotStatistics;
 import backend.academy.logAnalyzer.dto.GeneralInformation;
+import backend.academy.logAnalyzer.dto.LatencyStatistics;
+import backend.academy.logAnalyzer.dto.LatencySummary;
 import backend.academy.logAnalyzer.enums.HttpMethod;
 import backend.academy.logAnalyzer.enums.HttpStatus;
 import backend.academy.logAnalyzer.enums.OutputFormat;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -11,21 +15,29 @@ import java.util.Map;
 import java.util.Objects;
 import lombok.experimental.UtilityClass;
 import static backend.academy.logAnalyzer.constants.ConstValues.ADDRESSES_TEXT;
+import static backend.academy.logAnalyzer.constants.ConstValues.BOTS_OUTPUT_TEXT;
+import static backend.academy.logAnalyzer.constants.ConstValues.BOTS_TEXT;
 import static backend.academy.logAnalyzer.constants.ConstValues.DEFAULT_FORMAT;
 import static backend.academy.logAnalyzer.constants.ConstValues.END_DATE_OUTPUT_TEXT;
 import static backend.academy.logAnalyzer.constants.ConstValues.FILES_OUTPUT_TEXT;
 import static backend.academy.logAnalyzer.constants.ConstValues.GENERAL_INFORMATION_TEXT;
 import static backend.academy.logAnalyzer.constants.ConstValues.HEADER_SYMBOLS_COUNT;
 import static backend.academy.logAnalyzer.constants.ConstValues.HTTP_METHODS_TEXT;
+import static backend.academy.logAnalyzer.constants.ConstValues.HUMANS_OUTPUT_TEXT;
+import static backend.academy.logAnalyzer.constants.ConstValues.LATENCY_TEXT;
 import static backend.academy.logAnalyzer.constants.ConstValues.NO_VALUE_IN_STATISTICS;
 import static backend.academy.logAnalyzer.constants.ConstValues.PERCENTILE_OUTPUT_TEXT;
 import static backend.academy.logAnalyzer.constants.ConstValues.REQUESTED_RESOURCES_TEXT;
 import static backend.academy.logAnalyzer.constants.ConstValues.REQUESTS_COUNT_OUTPUT_TEXT;
+import static backend.academy.logAnalyzer.constants.ConstValues.REQUEST_TIME_OUTPUT_TEXT;
 import static backend.academy.logAnalyzer.constants.ConstValues.RESPONSE_AVERAGE_SIZE_OUTPUT_TEXT;
 import static backend.academy.logAnalyzer.constants.ConstValues.RESPONSE_CODES_TEXT;
 import static backend.academy.logAnalyzer.constants.ConstValues.START_DATE_OUTPUT_TEXT;
+import static backend.academy.logAnalyzer.constants.ConstValues.UPSTREAM_RESPONSE_TIME_OUTPUT_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_BOTS_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_ELEMENTS_STATISTICS_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_GENERAL_INFORMATION_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_LATENCY_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_STATISTICS_EXCEPTION_TEXT;
 
 @UtilityClass
@@ -33,6 +45,9 @@ public class Scene {
 
     private static final int DEFAULT_COLUMN_SIZE = 30;
     private static final String COUNT_NAME = "Количество";
+    private static final String ERROR_NAME = "Погрешность";
+    private static final int LATENCY_SCALE = 3;
+    private static final String LATENCY_UNIT = "ms";
 
     private static char headerSymbol;
     private static int maxColumnSize;
@@ -53,14 +68,20 @@ public class Scene {
 
     public static String renderResourcesInformation(Map<String, Integer> resources,
         OutputFormat outputFormat) {
+        return renderResourcesInformation(resources, Map.of(), outputFormat);
+    }
+
+    public static String renderResourcesInformation(Map<String, Integer> resources,
+        Map<String, Integer> errors, OutputFormat outputFormat) {
         validateMap(resources);
+        validateMap(errors);
 
-        final List<String> tableHeaders = List.of("Ресурс", COUNT_NAME);
+        final List<String> tableHeaders = getTableHeaders("Ресурс", errors);
 
         maxColumnSize = getMaxColumnSizeByKeys(resources);
         headerSymbol = getHeaderSymbol(outputFormat);
 
-        return getSection(resources, REQUESTED_RESOURCES_TEXT, tableHeaders);
+        return getSection(resources, errors, REQUESTED_RESOURCES_TEXT, tableHeaders);
     }
 
     public static String renderResponseCodesInformation(Map<HttpStatus, Integer> httpStatuses,
@@ -77,14 +98,20 @@ public class Scene {
 
     public static String renderAddressesInformation(Map<String, Integer> addresses,
         OutputFormat outputFormat) {
+        return renderAddressesInformation(addresses, Map.of(), outputFormat);
+    }
+
+    public static String renderAddressesInformation(Map<String, Integer> addresses,
+        Map<String, Integer> errors, OutputFormat outputFormat) {
         validateMap(addresses);
+        validateMap(errors);
 
-        final List<String> tableHeaders = List.of("Адрес", COUNT_NAME);
+        final List<String> tableHeaders = getTableHeaders("Адрес", errors);
 
         maxColumnSize = getMaxColumnSizeByKeys(addresses);
         headerSymbol = getHeaderSymbol(outputFormat);
 
-        return getSection(addresses, ADDRESSES_TEXT, tableHeaders);
+        return getSection(addresses, errors, ADDRESSES_TEXT, tableHeaders);
     }
 
     public static String renderMethodsInformation(Map<HttpMethod, Integer> httpMethods,
@@ -99,16 +126,69 @@ public class Scene {
         return getSection(httpMethods, HTTP_METHODS_TEXT, tableHeaders);
     }
 
+    public static String renderLatencyInformation(LatencyStatistics latencyStatistics, OutputFormat outputFormat) {
+        if (latencyStatistics == null) {
+            throw new NullPointerException(NULL_LATENCY_EXCEPTION_TEXT);
+        }
+
+        final Map<String, LatencySummary> latencies = new LinkedHashMap<>();
+        final List<String> tableHeaders = List.of("Запросы", "p50", "p95", "p99", "max");
+
+        if (latencyStatistics.requestTime() != null) {
+            latencies.put(REQUEST_TIME_OUTPUT_TEXT, latencyStatistics.requestTime());
+        }
+
+        if (latencyStatistics.upstreamResponseTime() != null) {
+            latencies.put(UPSTREAM_RESPONSE_TIME_OUTPUT_TEXT, latencyStatistics.upstreamResponseTime());
+        }
+
+        latencies.putAll(latencyStatistics.resources());
+
+        maxColumnSize = getMaxColumnSizeByKeys(latencies);
+        headerSymbol = getHeaderSymbol(outputFormat);
+
+        return getSection(latencies, LATENCY_TEXT, tableHeaders);
+    }
+
+    public static String renderBotsInformation(BotStatistics botStatistics, OutputFormat outputFormat) {
+        if (botStatistics == null) {
+            throw new NullPointerException(NULL_BOTS_EXCEPTION_TEXT);
+        }
+
+        final Map<String, Integer> bots = new LinkedHashMap<>();
+        final List<String> tableHeaders = List.of("Трафик", COUNT_NAME);
+
+        bots.put(BOTS_OUTPUT_TEXT, botStatistics.botsCount());
+        bots.put(HUMANS_OUTPUT_TEXT, botStatistics.humansCount());
+        bots.putAll(botStatistics.signatures());
+
+        maxColumnSize = getMaxColumnSizeByKeys(bots);
+        headerSymbol = getHeaderSymbol(outputFormat);
+
+        return getSection(bots, BOTS_TEXT, tableHeaders);
+    }
+
     private static int getMaxColumnSizeByKeys(Map<?, ?> map) {
         return Math.max(DEFAULT_COLUMN_SIZE,
             map.keySet().stream().mapToInt(element -> element.toString().length()).max().orElse(0));
     }
 
+    private static List<String> getTableHeaders(String keyName, Map<?, ?> errors) {
+        return errors.isEmpty()
+            ? List.of(keyName, COUNT_NAME)
+            : List.of(keyName, COUNT_NAME, ERROR_NAME);
+    }
+
     private static String getSection(Map<?, ?> statistic, String header, List<String> tableHeaders) {
+        return getSection(statistic, Map.of(), header, tableHeaders);
+    }
+
+    private static String getSection(Map<?, ?> statistic, Map<?, ?> errors, String header,
+        List<String> tableHeaders) {
         return String.format("%s%n%s%n%s",
             getHeader(header, headerSymbol),
             getTableHeader(tableHeaders),
-            getStatistics(statistic));
+            getStatistics(statistic, errors));
     }
 
     private static Map<String, String> getGeneralInformationMap(GeneralInformation generalInformation) {
@@ -129,22 +209,38 @@ public class Scene {
             String.valueOf(generalInformation.requestsCount()));
         information.put(RESPONSE_AVERAGE_SIZE_OUTPUT_TEXT,
             String.valueOf(generalInformation.responseAverageSize()) + byteSymbol);
-        information.put(PERCENTILE_OUTPUT_TEXT,
-            String.valueOf(generalInformation.percentile()) + byteSymbol);
+        generalInformation.percentiles().forEach((percentile, value) ->
+            information.put(String.format(PERCENTILE_OUTPUT_TEXT, getPercentileName(percentile)),
+                String.valueOf(value) + byteSymbol));
 
         return information;
     }
 
+    private static String getPercentileName(double percentile) {
+        return BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString();
+    }
+
     private static String getDateValue(LocalDate from) {
         return from != null
             ? from.toString()
             : NO_VALUE_IN_STATISTICS;
     }
 
-    private static String getRenderResult(Map.Entry<?, ?> element) {
+    private static String getRenderResult(Map.Entry<?, ?> element, Map<?, ?> errors) {
         final char separate = '|';
         final String columnFormat = " %" + maxColumnSize + "s ";
 
+        if (!errors.isEmpty()) {
+            return String.format(separate + columnFormat + separate + columnFormat + separate + columnFormat + separate,
+                centerText(element.getKey().toString()),
+                centerText(element.getValue().toString()),
+                centerText(String.valueOf(errors.get(element.getKey()))));
+        }
+
+        if (element.getValue() instanceof LatencySummary latency) {
+            return getLatencyRenderResult(element.getKey().toString(), latency);
+        }
+
         if (Objects.requireNonNull(element.getKey()) instanceof HttpStatus httpStatus) {
             return String.format(separate + columnFormat + separate + columnFormat + separate + columnFormat + separate,
                 centerText(String.valueOf(httpStatus.code())),
@@ -157,6 +253,18 @@ public class Scene {
             centerText(element.getValue().toString()));
     }
 
+    private static String getLatencyRenderResult(String name, LatencySummary latency) {
+        final String columnFormat = " %" + maxColumnSize + "s |";
+        final StringBuilder result = new StringBuilder("|").append(String.format(columnFormat, centerText(name)));
+
+        for (long value : List.of(latency.p50(), latency.p95(), latency.p99(), latency.max())) {
+            result.append(String.format(columnFormat,
+                centerText(BigDecimal.valueOf(value, LATENCY_SCALE).toPlainString() + LATENCY_UNIT)));
+        }
+
+        return result.toString();
+    }
+
     private static String getHeader(String headerText, char headerSymbol) {
         final String headerFormat = "%s %s";
 
@@ -170,12 +278,12 @@ public class Scene {
             : DEFAULT_FORMAT.headerSymbol();
     }
 
-    private static String getStatistics(Map<?, ?> statistics) {
+    private static String getStatistics(Map<?, ?> statistics, Map<?, ?> errors) {
         final StringBuilder stringBuilder = new StringBuilder();
         int count = 0;
 
         for (Map.Entry<?, ?> element : statistics.entrySet()) {
-            stringBuilder.append(getRenderResult(element));
+            stringBuilder.append(getRenderResult(element, errors));
             count++;
 
             if (count < statistics.size()) {
@@ -0,0 +1,245 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import backend.academy.logAnalyzer.dto.FileRange;
+import backend.academy.logAnalyzer.enums.LogField;
+import backend.academy.logAnalyzer.exception.IncorrectLogFormatException;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.StringUtils;
+import static backend.academy.logAnalyzer.constants.ConstValues.TIME_INDEX_EXTENSION;
+
+public class TimeIndex {
+
+    private static final int MAGIC = 0x4C414958;
+    private static final int VERSION = 1;
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+    private static final long UNKNOWN_TIME = Long.MIN_VALUE;
+
+    private final Path indexPath;
+    private final FileFingerprint fingerprint;
+    private final int formatHash;
+    private final int stride;
+    private final long indexedEnd;
+    private final LongArrayList blockStarts;
+    private final LongArrayList minTimes;
+    private final LongArrayList maxTimes;
+    private final Supplier<LogTokenizer> tokenizers;
+    private final Map<Long, BlockScanner> scanners = new ConcurrentSkipListMap<>();
+
+    private TimeIndex(Path indexPath, FileFingerprint fingerprint, int formatHash, int stride, long indexedEnd,
+        LongArrayList blockStarts, LongArrayList minTimes, LongArrayList maxTimes, Supplier<LogTokenizer> tokenizers) {
+        this.indexPath = indexPath;
+        this.fingerprint = fingerprint;
+        this.formatHash = formatHash;
+        this.stride = stride;
+        this.indexedEnd = indexedEnd;
+        this.blockStarts = blockStarts;
+        this.minTimes = minTimes;
+        this.maxTimes = maxTimes;
+        this.tokenizers = tokenizers;
+    }
+
+    public static TimeIndex getOrCreate(Path filePath, String logFormat, Supplier<LogTokenizer> tokenizers,
+        int stride) throws IOException {
+        final Path indexPath = getIndexPath(filePath);
+        final FileFingerprint currentFingerprint = FileFingerprint.of(filePath);
+        final TimeIndex index = load(indexPath, tokenizers);
+
+        if (index != null && index.formatHash == logFormat.hashCode() && index.stride == stride
+            && index.fingerprint.isPrefixOf(filePath, currentFingerprint)) {
+            if (index.fingerprint.equals(currentFingerprint)) {
+                return index;
+            }
+
+            if (index.fingerprint.size() < currentFingerprint.size() && !index.blockStarts.isEmpty()) {
+                final int lastBlock = index.blockStarts.size() - 1;
+                final long lastBlockStart = index.blockStarts.removeLong(lastBlock);
+
+                index.minTimes.removeLong(lastBlock);
+                index.maxTimes.removeLong(lastBlock);
+
+                return new TimeIndex(indexPath, currentFingerprint, index.formatHash, stride, lastBlockStart,
+                    index.blockStarts, index.minTimes, index.maxTimes, tokenizers);
+            }
+        }
+
+        return new TimeIndex(indexPath, currentFingerprint, logFormat.hashCode(), stride, 0,
+            new LongArrayList(), new LongArrayList(), new LongArrayList(), tokenizers);
+    }
+
+    public static Path getIndexPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + TIME_INDEX_EXTENSION);
+    }
+
+    public boolean isComplete() {
+        return indexedEnd == fingerprint.size();
+    }
+
+    public FileRange getUnindexedRange() {
+        return new FileRange(indexedEnd, fingerprint.size());
+    }
+
+    public List<FileRange> getRanges(ZonedDateTime from, ZonedDateTime to) {
+        final long fromSeconds = from != null ? from.toEpochSecond() : Long.MIN_VALUE;
+        final long toSeconds = to != null ? to.toEpochSecond() : Long.MAX_VALUE;
+        final List<FileRange> ranges = new ArrayList<>();
+
+        long rangeStart = -1;
+
+        for (int i = 0; i < blockStarts.size(); i++) {
+            final boolean matches = maxTimes.getLong(i) >= fromSeconds && minTimes.getLong(i) <= toSeconds;
+
+            if (matches && rangeStart < 0) {
+                rangeStart = blockStarts.getLong(i);
+            } else if (!matches && rangeStart >= 0) {
+                ranges.add(new FileRange(rangeStart, blockStarts.getLong(i)));
+                rangeStart = -1;
+            }
+        }
+
+        if (rangeStart >= 0) {
+            ranges.add(new FileRange(rangeStart, indexedEnd));
+        }
+
+        return ranges;
+    }
+
+    public BlockScanner createScanner(long rangeStart, long lineStart) {
+        final BlockScanner scanner = new BlockScanner(new LogLine(tokenizers.get(), EnumSet.of(LogField.TIME_LOCAL)),
+            stride, lineStart);
+
+        scanners.put(rangeStart, scanner);
+
+        return scanner;
+    }
+
+    public void save() throws IOException {
+        for (BlockScanner scanner : scanners.values()) {
+            blockStarts.addAll(scanner.blockStarts);
+            minTimes.addAll(scanner.minTimes);
+            maxTimes.addAll(scanner.maxTimes);
+        }
+
+        scanners.clear();
+
+        final Path temporaryPath = indexPath.resolveSibling(indexPath.getFileName() + TEMPORARY_EXTENSION);
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+            Files.newOutputStream(temporaryPath)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            fingerprint.write(output);
+            output.writeInt(formatHash);
+            output.writeInt(stride);
+            output.writeInt(blockStarts.size());
+
+            for (int i = 0; i < blockStarts.size(); i++) {
+                output.writeLong(blockStarts.getLong(i));
+                output.writeLong(minTimes.getLong(i));
+                output.writeLong(maxTimes.getLong(i));
+            }
+        }
+
+        Files.move(temporaryPath, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static TimeIndex load(Path indexPath, Supplier<LogTokenizer> tokenizers) {
+        if (!Files.isRegularFile(indexPath)) {
+            return null;
+        }
+
+        try (DataInputStream input = new DataInputStream(
+            new BufferedInputStream(Files.newInputStream(indexPath)))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                return null;
+            }
+
+            final FileFingerprint fingerprint = FileFingerprint.read(input);
+            final int formatHash = input.readInt();
+            final int stride = input.readInt();
+            final int blocksCount = input.readInt();
+            final LongArrayList blockStarts = new LongArrayList(blocksCount);
+            final LongArrayList minTimes = new LongArrayList(blocksCount);
+            final LongArrayList maxTimes = new LongArrayList(blocksCount);
+
+            for (int i = 0; i < blocksCount; i++) {
+                blockStarts.add(input.readLong());
+                minTimes.add(input.readLong());
+                maxTimes.add(input.readLong());
+            }
+
+            return new TimeIndex(indexPath, fingerprint, formatHash, stride, fingerprint.size(),
+                blockStarts, minTimes, maxTimes, tokenizers);
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    public static final class BlockScanner {
+
+        private final LogLine logLine;
+        private final int stride;
+        private final LongArrayList blockStarts = new LongArrayList();
+        private final LongArrayList minTimes = new LongArrayList();
+        private final LongArrayList maxTimes = new LongArrayList();
+
+        private long blockEnd = -1;
+        private long lineStart;
+
+        private BlockScanner(LogLine logLine, int stride, long lineStart) {
+            this.logLine = logLine;
+            this.stride = stride;
+            this.lineStart = lineStart;
+        }
+
+        public void add(CharSequence line, long nextLineStart) {
+            if (lineStart >= blockEnd) {
+                blockStarts.add(lineStart);
+                minTimes.add(Long.MAX_VALUE);
+                maxTimes.add(Long.MIN_VALUE);
+                blockEnd = lineStart + stride;
+            }
+
+            addTime(readEpochSecond(line));
+            lineStart = nextLineStart;
+        }
+
+        private void addTime(long epochSecond) {
+            final int lastBlock = blockStarts.size() - 1;
+
+            if (epochSecond == UNKNOWN_TIME) {
+                minTimes.set(lastBlock, Long.MIN_VALUE);
+                maxTimes.set(lastBlock, Long.MAX_VALUE);
+            } else {
+                minTimes.set(lastBlock, Math.min(minTimes.getLong(lastBlock), epochSecond));
+                maxTimes.set(lastBlock, Math.max(maxTimes.getLong(lastBlock), epochSecond));
+            }
+        }
+
+        private long readEpochSecond(CharSequence line) {
+            if (StringUtils.isBlank(line)) {
+                return UNKNOWN_TIME;
+            }
+
+            try {
+                return logLine.parse(line).timeLocal().toEpochSecond();
+            } catch (IncorrectLogFormatException ex) {
+                return UNKNOWN_TIME;
+            }
+        }
+    }
+}
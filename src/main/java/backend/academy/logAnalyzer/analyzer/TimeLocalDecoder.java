@@ -0,0 +1,146 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import backend.academy.logAnalyzer.exception.IncorrectLogFormatException;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.util.Arrays;
+import java.util.Locale;
+import static backend.academy.logAnalyzer.constants.ConstValues.TIME_LOCAL_FORMAT;
+
+public class TimeLocalDecoder {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER =
+        DateTimeFormatter.ofPattern(TIME_LOCAL_FORMAT, Locale.ENGLISH);
+
+    private static final String TIME_LOCAL_TEMPLATE = "00/Mmm/0000:00:00:00 +0000";
+    private static final char DIGIT_PLACEHOLDER = '0';
+    private static final char MONTH_PLACEHOLDER = 'M';
+    private static final char SIGN_PLACEHOLDER = '+';
+
+    private static final int DAY_INDEX = TIME_LOCAL_TEMPLATE.indexOf(DIGIT_PLACEHOLDER);
+    private static final int MONTH_INDEX = TIME_LOCAL_TEMPLATE.indexOf(MONTH_PLACEHOLDER);
+    private static final int YEAR_INDEX = TIME_LOCAL_TEMPLATE.indexOf('/', MONTH_INDEX) + 1;
+    private static final int HOUR_INDEX = TIME_LOCAL_TEMPLATE.indexOf(':') + 1;
+    private static final int MINUTE_INDEX = TIME_LOCAL_TEMPLATE.indexOf(':', HOUR_INDEX) + 1;
+    private static final int SECOND_INDEX = TIME_LOCAL_TEMPLATE.indexOf(':', MINUTE_INDEX) + 1;
+    private static final int OFFSET_INDEX = TIME_LOCAL_TEMPLATE.indexOf(SIGN_PLACEHOLDER);
+
+    private static final int DECIMAL_BASE = 10;
+    private static final int TWO_DIGITS = 2;
+    private static final int YEAR_DIGITS = 4;
+    private static final int MONTH_LENGTH = 3;
+    private static final int MAX_HOUR = 23;
+    private static final int MAX_MINUTE = 59;
+    private static final int MAX_OFFSET_HOURS = 18;
+    private static final int SECONDS_IN_MINUTE = 60;
+    private static final int SECONDS_IN_HOUR = 3600;
+
+    private static final String[] MONTHS = Arrays.stream(Month.values())
+        .map(month -> month.getDisplayName(TextStyle.SHORT, Locale.ENGLISH))
+        .toArray(String[]::new);
+
+    private static final int CACHE_SIZE = 10;
+
+    private final String[] cachedTimeLocals = new String[CACHE_SIZE];
+    private final ZonedDateTime[] cachedValues = new ZonedDateTime[CACHE_SIZE];
+
+    public ZonedDateTime decode(CharSequence timeLocal) {
+        if (timeLocal.length() != TIME_LOCAL_TEMPLATE.length()) {
+            return parse(timeLocal);
+        }
+
+        final int slot = timeLocal.charAt(SECOND_INDEX + 1) % CACHE_SIZE;
+
+        if (cachedTimeLocals[slot] != null && cachedTimeLocals[slot].contentEquals(timeLocal)) {
+            return cachedValues[slot];
+        }
+
+        ZonedDateTime result = matchesTemplate(timeLocal) ? decodeDigits(timeLocal) : null;
+
+        if (result == null) {
+            result = parse(timeLocal);
+        }
+
+        cachedTimeLocals[slot] = timeLocal.toString();
+        cachedValues[slot] = result;
+
+        return result;
+    }
+
+    private static ZonedDateTime decodeDigits(CharSequence timeLocal) {
+        final int day = readNumber(timeLocal, DAY_INDEX, TWO_DIGITS);
+        final int month = readMonth(timeLocal);
+        final int year = readNumber(timeLocal, YEAR_INDEX, YEAR_DIGITS);
+        final int hour = readNumber(timeLocal, HOUR_INDEX, TWO_DIGITS);
+        final int minute = readNumber(timeLocal, MINUTE_INDEX, TWO_DIGITS);
+        final int second = readNumber(timeLocal, SECOND_INDEX, TWO_DIGITS);
+        final boolean negativeOffset = timeLocal.charAt(OFFSET_INDEX) == '-';
+        final int offsetHours = readNumber(timeLocal, OFFSET_INDEX + 1, TWO_DIGITS);
+        final int offsetMinutes = readNumber(timeLocal, OFFSET_INDEX + 1 + TWO_DIGITS, TWO_DIGITS);
+        final int offsetSeconds = offsetHours * SECONDS_IN_HOUR + offsetMinutes * SECONDS_IN_MINUTE;
+
+        if (month == 0 || year == 0 || day == 0 || day > Month.of(month).length(Year.isLeap(year))
+            || hour > MAX_HOUR || minute > MAX_MINUTE || second > MAX_MINUTE
+            || offsetMinutes > MAX_MINUTE || offsetSeconds > MAX_OFFSET_HOURS * SECONDS_IN_HOUR
+            || (negativeOffset && offsetSeconds == 0)) {
+            return null;
+        }
+
+        final ZoneOffset offset = ZoneOffset.ofTotalSeconds(negativeOffset ? -offsetSeconds : offsetSeconds);
+
+        return ZonedDateTime.of(year, month, day, hour, minute, second, 0, offset);
+    }
+
+    private static boolean matchesTemplate(CharSequence timeLocal) {
+        for (int i = 0; i < TIME_LOCAL_TEMPLATE.length(); i++) {
+            final char expected = TIME_LOCAL_TEMPLATE.charAt(i);
+            final char actual = timeLocal.charAt(i);
+            final boolean matches = switch (expected) {
+                case DIGIT_PLACEHOLDER -> actual >= '0' && actual <= '9';
+                case SIGN_PLACEHOLDER -> actual == '+' || actual == '-';
+                default -> Character.isLetter(expected) || actual == expected;
+            };
+
+            if (!matches) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static int readMonth(CharSequence timeLocal) {
+        for (int i = 0; i < MONTHS.length; i++) {
+            if (MONTHS[i].length() == MONTH_LENGTH
+                && timeLocal.charAt(MONTH_INDEX) == MONTHS[i].charAt(0)
+                && timeLocal.charAt(MONTH_INDEX + 1) == MONTHS[i].charAt(1)
+                && timeLocal.charAt(MONTH_INDEX + 2) == MONTHS[i].charAt(2)) {
+                return i + 1;
+            }
+        }
+
+        return 0;
+    }
+
+    private static int readNumber(CharSequence timeLocal, int index, int digits) {
+        int result = 0;
+
+        for (int i = index; i < index + digits; i++) {
+            result = result * DECIMAL_BASE + timeLocal.charAt(i) - '0';
+        }
+
+        return result;
+    }
+
+    private static ZonedDateTime parse(CharSequence timeLocal) {
+        try {
+            return ZonedDateTime.parse(timeLocal, DATE_TIME_FORMATTER);
+        } catch (Exception ex) {
+            throw new IncorrectLogFormatException(ex);
+        }
+    }
+}
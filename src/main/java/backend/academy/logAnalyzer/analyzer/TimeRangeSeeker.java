@@ -0,0 +1,89 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import backend.academy.logAnalyzer.dto.FileRange;
+import backend.academy.logAnalyzer.enums.LogField;
+import backend.academy.logAnalyzer.exception.IncorrectLogFormatException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.EnumSet;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.StringUtils;
+
+@UtilityClass
+public class TimeRangeSeeker {
+
+    private static final long NOT_FOUND = -1;
+
+    public static FileRange seek(Path filePath, LogTokenizer tokenizer, ZonedDateTime from, ZonedDateTime to,
+        long toleranceSeconds) throws IOException {
+        final long fileSize = Files.size(filePath);
+
+        try (FileRangeReader reader = new FileRangeReader(filePath, 0, fileSize)) {
+            final LogLine logLine = new LogLine(tokenizer, EnumSet.of(LogField.TIME_LOCAL));
+            final long start = from != null
+                ? findOffset(reader, logLine, 0, fileSize, from.minusSeconds(toleranceSeconds), false)
+                : 0;
+
+            if (start == NOT_FOUND) {
+                return new FileRange(0, fileSize);
+            }
+
+            final long end = to != null
+                ? findOffset(reader, logLine, start, fileSize, to.plusSeconds(toleranceSeconds), true)
+                : fileSize;
+
+            return end != NOT_FOUND
+                ? new FileRange(start, end)
+                : new FileRange(0, fileSize);
+        }
+    }
+
+    private static long findOffset(FileRangeReader reader, LogLine logLine, long low, long high,
+        ZonedDateTime bound, boolean afterBound) throws IOException {
+        long left = low;
+        long right = high;
+
+        while (left < right) {
+            final long middle = left + (right - left) / 2;
+
+            reader.seek(middle);
+
+            final CharSequence line = reader.readLine();
+
+            if (line == null) {
+                right = middle;
+                continue;
+            }
+
+            final ZonedDateTime timeLocal = readTimeLocal(logLine, line);
+
+            if (timeLocal == null) {
+                return NOT_FOUND;
+            }
+
+            final boolean reached = afterBound ? timeLocal.isAfter(bound) : !timeLocal.isBefore(bound);
+
+            if (reached) {
+                right = middle;
+            } else {
+                left = middle + 1;
+            }
+        }
+
+        return left;
+    }
+
+    private static ZonedDateTime readTimeLocal(LogLine logLine, CharSequence line) {
+        if (StringUtils.isBlank(line)) {
+            return null;
+        }
+
+        try {
+            return logLine.parse(line).timeLocal();
+        } catch (IncorrectLogFormatException ex) {
+            return null;
+        }
+    }
+}
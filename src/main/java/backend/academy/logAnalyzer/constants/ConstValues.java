@@ -33,6 +33,17 @@ public class ConstValues {
     public static final String FORMAT_ARGUMENT = "--format";
     public static final String FILTER_FIELD_ARGUMENT = "--filter-field";
     public static final String FILTER_VALUE_ARGUMENT = "--filter-value";
+    public static final String FILTER_ARGUMENT = "--filter";
+    public static final String PERCENTILES_ARGUMENT = "--percentiles";
+    public static final String PERCENTILE_ERROR_ARGUMENT = "--percentile-error";
+    public static final String TOP_ARGUMENT = "--top";
+    public static final String HEAVY_HITTERS_ARGUMENT = "--heavy-hitters";
+    public static final String THREADS_ARGUMENT = "--threads";
+    public static final String LOG_FORMAT_ARGUMENT = "--log-format";
+    public static final String TIME_TOLERANCE_ARGUMENT = "--time-tolerance";
+    public static final String INDEX_STRIDE_ARGUMENT = "--index-stride";
+    public static final String ROLLUP_DIRECTORY_ARGUMENT = "--rollup-dir";
+    public static final String BOT_SIGNATURES_ARGUMENT = "--bot-signatures";
     public static final String EXIT_ARGUMENT = "--exit";
     public static final String PREVIOUS_ARGUMENT = "--previous";
     public static final String HISTORY_ARGUMENT = "--history";
@@ -42,7 +53,11 @@ public class ConstValues {
     public static final String END_DATE_OUTPUT_TEXT = "Конечная дата";
     public static final String REQUESTS_COUNT_OUTPUT_TEXT = "Количество запросов";
     public static final String RESPONSE_AVERAGE_SIZE_OUTPUT_TEXT = "Средний размер ответа";
-    public static final String PERCENTILE_OUTPUT_TEXT = "95p размера ответа";
+    public static final String PERCENTILE_OUTPUT_TEXT = "%sp размера ответа";
+    public static final String REQUEST_TIME_OUTPUT_TEXT = "Время запроса";
+    public static final String UPSTREAM_RESPONSE_TIME_OUTPUT_TEXT = "Время ответа upstream";
+    public static final String BOTS_OUTPUT_TEXT = "Боты";
+    public static final String HUMANS_OUTPUT_TEXT = "Пользователи";
 
     public static final int HEADER_SYMBOLS_COUNT = 4;
 
@@ -51,8 +66,22 @@ public class ConstValues {
     public static final String RESPONSE_CODES_TEXT = "Коды ответа";
     public static final String ADDRESSES_TEXT = "IP адреса";
     public static final String HTTP_METHODS_TEXT = "HTTP методы";
+    public static final String LATENCY_TEXT = "Время обработки запросов";
+    public static final String BOTS_TEXT = "Боты и пользователи";
 
     public static final int STATISTICS_LIMIT = 5;
+    public static final List<Double> DEFAULT_PERCENTILES = List.of(95.0);
+    public static final int DEFAULT_THREADS = Runtime.getRuntime().availableProcessors();
+    public static final int MAX_THREADS = 32767;
+    public static final double MIN_PERCENTILE_ERROR = 0.0001;
+    public static final int BYTES_IN_KILOBYTE = 1024;
+    public static final int MAX_INDEX_STRIDE = Integer.MAX_VALUE / BYTES_IN_KILOBYTE;
+    public static final String TIME_INDEX_EXTENSION = ".idx";
+    public static final String ROLLUP_EXTENSION = ".rollup";
+    public static final String PERCENTILES_SEPARATOR = ",";
+    public static final long NO_LATENCY = -1;
+    public static final long NO_ADDRESS = -1;
+    public static final int NO_SIGNATURE = -1;
     public static final String NO_VALUE_IN_STATISTICS = "-";
     public static final String BASE_PATH = Paths.get(StringUtils.EMPTY).toAbsolutePath() + File.separator;
 
@@ -86,6 +115,37 @@ public class ConstValues {
             + Arrays.toString(Arrays.stream(FilterField.values()).map(FilterField::value).toArray())
             + " " + NOT_REQUIRED_ARGUMENT_TEXT);
         COMMAND_ARGUMENTS_DESCRIPTION.put(FILTER_VALUE_ARGUMENT, "Допустимое значение поля");
+        COMMAND_ARGUMENTS_DESCRIPTION.put(FILTER_ARGUMENT, "Выражение фильтрации из условий с операторами "
+            + "=, !=, ~, !~, >, >=, <, <=, объединенных AND, OR, NOT и скобками, например "
+            + "status>=500 AND method=POST AND agent~bot. Адрес можно сравнивать с диапазонами CIDR через запятую "
+            + "или с файлом диапазонов, например address=10.0.0.0/8,2001:db8::/32 или address=@ranges.txt "
+            + NOT_REQUIRED_ARGUMENT_TEXT);
+        COMMAND_ARGUMENTS_DESCRIPTION.put(PERCENTILES_ARGUMENT, "Перцентили размера ответа через запятую, "
+            + "например 50,90,99,99.9 " + NOT_REQUIRED_ARGUMENT_TEXT);
+        COMMAND_ARGUMENTS_DESCRIPTION.put(PERCENTILE_ERROR_ARGUMENT, "Относительная погрешность приближенного "
+            + "расчета перцентилей без хранения всех размеров, от 0.0001, например 0.01 " + NOT_REQUIRED_ARGUMENT_TEXT);
+        COMMAND_ARGUMENTS_DESCRIPTION.put(TOP_ARGUMENT, "Количество строк в таблицах статистики, по умолчанию "
+            + STATISTICS_LIMIT + " " + NOT_REQUIRED_ARGUMENT_TEXT);
+        COMMAND_ARGUMENTS_DESCRIPTION.put(HEAVY_HITTERS_ARGUMENT, "Количество счетчиков для приближенного подсчета "
+            + "ресурсов и IP адресов в ограниченной памяти, например 10000 " + NOT_REQUIRED_ARGUMENT_TEXT);
+        COMMAND_ARGUMENTS_DESCRIPTION.put(THREADS_ARGUMENT, "Количество потоков для параллельной обработки файлов, "
+            + "по умолчанию количество процессоров " + NOT_REQUIRED_ARGUMENT_TEXT);
+        COMMAND_ARGUMENTS_DESCRIPTION.put(LOG_FORMAT_ARGUMENT, "Формат логов в виде директивы log_format nginx, "
+            + "по умолчанию " + LOG_FORMAT + " " + NOT_REQUIRED_ARGUMENT_TEXT);
+        COMMAND_ARGUMENTS_DESCRIPTION.put(TIME_TOLERANCE_ARGUMENT, "Допустимое отклонение времени логов от "
+            + "порядка записи в секундах. Если указано, локальные файлы считаются упорядоченными по времени "
+            + "и строки по датам ищутся двоичным поиском " + NOT_REQUIRED_ARGUMENT_TEXT);
+        COMMAND_ARGUMENTS_DESCRIPTION.put(INDEX_STRIDE_ARGUMENT, "Шаг индекса времени в килобайтах. Если указан, "
+            + "для локальных файлов создаются файлы " + TIME_INDEX_EXTENSION + ", по которым строки ищутся по датам "
+            + NOT_REQUIRED_ARGUMENT_TEXT);
+        COMMAND_ARGUMENTS_DESCRIPTION.put(ROLLUP_DIRECTORY_ARGUMENT, "Директория для хранения статистики локальных "
+            + "файлов по дням. Если указана, запросы без фильтрации собираются из сохраненной статистики, а строки "
+            + "читаются только из новых частей файлов. Указывается вместе с " + PERCENTILE_ERROR_ARGUMENT + " и "
+            + HEAVY_HITTERS_ARGUMENT + ", результаты совпадают с полным чтением в пределах их погрешностей "
+            + NOT_REQUIRED_ARGUMENT_TEXT);
+        COMMAND_ARGUMENTS_DESCRIPTION.put(BOT_SIGNATURES_ARGUMENT, "Файл с сигнатурами ботов, по одной на строку. "
+            + "Если указан, запросы разделяются на ботов и пользователей по вхождению сигнатуры в User-Agent без "
+            + "учета регистра " + NOT_REQUIRED_ARGUMENT_TEXT);
         COMMAND_ARGUMENTS_DESCRIPTION.put(PREVIOUS_ARGUMENT, "Выполнить предыдущую команду");
         COMMAND_ARGUMENTS_DESCRIPTION.put(HISTORY_ARGUMENT, "Посмотреть историю комманд");
         COMMAND_ARGUMENTS_DESCRIPTION.put(EXIT_ARGUMENT, "Выйти");
@@ -2,12 +2,25 @@ package backend.academy.logAnalyzer.constants;
 
 import lombok.experimental.UtilityClass;
 import static backend.academy.logAnalyzer.constants.ConstValues.BEGIN_COMMAND_VALUE;
+import static backend.academy.logAnalyzer.constants.ConstValues.BOT_SIGNATURES_ARGUMENT;
 import static backend.academy.logAnalyzer.constants.ConstValues.FILE_PATH_ARGUMENT;
+import static backend.academy.logAnalyzer.constants.ConstValues.FILTER_ARGUMENT;
 import static backend.academy.logAnalyzer.constants.ConstValues.FILTER_FIELD_ARGUMENT;
 import static backend.academy.logAnalyzer.constants.ConstValues.FILTER_VALUE_ARGUMENT;
 import static backend.academy.logAnalyzer.constants.ConstValues.FORMAT_ARGUMENT;
 import static backend.academy.logAnalyzer.constants.ConstValues.FROM_ARGUMENT;
+import static backend.academy.logAnalyzer.constants.ConstValues.HEAVY_HITTERS_ARGUMENT;
+import static backend.academy.logAnalyzer.constants.ConstValues.INDEX_STRIDE_ARGUMENT;
 import static backend.academy.logAnalyzer.constants.ConstValues.LOG_FORMAT;
+import static backend.academy.logAnalyzer.constants.ConstValues.LOG_FORMAT_ARGUMENT;
+import static backend.academy.logAnalyzer.constants.ConstValues.MAX_INDEX_STRIDE;
+import static backend.academy.logAnalyzer.constants.ConstValues.MAX_THREADS;
+import static backend.academy.logAnalyzer.constants.ConstValues.PERCENTILES_ARGUMENT;
+import static backend.academy.logAnalyzer.constants.ConstValues.PERCENTILE_ERROR_ARGUMENT;
+import static backend.academy.logAnalyzer.constants.ConstValues.ROLLUP_DIRECTORY_ARGUMENT;
+import static backend.academy.logAnalyzer.constants.ConstValues.THREADS_ARGUMENT;
+import static backend.academy.logAnalyzer.constants.ConstValues.TIME_TOLERANCE_ARGUMENT;
+import static backend.academy.logAnalyzer.constants.ConstValues.TOP_ARGUMENT;
 import static backend.academy.logAnalyzer.constants.ConstValues.TO_ARGUMENT;
 
 @UtilityClass
@@ -27,15 +40,55 @@ public class ExceptionTextValues {
     public static final String INCORRECT_DATE_FORMAT_EXCEPTION_TEXT = "Дата указана в некорректном формате";
     public static final String INCORRECT_LOG_FORMAT_EXCEPTION_TEXT = "Данные должны быть в формате: "
         + LOG_FORMAT;
+    public static final String INCORRECT_PERCENTILES_EXCEPTION_TEXT
+        = "Перцентили должны быть числами больше 0 и не больше 100";
+    public static final String INCORRECT_PERCENTILE_ERROR_EXCEPTION_TEXT
+        = "Погрешность перцентилей должна быть числом не меньше 0.0001 и меньше 1";
+    public static final String INCORRECT_TOP_EXCEPTION_TEXT
+        = "Количество строк статистики должно быть целым числом больше 0";
+    public static final String INCORRECT_HEAVY_HITTERS_EXCEPTION_TEXT
+        = "Количество счетчиков должно быть целым числом не меньше количества строк статистики";
+    public static final String INCORRECT_THREADS_EXCEPTION_TEXT
+        = "Количество потоков должно быть целым числом от 1 до " + MAX_THREADS;
+    public static final String INCORRECT_TIME_TOLERANCE_EXCEPTION_TEXT
+        = "Допустимое отклонение времени должно быть целым числом секунд не меньше 0";
+    public static final String INCORRECT_INDEX_STRIDE_EXCEPTION_TEXT
+        = "Шаг индекса времени должен быть целым числом килобайт от 1 до " + MAX_INDEX_STRIDE;
+    public static final String INCORRECT_ROLLUP_DIRECTORY_EXCEPTION_TEXT
+        = "Директория для статистики по дням должна быть корректным путем";
+    public static final String INCORRECT_STATISTICS_DATA_EXCEPTION_TEXT
+        = "Сохраненная статистика повреждена или создана с другими настройками";
+    public static final String INCORRECT_FILTER_EXPRESSION_EXCEPTION_TEXT
+        = "Выражение фильтрации должно состоять из условий вида status>=500, объединенных AND, OR и NOT";
+    public static final String INCORRECT_ADDRESS_RANGE_EXCEPTION_TEXT
+        = "Диапазоны адресов должны быть указаны через запятую в формате CIDR, например 10.0.0.0/8,2001:db8::/32";
+    public static final String INCORRECT_BOT_SIGNATURES_EXCEPTION_TEXT
+        = "Файл сигнатур ботов должен содержать хотя бы одну сигнатуру из символов ASCII";
+    public static final String INCORRECT_FILE_RANGE_EXCEPTION_TEXT
+        = "Диапазон файла должен начинаться не раньше 0 и заканчиваться не раньше начала";
+    public static final String ADJACENT_LOG_FORMAT_VARIABLES_EXCEPTION_TEXT
+        = "Переменные формата логов должны разделяться текстом";
+    public static final String MISSING_LOG_FORMAT_VARIABLES_EXCEPTION_TEXT
+        = "Формат логов должен содержать переменные $remote_addr, $time_local, $status, $body_bytes_sent "
+        + "и $request или $request_method и $request_uri";
+    public static final String DIFFERENT_PERCENTILE_ERRORS_EXCEPTION_TEXT
+        = "Объединять можно только статистики с одинаковой погрешностью";
+    public static final String DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT
+        = "Объединять можно только статистики одного типа";
     public static final String INCORRECT_DATE_RANGE_EXCEPTION_TEXT = "Конечная дата должна быть больше начальной";
     public static final String FIND_LOCAL_FILES_EXCEPTION_TEXT = "Ошибка при поиске файлов по указанному пути";
     public static final String FILE_DATA_READ_EXCEPTION_TEXT = "Ошибка при чтении данных с файла";
+    public static final String STATISTICS_OVERFLOW_EXCEPTION_TEXT
+        = "Количество запросов или суммарный размер ответов превышает допустимое значение";
+    public static final String TOO_LONG_LOG_LINE_EXCEPTION_TEXT = "Строка лога не должна быть длиннее 2 ГБ";
 
     public static final String NOT_POSITIVE_REQUESTS_EXCEPTION_TEXT
         = "Количество запросов не должно быть отрицательным";
     public static final String NOT_POSITIVE_RESPONSE_AVERAGE_SIZE_EXCEPTION_TEXT =
         "Средний размер ответа не должен быть отрицательным";
+    public static final String NULL_PERCENTILES_EXCEPTION_TEXT = "Перцентили не должны быть null";
     public static final String NOT_POSITIVE_PERCENTILE_EXCEPTION_TEXT = "Перцентиль не должен быть отрицательным";
+    public static final String NOT_POSITIVE_LATENCY_EXCEPTION_TEXT = "Время ответа не должно быть отрицательным";
     public static final String NOT_POSITIVE_BODY_BYTES_SEND_EXCEPTION_TEXT =
         "Количество отправленных байт не должно быть отрицательным числом";
 
@@ -45,6 +98,8 @@ public class ExceptionTextValues {
         = "Аргументы для выхода, истории команд и запуска предыдущей команды могут встречаться только один раз"
         + " и без других аргументов";
 
+    public static final String UNBALANCED_QUOTES_EXCEPTION_TEXT
+        = "Одинарные кавычки в команде должны быть парными";
     public static final String VALUE_WITHOUT_ARGUMENT_EXCEPTION_TEXT = "Значения не должны быть указаны "
         + "без самих аргументов";
     public static final String SOME_VALUES_IN_FILE_PATH_ARGUMENT_EXCEPTION_TEXT = FILE_PATH_ARGUMENT + " "
@@ -66,20 +121,44 @@ public class ExceptionTextValues {
         = NO_VALUE_FOR_ARGUMENT_TEXT + " " + FILTER_FIELD_ARGUMENT;
     public static final String NOT_VALUE_FOR_FILTER_VALUE_ARGUMENT_EXCEPTION_TEXT
         = NO_VALUE_FOR_ARGUMENT_TEXT + " " + FILTER_VALUE_ARGUMENT;
+    public static final String NOT_VALUE_FOR_FILTER_ARGUMENT_EXCEPTION_TEXT
+        = NO_VALUE_FOR_ARGUMENT_TEXT + " " + FILTER_ARGUMENT;
+    public static final String NOT_VALUE_FOR_PERCENTILES_ARGUMENT_EXCEPTION_TEXT
+        = NO_VALUE_FOR_ARGUMENT_TEXT + " " + PERCENTILES_ARGUMENT;
+    public static final String NOT_VALUE_FOR_PERCENTILE_ERROR_ARGUMENT_EXCEPTION_TEXT
+        = NO_VALUE_FOR_ARGUMENT_TEXT + " " + PERCENTILE_ERROR_ARGUMENT;
+    public static final String NOT_VALUE_FOR_TOP_ARGUMENT_EXCEPTION_TEXT
+        = NO_VALUE_FOR_ARGUMENT_TEXT + " " + TOP_ARGUMENT;
+    public static final String NOT_VALUE_FOR_HEAVY_HITTERS_ARGUMENT_EXCEPTION_TEXT
+        = NO_VALUE_FOR_ARGUMENT_TEXT + " " + HEAVY_HITTERS_ARGUMENT;
+    public static final String NOT_VALUE_FOR_THREADS_ARGUMENT_EXCEPTION_TEXT
+        = NO_VALUE_FOR_ARGUMENT_TEXT + " " + THREADS_ARGUMENT;
+    public static final String NOT_VALUE_FOR_TIME_TOLERANCE_ARGUMENT_EXCEPTION_TEXT
+        = NO_VALUE_FOR_ARGUMENT_TEXT + " " + TIME_TOLERANCE_ARGUMENT;
+    public static final String NOT_VALUE_FOR_INDEX_STRIDE_ARGUMENT_EXCEPTION_TEXT
+        = NO_VALUE_FOR_ARGUMENT_TEXT + " " + INDEX_STRIDE_ARGUMENT;
+    public static final String NOT_VALUE_FOR_ROLLUP_DIRECTORY_ARGUMENT_EXCEPTION_TEXT
+        = NO_VALUE_FOR_ARGUMENT_TEXT + " " + ROLLUP_DIRECTORY_ARGUMENT;
+    public static final String NOT_VALUE_FOR_BOT_SIGNATURES_ARGUMENT_EXCEPTION_TEXT
+        = NO_VALUE_FOR_ARGUMENT_TEXT + " " + BOT_SIGNATURES_ARGUMENT;
+    public static final String NOT_VALUE_FOR_LOG_FORMAT_ARGUMENT_EXCEPTION_TEXT
+        = NO_VALUE_FOR_ARGUMENT_TEXT + " " + LOG_FORMAT_ARGUMENT;
 
     public static final String INCORRECT_FILTERS_IN_COMMAND_EXCEPTION_TEXT = "Атрибуты " + FILTER_FIELD_ARGUMENT
         + " и " + FILTER_VALUE_ARGUMENT + " должны быть указаны вместе";
+    public static final String INCORRECT_ROLLUP_SETTINGS_IN_COMMAND_EXCEPTION_TEXT = "Атрибут "
+        + ROLLUP_DIRECTORY_ARGUMENT + " должен быть указан вместе с " + PERCENTILE_ERROR_ARGUMENT + " и "
+        + HEAVY_HITTERS_ARGUMENT;
 
     public static final String NULL_LOG_DATA_EXCEPTION_TEXT = "Данные лога не должны быть null";
     public static final String NULL_STATISTICS_EXCEPTION_TEXT = "Статистика и ее не должна быть null";
     public static final String NULL_ELEMENTS_STATISTICS_EXCEPTION_TEXT = "Элементы статистики не должны быть null";
 
     public static final String NULL_FILE_PATH_EXCEPTION_TEXT = "Путь к файлам не должен быть null";
+    public static final String NULL_STATISTICS_SETTINGS_EXCEPTION_TEXT = "Настройки статистики не должны быть null";
+    public static final String NULL_PROCESSING_SETTINGS_EXCEPTION_TEXT = "Настройки обработки не должны быть null";
     public static final String NULL_RESPONSE_AVERAGE_SIZE_EXCEPTION_TEXT =
         "Средний размер ответа не должен быть null";
-    public static final String NULL_PERCENTILE_EXCEPTION_TEXT = "Перцентиль не должен быть null";
-    public static final String NULL_SEND_BYTES_COUNT_EXCEPTION_TEXT
-        = "Количество отправленных байт не должно быть null";
     public static final String NULL_COMMAND_EXCEPTION_TEXT = "Команда не должна быть пустой";
     public static final String NULL_REMOTE_USER_EXCEPTION_TEXT
         = "Пользователь, отправивший запрос, не должен быть null";
@@ -87,6 +166,9 @@ public class ExceptionTextValues {
     public static final String NULL_HTTP_REQUEST_EXCEPTION_TEXT = "HTTP запрос не должен быть null";
     public static final String NULL_HTTP_PROTOCOL_EXCEPTION_TEXT = "HTTP протокол не должен быть null";
     public static final String NULL_RESOURCES_EXCEPTION_TEXT = "Ресурсы не должны быть null";
+    public static final String NULL_LATENCY_EXCEPTION_TEXT = "Время ответа не должно быть null";
+    public static final String NULL_BOTS_EXCEPTION_TEXT = "Статистика ботов не должна быть null";
+    public static final String NULL_BOT_SIGNATURES_EXCEPTION_TEXT = "Сигнатуры ботов не должны быть null";
     public static final String NULL_HTTP_STATUSES_EXCEPTION_TEXT = "HTTP статусы не должна быть null";
     public static final String NULL_ADDRESSES_EXCEPTION_TEXT = "Адреса не должна быть null";
     public static final String NULL_HTTP_METHODS_EXCEPTION_TEXT = "HTTP методы не должны быть null";
@@ -115,6 +197,24 @@ public class ExceptionTextValues {
         = FILTER_VALUE_ARGUMENT + " " + ONLY_ONE_VALUE_TEXT;
     public static final String SOME_VALUES_IN_FILTER_FIELD_EXCEPTION_TEXT
         = FILTER_FIELD_ARGUMENT + " " + ONLY_ONE_VALUE_TEXT;
+    public static final String SOME_VALUES_IN_PERCENTILES_EXCEPTION_TEXT
+        = PERCENTILES_ARGUMENT + " " + ONLY_ONE_VALUE_TEXT;
+    public static final String SOME_VALUES_IN_PERCENTILE_ERROR_EXCEPTION_TEXT
+        = PERCENTILE_ERROR_ARGUMENT + " " + ONLY_ONE_VALUE_TEXT;
+    public static final String SOME_VALUES_IN_TOP_ARGUMENT_EXCEPTION_TEXT
+        = TOP_ARGUMENT + " " + ONLY_ONE_VALUE_TEXT;
+    public static final String SOME_VALUES_IN_HEAVY_HITTERS_ARGUMENT_EXCEPTION_TEXT
+        = HEAVY_HITTERS_ARGUMENT + " " + ONLY_ONE_VALUE_TEXT;
+    public static final String SOME_VALUES_IN_THREADS_ARGUMENT_EXCEPTION_TEXT
+        = THREADS_ARGUMENT + " " + ONLY_ONE_VALUE_TEXT;
+    public static final String SOME_VALUES_IN_TIME_TOLERANCE_ARGUMENT_EXCEPTION_TEXT
+        = TIME_TOLERANCE_ARGUMENT + " " + ONLY_ONE_VALUE_TEXT;
+    public static final String SOME_VALUES_IN_INDEX_STRIDE_ARGUMENT_EXCEPTION_TEXT
+        = INDEX_STRIDE_ARGUMENT + " " + ONLY_ONE_VALUE_TEXT;
+    public static final String SOME_VALUES_IN_ROLLUP_DIRECTORY_ARGUMENT_EXCEPTION_TEXT
+        = ROLLUP_DIRECTORY_ARGUMENT + " " + ONLY_ONE_VALUE_TEXT;
+    public static final String SOME_VALUES_IN_BOT_SIGNATURES_ARGUMENT_EXCEPTION_TEXT
+        = BOT_SIGNATURES_ARGUMENT + " " + ONLY_ONE_VALUE_TEXT;
 
     public static final String UNKNOWN_ERROR_EXCEPTION_TEXT = "Неизвестная ошибка";
 }
@@ -7,6 +7,7 @@ import backend.academy.logAnalyzer.enums.OutputFormat;
 import java.util.Arrays;
 import lombok.experimental.UtilityClass;
 import static backend.academy.logAnalyzer.constants.ConstValues.LOG_FORMAT;
+import static backend.academy.logAnalyzer.constants.ConstValues.LOG_FORMAT_ARGUMENT;
 import static backend.academy.logAnalyzer.constants.ConstValues.REQUEST_FORMAT;
 import static backend.academy.logAnalyzer.constants.ConstValues.TIME_LOCAL_FORMAT;
 
@@ -51,7 +52,19 @@ public class ProblemSolving {
         5. Аргумент выхода не должен быть вместе с другими аргументами
         6. При фильтрации поля и значения фильтров должны поддерживаться
         7. Для фильтрации по дате необходимо указывать дату в формате: yyyy-mm-dd
-        8. Время начала интервала должно быть строго меньше времени конца""";
+        8. Время начала интервала должно быть строго меньше времени конца
+        9. Перцентили указываются через запятую числами больше 0 и не больше 100
+        10. Погрешность перцентилей указывается числом больше 0 и меньше 1
+        11. Количество строк статистики указывается целым числом больше 0
+        12. Количество счетчиков частых значений не меньше количества строк статистики
+        13. Количество потоков указывается целым числом от 1 до 32767
+        14. Формат логов содержит обязательные переменные, разделенные текстом
+        15. Допустимое отклонение времени указывается целым числом секунд не меньше 0
+        16. Шаг индекса времени указывается целым числом килобайт больше 0
+        17. Директория для статистики по дням указывается корректным путем
+        18. Выражение фильтрации состоит из условий вида status>=500, объединенных AND, OR, NOT и скобками
+        19. Диапазоны адресов указываются в формате CIDR через запятую или файлом в виде @путь
+        20. Файл сигнатур ботов содержит хотя бы одну сигнатуру из символов ASCII""";
 
     public static final String FIND_LOCAL_FILES_ERROR_SOLVING
         = RIGHT_WAY_TEXT + "2. Проверьте правильность использования glob выражений"
@@ -59,7 +72,7 @@ public class ProblemSolving {
 
     public static final String LOG_FORMAT_ERROR_SOLVING
         = REASONS_TEXT
-        + "1. Несоответствие формату " + LOG_FORMAT
+        + "1. Несоответствие формату " + LOG_FORMAT + " или формату, указанному в " + LOG_FORMAT_ARGUMENT
         + "\n2. Дата не соответствует формату " + TIME_LOCAL_FORMAT
         + "\n3. Запрос не соответствует формату: " + REQUEST_FORMAT
         + "\nПример логов nginx: https://raw.githubusercontent.com/elastic/examples/master/"
@@ -73,6 +86,9 @@ public class ProblemSolving {
         + "1. Указан неверный url, возможно, присутствуют опечатки\n"
         + "2. Сайт может быть временно недоступен";
 
+    public static final String STATISTICS_OVERFLOW_SOLVING
+        = "Разделите анализ на несколько команд с меньшим количеством файлов или более коротким интервалом дат";
+
     public static final String NO_PREVIOUS_COMMAND_PROBLEM_SOLVING
         = "Прежде чем получить предыдущую команду, убедитесь, что ранее вы уже вводили команды";
 
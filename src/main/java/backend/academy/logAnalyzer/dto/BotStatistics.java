@@ -0,0 +1,23 @@
+package backend.academy.logAnalyzer.dto;
+
+import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_BOT_SIGNATURES_EXCEPTION_TEXT;
+
+public record BotStatistics(int botsCount, int humansCount, Map<String, Integer> signatures) {
+    public BotStatistics {
+        validateSignatures(signatures);
+    }
+
+    private void validateSignatures(Map<String, Integer> signatures) {
+        if (signatures == null) {
+            throw new NullPointerException(NULL_BOT_SIGNATURES_EXCEPTION_TEXT);
+        }
+
+        signatures.forEach((key, value) -> {
+            if (StringUtils.isBlank(key) || value == null) {
+                throw new NullPointerException(NULL_BOT_SIGNATURES_EXCEPTION_TEXT);
+            }
+        });
+    }
+}
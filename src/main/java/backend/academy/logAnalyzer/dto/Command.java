@@ -3,22 +3,64 @@ package backend.academy.logAnalyzer.dto;
 import backend.academy.logAnalyzer.enums.FilterField;
 import backend.academy.logAnalyzer.enums.HttpMethod;
 import backend.academy.logAnalyzer.enums.HttpStatus;
+import backend.academy.logAnalyzer.enums.LogField;
 import backend.academy.logAnalyzer.enums.OutputFormat;
 import backend.academy.logAnalyzer.exception.IncorrectCommandException;
+import backend.academy.logAnalyzer.filter.FilterExpression;
 import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.Builder;
 import org.apache.commons.lang3.StringUtils;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.HTTP_METHOD_NOT_SUPPORTED_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.HTTP_STATUS_NOT_SUPPORTED_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_DATE_RANGE_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_FILTERS_IN_COMMAND_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_ROLLUP_SETTINGS_IN_COMMAND_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_FILE_PATH_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_PROCESSING_SETTINGS_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_STATISTICS_SETTINGS_EXCEPTION_TEXT;
 
+@Builder
 public record Command(String filePath, LocalDate from, LocalDate to,
-                      OutputFormat format, FilterField filterField, String filterValue) {
+                      OutputFormat format, FilterField filterField, String filterValue,
+                      FilterExpression filterExpression, StatisticsSettings statisticsSettings,
+                      ProcessingSettings processingSettings) {
+
+    private static final Set<LogField> STATISTICS_LOG_FIELDS = EnumSet.of(
+        LogField.REMOTE_ADDRESS, LogField.HTTP_METHOD, LogField.RESOURCE, LogField.HTTP_STATUS,
+        LogField.BODY_BYTES_SEND, LogField.REQUEST_TIME, LogField.UPSTREAM_RESPONSE_TIME
+    );
+
     public Command {
         validateFilePath(filePath);
         validateDateRanges(from, to);
         validateFilter(filterField, filterValue);
+        validateStatisticsSettings(statisticsSettings);
+        validateProcessingSettings(processingSettings);
+        validateRollupSettings(statisticsSettings, processingSettings);
+    }
+
+    public Set<LogField> requiredLogFields() {
+        final Set<LogField> logFields = EnumSet.copyOf(STATISTICS_LOG_FIELDS);
+
+        if (from != null || to != null) {
+            logFields.add(LogField.TIME_LOCAL);
+        }
+
+        if (filterField != null) {
+            logFields.add(filterField.logField());
+        }
+
+        if (filterExpression != null) {
+            filterExpression.addLogFields(logFields);
+        }
+
+        if (statisticsSettings.botSignatures() != null) {
+            logFields.add(LogField.HTTP_USER_AGENT);
+        }
+
+        return logFields;
     }
 
     private void validateFilter(FilterField filterField, String filterValue) {
@@ -56,6 +98,26 @@ public record Command(String filePath, LocalDate from, LocalDate to,
         }
     }
 
+    private void validateStatisticsSettings(StatisticsSettings statisticsSettings) {
+        if (statisticsSettings == null) {
+            throw new IncorrectCommandException(NULL_STATISTICS_SETTINGS_EXCEPTION_TEXT);
+        }
+    }
+
+    private void validateProcessingSettings(ProcessingSettings processingSettings) {
+        if (processingSettings == null) {
+            throw new IncorrectCommandException(NULL_PROCESSING_SETTINGS_EXCEPTION_TEXT);
+        }
+    }
+
+    private void validateRollupSettings(StatisticsSettings statisticsSettings,
+        ProcessingSettings processingSettings) {
+        if (processingSettings.rollupDirectory() != null
+            && (statisticsSettings.percentileError() == null || statisticsSettings.heavyHitters() == null)) {
+            throw new IncorrectCommandException(INCORRECT_ROLLUP_SETTINGS_IN_COMMAND_EXCEPTION_TEXT);
+        }
+    }
+
     private static void validateHttpStatus(String input) {
         try {
             HttpStatus.getHttpStatusByCode(Integer.parseInt(input));
@@ -71,4 +133,9 @@ public record Command(String filePath, LocalDate from, LocalDate to,
             throw new IncorrectCommandException(HTTP_METHOD_NOT_SUPPORTED_EXCEPTION_TEXT, ex);
         }
     }
+
+    public static class CommandBuilder {
+        private StatisticsSettings statisticsSettings = StatisticsSettings.builder().build();
+        private ProcessingSettings processingSettings = ProcessingSettings.builder().build();
+    }
 }
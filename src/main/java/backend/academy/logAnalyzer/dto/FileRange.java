@@ -0,0 +1,15 @@
+package backend.academy.logAnalyzer.dto;
+
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_FILE_RANGE_EXCEPTION_TEXT;
+
+public record FileRange(long start, long end) {
+    public FileRange {
+        validateRange(start, end);
+    }
+
+    private void validateRange(long start, long end) {
+        if (start < 0 || end < start) {
+            throw new IllegalArgumentException(INCORRECT_FILE_RANGE_EXCEPTION_TEXT);
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package backend.academy.logAnalyzer.dto;
 
 import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.time.LocalDate;
+import java.util.Map;
 import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_DATE_RANGE_EXCEPTION_TEXT;
@@ -10,17 +10,18 @@ import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_POSI
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_POSITIVE_REQUESTS_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_POSITIVE_RESPONSE_AVERAGE_SIZE_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_FILE_PATH_EXCEPTION_TEXT;
-import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_PERCENTILE_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_PERCENTILES_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_RESPONSE_AVERAGE_SIZE_EXCEPTION_TEXT;
 
 public record GeneralInformation(Set<String> filePaths, LocalDate from, LocalDate to,
-                                 int requestsCount, BigDecimal responseAverageSize, BigInteger percentile) {
+                                 int requestsCount, BigDecimal responseAverageSize,
+                                 Map<Double, Long> percentiles) {
     public GeneralInformation {
         validateFilePaths(filePaths);
         validateDateRanges(from, to);
         validateRequestsCount(requestsCount);
         validateResponseAverageSize(responseAverageSize);
-        validatePercentile(percentile);
+        validatePercentiles(percentiles);
     }
 
     private void validateFilePaths(Set<String> filePaths) {
@@ -51,12 +52,13 @@ public record GeneralInformation(Set<String> filePaths, LocalDate from, LocalDat
         }
     }
 
-    private void validatePercentile(BigInteger percentile) {
-        if (percentile == null) {
-            throw new NullPointerException(NULL_PERCENTILE_EXCEPTION_TEXT);
+    private void validatePercentiles(Map<Double, Long> percentiles) {
+        if (percentiles == null || percentiles.entrySet().stream()
+            .anyMatch(percentile -> percentile.getKey() == null || percentile.getValue() == null)) {
+            throw new NullPointerException(NULL_PERCENTILES_EXCEPTION_TEXT);
         }
 
-        if (percentile.compareTo(BigInteger.ZERO) < 0) {
+        if (percentiles.values().stream().anyMatch(percentile -> percentile < 0)) {
             throw new IllegalArgumentException(NOT_POSITIVE_PERCENTILE_EXCEPTION_TEXT);
         }
     }
@@ -0,0 +1,29 @@
+package backend.academy.logAnalyzer.dto;
+
+import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_LATENCY_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_RESOURCES_EXCEPTION_TEXT;
+
+public record LatencyStatistics(LatencySummary requestTime, LatencySummary upstreamResponseTime,
+                                Map<String, LatencySummary> resources) {
+    public LatencyStatistics {
+        validateResources(resources);
+    }
+
+    private void validateResources(Map<String, LatencySummary> resources) {
+        if (resources == null) {
+            throw new NullPointerException(NULL_RESOURCES_EXCEPTION_TEXT);
+        }
+
+        resources.forEach((key, value) -> {
+            if (StringUtils.isBlank(key)) {
+                throw new NullPointerException(NULL_RESOURCES_EXCEPTION_TEXT);
+            }
+
+            if (value == null) {
+                throw new NullPointerException(NULL_LATENCY_EXCEPTION_TEXT);
+            }
+        });
+    }
+}
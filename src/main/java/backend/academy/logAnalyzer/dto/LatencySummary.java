@@ -0,0 +1,18 @@
+package backend.academy.logAnalyzer.dto;
+
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_POSITIVE_LATENCY_EXCEPTION_TEXT;
+
+public record LatencySummary(long p50, long p95, long p99, long max) {
+    public LatencySummary {
+        validateLatency(p50);
+        validateLatency(p95);
+        validateLatency(p99);
+        validateLatency(max);
+    }
+
+    private void validateLatency(long latency) {
+        if (latency < 0) {
+            throw new IllegalArgumentException(NOT_POSITIVE_LATENCY_EXCEPTION_TEXT);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package backend.academy.logAnalyzer.dto;
 
 import backend.academy.logAnalyzer.enums.HttpStatus;
-import java.math.BigInteger;
 import java.time.ZonedDateTime;
 import org.apache.commons.lang3.StringUtils;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_POSITIVE_BODY_BYTES_SEND_EXCEPTION_TEXT;
@@ -10,12 +9,11 @@ import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_HTT
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_HTTP_REQUEST_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_HTTP_STATUS_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_REMOTE_USER_EXCEPTION_TEXT;
-import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_SEND_BYTES_COUNT_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_TIME_LOCAL_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_USER_AGENT_EXCEPTION_TEXT;
 
 public record Log(String remoteAddress, String remoteUser, ZonedDateTime timeLocal,
-                  Request request, HttpStatus httpStatus, BigInteger bodyBytesSend,
+                  Request request, HttpStatus httpStatus, long bodyBytesSend,
                   String httpReferer, String httpUserAgent) {
     public Log {
         validateRemoteAddress(remoteAddress);
@@ -60,12 +58,8 @@ public record Log(String remoteAddress, String remoteUser, ZonedDateTime timeLoc
         }
     }
 
-    private void validateBodyBytesSend(BigInteger bodyBytesSend) {
-        if (bodyBytesSend == null) {
-            throw new NullPointerException(NULL_SEND_BYTES_COUNT_EXCEPTION_TEXT);
-        }
-
-        if (bodyBytesSend.compareTo(BigInteger.ZERO) < 0) {
+    private void validateBodyBytesSend(long bodyBytesSend) {
+        if (bodyBytesSend < 0) {
             throw new IllegalArgumentException(NOT_POSITIVE_BODY_BYTES_SEND_EXCEPTION_TEXT);
         }
     }
@@ -3,7 +3,8 @@ package backend.academy.logAnalyzer.dto;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_GENERAL_INFORMATION_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_REQUEST_STATISTICS_EXCEPTION_TEXT;
 
-public record ProcessingResponse(GeneralInformation generalInformation, RequestStatistics requestStatistics) {
+public record ProcessingResponse(GeneralInformation generalInformation, RequestStatistics requestStatistics,
+                                 LatencyStatistics latencyStatistics, BotStatistics botStatistics) {
     public ProcessingResponse {
         validateGeneralInformation(generalInformation);
         validateRequestStatistics(requestStatistics);
@@ -0,0 +1,44 @@
+package backend.academy.logAnalyzer.dto;
+
+import backend.academy.logAnalyzer.analyzer.CompiledLogFormat;
+import backend.academy.logAnalyzer.exception.IncorrectCommandException;
+import java.nio.file.Path;
+import lombok.Builder;
+import static backend.academy.logAnalyzer.constants.ConstValues.DEFAULT_THREADS;
+import static backend.academy.logAnalyzer.constants.ConstValues.MAX_INDEX_STRIDE;
+import static backend.academy.logAnalyzer.constants.ConstValues.MAX_THREADS;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_INDEX_STRIDE_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_THREADS_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_TIME_TOLERANCE_EXCEPTION_TEXT;
+
+@Builder
+public record ProcessingSettings(int threads, CompiledLogFormat logFormat, Long timeTolerance,
+                                 Integer indexStride, Path rollupDirectory) {
+    public ProcessingSettings {
+        validateThreads(threads);
+        validateTimeTolerance(timeTolerance);
+        validateIndexStride(indexStride);
+    }
+
+    private void validateThreads(int threads) {
+        if (threads <= 0 || threads > MAX_THREADS) {
+            throw new IncorrectCommandException(INCORRECT_THREADS_EXCEPTION_TEXT);
+        }
+    }
+
+    private void validateTimeTolerance(Long timeTolerance) {
+        if (timeTolerance != null && timeTolerance < 0) {
+            throw new IncorrectCommandException(INCORRECT_TIME_TOLERANCE_EXCEPTION_TEXT);
+        }
+    }
+
+    private void validateIndexStride(Integer indexStride) {
+        if (indexStride != null && (indexStride <= 0 || indexStride > MAX_INDEX_STRIDE)) {
+            throw new IncorrectCommandException(INCORRECT_INDEX_STRIDE_EXCEPTION_TEXT);
+        }
+    }
+
+    public static class ProcessingSettingsBuilder {
+        private int threads = DEFAULT_THREADS;
+    }
+}
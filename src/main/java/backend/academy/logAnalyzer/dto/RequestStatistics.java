@@ -12,12 +12,15 @@ import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_HTT
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_RESOURCES_EXCEPTION_TEXT;
 
 public record RequestStatistics(Map<String, Integer> resources, Map<HttpStatus, Integer> httpStatuses,
-                                Map<String, Integer> addresses, Map<HttpMethod, Integer> httpMethods) {
+                                Map<String, Integer> addresses, Map<HttpMethod, Integer> httpMethods,
+                                Map<String, Integer> resourceErrors, Map<String, Integer> addressErrors) {
     public RequestStatistics {
         validateResources(resources);
         validateHttpStatuses(httpStatuses);
         validateAddresses(addresses);
         validateHttpMethods(httpMethods);
+        validateResources(resourceErrors);
+        validateAddresses(addressErrors);
     }
 
     private void validateResources(Map<String, Integer> resources) {
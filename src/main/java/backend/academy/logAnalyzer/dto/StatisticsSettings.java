@@ -0,0 +1,57 @@
+package backend.academy.logAnalyzer.dto;
+
+import backend.academy.logAnalyzer.exception.IncorrectCommandException;
+import backend.academy.logAnalyzer.statistics.BotSignatures;
+import java.util.List;
+import lombok.Builder;
+import static backend.academy.logAnalyzer.constants.ConstValues.DEFAULT_PERCENTILES;
+import static backend.academy.logAnalyzer.constants.ConstValues.MIN_PERCENTILE_ERROR;
+import static backend.academy.logAnalyzer.constants.ConstValues.STATISTICS_LIMIT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_HEAVY_HITTERS_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_PERCENTILES_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_PERCENTILE_ERROR_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_TOP_EXCEPTION_TEXT;
+
+@Builder
+public record StatisticsSettings(List<Double> percentiles, Double percentileError, int top, Integer heavyHitters,
+                                 BotSignatures botSignatures) {
+    public StatisticsSettings {
+        validatePercentiles(percentiles);
+        validatePercentileError(percentileError);
+        validateTop(top);
+        validateHeavyHitters(heavyHitters, top);
+    }
+
+    private void validatePercentiles(List<Double> percentiles) {
+        final double maxPercentile = 100;
+
+        if (percentiles == null || percentiles.isEmpty()
+            || percentiles.stream().anyMatch(percentile -> percentile == null
+            || !(percentile > 0 && percentile <= maxPercentile))) {
+            throw new IncorrectCommandException(INCORRECT_PERCENTILES_EXCEPTION_TEXT);
+        }
+    }
+
+    private void validatePercentileError(Double percentileError) {
+        if (percentileError != null && !(percentileError >= MIN_PERCENTILE_ERROR && percentileError < 1)) {
+            throw new IncorrectCommandException(INCORRECT_PERCENTILE_ERROR_EXCEPTION_TEXT);
+        }
+    }
+
+    private void validateTop(int top) {
+        if (top <= 0) {
+            throw new IncorrectCommandException(INCORRECT_TOP_EXCEPTION_TEXT);
+        }
+    }
+
+    private void validateHeavyHitters(Integer heavyHitters, int top) {
+        if (heavyHitters != null && heavyHitters < top) {
+            throw new IncorrectCommandException(INCORRECT_HEAVY_HITTERS_EXCEPTION_TEXT);
+        }
+    }
+
+    public static class StatisticsSettingsBuilder {
+        private List<Double> percentiles = DEFAULT_PERCENTILES;
+        private int top = STATISTICS_LIMIT;
+    }
+}
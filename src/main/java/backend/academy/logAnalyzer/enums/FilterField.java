@@ -2,26 +2,40 @@ package backend.academy.logAnalyzer.enums;
 
 import backend.academy.logAnalyzer.exception.FilterFieldNotSupportedException;
 import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.Getter;
 
 @Getter
 public enum FilterField {
-    ADDRESS("address"),
-    USER("user"),
-    HTTP_METHOD("method"),
-    AGENT("agent"),
-    HTTP_STATUS("status");
+    ADDRESS("address", LogField.REMOTE_ADDRESS),
+    USER("user", LogField.REMOTE_USER),
+    HTTP_METHOD("method", LogField.HTTP_METHOD),
+    AGENT("agent", LogField.HTTP_USER_AGENT),
+    HTTP_STATUS("status", LogField.HTTP_STATUS);
+
+    private static final Map<String, FilterField> FILTER_FIELDS_BY_VALUE = Arrays.stream(FilterField.values())
+        .collect(Collectors.toUnmodifiableMap(filterField -> filterField.value, Function.identity()));
 
     private final String value;
+    private final LogField logField;
 
-    FilterField(String value) {
+    FilterField(String value, LogField logField) {
         this.value = value;
+        this.logField = logField;
     }
 
     public static FilterField getFilterFieldByValue(String value) {
-        return Arrays.stream(FilterField.values())
-            .filter(filterField -> filterField.value.equalsIgnoreCase(value))
-            .findFirst()
-            .orElseThrow(FilterFieldNotSupportedException::new);
+        final FilterField filterField = value != null
+            ? FILTER_FIELDS_BY_VALUE.get(value.toLowerCase(Locale.ROOT))
+            : null;
+
+        if (filterField == null) {
+            throw new FilterFieldNotSupportedException();
+        }
+
+        return filterField;
     }
 }
@@ -0,0 +1,33 @@
+package backend.academy.logAnalyzer.enums;
+
+import backend.academy.logAnalyzer.exception.IncorrectCommandException;
+import java.util.Arrays;
+import lombok.Getter;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_FILTER_EXPRESSION_EXCEPTION_TEXT;
+
+@Getter
+public enum FilterOperator {
+    EQUALS("=", false),
+    NOT_EQUALS("!=", false),
+    CONTAINS("~", false),
+    NOT_CONTAINS("!~", false),
+    GREATER(">", true),
+    GREATER_OR_EQUALS(">=", true),
+    LESS("<", true),
+    LESS_OR_EQUALS("<=", true);
+
+    private final String value;
+    private final boolean numeric;
+
+    FilterOperator(String value, boolean numeric) {
+        this.value = value;
+        this.numeric = numeric;
+    }
+
+    public static FilterOperator getFilterOperatorByValue(String value) {
+        return Arrays.stream(FilterOperator.values())
+            .filter(filterOperator -> filterOperator.value.equals(value))
+            .findFirst()
+            .orElseThrow(() -> new IncorrectCommandException(INCORRECT_FILTER_EXPRESSION_EXCEPTION_TEXT));
+    }
+}
@@ -1,8 +1,8 @@
 package backend.academy.logAnalyzer.enums;
 
 import backend.academy.logAnalyzer.exception.HttpMethodNotSupportedException;
-import java.util.Arrays;
 import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
 
 @Getter
 public enum HttpMethod {
@@ -22,10 +22,35 @@ public enum HttpMethod {
         this.value = value;
     }
 
-    public static HttpMethod getHttpMethodByValue(String value) {
-        return Arrays.stream(HttpMethod.values())
-            .filter(httpMethod -> httpMethod.value.equalsIgnoreCase(value))
-            .findFirst()
-            .orElseThrow(HttpMethodNotSupportedException::new);
+    public static HttpMethod getHttpMethodByValue(CharSequence value) {
+        final HttpMethod httpMethod = findHttpMethod(value);
+
+        if (httpMethod == null || !StringUtils.equalsIgnoreCase(httpMethod.value, value)) {
+            throw new HttpMethodNotSupportedException();
+        }
+
+        return httpMethod;
+    }
+
+    private static HttpMethod findHttpMethod(CharSequence value) {
+        if (value == null || value.length() < 2) {
+            return null;
+        }
+
+        return switch (Character.toLowerCase(value.charAt(0))) {
+            case 'g' -> GET;
+            case 'p' -> switch (Character.toLowerCase(value.charAt(1))) {
+                case 'o' -> POST;
+                case 'u' -> PUT;
+                case 'a' -> PATCH;
+                default -> null;
+            };
+            case 'd' -> DELETE;
+            case 'h' -> HEAD;
+            case 'c' -> CONNECT;
+            case 'o' -> OPTIONS;
+            case 't' -> TRACE;
+            default -> null;
+        };
     }
 }
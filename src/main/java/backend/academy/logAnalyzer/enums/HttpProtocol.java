@@ -1,8 +1,8 @@
 package backend.academy.logAnalyzer.enums;
 
 import backend.academy.logAnalyzer.exception.HttpProtocolNotSupportedException;
-import java.util.Arrays;
 import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
 
 @Getter
 public enum HttpProtocol {
@@ -17,10 +17,26 @@ public enum HttpProtocol {
         this.value = value;
     }
 
-    public static HttpProtocol getHttpProtocolByValue(String value) {
-        return Arrays.stream(HttpProtocol.values())
-            .filter(httpProtocol -> httpProtocol.value.equalsIgnoreCase(value))
-            .findFirst()
-            .orElseThrow(HttpProtocolNotSupportedException::new);
+    public static HttpProtocol getHttpProtocolByValue(CharSequence value) {
+        final HttpProtocol httpProtocol = findHttpProtocol(value);
+
+        if (httpProtocol == null || !StringUtils.equalsIgnoreCase(httpProtocol.value, value)) {
+            throw new HttpProtocolNotSupportedException();
+        }
+
+        return httpProtocol;
+    }
+
+    private static HttpProtocol findHttpProtocol(CharSequence value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+
+        return switch (value.charAt(value.length() - 1)) {
+            case '1' -> LEGACY_HTTP;
+            case '2' -> MODERN_HTTP;
+            case '3' -> FAST_HTTP;
+            default -> null;
+        };
     }
 }
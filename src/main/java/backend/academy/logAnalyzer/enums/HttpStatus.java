@@ -72,6 +72,8 @@ public enum HttpStatus {
     NOT_EXTENDED(510),
     NETWORK_AUTHENTICATION_REQUIRED(511);
 
+    private static final HttpStatus[] HTTP_STATUSES_BY_CODE = createHttpStatusesByCode();
+
     private final int code;
 
     HttpStatus(int code) {
@@ -79,9 +81,21 @@ public enum HttpStatus {
     }
 
     public static HttpStatus getHttpStatusByCode(int code) {
-        return Arrays.stream(HttpStatus.values())
-            .filter(httpStatus -> httpStatus.code == code)
-            .findFirst()
-            .orElseThrow(HttpStatusNotSupportedException::new);
+        if (code < 0 || code >= HTTP_STATUSES_BY_CODE.length || HTTP_STATUSES_BY_CODE[code] == null) {
+            throw new HttpStatusNotSupportedException();
+        }
+
+        return HTTP_STATUSES_BY_CODE[code];
+    }
+
+    private static HttpStatus[] createHttpStatusesByCode() {
+        final int maxCode = Arrays.stream(HttpStatus.values()).mapToInt(HttpStatus::code).max().orElse(0);
+        final HttpStatus[] httpStatuses = new HttpStatus[maxCode + 1];
+
+        for (HttpStatus httpStatus : HttpStatus.values()) {
+            httpStatuses[httpStatus.code] = httpStatus;
+        }
+
+        return httpStatuses;
     }
 }
@@ -0,0 +1,38 @@
+package backend.academy.logAnalyzer.enums;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+@Getter
+public enum LogField {
+    REMOTE_ADDRESS("remote_addr"),
+    REMOTE_USER("remote_user"),
+    TIME_LOCAL("time_local"),
+    REQUEST("request"),
+    HTTP_METHOD("request_method"),
+    RESOURCE("request_uri"),
+    HTTP_PROTOCOL("server_protocol"),
+    HTTP_STATUS("status"),
+    BODY_BYTES_SEND("body_bytes_sent"),
+    HTTP_REFERER("http_referer"),
+    HTTP_USER_AGENT("http_user_agent"),
+    REQUEST_TIME("request_time"),
+    UPSTREAM_RESPONSE_TIME("upstream_response_time"),
+    HOST("host");
+
+    private static final Map<String, LogField> LOG_FIELDS_BY_VALUE = Arrays.stream(LogField.values())
+        .collect(Collectors.toUnmodifiableMap(logField -> logField.value, Function.identity()));
+
+    private final String value;
+
+    LogField(String value) {
+        this.value = value;
+    }
+
+    public static LogField findLogFieldByValue(String value) {
+        return value != null ? LOG_FIELDS_BY_VALUE.get(value) : null;
+    }
+}
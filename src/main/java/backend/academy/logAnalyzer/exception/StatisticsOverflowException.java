@@ -0,0 +1,16 @@
+package backend.academy.logAnalyzer.exception;
+
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.STATISTICS_OVERFLOW_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ProblemSolving.STATISTICS_OVERFLOW_SOLVING;
+
+public class StatisticsOverflowException extends LogAnalyzerException {
+
+    public StatisticsOverflowException(Exception ex) {
+        super(STATISTICS_OVERFLOW_EXCEPTION_TEXT, ex);
+    }
+
+    @Override
+    public String getSolution() {
+        return STATISTICS_OVERFLOW_SOLVING;
+    }
+}
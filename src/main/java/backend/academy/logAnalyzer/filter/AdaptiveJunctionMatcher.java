@@ -0,0 +1,92 @@
+package backend.academy.logAnalyzer.filter;
+
+import backend.academy.logAnalyzer.analyzer.LogTokenizer;
+import java.util.Arrays;
+
+class AdaptiveJunctionMatcher implements LogMatcher {
+
+    static final int REORDER_INTERVAL = 1024;
+
+    private final boolean conjunction;
+    private final LogMatcher[] operands;
+    private final long[] evaluations;
+    private final long[] decisions;
+    private final int cost;
+    private int testsUntilReorder = REORDER_INTERVAL;
+
+    AdaptiveJunctionMatcher(boolean conjunction, LogMatcher[] operands) {
+        this.conjunction = conjunction;
+        this.operands = operands.clone();
+        this.evaluations = new long[operands.length];
+        this.decisions = new long[operands.length];
+        this.cost = Arrays.stream(operands).mapToInt(LogMatcher::cost).sum();
+
+        reorder();
+    }
+
+    @Override
+    public boolean matches(LogTokenizer tokenizer) {
+        if (--testsUntilReorder == 0) {
+            reorder();
+        }
+
+        for (int i = 0; i < operands.length; i++) {
+            evaluations[i]++;
+
+            if (operands[i].matches(tokenizer) != conjunction) {
+                decisions[i]++;
+
+                return !conjunction;
+            }
+        }
+
+        return conjunction;
+    }
+
+    @Override
+    public int cost() {
+        return cost;
+    }
+
+    @Override
+    public LogMatcher copy() {
+        return new AdaptiveJunctionMatcher(conjunction,
+            Arrays.stream(operands).map(LogMatcher::copy).toArray(LogMatcher[]::new));
+    }
+
+    LogMatcher[] operands() {
+        return operands.clone();
+    }
+
+    private void reorder() {
+        for (int i = 1; i < operands.length; i++) {
+            for (int j = i; j > 0 && getRank(j) < getRank(j - 1); j--) {
+                swap(j, j - 1);
+            }
+        }
+
+        for (int i = 0; i < operands.length; i++) {
+            evaluations[i] >>= 1;
+            decisions[i] >>= 1;
+        }
+
+        testsUntilReorder = REORDER_INTERVAL;
+    }
+
+    private double getRank(int index) {
+        return operands[index].cost() * (evaluations[index] + 1.0) / (decisions[index] + 1.0);
+    }
+
+    private void swap(int first, int second) {
+        final LogMatcher operand = operands[first];
+        final long evaluation = evaluations[first];
+        final long decision = decisions[first];
+
+        operands[first] = operands[second];
+        evaluations[first] = evaluations[second];
+        decisions[first] = decisions[second];
+        operands[second] = operand;
+        evaluations[second] = evaluation;
+        decisions[second] = decision;
+    }
+}
@@ -0,0 +1,128 @@
+package backend.academy.logAnalyzer.filter;
+
+import backend.academy.logAnalyzer.analyzer.AddressDecoder;
+import backend.academy.logAnalyzer.exception.FileDataReadException;
+import backend.academy.logAnalyzer.exception.IncorrectCommandException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.StringUtils;
+import static backend.academy.logAnalyzer.constants.ConstValues.NO_ADDRESS;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_ADDRESS_RANGE_EXCEPTION_TEXT;
+
+public class AddressRanges {
+
+    private static final int DECIMAL_RADIX = 10;
+    private static final int IPV4_BITS = 32;
+    private static final int IPV6_BITS = 128;
+    private static final long IPV4_MAPPED_PREFIX = 0xFFFFL;
+    private static final char PREFIX_SEPARATOR = '/';
+    private static final char GROUPS_SEPARATOR = ':';
+    private static final String RANGES_SEPARATOR = ",";
+    private static final char FILE_PREFIX = '@';
+    private static final String COMMENT_PREFIX = "#";
+
+    private final PrefixTrie ipv4Ranges = new PrefixTrie();
+    private final PrefixTrie ipv6Ranges = new PrefixTrie();
+
+    public static boolean isRanges(String value) {
+        return value.indexOf(PREFIX_SEPARATOR) >= 0 || value.contains(RANGES_SEPARATOR)
+            || isRangesFile(value);
+    }
+
+    public static boolean isRangesFile(String value) {
+        return !value.isEmpty() && value.charAt(0) == FILE_PREFIX;
+    }
+
+    public static AddressRanges parse(String value) {
+        final AddressRanges ranges = new AddressRanges();
+
+        if (isRangesFile(value)) {
+            try (Stream<String> lines = Files.lines(Path.of(value.substring(1)))) {
+                lines
+                    .map(String::strip)
+                    .filter(line -> !line.isEmpty() && !line.startsWith(COMMENT_PREFIX))
+                    .forEach(ranges::add);
+            } catch (IOException | UncheckedIOException | InvalidPathException ex) {
+                throw new FileDataReadException(ex);
+            }
+        } else {
+            for (String range : value.split(RANGES_SEPARATOR, -1)) {
+                ranges.add(range.strip());
+            }
+        }
+
+        return ranges;
+    }
+
+    public void add(String range) {
+        final int separator = range.indexOf(PREFIX_SEPARATOR);
+        final int addressEnd = separator >= 0 ? separator : range.length();
+
+        if (range.indexOf(GROUPS_SEPARATOR) >= 0) {
+            final long[] address = new long[2];
+
+            if (!AddressDecoder.decodeIpv6(range, 0, addressEnd, address)) {
+                throw new IncorrectCommandException(INCORRECT_ADDRESS_RANGE_EXCEPTION_TEXT);
+            }
+
+            ipv6Ranges.add(address[0], address[1], getPrefixLength(range, separator, IPV6_BITS));
+        } else {
+            final long address = AddressDecoder.decodeIpv4(range, 0, addressEnd);
+
+            if (address == NO_ADDRESS) {
+                throw new IncorrectCommandException(INCORRECT_ADDRESS_RANGE_EXCEPTION_TEXT);
+            }
+
+            ipv4Ranges.add(address << IPV4_BITS, 0, getPrefixLength(range, separator, IPV4_BITS));
+        }
+    }
+
+    public boolean contains(CharSequence address) {
+        if (!StringUtils.contains(address, GROUPS_SEPARATOR)) {
+            final long ipv4 = AddressDecoder.decodeIpv4(address, 0, address.length());
+
+            return ipv4 != NO_ADDRESS && ipv4Ranges.contains(ipv4 << IPV4_BITS, 0, IPV4_BITS);
+        }
+
+        final long[] ipv6 = new long[2];
+
+        if (!AddressDecoder.decodeIpv6(address, 0, address.length(), ipv6)) {
+            return false;
+        }
+
+        if (ipv6[0] == 0 && ipv6[1] >>> IPV4_BITS == IPV4_MAPPED_PREFIX
+            && ipv4Ranges.contains(ipv6[1] << IPV4_BITS, 0, IPV4_BITS)) {
+            return true;
+        }
+
+        return ipv6Ranges.contains(ipv6[0], ipv6[1], IPV6_BITS);
+    }
+
+    private static int getPrefixLength(String range, int separator, int bits) {
+        if (separator < 0) {
+            return bits;
+        }
+
+        if (separator + 1 == range.length()) {
+            throw new IncorrectCommandException(INCORRECT_ADDRESS_RANGE_EXCEPTION_TEXT);
+        }
+
+        int prefixLength = 0;
+
+        for (int i = separator + 1; i < range.length(); i++) {
+            final char symbol = range.charAt(i);
+
+            if (symbol < '0' || symbol > '9' || prefixLength * DECIMAL_RADIX + symbol - '0' > bits) {
+                throw new IncorrectCommandException(INCORRECT_ADDRESS_RANGE_EXCEPTION_TEXT);
+            }
+
+            prefixLength = prefixLength * DECIMAL_RADIX + symbol - '0';
+        }
+
+        return prefixLength;
+    }
+}
@@ -0,0 +1,96 @@
+package backend.academy.logAnalyzer.filter;
+
+import backend.academy.logAnalyzer.enums.FilterField;
+import backend.academy.logAnalyzer.enums.FilterOperator;
+import backend.academy.logAnalyzer.enums.LogField;
+import backend.academy.logAnalyzer.exception.IncorrectCommandException;
+import java.util.List;
+import java.util.Set;
+import org.apache.commons.lang3.StringUtils;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_FILTER_EXPRESSION_EXCEPTION_TEXT;
+
+public sealed interface FilterExpression {
+
+    void addLogFields(Set<LogField> logFields);
+
+    record Condition(FilterField field, FilterOperator operator, String value) implements FilterExpression {
+
+        public Condition {
+            if (field == null || operator == null || StringUtils.isBlank(value)) {
+                throw new IncorrectCommandException(INCORRECT_FILTER_EXPRESSION_EXCEPTION_TEXT);
+            }
+
+            if (field == FilterField.HTTP_STATUS) {
+                validateStatus(operator, value);
+            } else if (field == FilterField.ADDRESS && AddressRanges.isRanges(value)) {
+                validateAddressRanges(operator, value);
+            } else if (operator.numeric()) {
+                throw new IncorrectCommandException(INCORRECT_FILTER_EXPRESSION_EXCEPTION_TEXT);
+            }
+        }
+
+        public static Condition of(FilterField field, String value) {
+            return new Condition(field, field == FilterField.AGENT ? FilterOperator.CONTAINS : FilterOperator.EQUALS,
+                value);
+        }
+
+        @Override
+        public void addLogFields(Set<LogField> logFields) {
+            logFields.add(field.logField());
+        }
+
+        private static void validateAddressRanges(FilterOperator operator, String value) {
+            if (operator != FilterOperator.EQUALS && operator != FilterOperator.NOT_EQUALS) {
+                throw new IncorrectCommandException(INCORRECT_FILTER_EXPRESSION_EXCEPTION_TEXT);
+            }
+
+            if (!AddressRanges.isRangesFile(value)) {
+                AddressRanges.parse(value);
+            }
+        }
+
+        private static void validateStatus(FilterOperator operator, String value) {
+            if (operator == FilterOperator.CONTAINS || operator == FilterOperator.NOT_CONTAINS) {
+                throw new IncorrectCommandException(INCORRECT_FILTER_EXPRESSION_EXCEPTION_TEXT);
+            }
+
+            try {
+                Integer.parseInt(value);
+            } catch (NumberFormatException ex) {
+                throw new IncorrectCommandException(INCORRECT_FILTER_EXPRESSION_EXCEPTION_TEXT, ex);
+            }
+        }
+    }
+
+    record Not(FilterExpression operand) implements FilterExpression {
+
+        @Override
+        public void addLogFields(Set<LogField> logFields) {
+            operand.addLogFields(logFields);
+        }
+    }
+
+    record And(List<FilterExpression> operands) implements FilterExpression {
+
+        public And {
+            operands = List.copyOf(operands);
+        }
+
+        @Override
+        public void addLogFields(Set<LogField> logFields) {
+            operands.forEach(operand -> operand.addLogFields(logFields));
+        }
+    }
+
+    record Or(List<FilterExpression> operands) implements FilterExpression {
+
+        public Or {
+            operands = List.copyOf(operands);
+        }
+
+        @Override
+        public void addLogFields(Set<LogField> logFields) {
+            operands.forEach(operand -> operand.addLogFields(logFields));
+        }
+    }
+}
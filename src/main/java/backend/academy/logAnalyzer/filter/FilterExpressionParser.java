@@ -0,0 +1,196 @@
+package backend.academy.logAnalyzer.filter;
+
+import backend.academy.logAnalyzer.enums.FilterField;
+import backend.academy.logAnalyzer.enums.FilterOperator;
+import backend.academy.logAnalyzer.exception.IncorrectCommandException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.StringUtils;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_FILTER_EXPRESSION_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_FILTER_ARGUMENT_EXCEPTION_TEXT;
+
+@UtilityClass
+public class FilterExpressionParser {
+
+    private static final String AND_KEYWORD = "and";
+    private static final String OR_KEYWORD = "or";
+    private static final String NOT_KEYWORD = "not";
+    private static final String OPERATOR_SYMBOLS = "=!~<>";
+    private static final char OPEN_BRACKET = '(';
+    private static final char CLOSE_BRACKET = ')';
+    private static final char QUOTE = '"';
+
+    public static FilterExpression parse(String expression) {
+        if (StringUtils.isBlank(expression)) {
+            throw new IncorrectCommandException(NOT_VALUE_FOR_FILTER_ARGUMENT_EXCEPTION_TEXT);
+        }
+
+        final TokenReader reader = new TokenReader(tokenize(expression));
+        final FilterExpression result = parseOr(reader);
+
+        if (reader.hasNext()) {
+            throw new IncorrectCommandException(INCORRECT_FILTER_EXPRESSION_EXCEPTION_TEXT);
+        }
+
+        return result;
+    }
+
+    private static FilterExpression parseOr(TokenReader reader) {
+        final List<FilterExpression> operands = new ArrayList<>();
+
+        do {
+            operands.add(parseAnd(reader));
+        } while (reader.nextIfKeyword(OR_KEYWORD));
+
+        return operands.size() == 1 ? operands.getFirst() : new FilterExpression.Or(operands);
+    }
+
+    private static FilterExpression parseAnd(TokenReader reader) {
+        final List<FilterExpression> operands = new ArrayList<>();
+
+        do {
+            operands.add(parseNot(reader));
+        } while (reader.nextIfKeyword(AND_KEYWORD));
+
+        return operands.size() == 1 ? operands.getFirst() : new FilterExpression.And(operands);
+    }
+
+    private static FilterExpression parseNot(TokenReader reader) {
+        if (reader.nextIfKeyword(NOT_KEYWORD)) {
+            return new FilterExpression.Not(parseNot(reader));
+        }
+
+        if (reader.nextIf(TokenType.OPEN_BRACKET)) {
+            final FilterExpression result = parseOr(reader);
+
+            reader.next(TokenType.CLOSE_BRACKET);
+
+            return result;
+        }
+
+        final FilterField field = FilterField.getFilterFieldByValue(reader.next(TokenType.WORD).text());
+        final FilterOperator operator = FilterOperator.getFilterOperatorByValue(reader.next(TokenType.OPERATOR).text());
+        final Token value = reader.next();
+
+        if (value.type() != TokenType.WORD && value.type() != TokenType.QUOTED) {
+            throw new IncorrectCommandException(INCORRECT_FILTER_EXPRESSION_EXCEPTION_TEXT);
+        }
+
+        return new FilterExpression.Condition(field, operator, value.text());
+    }
+
+    private static List<Token> tokenize(String expression) {
+        final List<Token> tokens = new ArrayList<>();
+        int position = 0;
+
+        while (position < expression.length()) {
+            final char symbol = expression.charAt(position);
+            final int start = position;
+
+            if (Character.isWhitespace(symbol)) {
+                position++;
+            } else if (symbol == OPEN_BRACKET || symbol == CLOSE_BRACKET) {
+                tokens.add(new Token(symbol == OPEN_BRACKET ? TokenType.OPEN_BRACKET : TokenType.CLOSE_BRACKET,
+                    String.valueOf(symbol)));
+                position++;
+            } else if (symbol == QUOTE) {
+                position = expression.indexOf(QUOTE, start + 1);
+
+                if (position < 0) {
+                    throw new IncorrectCommandException(INCORRECT_FILTER_EXPRESSION_EXCEPTION_TEXT);
+                }
+
+                tokens.add(new Token(TokenType.QUOTED, expression.substring(start + 1, position)));
+                position++;
+            } else if (isOperatorSymbol(symbol)) {
+                while (position < expression.length() && isOperatorSymbol(expression.charAt(position))) {
+                    position++;
+                }
+
+                tokens.add(new Token(TokenType.OPERATOR, expression.substring(start, position)));
+            } else {
+                while (position < expression.length() && isWordSymbol(expression.charAt(position))) {
+                    position++;
+                }
+
+                tokens.add(new Token(TokenType.WORD, expression.substring(start, position)));
+            }
+        }
+
+        return tokens;
+    }
+
+    private static boolean isOperatorSymbol(char symbol) {
+        return OPERATOR_SYMBOLS.indexOf(symbol) >= 0;
+    }
+
+    private static boolean isWordSymbol(char symbol) {
+        return !Character.isWhitespace(symbol) && !isOperatorSymbol(symbol)
+            && symbol != OPEN_BRACKET && symbol != CLOSE_BRACKET && symbol != QUOTE;
+    }
+
+    private enum TokenType {
+        WORD,
+        QUOTED,
+        OPERATOR,
+        OPEN_BRACKET,
+        CLOSE_BRACKET
+    }
+
+    private record Token(TokenType type, String text) {
+    }
+
+    private static final class TokenReader {
+
+        private final List<Token> tokens;
+        private int position;
+
+        private TokenReader(List<Token> tokens) {
+            this.tokens = tokens;
+        }
+
+        private boolean hasNext() {
+            return position < tokens.size();
+        }
+
+        private Token next() {
+            if (!hasNext()) {
+                throw new IncorrectCommandException(INCORRECT_FILTER_EXPRESSION_EXCEPTION_TEXT);
+            }
+
+            return tokens.get(position++);
+        }
+
+        private Token next(TokenType type) {
+            final Token token = next();
+
+            if (token.type() != type) {
+                throw new IncorrectCommandException(INCORRECT_FILTER_EXPRESSION_EXCEPTION_TEXT);
+            }
+
+            return token;
+        }
+
+        private boolean nextIf(TokenType type) {
+            if (hasNext() && tokens.get(position).type() == type) {
+                position++;
+
+                return true;
+            }
+
+            return false;
+        }
+
+        private boolean nextIfKeyword(String keyword) {
+            if (hasNext() && tokens.get(position).type() == TokenType.WORD
+                && tokens.get(position).text().equalsIgnoreCase(keyword)) {
+                position++;
+
+                return true;
+            }
+
+            return false;
+        }
+    }
+}
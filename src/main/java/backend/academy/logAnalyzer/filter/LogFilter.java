@@ -0,0 +1,16 @@
+package backend.academy.logAnalyzer.filter;
+
+import backend.academy.logAnalyzer.analyzer.LogTokenizer;
+import backend.academy.logAnalyzer.enums.LogField;
+
+public interface LogFilter extends LogMatcher {
+
+    LogField field();
+
+    boolean test(CharSequence value);
+
+    @Override
+    default boolean matches(LogTokenizer tokenizer) {
+        return test(tokenizer.field(field()));
+    }
+}
@@ -0,0 +1,152 @@
+package backend.academy.logAnalyzer.filter;
+
+import backend.academy.logAnalyzer.analyzer.LogTokenizer;
+import backend.academy.logAnalyzer.enums.FilterField;
+import backend.academy.logAnalyzer.enums.FilterOperator;
+import backend.academy.logAnalyzer.enums.LogField;
+import backend.academy.logAnalyzer.exception.IncorrectLogFormatException;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.StringUtils;
+
+@UtilityClass
+public class LogFilterCompiler {
+
+    private static final int DECIMAL_BASE = 10;
+    private static final int MAX_STATUS_DIGITS = 9;
+    private static final int STATUS_COST = 1;
+    private static final int EQUALS_COST = 2;
+    private static final int ADDRESS_RANGES_COST = 3;
+    private static final int CONTAINS_COST = 4;
+
+    public static LogFilter compile(FilterField filterField, String filterValue) {
+        if (filterField == null) {
+            return null;
+        }
+
+        return compile(FilterExpression.Condition.of(filterField, filterValue));
+    }
+
+    public static LogMatcher compile(FilterExpression expression) {
+        return switch (expression) {
+            case FilterExpression.Condition condition -> compile(condition);
+            case FilterExpression.Not not -> new NotMatcher(compile(not.operand()));
+            case FilterExpression.And and -> new AdaptiveJunctionMatcher(true,
+                and.operands().stream().map(LogFilterCompiler::compile).toArray(LogMatcher[]::new));
+            case FilterExpression.Or or -> new AdaptiveJunctionMatcher(false,
+                or.operands().stream().map(LogFilterCompiler::compile).toArray(LogMatcher[]::new));
+        };
+    }
+
+    private static LogFilter compile(FilterExpression.Condition condition) {
+        final LogField field = condition.field().logField();
+        final FilterOperator operator = condition.operator();
+
+        if (condition.field() == FilterField.HTTP_STATUS) {
+            return new StatusFilter(field, operator, Integer.parseInt(condition.value()));
+        }
+
+        if (condition.field() == FilterField.ADDRESS && AddressRanges.isRanges(condition.value())) {
+            return new AddressRangesFilter(field, AddressRanges.parse(condition.value()),
+                operator == FilterOperator.EQUALS);
+        }
+
+        return switch (operator) {
+            case CONTAINS, NOT_CONTAINS ->
+                new ContainsFilter(field, condition.value(), operator == FilterOperator.CONTAINS);
+            default -> new EqualsFilter(field, condition.value(), operator == FilterOperator.EQUALS);
+        };
+    }
+
+    private record EqualsFilter(LogField field, String filterValue, boolean expected) implements LogFilter {
+
+        @Override
+        public boolean test(CharSequence value) {
+            return StringUtils.equalsIgnoreCase(value, filterValue) == expected;
+        }
+
+        @Override
+        public int cost() {
+            return EQUALS_COST;
+        }
+    }
+
+    private record ContainsFilter(LogField field, String filterValue, boolean expected) implements LogFilter {
+
+        @Override
+        public boolean test(CharSequence value) {
+            return StringUtils.containsIgnoreCase(value, filterValue) == expected;
+        }
+
+        @Override
+        public int cost() {
+            return CONTAINS_COST;
+        }
+    }
+
+    private record AddressRangesFilter(LogField field, AddressRanges ranges, boolean expected) implements LogFilter {
+
+        @Override
+        public boolean test(CharSequence value) {
+            return ranges.contains(value) == expected;
+        }
+
+        @Override
+        public int cost() {
+            return ADDRESS_RANGES_COST;
+        }
+    }
+
+    private record StatusFilter(LogField field, FilterOperator operator, int code) implements LogFilter {
+
+        @Override
+        public boolean test(CharSequence value) {
+            if (value.isEmpty() || value.length() > MAX_STATUS_DIGITS) {
+                throw new IncorrectLogFormatException();
+            }
+
+            int result = 0;
+
+            for (int i = 0; i < value.length(); i++) {
+                final char symbol = value.charAt(i);
+
+                if (symbol < '0' || symbol > '9') {
+                    throw new IncorrectLogFormatException();
+                }
+
+                result = result * DECIMAL_BASE + symbol - '0';
+            }
+
+            return switch (operator) {
+                case NOT_EQUALS -> result != code;
+                case GREATER -> result > code;
+                case GREATER_OR_EQUALS -> result >= code;
+                case LESS -> result < code;
+                case LESS_OR_EQUALS -> result <= code;
+                default -> result == code;
+            };
+        }
+
+        @Override
+        public int cost() {
+            return STATUS_COST;
+        }
+    }
+
+    private record NotMatcher(LogMatcher operand) implements LogMatcher {
+
+        @Override
+        public boolean matches(LogTokenizer tokenizer) {
+            return !operand.matches(tokenizer);
+        }
+
+        @Override
+        public int cost() {
+            return operand.cost();
+        }
+
+        @Override
+        public LogMatcher copy() {
+            return new NotMatcher(operand.copy());
+        }
+    }
+}
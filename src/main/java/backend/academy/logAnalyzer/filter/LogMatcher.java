@@ -0,0 +1,14 @@
+package backend.academy.logAnalyzer.filter;
+
+import backend.academy.logAnalyzer.analyzer.LogTokenizer;
+
+public interface LogMatcher {
+
+    boolean matches(LogTokenizer tokenizer);
+
+    int cost();
+
+    default LogMatcher copy() {
+        return this;
+    }
+}
@@ -0,0 +1,45 @@
+package backend.academy.logAnalyzer.filter;
+
+import backend.academy.logAnalyzer.dto.Command;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+public record LogPredicate(FilterExpression expression, LogMatcher matcher, long fromEpochSecond, long toEpochSecond) {
+
+    public static LogPredicate compile(Command command) {
+        final ZoneId zone = ZoneId.systemDefault();
+        final List<FilterExpression> operands = new ArrayList<>();
+
+        if (command.filterField() != null) {
+            operands.add(FilterExpression.Condition.of(command.filterField(), command.filterValue()));
+        }
+
+        if (command.filterExpression() != null) {
+            operands.add(command.filterExpression());
+        }
+
+        final FilterExpression expression = operands.size() > 1
+            ? new FilterExpression.And(operands)
+            : operands.stream().findFirst().orElse(null);
+
+        return new LogPredicate(
+            expression, expression != null ? LogFilterCompiler.compile(expression) : null,
+            getStartOfDay(command.from(), zone, Long.MIN_VALUE),
+            getStartOfDay(command.to(), zone, Long.MAX_VALUE)
+        );
+    }
+
+    public LogMatcher createMatcher() {
+        return matcher != null ? matcher.copy() : null;
+    }
+
+    public boolean testTime(long epochSecond) {
+        return epochSecond >= fromEpochSecond && epochSecond <= toEpochSecond;
+    }
+
+    private static long getStartOfDay(LocalDate date, ZoneId zone, long defaultValue) {
+        return date != null ? date.atStartOfDay(zone).toEpochSecond() : defaultValue;
+    }
+}
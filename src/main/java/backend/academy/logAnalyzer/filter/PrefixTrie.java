@@ -0,0 +1,61 @@
+package backend.academy.logAnalyzer.filter;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+class PrefixTrie {
+
+    private static final int ROOT = 0;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] children = new int[INITIAL_CAPACITY * 2];
+    private final BitSet terminals = new BitSet();
+    private int size = 1;
+
+    void add(long high, long low, int prefixLength) {
+        int node = ROOT;
+
+        for (int i = 0; i < prefixLength && !terminals.get(node); i++) {
+            final int childIndex = 2 * node + getBit(high, low, i);
+
+            if (children[childIndex] == ROOT) {
+                ensureCapacity();
+                children[childIndex] = size++;
+            }
+
+            node = children[childIndex];
+        }
+
+        terminals.set(node);
+    }
+
+    boolean contains(long high, long low, int length) {
+        int node = ROOT;
+
+        for (int i = 0; !terminals.get(node); i++) {
+            if (i == length) {
+                return false;
+            }
+
+            node = children[2 * node + getBit(high, low, i)];
+
+            if (node == ROOT) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private void ensureCapacity() {
+        if (2 * (size + 1) > children.length) {
+            children = Arrays.copyOf(children, children.length * 2);
+        }
+    }
+
+    private static int getBit(long high, long low, int index) {
+        return index < Long.SIZE
+            ? (int) (high >>> (Long.SIZE - 1 - index)) & 1
+            : (int) (low >>> (2 * Long.SIZE - 1 - index)) & 1;
+    }
+}
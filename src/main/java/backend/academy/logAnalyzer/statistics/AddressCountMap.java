@@ -0,0 +1,85 @@
+package backend.academy.logAnalyzer.statistics;
+
+import it.unimi.dsi.fastutil.HashCommon;
+
+class AddressCountMap {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_LOAD_NUMERATOR = 3;
+    private static final int MAX_LOAD_DENOMINATOR = 4;
+
+    private long[] highs = new long[DEFAULT_CAPACITY];
+    private long[] lows = new long[DEFAULT_CAPACITY];
+    private int[] counts = new int[DEFAULT_CAPACITY];
+    private int size;
+
+    public void addTo(long high, long low, int count) {
+        final int slot = findSlot(highs, lows, counts, high, low);
+
+        if (counts[slot] != 0) {
+            counts[slot] += count;
+
+            return;
+        }
+
+        highs[slot] = high;
+        lows[slot] = low;
+        counts[slot] = count;
+        size++;
+
+        if ((long) size * MAX_LOAD_DENOMINATOR > (long) counts.length * MAX_LOAD_NUMERATOR) {
+            rehash(counts.length * 2);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return counts.length;
+    }
+
+    public long high(int slot) {
+        return highs[slot];
+    }
+
+    public long low(int slot) {
+        return lows[slot];
+    }
+
+    public int count(int slot) {
+        return counts[slot];
+    }
+
+    private void rehash(int capacity) {
+        final long[] newHighs = new long[capacity];
+        final long[] newLows = new long[capacity];
+        final int[] newCounts = new int[capacity];
+
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                final int slot = findSlot(newHighs, newLows, newCounts, highs[i], lows[i]);
+
+                newHighs[slot] = highs[i];
+                newLows[slot] = lows[i];
+                newCounts[slot] = counts[i];
+            }
+        }
+
+        highs = newHighs;
+        lows = newLows;
+        counts = newCounts;
+    }
+
+    private static int findSlot(long[] highs, long[] lows, int[] counts, long high, long low) {
+        final int mask = counts.length - 1;
+        int slot = (int) HashCommon.mix(high ^ HashCommon.mix(low)) & mask;
+
+        while (counts[slot] != 0 && (highs[slot] != high || lows[slot] != low)) {
+            slot = slot + 1 & mask;
+        }
+
+        return slot;
+    }
+}
@@ -0,0 +1,160 @@
+package backend.academy.logAnalyzer.statistics;
+
+import backend.academy.logAnalyzer.analyzer.AddressDecoder;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMaps;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Map;
+import java.util.PriorityQueue;
+import static backend.academy.logAnalyzer.constants.ConstValues.NO_ADDRESS;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT;
+
+public class AddressFrequencyCounter implements FrequencyCounter<String> {
+
+    private final AddressCountMap ipv4Counts = new AddressCountMap();
+    private final AddressCountMap ipv6Counts = new AddressCountMap();
+    private final Object2IntOpenHashMap<String> otherCounts = new Object2IntOpenHashMap<>();
+    private final long[] ipv6 = new long[2];
+
+    @Override
+    public void add(String key) {
+        add(key, 1);
+    }
+
+    public void add(CharSequence address) {
+        add(address, 1);
+    }
+
+    @Override
+    public Map<String, Integer> getTop(int limit) {
+        final int threshold = getThreshold(limit);
+        final Object2IntOpenHashMap<String> candidates = new Object2IntOpenHashMap<>();
+
+        for (int i = 0; i < ipv4Counts.capacity(); i++) {
+            if (ipv4Counts.count(i) != 0 && ipv4Counts.count(i) >= threshold) {
+                candidates.put(AddressDecoder.encodeIpv4(ipv4Counts.low(i)), ipv4Counts.count(i));
+            }
+        }
+
+        for (int i = 0; i < ipv6Counts.capacity(); i++) {
+            if (ipv6Counts.count(i) != 0 && ipv6Counts.count(i) >= threshold) {
+                candidates.put(AddressDecoder.encodeIpv6(ipv6Counts.high(i), ipv6Counts.low(i)), ipv6Counts.count(i));
+            }
+        }
+
+        for (Object2IntMap.Entry<String> entry : Object2IntMaps.fastIterable(otherCounts)) {
+            if (entry.getIntValue() >= threshold) {
+                candidates.put(entry.getKey(), entry.getIntValue());
+            }
+        }
+
+        return TopKSelector.select(candidates, limit);
+    }
+
+    @Override
+    public void merge(FrequencyCounter<String> other) {
+        if (!(other instanceof AddressFrequencyCounter counter)) {
+            throw new IllegalArgumentException(DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT);
+        }
+
+        merge(ipv4Counts, counter.ipv4Counts);
+        merge(ipv6Counts, counter.ipv6Counts);
+
+        for (Object2IntMap.Entry<String> entry : Object2IntMaps.fastIterable(counter.otherCounts)) {
+            otherCounts.addTo(entry.getKey(), entry.getIntValue());
+        }
+    }
+
+    @Override
+    public void write(DataOutput output, KeyCodec<String> codec) throws IOException {
+        output.writeInt(ipv4Counts.size() + ipv6Counts.size() + otherCounts.size());
+
+        for (int i = 0; i < ipv4Counts.capacity(); i++) {
+            if (ipv4Counts.count(i) != 0) {
+                codec.write(output, AddressDecoder.encodeIpv4(ipv4Counts.low(i)));
+                output.writeInt(ipv4Counts.count(i));
+            }
+        }
+
+        for (int i = 0; i < ipv6Counts.capacity(); i++) {
+            if (ipv6Counts.count(i) != 0) {
+                codec.write(output, AddressDecoder.encodeIpv6(ipv6Counts.high(i), ipv6Counts.low(i)));
+                output.writeInt(ipv6Counts.count(i));
+            }
+        }
+
+        for (Object2IntMap.Entry<String> entry : Object2IntMaps.fastIterable(otherCounts)) {
+            codec.write(output, entry.getKey());
+            output.writeInt(entry.getIntValue());
+        }
+    }
+
+    @Override
+    public void read(DataInput input, KeyCodec<String> codec) throws IOException {
+        final int size = KeyCodec.readSize(input);
+
+        for (int i = 0; i < size; i++) {
+            add(codec.read(input), input.readInt());
+        }
+    }
+
+    private void add(CharSequence address, int count) {
+        final long ipv4 = AddressDecoder.decodeIpv4(address, 0, address.length());
+
+        if (ipv4 != NO_ADDRESS && AddressDecoder.isCanonicalIpv4(address, ipv4)) {
+            ipv4Counts.addTo(0, ipv4, count);
+        } else if (AddressDecoder.decodeIpv6(address, 0, address.length(), ipv6)
+            && AddressDecoder.isCanonicalIpv6(address, ipv6[0], ipv6[1])) {
+            ipv6Counts.addTo(ipv6[0], ipv6[1], count);
+        } else {
+            otherCounts.addTo(address.toString(), count);
+        }
+    }
+
+    private int getThreshold(int limit) {
+        if (limit <= 0) {
+            return Integer.MAX_VALUE;
+        }
+
+        final PriorityQueue<Integer> top = new PriorityQueue<>(
+            Math.max(Math.min(limit, ipv4Counts.size() + ipv6Counts.size() + otherCounts.size()), 1)
+        );
+
+        addToThreshold(top, ipv4Counts, limit);
+        addToThreshold(top, ipv6Counts, limit);
+
+        for (Object2IntMap.Entry<String> entry : Object2IntMaps.fastIterable(otherCounts)) {
+            addToThreshold(top, entry.getIntValue(), limit);
+        }
+
+        return top.size() < limit ? 0 : top.peek();
+    }
+
+    private static void addToThreshold(PriorityQueue<Integer> top, AddressCountMap counts, int limit) {
+        for (int i = 0; i < counts.capacity(); i++) {
+            if (counts.count(i) != 0) {
+                addToThreshold(top, counts.count(i), limit);
+            }
+        }
+    }
+
+    private static void addToThreshold(PriorityQueue<Integer> top, int count, int limit) {
+        if (top.size() < limit) {
+            top.add(count);
+        } else if (count > top.peek()) {
+            top.poll();
+            top.add(count);
+        }
+    }
+
+    private static void merge(AddressCountMap target, AddressCountMap source) {
+        for (int i = 0; i < source.capacity(); i++) {
+            if (source.count(i) != 0) {
+                target.addTo(source.high(i), source.low(i), source.count(i));
+            }
+        }
+    }
+}
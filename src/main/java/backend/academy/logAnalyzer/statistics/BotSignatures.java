@@ -0,0 +1,167 @@
+package backend.academy.logAnalyzer.statistics;
+
+import backend.academy.logAnalyzer.exception.FileDataReadException;
+import backend.academy.logAnalyzer.exception.IncorrectCommandException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import static backend.academy.logAnalyzer.constants.ConstValues.NO_SIGNATURE;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_BOT_SIGNATURES_EXCEPTION_TEXT;
+
+public class BotSignatures {
+
+    private static final int ALPHABET_SIZE = 128;
+    private static final int ROOT = 0;
+    private static final int CASE_OFFSET = 'a' - 'A';
+    private static final String COMMENT_PREFIX = "#";
+
+    private final List<String> signatures;
+    private final int[] transitions;
+    private final int[] outputs;
+
+    private BotSignatures(List<String> signatures, int[] transitions, int[] outputs) {
+        this.signatures = signatures;
+        this.transitions = transitions;
+        this.outputs = outputs;
+    }
+
+    public static BotSignatures load(String path) {
+        try (Stream<String> lines = Files.lines(Path.of(path))) {
+            return of(lines
+                .map(String::strip)
+                .filter(line -> !line.isEmpty() && !line.startsWith(COMMENT_PREFIX))
+                .toList());
+        } catch (IOException | UncheckedIOException | InvalidPathException ex) {
+            throw new FileDataReadException(ex);
+        }
+    }
+
+    public static BotSignatures of(List<String> signatures) {
+        if (signatures.isEmpty()) {
+            throw new IncorrectCommandException(INCORRECT_BOT_SIGNATURES_EXCEPTION_TEXT);
+        }
+
+        final int maxStatesCount = signatures.stream().mapToInt(String::length).sum() + 1;
+        final int[] transitions = new int[maxStatesCount * ALPHABET_SIZE];
+        final int[] outputs = new int[maxStatesCount];
+        final List<String> addedSignatures = new ArrayList<>(signatures.size());
+        int statesCount = 1;
+
+        Arrays.fill(outputs, NO_SIGNATURE);
+
+        for (String signature : signatures) {
+            if (signature.isEmpty()) {
+                throw new IncorrectCommandException(INCORRECT_BOT_SIGNATURES_EXCEPTION_TEXT);
+            }
+
+            int state = ROOT;
+
+            for (int i = 0; i < signature.length(); i++) {
+                final int symbol = getSymbol(signature.charAt(i));
+
+                if (transitions[state * ALPHABET_SIZE + symbol] == ROOT) {
+                    transitions[state * ALPHABET_SIZE + symbol] = statesCount++;
+                }
+
+                state = transitions[state * ALPHABET_SIZE + symbol];
+            }
+
+            if (outputs[state] == NO_SIGNATURE) {
+                outputs[state] = addedSignatures.size();
+                addedSignatures.add(signature);
+            }
+        }
+
+        addFailureTransitions(transitions, outputs, statesCount);
+
+        return new BotSignatures(List.copyOf(addedSignatures),
+            Arrays.copyOf(transitions, statesCount * ALPHABET_SIZE), Arrays.copyOf(outputs, statesCount));
+    }
+
+    public int match(CharSequence userAgent) {
+        int state = ROOT;
+
+        for (int i = 0; i < userAgent.length(); i++) {
+            final char symbol = userAgent.charAt(i);
+
+            state = symbol < ALPHABET_SIZE ? transitions[state * ALPHABET_SIZE + symbol] : ROOT;
+
+            if (outputs[state] != NO_SIGNATURE) {
+                return outputs[state];
+            }
+        }
+
+        return NO_SIGNATURE;
+    }
+
+    public String signature(int index) {
+        return signatures.get(index);
+    }
+
+    public int size() {
+        return signatures.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof BotSignatures botSignatures && signatures.equals(botSignatures.signatures);
+    }
+
+    @Override
+    public int hashCode() {
+        return signatures.hashCode();
+    }
+
+    private static void addFailureTransitions(int[] transitions, int[] outputs, int statesCount) {
+        final int[] failures = new int[statesCount];
+        final int[] queue = new int[statesCount];
+        int head = 0;
+        int tail = 0;
+
+        for (int symbol = 0; symbol < ALPHABET_SIZE; symbol++) {
+            if (transitions[symbol] != ROOT) {
+                queue[tail++] = transitions[symbol];
+            }
+        }
+
+        while (head < tail) {
+            final int state = queue[head++];
+            final int failure = failures[state];
+
+            if (outputs[state] == NO_SIGNATURE) {
+                outputs[state] = outputs[failure];
+            }
+
+            for (int symbol = 0; symbol < ALPHABET_SIZE; symbol++) {
+                final int child = transitions[state * ALPHABET_SIZE + symbol];
+
+                if (child != ROOT) {
+                    failures[child] = transitions[failure * ALPHABET_SIZE + symbol];
+                    queue[tail++] = child;
+                } else {
+                    transitions[state * ALPHABET_SIZE + symbol] = transitions[failure * ALPHABET_SIZE + symbol];
+                }
+            }
+        }
+
+        for (int state = 0; state < statesCount; state++) {
+            for (int symbol = 'A'; symbol <= 'Z'; symbol++) {
+                transitions[state * ALPHABET_SIZE + symbol] = transitions[state * ALPHABET_SIZE + symbol + CASE_OFFSET];
+            }
+        }
+    }
+
+    private static int getSymbol(char symbol) {
+        if (symbol >= ALPHABET_SIZE) {
+            throw new IncorrectCommandException(INCORRECT_BOT_SIGNATURES_EXCEPTION_TEXT);
+        }
+
+        return symbol >= 'A' && symbol <= 'Z' ? symbol + CASE_OFFSET : symbol;
+    }
+}
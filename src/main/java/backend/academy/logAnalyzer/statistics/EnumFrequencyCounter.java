@@ -0,0 +1,71 @@
+package backend.academy.logAnalyzer.statistics;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT;
+
+public class EnumFrequencyCounter<E extends Enum<E>> implements FrequencyCounter<E> {
+
+    private final E[] constants;
+    private final int[] counts;
+
+    public EnumFrequencyCounter(Class<E> enumClass) {
+        this.constants = enumClass.getEnumConstants();
+        this.counts = new int[constants.length];
+    }
+
+    @Override
+    public void add(E key) {
+        counts[key.ordinal()]++;
+    }
+
+    @Override
+    public Map<E, Integer> getTop(int limit) {
+        final Object2IntMap<E> nonZeroCounts = new Object2IntOpenHashMap<>();
+
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                nonZeroCounts.put(constants[i], counts[i]);
+            }
+        }
+
+        return TopKSelector.select(nonZeroCounts, limit);
+    }
+
+    @Override
+    public void merge(FrequencyCounter<E> other) {
+        if (!(other instanceof EnumFrequencyCounter<E> counter) || !Arrays.equals(constants, counter.constants)) {
+            throw new IllegalArgumentException(DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT);
+        }
+
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += counter.counts[i];
+        }
+    }
+
+    @Override
+    public void write(DataOutput output, KeyCodec<E> codec) throws IOException {
+        output.writeInt((int) Arrays.stream(counts).filter(count -> count > 0).count());
+
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                codec.write(output, constants[i]);
+                output.writeInt(counts[i]);
+            }
+        }
+    }
+
+    @Override
+    public void read(DataInput input, KeyCodec<E> codec) throws IOException {
+        final int size = KeyCodec.readSize(input);
+
+        for (int i = 0; i < size; i++) {
+            counts[codec.read(input).ordinal()] += input.readInt();
+        }
+    }
+}
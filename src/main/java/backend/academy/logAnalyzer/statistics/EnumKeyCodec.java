@@ -0,0 +1,31 @@
+package backend.academy.logAnalyzer.statistics;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_STATISTICS_DATA_EXCEPTION_TEXT;
+
+public class EnumKeyCodec<E extends Enum<E>> implements KeyCodec<E> {
+
+    private final E[] constants;
+
+    public EnumKeyCodec(Class<E> enumClass) {
+        this.constants = enumClass.getEnumConstants();
+    }
+
+    @Override
+    public void write(DataOutput output, E key) throws IOException {
+        output.writeInt(key.ordinal());
+    }
+
+    @Override
+    public E read(DataInput input) throws IOException {
+        final int ordinal = input.readInt();
+
+        if (ordinal < 0 || ordinal >= constants.length) {
+            throw new IOException(INCORRECT_STATISTICS_DATA_EXCEPTION_TEXT);
+        }
+
+        return constants[ordinal];
+    }
+}
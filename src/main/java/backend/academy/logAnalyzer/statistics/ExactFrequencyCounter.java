@@ -0,0 +1,62 @@
+package backend.academy.logAnalyzer.statistics;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMaps;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Map;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT;
+
+public class ExactFrequencyCounter<T extends Comparable<? super T>> implements FrequencyCounter<T> {
+
+    private Object2IntOpenHashMap<T> counts = new Object2IntOpenHashMap<>();
+
+    @Override
+    public void add(T key) {
+        counts.addTo(key, 1);
+    }
+
+    @Override
+    public Map<T, Integer> getTop(int limit) {
+        return TopKSelector.select(counts, limit);
+    }
+
+    @Override
+    public void merge(FrequencyCounter<T> other) {
+        if (!(other instanceof ExactFrequencyCounter<T> counter)) {
+            throw new IllegalArgumentException(DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT);
+        }
+
+        Object2IntOpenHashMap<T> source = counter.counts;
+
+        if (counts.size() < source.size()) {
+            source = counts;
+            counts = new Object2IntOpenHashMap<>(counter.counts);
+        }
+
+        for (Object2IntMap.Entry<T> entry : Object2IntMaps.fastIterable(source)) {
+            counts.addTo(entry.getKey(), entry.getIntValue());
+        }
+    }
+
+    @Override
+    public void write(DataOutput output, KeyCodec<T> codec) throws IOException {
+        output.writeInt(counts.size());
+
+        for (Object2IntMap.Entry<T> entry : Object2IntMaps.fastIterable(counts)) {
+            codec.write(output, entry.getKey());
+            output.writeInt(entry.getIntValue());
+        }
+    }
+
+    @Override
+    public void read(DataInput input, KeyCodec<T> codec) throws IOException {
+        final int size = KeyCodec.readSize(input);
+
+        for (int i = 0; i < size; i++) {
+            counts.addTo(codec.read(input), input.readInt());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package backend.academy.logAnalyzer.statistics;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT;
+
+public class ExactPercentileAccumulator implements PercentileAccumulator {
+
+    private static final int SORT_THRESHOLD = 16;
+
+    private final LongArrayList values = new LongArrayList();
+
+    @Override
+    public void add(long value) {
+        values.add(value);
+    }
+
+    @Override
+    public long getPercentile(double percentile) {
+        return getPercentiles(List.of(percentile)).get(percentile);
+    }
+
+    @Override
+    public void merge(PercentileAccumulator other) {
+        if (!(other instanceof ExactPercentileAccumulator accumulator)) {
+            throw new IllegalArgumentException(DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT);
+        }
+
+        values.addAll(accumulator.values);
+    }
+
+    @Override
+    public void write(DataOutput output) throws IOException {
+        output.writeInt(values.size());
+
+        for (int i = 0; i < values.size(); i++) {
+            output.writeLong(values.getLong(i));
+        }
+    }
+
+    @Override
+    public void read(DataInput input) throws IOException {
+        final int size = KeyCodec.readSize(input);
+
+        values.ensureCapacity(values.size() + size);
+
+        for (int i = 0; i < size; i++) {
+            values.add(input.readLong());
+        }
+    }
+
+    @Override
+    public Map<Double, Long> getPercentiles(List<Double> percentiles) {
+        final Map<Double, Long> result = new LinkedHashMap<>();
+
+        if (values.isEmpty()) {
+            percentiles.forEach(percentile -> result.put(percentile, 0L));
+
+            return result;
+        }
+
+        final long[] elements = values.elements();
+        final int size = values.size();
+        final int[] ranks = percentiles.stream()
+            .mapToInt(percentile -> (int) PercentileAccumulator.getRankIndex(percentile, size))
+            .sorted()
+            .distinct()
+            .toArray();
+
+        select(elements, 0, size - 1, ranks, 0, ranks.length - 1, getDepthLimit(size));
+
+        for (Double percentile : percentiles) {
+            result.put(percentile, elements[(int) PercentileAccumulator.getRankIndex(percentile, size)]);
+        }
+
+        return result;
+    }
+
+    private static void select(long[] elements, int low, int high, int[] ranks, int fromRank, int toRank, int depth) {
+        if (fromRank > toRank || low >= high) {
+            return;
+        }
+
+        if (depth == 0 || high - low < SORT_THRESHOLD) {
+            Arrays.sort(elements, low, high + 1);
+
+            return;
+        }
+
+        final long pivot = getMedian(elements[low], elements[(low + high) >>> 1], elements[high]);
+        int lessEnd = low;
+        int greaterStart = high;
+        int index = low;
+
+        while (index <= greaterStart) {
+            if (elements[index] < pivot) {
+                swap(elements, index, lessEnd);
+                lessEnd++;
+                index++;
+            } else if (elements[index] > pivot) {
+                swap(elements, index, greaterStart);
+                greaterStart--;
+            } else {
+                index++;
+            }
+        }
+
+        int leftRanksEnd = fromRank;
+
+        while (leftRanksEnd <= toRank && ranks[leftRanksEnd] < lessEnd) {
+            leftRanksEnd++;
+        }
+
+        int rightRanksStart = leftRanksEnd;
+
+        while (rightRanksStart <= toRank && ranks[rightRanksStart] <= greaterStart) {
+            rightRanksStart++;
+        }
+
+        select(elements, low, lessEnd - 1, ranks, fromRank, leftRanksEnd - 1, depth - 1);
+        select(elements, greaterStart + 1, high, ranks, rightRanksStart, toRank, depth - 1);
+    }
+
+    private static long getMedian(long first, long second, long third) {
+        return Math.max(Math.min(first, second), Math.min(Math.max(first, second), third));
+    }
+
+    private static void swap(long[] elements, int first, int second) {
+        final long value = elements[first];
+
+        elements[first] = elements[second];
+        elements[second] = value;
+    }
+
+    private static int getDepthLimit(int size) {
+        return 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(size));
+    }
+}
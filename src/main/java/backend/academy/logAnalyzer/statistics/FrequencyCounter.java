@@ -0,0 +1,24 @@
+package backend.academy.logAnalyzer.statistics;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+public interface FrequencyCounter<T extends Comparable<? super T>> {
+
+    void add(T key);
+
+    Map<T, Integer> getTop(int limit);
+
+    void merge(FrequencyCounter<T> other);
+
+    void write(DataOutput output, KeyCodec<T> codec) throws IOException;
+
+    void read(DataInput input, KeyCodec<T> codec) throws IOException;
+
+    default Map<T, Integer> getErrors(Set<T> keys) {
+        return Map.of();
+    }
+}
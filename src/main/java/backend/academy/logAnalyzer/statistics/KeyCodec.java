@@ -0,0 +1,23 @@
+package backend.academy.logAnalyzer.statistics;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_STATISTICS_DATA_EXCEPTION_TEXT;
+
+public interface KeyCodec<T> {
+
+    void write(DataOutput output, T key) throws IOException;
+
+    T read(DataInput input) throws IOException;
+
+    static int readSize(DataInput input) throws IOException {
+        final int size = input.readInt();
+
+        if (size < 0) {
+            throw new IOException(INCORRECT_STATISTICS_DATA_EXCEPTION_TEXT);
+        }
+
+        return size;
+    }
+}
@@ -0,0 +1,141 @@
+package backend.academy.logAnalyzer.statistics;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import lombok.Getter;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_STATISTICS_DATA_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_POSITIVE_LATENCY_EXCEPTION_TEXT;
+
+public class LatencyHistogram implements PercentileAccumulator {
+
+    private static final int PRECISION_BITS = 6;
+    private static final int LINEAR_BUCKETS_COUNT = 1 << PRECISION_BITS;
+    private static final int SUB_BUCKETS_COUNT = LINEAR_BUCKETS_COUNT / 2;
+    private static final int MAX_VALUE_BITS = 40;
+    private static final long MAX_TRACKED_VALUE = (1L << MAX_VALUE_BITS) - 1;
+    private static final int MAX_BUCKETS_COUNT = getBucketIndex(MAX_TRACKED_VALUE) + 1;
+
+    private long[] bucketCounts = new long[LINEAR_BUCKETS_COUNT];
+    @Getter
+    private long count;
+    private long minValue = Long.MAX_VALUE;
+    @Getter
+    private long maxValue;
+
+    @Override
+    public void add(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(NOT_POSITIVE_LATENCY_EXCEPTION_TEXT);
+        }
+
+        final int index = getBucketIndex(Math.min(value, MAX_TRACKED_VALUE));
+
+        ensureCapacity(index);
+        bucketCounts[index]++;
+        count++;
+        minValue = Math.min(minValue, value);
+        maxValue = Math.max(maxValue, value);
+    }
+
+    @Override
+    public long getPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+
+        final long rank = PercentileAccumulator.getRankIndex(percentile, count);
+        long seen = 0;
+
+        for (int i = 0; i < bucketCounts.length; i++) {
+            seen += bucketCounts[i];
+
+            if (seen > rank) {
+                return i < MAX_BUCKETS_COUNT - 1
+                    ? Math.clamp(getBucketUpperBound(i), minValue, maxValue)
+                    : maxValue;
+            }
+        }
+
+        return maxValue;
+    }
+
+    @Override
+    public void merge(PercentileAccumulator other) {
+        if (!(other instanceof LatencyHistogram histogram)) {
+            throw new IllegalArgumentException(DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT);
+        }
+
+        ensureCapacity(histogram.bucketCounts.length - 1);
+
+        for (int i = 0; i < histogram.bucketCounts.length; i++) {
+            bucketCounts[i] += histogram.bucketCounts[i];
+        }
+
+        count += histogram.count;
+        minValue = Math.min(minValue, histogram.minValue);
+        maxValue = Math.max(maxValue, histogram.maxValue);
+    }
+
+    @Override
+    public void write(DataOutput output) throws IOException {
+        output.writeInt(bucketCounts.length);
+
+        for (long bucketCount : bucketCounts) {
+            output.writeLong(bucketCount);
+        }
+
+        output.writeLong(count);
+        output.writeLong(minValue);
+        output.writeLong(maxValue);
+    }
+
+    @Override
+    public void read(DataInput input) throws IOException {
+        final int bucketsCount = KeyCodec.readSize(input);
+
+        if (bucketsCount > MAX_BUCKETS_COUNT) {
+            throw new IOException(INCORRECT_STATISTICS_DATA_EXCEPTION_TEXT);
+        }
+
+        ensureCapacity(bucketsCount - 1);
+
+        for (int i = 0; i < bucketsCount; i++) {
+            bucketCounts[i] = input.readLong();
+        }
+
+        count = input.readLong();
+        minValue = input.readLong();
+        maxValue = input.readLong();
+    }
+
+    static int getBucketIndex(long value) {
+        if (value < LINEAR_BUCKETS_COUNT) {
+            return (int) value;
+        }
+
+        final int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - PRECISION_BITS;
+
+        return LINEAR_BUCKETS_COUNT + (shift - 1) * SUB_BUCKETS_COUNT + (int) (value >>> shift) - SUB_BUCKETS_COUNT;
+    }
+
+    static long getBucketUpperBound(int index) {
+        if (index < LINEAR_BUCKETS_COUNT) {
+            return index;
+        }
+
+        final int shift = (index - LINEAR_BUCKETS_COUNT) / SUB_BUCKETS_COUNT + 1;
+        final long mantissa = (index - LINEAR_BUCKETS_COUNT) % SUB_BUCKETS_COUNT + SUB_BUCKETS_COUNT;
+
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    private void ensureCapacity(int index) {
+        if (index >= bucketCounts.length) {
+            bucketCounts = Arrays.copyOf(bucketCounts,
+                Math.min(Math.max(index + 1, bucketCounts.length * 2), MAX_BUCKETS_COUNT));
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package backend.academy.logAnalyzer.statistics;
+
+import backend.academy.logAnalyzer.dto.BotStatistics;
+import backend.academy.logAnalyzer.dto.LatencyStatistics;
+import backend.academy.logAnalyzer.dto.LatencySummary;
+import backend.academy.logAnalyzer.dto.Log;
+import backend.academy.logAnalyzer.dto.Request;
+import backend.academy.logAnalyzer.dto.RequestStatistics;
+import backend.academy.logAnalyzer.dto.StatisticsSettings;
+import backend.academy.logAnalyzer.enums.HttpMethod;
+import backend.academy.logAnalyzer.enums.HttpStatus;
+import backend.academy.logAnalyzer.exception.StatisticsOverflowException;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMaps;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import static backend.academy.logAnalyzer.constants.ConstValues.NO_LATENCY;
+import static backend.academy.logAnalyzer.constants.ConstValues.NO_SIGNATURE;
+
+public class LogStatistics {
+
+    private static final double MEDIAN = 50;
+    private static final double P95 = 95;
+    private static final double P99 = 99;
+    private static final int LATENCY_RESOURCES_PER_TOP = 10;
+    private static final KeyCodec<String> STRING_CODEC = new StringKeyCodec();
+    private static final KeyCodec<HttpStatus> HTTP_STATUS_CODEC = new EnumKeyCodec<>(HttpStatus.class);
+    private static final KeyCodec<HttpMethod> HTTP_METHOD_CODEC = new EnumKeyCodec<>(HttpMethod.class);
+
+    private final FrequencyCounter<String> resources;
+    private final SpaceSavingFrequencyCounter<String> latencyResources;
+    private final FrequencyCounter<HttpStatus> httpStatuses;
+    private final FrequencyCounter<String> addresses;
+    private final FrequencyCounter<HttpMethod> methods;
+    private final PercentileAccumulator requestsBytes;
+    private final LatencyHistogram requestTimes = new LatencyHistogram();
+    private final LatencyHistogram upstreamResponseTimes = new LatencyHistogram();
+    private final Object2ObjectOpenHashMap<String, LatencyHistogram> resourceRequestTimes =
+        new Object2ObjectOpenHashMap<>();
+    private final BotSignatures botSignatures;
+    private final int[] botSignatureCounts;
+    private int humansCount;
+
+    @Getter
+    private int requestsCount;
+    @Getter
+    private long bytesCount;
+
+    public LogStatistics(StatisticsSettings settings) {
+        this.resources = createFrequencyCounter(settings);
+        this.latencyResources = resources instanceof SpaceSavingFrequencyCounter<String> counter
+            ? counter
+            : new SpaceSavingFrequencyCounter<>(settings.top() * LATENCY_RESOURCES_PER_TOP);
+        this.httpStatuses = new EnumFrequencyCounter<>(HttpStatus.class);
+        this.addresses = settings.heavyHitters() != null
+            ? new SpaceSavingFrequencyCounter<>(settings.heavyHitters())
+            : new AddressFrequencyCounter();
+        this.methods = new EnumFrequencyCounter<>(HttpMethod.class);
+        this.requestsBytes = settings.percentileError() != null
+            ? new SketchPercentileAccumulator(settings.percentileError())
+            : new ExactPercentileAccumulator();
+        this.botSignatures = settings.botSignatures();
+        this.botSignatureCounts = botSignatures != null ? new int[botSignatures.size()] : null;
+    }
+
+    public void add(Log log) {
+        final Request request = log.request();
+
+        add(log.remoteAddress(), request.httpMethod(), request.resource(), log.httpStatus(), log.bodyBytesSend());
+    }
+
+    public void add(CharSequence remoteAddress, HttpMethod httpMethod, String resource, HttpStatus httpStatus,
+        long bodyBytesSend) {
+        requestsBytes.add(bodyBytesSend);
+        requestsCount = addCount(requestsCount, 1);
+        bytesCount = addCount(bytesCount, bodyBytesSend);
+        addResource(resource);
+        httpStatuses.add(httpStatus);
+        addAddress(remoteAddress);
+        methods.add(httpMethod);
+    }
+
+    public void addLatency(String resource, long requestTime, long upstreamResponseTime) {
+        if (requestTime != NO_LATENCY) {
+            requestTimes.add(requestTime);
+
+            final LatencyHistogram resourceRequestTime = getResourceRequestTime(resource);
+
+            if (resourceRequestTime != null) {
+                resourceRequestTime.add(requestTime);
+            }
+        }
+
+        if (upstreamResponseTime != NO_LATENCY) {
+            upstreamResponseTimes.add(upstreamResponseTime);
+        }
+    }
+
+    public void addUserAgent(CharSequence userAgent) {
+        if (botSignatures == null) {
+            return;
+        }
+
+        final int signature = botSignatures.match(userAgent);
+
+        if (signature != NO_SIGNATURE) {
+            botSignatureCounts[signature]++;
+        } else {
+            humansCount++;
+        }
+    }
+
+    public void merge(LogStatistics other) {
+        requestsBytes.merge(other.requestsBytes);
+        requestsCount = addCount(requestsCount, other.requestsCount);
+        bytesCount = addCount(bytesCount, other.bytesCount);
+        resources.merge(other.resources);
+
+        if (latencyResources != resources) {
+            latencyResources.merge(other.latencyResources);
+        }
+
+        httpStatuses.merge(other.httpStatuses);
+        addresses.merge(other.addresses);
+        methods.merge(other.methods);
+        requestTimes.merge(other.requestTimes);
+        upstreamResponseTimes.merge(other.upstreamResponseTimes);
+
+        for (Object2ObjectMap.Entry<String, LatencyHistogram> entry
+            : Object2ObjectMaps.fastIterable(other.resourceRequestTimes)) {
+            if (isTracked(entry.getKey())) {
+                resourceRequestTimes.computeIfAbsent(entry.getKey(), key -> new LatencyHistogram())
+                    .merge(entry.getValue());
+            }
+        }
+
+        resourceRequestTimes.keySet().removeIf(resource -> !isTracked(resource));
+
+        if (botSignatureCounts != null && other.botSignatureCounts != null) {
+            for (int i = 0; i < botSignatureCounts.length; i++) {
+                botSignatureCounts[i] += other.botSignatureCounts[i];
+            }
+
+            humansCount += other.humansCount;
+        }
+    }
+
+    public void write(DataOutput output) throws IOException {
+        output.writeInt(requestsCount);
+        output.writeLong(bytesCount);
+        resources.write(output, STRING_CODEC);
+        httpStatuses.write(output, HTTP_STATUS_CODEC);
+        addresses.write(output, STRING_CODEC);
+        methods.write(output, HTTP_METHOD_CODEC);
+        requestsBytes.write(output);
+        requestTimes.write(output);
+        upstreamResponseTimes.write(output);
+
+        if (latencyResources != resources) {
+            latencyResources.write(output, STRING_CODEC);
+        }
+
+        output.writeInt(resourceRequestTimes.size());
+
+        for (Object2ObjectMap.Entry<String, LatencyHistogram> entry
+            : Object2ObjectMaps.fastIterable(resourceRequestTimes)) {
+            STRING_CODEC.write(output, entry.getKey());
+            entry.getValue().write(output);
+        }
+    }
+
+    public static LogStatistics read(DataInput input, StatisticsSettings settings) throws IOException {
+        final LogStatistics statistics = new LogStatistics(settings);
+
+        statistics.requestsCount = input.readInt();
+        statistics.bytesCount = input.readLong();
+        statistics.resources.read(input, STRING_CODEC);
+        statistics.httpStatuses.read(input, HTTP_STATUS_CODEC);
+        statistics.addresses.read(input, STRING_CODEC);
+        statistics.methods.read(input, HTTP_METHOD_CODEC);
+        statistics.requestsBytes.read(input);
+        statistics.requestTimes.read(input);
+        statistics.upstreamResponseTimes.read(input);
+
+        if (statistics.latencyResources != statistics.resources) {
+            statistics.latencyResources.read(input, STRING_CODEC);
+        }
+
+        final int resourcesCount = KeyCodec.readSize(input);
+
+        for (int i = 0; i < resourcesCount; i++) {
+            final String resource = STRING_CODEC.read(input);
+            final LatencyHistogram histogram = new LatencyHistogram();
+
+            histogram.read(input);
+            statistics.resourceRequestTimes.put(resource, histogram);
+        }
+
+        return statistics;
+    }
+
+    public RequestStatistics getRequestStatistics(int top) {
+        final Map<String, Integer> sortedLimitedResources = resources.getTop(top);
+        final Map<String, Integer> sortedLimitedAddresses = addresses.getTop(top);
+
+        return new RequestStatistics(
+            sortedLimitedResources, httpStatuses.getTop(top), sortedLimitedAddresses, methods.getTop(top),
+            resources.getErrors(sortedLimitedResources.keySet()), addresses.getErrors(sortedLimitedAddresses.keySet())
+        );
+    }
+
+    public LatencyStatistics getLatencyStatistics(int top) {
+        if (requestTimes.count() == 0 && upstreamResponseTimes.count() == 0) {
+            return null;
+        }
+
+        final Map<String, LatencySummary> resourceLatencies = new LinkedHashMap<>();
+
+        for (String resource : resources.getTop(top).keySet()) {
+            final LatencyHistogram resourceRequestTime = resourceRequestTimes.get(resource);
+
+            if (resourceRequestTime != null) {
+                resourceLatencies.put(resource, getLatencySummary(resourceRequestTime));
+            }
+        }
+
+        return new LatencyStatistics(
+            getLatencySummary(requestTimes), getLatencySummary(upstreamResponseTimes), resourceLatencies
+        );
+    }
+
+    public BotStatistics getBotStatistics(int top) {
+        if (botSignatures == null) {
+            return null;
+        }
+
+        final Object2IntOpenHashMap<String> signatures = new Object2IntOpenHashMap<>();
+        int botsCount = 0;
+
+        for (int i = 0; i < botSignatureCounts.length; i++) {
+            if (botSignatureCounts[i] > 0) {
+                signatures.put(botSignatures.signature(i), botSignatureCounts[i]);
+                botsCount += botSignatureCounts[i];
+            }
+        }
+
+        return new BotStatistics(botsCount, humansCount, TopKSelector.select(signatures, top));
+    }
+
+    public Map<Double, Long> getPercentiles(List<Double> percentiles) {
+        return requestsBytes.getPercentiles(percentiles);
+    }
+
+    public BigDecimal getResponseAverageSize() {
+        if (requestsCount == 0) {
+            return BigDecimal.ZERO;
+        }
+
+        final int scale = 2;
+
+        return BigDecimal.valueOf(bytesCount)
+            .divide(BigDecimal.valueOf(requestsCount), scale, RoundingMode.HALF_UP);
+    }
+
+    private void addAddress(CharSequence remoteAddress) {
+        if (addresses instanceof AddressFrequencyCounter counter) {
+            counter.add(remoteAddress);
+        } else {
+            addresses.add(remoteAddress.toString());
+        }
+    }
+
+    private void addResource(String resource) {
+        if (latencyResources == resources) {
+            addLatencyResource(resource);
+        } else {
+            resources.add(resource);
+        }
+    }
+
+    private void addLatencyResource(String resource) {
+        final String evicted = latencyResources.addAndGetEvicted(resource);
+
+        if (evicted != null) {
+            resourceRequestTimes.remove(evicted);
+        }
+    }
+
+    private boolean isTracked(String resource) {
+        return latencyResources.contains(resource);
+    }
+
+    private LatencyHistogram getResourceRequestTime(String resource) {
+        if (latencyResources != resources) {
+            addLatencyResource(resource);
+        }
+
+        return isTracked(resource)
+            ? resourceRequestTimes.computeIfAbsent(resource, key -> new LatencyHistogram())
+            : null;
+    }
+
+    private static int addCount(int count, int value) {
+        try {
+            return Math.addExact(count, value);
+        } catch (ArithmeticException ex) {
+            throw new StatisticsOverflowException(ex);
+        }
+    }
+
+    private static long addCount(long count, long value) {
+        try {
+            return Math.addExact(count, value);
+        } catch (ArithmeticException ex) {
+            throw new StatisticsOverflowException(ex);
+        }
+    }
+
+    private static LatencySummary getLatencySummary(LatencyHistogram histogram) {
+        if (histogram.count() == 0) {
+            return null;
+        }
+
+        return new LatencySummary(
+            histogram.getPercentile(MEDIAN), histogram.getPercentile(P95), histogram.getPercentile(P99),
+            histogram.maxValue()
+        );
+    }
+
+    private static FrequencyCounter<String> createFrequencyCounter(StatisticsSettings settings) {
+        return settings.heavyHitters() != null
+            ? new SpaceSavingFrequencyCounter<>(settings.heavyHitters())
+            : new ExactFrequencyCounter<>();
+    }
+}
@@ -0,0 +1,37 @@
+package backend.academy.logAnalyzer.statistics;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public interface PercentileAccumulator {
+
+    void add(long value);
+
+    long getPercentile(double percentile);
+
+    void merge(PercentileAccumulator other);
+
+    void write(DataOutput output) throws IOException;
+
+    void read(DataInput input) throws IOException;
+
+    default Map<Double, Long> getPercentiles(List<Double> percentiles) {
+        final Map<Double, Long> result = new LinkedHashMap<>();
+
+        for (Double percentile : percentiles) {
+            result.put(percentile, getPercentile(percentile));
+        }
+
+        return result;
+    }
+
+    static long getRankIndex(double percentile, long count) {
+        final double maxPercentile = 100;
+
+        return (long) Math.max(Math.ceil(percentile / maxPercentile * count) - 1, 0);
+    }
+}
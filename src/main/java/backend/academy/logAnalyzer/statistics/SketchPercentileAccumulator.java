@@ -0,0 +1,155 @@
+package backend.academy.logAnalyzer.statistics;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import static backend.academy.logAnalyzer.constants.ConstValues.MIN_PERCENTILE_ERROR;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.DIFFERENT_PERCENTILE_ERRORS_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_PERCENTILE_ERROR_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_STATISTICS_DATA_EXCEPTION_TEXT;
+
+public class SketchPercentileAccumulator implements PercentileAccumulator {
+
+    private static final int INITIAL_BUCKETS_COUNT = 64;
+
+    private final double relativeError;
+    private final double gamma;
+    private final double logGamma;
+    private final int maxBucketIndex;
+
+    private long[] bucketCounts = new long[INITIAL_BUCKETS_COUNT];
+    private long zeroCount;
+    private long count;
+    private long minValue = Long.MAX_VALUE;
+    private long maxValue;
+
+    public SketchPercentileAccumulator(double relativeError) {
+        if (!(relativeError >= MIN_PERCENTILE_ERROR && relativeError < 1)) {
+            throw new IllegalArgumentException(INCORRECT_PERCENTILE_ERROR_EXCEPTION_TEXT);
+        }
+
+        this.relativeError = relativeError;
+        this.gamma = (1 + relativeError) / (1 - relativeError);
+        this.logGamma = Math.log(gamma);
+        this.maxBucketIndex = (int) Math.ceil(Math.log(Long.MAX_VALUE) / logGamma);
+    }
+
+    @Override
+    public void add(long value) {
+        if (value == 0) {
+            zeroCount++;
+        } else {
+            final int index = getBucketIndex(value);
+
+            ensureCapacity(index);
+            bucketCounts[index]++;
+        }
+
+        count++;
+        minValue = Math.min(minValue, value);
+        maxValue = Math.max(maxValue, value);
+    }
+
+    @Override
+    public long getPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+
+        final long rank = PercentileAccumulator.getRankIndex(percentile, count);
+
+        if (rank < zeroCount) {
+            return 0;
+        }
+
+        long seen = zeroCount;
+
+        for (int i = 0; i < bucketCounts.length; i++) {
+            seen += bucketCounts[i];
+
+            if (seen > rank) {
+                return Math.clamp(Math.round(getBucketValue(i)), minValue, maxValue);
+            }
+        }
+
+        return maxValue;
+    }
+
+    @Override
+    public void merge(PercentileAccumulator other) {
+        if (!(other instanceof SketchPercentileAccumulator sketch)) {
+            throw new IllegalArgumentException(DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT);
+        }
+
+        if (Double.compare(relativeError, sketch.relativeError) != 0) {
+            throw new IllegalArgumentException(DIFFERENT_PERCENTILE_ERRORS_EXCEPTION_TEXT);
+        }
+
+        ensureCapacity(sketch.bucketCounts.length - 1);
+
+        for (int i = 0; i < sketch.bucketCounts.length; i++) {
+            bucketCounts[i] += sketch.bucketCounts[i];
+        }
+
+        zeroCount += sketch.zeroCount;
+        count += sketch.count;
+        minValue = Math.min(minValue, sketch.minValue);
+        maxValue = Math.max(maxValue, sketch.maxValue);
+    }
+
+    @Override
+    public void write(DataOutput output) throws IOException {
+        output.writeDouble(relativeError);
+        output.writeInt(bucketCounts.length);
+
+        for (long bucketCount : bucketCounts) {
+            output.writeLong(bucketCount);
+        }
+
+        output.writeLong(zeroCount);
+        output.writeLong(count);
+        output.writeLong(minValue);
+        output.writeLong(maxValue);
+    }
+
+    @Override
+    public void read(DataInput input) throws IOException {
+        if (Double.compare(input.readDouble(), relativeError) != 0) {
+            throw new IOException(INCORRECT_STATISTICS_DATA_EXCEPTION_TEXT);
+        }
+
+        final int bucketsCount = KeyCodec.readSize(input);
+
+        if (bucketsCount > maxBucketIndex + 1) {
+            throw new IOException(INCORRECT_STATISTICS_DATA_EXCEPTION_TEXT);
+        }
+
+        ensureCapacity(bucketsCount - 1);
+
+        for (int i = 0; i < bucketsCount; i++) {
+            bucketCounts[i] = input.readLong();
+        }
+
+        zeroCount = input.readLong();
+        count = input.readLong();
+        minValue = input.readLong();
+        maxValue = input.readLong();
+    }
+
+    private int getBucketIndex(long value) {
+        return (int) Math.min(Math.ceil(Math.log(value) / logGamma), maxBucketIndex);
+    }
+
+    private double getBucketValue(int index) {
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+
+    private void ensureCapacity(int index) {
+        if (index >= bucketCounts.length) {
+            bucketCounts = Arrays.copyOf(bucketCounts,
+                Math.min(Math.max(index + 1, bucketCounts.length * 2), maxBucketIndex + 1));
+        }
+    }
+}
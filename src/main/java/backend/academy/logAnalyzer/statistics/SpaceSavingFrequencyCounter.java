@@ -0,0 +1,301 @@
+package backend.academy.logAnalyzer.statistics;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_HEAVY_HITTERS_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_STATISTICS_DATA_EXCEPTION_TEXT;
+
+public class SpaceSavingFrequencyCounter<T extends Comparable<? super T>> implements FrequencyCounter<T> {
+
+    private final int capacity;
+    private final Map<T, Counter<T>> counters;
+
+    private Bucket<T> minBucket;
+
+    public SpaceSavingFrequencyCounter(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(INCORRECT_HEAVY_HITTERS_EXCEPTION_TEXT);
+        }
+
+        final double loadRatio = 0.75;
+
+        this.capacity = capacity;
+        this.counters = new HashMap<>((int) (capacity / loadRatio) + 1);
+    }
+
+    @Override
+    public void add(T key) {
+        addAndGetEvicted(key);
+    }
+
+    public T addAndGetEvicted(T key) {
+        final Counter<T> counter = counters.get(key);
+
+        if (counter != null) {
+            increment(counter);
+        } else if (counters.size() < capacity) {
+            addCounter(key);
+        } else {
+            return replaceMinCounter(key);
+        }
+
+        return null;
+    }
+
+    public boolean contains(T key) {
+        return counters.containsKey(key);
+    }
+
+    @Override
+    public Map<T, Integer> getTop(int limit) {
+        final Object2IntMap<T> counts = new Object2IntOpenHashMap<>(counters.size());
+
+        counters.forEach((key, counter) -> counts.put(key, counter.bucket.count));
+
+        return TopKSelector.select(counts, limit);
+    }
+
+    @Override
+    public Map<T, Integer> getErrors(Set<T> keys) {
+        final Map<T, Integer> errors = new LinkedHashMap<>();
+
+        for (T key : keys) {
+            final Counter<T> counter = counters.get(key);
+
+            errors.put(key, counter != null ? counter.error : 0);
+        }
+
+        return errors;
+    }
+
+    @Override
+    public void merge(FrequencyCounter<T> other) {
+        if (!(other instanceof SpaceSavingFrequencyCounter<T> counter) || capacity != counter.capacity) {
+            throw new IllegalArgumentException(DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT);
+        }
+
+        final int minCount = getMinCount();
+        final int otherMinCount = counter.getMinCount();
+        final int size = counters.size() + counter.counters.size();
+        final Object2IntMap<T> counts = new Object2IntOpenHashMap<>(size);
+        final Object2IntMap<T> errors = new Object2IntOpenHashMap<>(size);
+
+        counters.forEach((key, value) -> {
+            final Counter<T> otherValue = counter.counters.get(key);
+
+            counts.put(key, value.bucket.count + (otherValue != null ? otherValue.bucket.count : otherMinCount));
+            errors.put(key, value.error + (otherValue != null ? otherValue.error : otherMinCount));
+        });
+        counter.counters.forEach((key, value) -> {
+            if (!counters.containsKey(key)) {
+                counts.put(key, value.bucket.count + minCount);
+                errors.put(key, value.error + minCount);
+            }
+        });
+
+        rebuild(TopKSelector.select(counts, capacity), errors);
+    }
+
+    @Override
+    public void write(DataOutput output, KeyCodec<T> codec) throws IOException {
+        output.writeInt(capacity);
+        output.writeInt(counters.size());
+
+        for (Counter<T> counter : counters.values()) {
+            codec.write(output, counter.key);
+            output.writeInt(counter.bucket.count);
+            output.writeInt(counter.error);
+        }
+    }
+
+    @Override
+    public void read(DataInput input, KeyCodec<T> codec) throws IOException {
+        if (input.readInt() != capacity) {
+            throw new IOException(INCORRECT_STATISTICS_DATA_EXCEPTION_TEXT);
+        }
+
+        final int size = KeyCodec.readSize(input);
+
+        if (size > capacity) {
+            throw new IOException(INCORRECT_STATISTICS_DATA_EXCEPTION_TEXT);
+        }
+
+        final Object2IntMap<T> counts = new Object2IntOpenHashMap<>(size);
+        final Object2IntMap<T> errors = new Object2IntOpenHashMap<>(size);
+
+        for (int i = 0; i < size; i++) {
+            final T key = codec.read(input);
+
+            counts.put(key, input.readInt());
+            errors.put(key, input.readInt());
+        }
+
+        rebuild(TopKSelector.select(counts, capacity), errors);
+    }
+
+    private int getMinCount() {
+        return counters.size() < capacity ? 0 : minBucket.count;
+    }
+
+    private void rebuild(Map<T, Integer> counts, Object2IntMap<T> errors) {
+        final List<Map.Entry<T, Integer>> entries = new ArrayList<>(counts.entrySet());
+        Bucket<T> bucket = null;
+
+        counters.clear();
+        minBucket = null;
+
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            final T key = entries.get(i).getKey();
+            final int count = entries.get(i).getValue();
+
+            if (bucket == null || bucket.count != count) {
+                final Bucket<T> next = new Bucket<>(count);
+
+                next.previous = bucket;
+
+                if (bucket != null) {
+                    bucket.next = next;
+                } else {
+                    minBucket = next;
+                }
+
+                bucket = next;
+            }
+
+            final Counter<T> counter = new Counter<>(key, errors.getInt(key));
+
+            bucket.attach(counter);
+            counters.put(key, counter);
+        }
+    }
+
+    private void addCounter(T key) {
+        final Counter<T> counter = new Counter<>(key, 0);
+
+        if (minBucket == null || minBucket.count != 1) {
+            final Bucket<T> bucket = new Bucket<>(1);
+
+            bucket.next = minBucket;
+
+            if (minBucket != null) {
+                minBucket.previous = bucket;
+            }
+
+            minBucket = bucket;
+        }
+
+        minBucket.attach(counter);
+        counters.put(key, counter);
+    }
+
+    private T replaceMinCounter(T key) {
+        final Counter<T> counter = minBucket.head;
+        final T evicted = counter.key;
+
+        counters.remove(evicted);
+        counter.key = key;
+        counter.error = minBucket.count;
+        counters.put(key, counter);
+        increment(counter);
+
+        return evicted;
+    }
+
+    private void increment(Counter<T> counter) {
+        final Bucket<T> bucket = counter.bucket;
+        final int count = bucket.count + 1;
+        Bucket<T> target = bucket.next;
+
+        if (target == null || target.count != count) {
+            target = new Bucket<>(count);
+            target.previous = bucket;
+            target.next = bucket.next;
+
+            if (bucket.next != null) {
+                bucket.next.previous = target;
+            }
+
+            bucket.next = target;
+        }
+
+        bucket.detach(counter);
+        target.attach(counter);
+
+        if (bucket.head == null) {
+            removeBucket(bucket);
+        }
+    }
+
+    private void removeBucket(Bucket<T> bucket) {
+        if (bucket.previous != null) {
+            bucket.previous.next = bucket.next;
+        } else {
+            minBucket = bucket.next;
+        }
+
+        if (bucket.next != null) {
+            bucket.next.previous = bucket.previous;
+        }
+    }
+
+    private static final class Counter<T> {
+
+        private T key;
+        private int error;
+        private Bucket<T> bucket;
+        private Counter<T> previous;
+        private Counter<T> next;
+
+        private Counter(T key, int error) {
+            this.key = key;
+            this.error = error;
+        }
+    }
+
+    private static final class Bucket<T> {
+
+        private final int count;
+
+        private Counter<T> head;
+        private Bucket<T> previous;
+        private Bucket<T> next;
+
+        private Bucket(int count) {
+            this.count = count;
+        }
+
+        private void attach(Counter<T> counter) {
+            counter.bucket = this;
+            counter.previous = null;
+            counter.next = head;
+
+            if (head != null) {
+                head.previous = counter;
+            }
+
+            head = counter;
+        }
+
+        private void detach(Counter<T> counter) {
+            if (counter.previous != null) {
+                counter.previous.next = counter.next;
+            } else {
+                head = counter.next;
+            }
+
+            if (counter.next != null) {
+                counter.next.previous = counter.previous;
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package backend.academy.logAnalyzer.statistics;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class StringKeyCodec implements KeyCodec<String> {
+
+    @Override
+    public void write(DataOutput output, String key) throws IOException {
+        final byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    @Override
+    public String read(DataInput input) throws IOException {
+        final byte[] bytes = new byte[KeyCodec.readSize(input)];
+
+        input.readFully(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,60 @@
+package backend.academy.logAnalyzer.statistics;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMaps;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class TopKSelector {
+
+    public static <T extends Comparable<? super T>> Map<T, Integer> select(Object2IntMap<T> counts, int limit) {
+        final Comparator<Candidate<T>> order = getOrder();
+        final PriorityQueue<Candidate<T>> heap = new PriorityQueue<>(
+            Math.max(Math.min(limit, counts.size()), 1), order.reversed()
+        );
+
+        for (Object2IntMap.Entry<T> entry : Object2IntMaps.fastIterable(counts)) {
+            if (heap.size() < limit) {
+                heap.add(new Candidate<>(entry.getKey(), entry.getIntValue()));
+            } else if (limit > 0 && isBefore(entry.getKey(), entry.getIntValue(), heap.peek())) {
+                heap.poll();
+                heap.add(new Candidate<>(entry.getKey(), entry.getIntValue()));
+            }
+        }
+
+        final List<Candidate<T>> candidates = new ArrayList<>(heap.size());
+
+        while (!heap.isEmpty()) {
+            candidates.add(heap.poll());
+        }
+
+        Collections.reverse(candidates);
+
+        final Map<T, Integer> result = new LinkedHashMap<>();
+
+        for (Candidate<T> candidate : candidates) {
+            result.put(candidate.key(), candidate.count());
+        }
+
+        return result;
+    }
+
+    private static <T extends Comparable<? super T>> boolean isBefore(T key, int count, Candidate<T> candidate) {
+        return count > candidate.count() || (count == candidate.count() && key.compareTo(candidate.key()) < 0);
+    }
+
+    private static <T extends Comparable<? super T>> Comparator<Candidate<T>> getOrder() {
+        return Comparator.<Candidate<T>>comparingInt(Candidate::count).reversed()
+            .thenComparing(Candidate::key);
+    }
+
+    private record Candidate<T>(T key, int count) {
+    }
+}
@@ -4,7 +4,6 @@ import backend.academy.logAnalyzer.enums.HttpMethod;
 import backend.academy.logAnalyzer.enums.HttpProtocol;
 import backend.academy.logAnalyzer.enums.HttpStatus;
 import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -12,6 +11,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 public class CommonTest {
@@ -20,6 +20,7 @@ public class CommonTest {
 
     protected static final int DEFAULT_DAYS_COUNT = 1;
     protected static final String DEFAULT_VALUE = "-";
+    protected static final double DEFAULT_PERCENTILE = 95;
 
     protected static int getRandomNumber(int minValue, int maxValue) {
         return SECURE_RANDOM.nextInt(minValue, maxValue + 1);
@@ -32,18 +33,13 @@ public class CommonTest {
         return getRandomNumber(minValue, maxValue);
     }
 
-    protected static BigInteger[] getNotPositiveBigNumbers() {
-        final int minValue = -100;
-        final int maxValue = 0;
-
-        return getBigNumbers(minValue, maxValue);
-    }
+    protected static long[] getNotPositiveLongNumbers() {
+        final long minValue = -100;
+        final long maxValue = 0;
 
-    protected static BigInteger[] getBigNumbers(int minValue, int maxValue) {
-        return IntStream
+        return LongStream
             .range(minValue, maxValue)
-            .mapToObj(BigInteger::valueOf)
-            .toArray(BigInteger[]::new);
+            .toArray();
     }
 
     protected static int[] getNotPositiveNumbers() {
@@ -0,0 +1,115 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import backend.academy.logAnalyzer.CommonTest;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import static backend.academy.logAnalyzer.constants.ConstValues.NO_ADDRESS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AddressDecoderTest extends CommonTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+        "0.0.0.0;0",
+        "93.180.71.3;1572095747",
+        "255.255.255.255;4294967295",
+        "010.0.0.1;167772161"
+    })
+    public void decodeIpv4_ShouldReturnPackedAddress(String address, long expected) {
+        assertEquals(expected, AddressDecoder.decodeIpv4(address, 0, address.length()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "", "1.2.3", "1.2.3.4.5", "256.0.0.1", "1.2.3.", ".1.2.3", "1..2.3", "1.2.3.4a", "0001.2.3.4"
+    })
+    public void decodeIncorrectIpv4_ShouldReturnNoAddress(String address) {
+        assertEquals(NO_ADDRESS, AddressDecoder.decodeIpv4(address, 0, address.length()));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+        "::;0;0",
+        "::1;0;1",
+        "2001:db8::;20010db800000000;0",
+        "2001:DB8:0:0:8:800:200C:417A;20010db800000000;00080800200c417a",
+        "fe80::1:2;fe80000000000000;0000000000010002",
+        "::ffff:93.180.71.3;0;0000ffff5db44703",
+        "1:2:3:4:5:6:7:8;0001000200030004;0005000600070008"
+    })
+    public void decodeIpv6_ShouldReturnPackedAddress(String address, String high, String low) {
+        final long[] result = new long[2];
+
+        assertTrue(AddressDecoder.decodeIpv6(address, 0, address.length(), result));
+        assertEquals(Long.parseUnsignedLong(high, 16), result[0]);
+        assertEquals(Long.parseUnsignedLong(low, 16), result[1]);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "", ":", ":1", "1:", "1::2::3", "1:2:3:4:5:6:7", "1:2:3:4:5:6:7:8:9", "1::2:3:4:5:6:7:8", "12345::",
+        "g::", "::1.2.3", "1:2:3:4:5:6:7:1.2.3.4", "93.180.71.3", "\u0661::", "::\uff41", "2001:db8::\u0968"
+    })
+    public void decodeIncorrectIpv6_ShouldReturnFalse(String address) {
+        assertFalse(AddressDecoder.decodeIpv6(address, 0, address.length(), new long[2]));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+        "0.0.0.0;true",
+        "93.180.71.3;true",
+        "255.255.255.255;true",
+        "010.0.0.1;false",
+        "10.0.0.01;false",
+        "00.0.0.0;false"
+    })
+    public void isCanonicalIpv4_ShouldCompareWithEncodedAddress(String address, boolean expected) {
+        assertEquals(expected, AddressDecoder.isCanonicalIpv4(address, AddressDecoder.decodeIpv4(address, 0,
+            address.length())));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+        "::;true",
+        "2001:db8::1;true",
+        "::ffff:93.180.71.3;true",
+        "2001:DB8::1;false",
+        "2001:db8:0:0:0:0:0:1;false",
+        "::ffff:5db4:4703;false",
+        "::93.180.71.3;false"
+    })
+    public void isCanonicalIpv6_ShouldCompareWithEncodedAddress(String address, boolean expected) {
+        final long[] result = new long[2];
+
+        assertTrue(AddressDecoder.decodeIpv6(address, 0, address.length(), result));
+        assertEquals(expected, AddressDecoder.isCanonicalIpv6(address, result[0], result[1]));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0.0.0.0", "93.180.71.3", "255.255.255.255"})
+    public void encodeIpv4_ShouldReturnDecodedAddress(String address) {
+        assertEquals(address, AddressDecoder.encodeIpv4(AddressDecoder.decodeIpv4(address, 0, address.length())));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+        "::;::",
+        "::1;::1",
+        "1::;1::",
+        "2001:DB8:0:0:8:800:200C:417A;2001:db8::8:800:200c:417a",
+        "2001:db8:0:1:1:1:1:1;2001:db8:0:1:1:1:1:1",
+        "2001:0:0:1:0:0:0:1;2001:0:0:1::1",
+        "1:0:0:2:0:0:3:4;1::2:0:0:3:4",
+        "::ffff:93.180.71.3;::ffff:93.180.71.3",
+        "::FFFF:5db4:4703;::ffff:93.180.71.3"
+    })
+    public void encodeIpv6_ShouldReturnCanonicalAddress(String address, String expected) {
+        final long[] result = new long[2];
+
+        assertTrue(AddressDecoder.decodeIpv6(address, 0, address.length(), result));
+        assertEquals(expected, AddressDecoder.encodeIpv6(result[0], result[1]));
+    }
+}
@@ -0,0 +1,52 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import backend.academy.logAnalyzer.CommonTest;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ByteCharSequenceTest extends CommonTest {
+
+    private static final String TEXT = "93.180.71.3 - - [17/May/2015:08:05:32 +0000]";
+
+    @Test
+    public void createSequenceWithOffset_ShouldReturnSameCharsAsString() {
+        final int offset = 3;
+        final ByteBuffer buffer = ByteBuffer.wrap(("abc" + TEXT).getBytes(StandardCharsets.US_ASCII));
+        final ByteCharSequence sequence = new ByteCharSequence(buffer, offset, TEXT.length());
+
+        assertEquals(TEXT.length(), sequence.length());
+        assertEquals(TEXT, sequence.toString());
+
+        for (int i = 0; i < TEXT.length(); i++) {
+            assertEquals(TEXT.charAt(i), sequence.charAt(i));
+        }
+    }
+
+    @Test
+    public void getSubSequence_ShouldReturnSameSubSequenceAsString() {
+        final ByteBuffer buffer = ByteBuffer.wrap(TEXT.getBytes(StandardCharsets.US_ASCII));
+        final ByteCharSequence sequence = new ByteCharSequence(buffer, 0, TEXT.length());
+
+        for (int start = 0; start <= TEXT.length(); start++) {
+            for (int end = start; end <= TEXT.length(); end++) {
+                assertEquals(TEXT.substring(start, end), sequence.subSequence(start, end).toString());
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 44, 100})
+    public void getCharWithIncorrectIndex_ShouldThrowIndexOutOfBoundsException(int index) {
+        final ByteBuffer buffer = ByteBuffer.wrap(TEXT.getBytes(StandardCharsets.US_ASCII));
+        final ByteCharSequence sequence = new ByteCharSequence(buffer, 0, TEXT.length());
+
+        assertThatThrownBy(() -> {
+            sequence.charAt(index);
+        }).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
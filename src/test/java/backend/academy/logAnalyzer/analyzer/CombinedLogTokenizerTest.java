@@ -0,0 +1,88 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import backend.academy.logAnalyzer.CommonTest;
+import backend.academy.logAnalyzer.enums.LogField;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CombinedLogTokenizerTest extends CommonTest {
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForTokenizeCorrectLog")
+    public void tokenizeCorrectLog_ShouldExtractFields(String log, Map<LogField, String> fields) {
+        final CombinedLogTokenizer tokenizer = new CombinedLogTokenizer();
+
+        assertTrue(tokenizer.tokenize(log));
+        fields.forEach((field, value) -> assertEquals(value, tokenizer.text(field)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForTokenizeIncorrectLog")
+    public void tokenizeIncorrectLog_ShouldReturnFalse(String log) {
+        assertFalse(new CombinedLogTokenizer().tokenize(log));
+    }
+
+    private static List<Object[]> getArgumentsForTokenizeCorrectLog() {
+        final List<Object[]> result = new ArrayList<>();
+
+        result.add(new Object[] {
+            "93.180.71.3 - - [17/May/2015:08:05:32 +0000] \"GET /downloads/product_1 HTTP/1.1\" 304 0 \"-\" \"Debian APT-HTTP/1.3 (0.8.16~exp12ubuntu10.21)\"",
+            Map.of(
+                LogField.REMOTE_ADDRESS, "93.180.71.3",
+                LogField.REMOTE_USER, "-",
+                LogField.TIME_LOCAL, "17/May/2015:08:05:32 +0000",
+                LogField.REQUEST, "GET /downloads/product_1 HTTP/1.1",
+                LogField.HTTP_METHOD, "GET",
+                LogField.RESOURCE, "/downloads/product_1",
+                LogField.HTTP_PROTOCOL, "HTTP/1.1",
+                LogField.HTTP_STATUS, "304",
+                LogField.BODY_BYTES_SEND, "0",
+                LogField.HTTP_REFERER, "-"
+            )
+        });
+
+        result.add(new Object[] {
+            "217.168.17.5 - artem [17/May/2015:08:05:09 +0000] \"GET /downloads/product_2 HTTP/1.1\" 200 490 \"\" \"a\" \"b\"",
+            Map.of(
+                LogField.REMOTE_USER, "artem",
+                LogField.BODY_BYTES_SEND, "490",
+                LogField.HTTP_REFERER, "",
+                LogField.HTTP_USER_AGENT, "a\" \"b"
+            )
+        });
+
+        result.add(new Object[] {
+            "217.168.17.5 - - [17/May]/2015] \"HEAD /downloads/product_2 HTTP/1.1\" 200 490 \"-\" \"\"",
+            Map.of(
+                LogField.TIME_LOCAL, "17/May]/2015",
+                LogField.HTTP_METHOD, "HEAD",
+                LogField.HTTP_USER_AGENT, ""
+            )
+        });
+
+        return result;
+    }
+
+    private static String[] getArgumentsForTokenizeIncorrectLog() {
+        return new String[] {
+            "",
+            "93.180.71.3",
+            " 93.180.71.3 - - [17/May/2015:08:05:32 +0000] \"GET /downloads/product_1 HTTP/1.1\" 304 0 \"-\" \"-\"",
+            "93.180.71.3\t- - [17/May/2015:08:05:32 +0000] \"GET /downloads/product_1 HTTP/1.1\" 304 0 \"-\" \"-\"",
+            "93.180.71.3 - - [] \"GET /downloads/product_1 HTTP/1.1\" 304 0 \"-\" \"-\"",
+            "93.180.71.3 - - [17/May/2015:08:05:32 +0000] \"GET  /downloads/product_1 HTTP/1.1\" 304 0 \"-\" \"-\"",
+            "93.180.71.3 - - [17/May/2015:08:05:32 +0000] \"GET /downloads/product_1 \" 304 0 \"-\" \"-\"",
+            "93.180.71.3 - - [17/May/2015:08:05:32 +0000] \"GET /downloads/product_1 HTTP/1.1\" 304 -1 \"-\" \"-\"",
+            "93.180.71.3 - - [17/May/2015:08:05:32 +0000] \"GET /downloads/product_1 HTTP/1.1\" 304 0 \"-\"",
+            "93.180.71.3 - - [17/May/2015:08:05:32 +0000] \"GET /downloads/product_1 HTTP/1.1\" 304 0 \"-\" \"",
+            "93.180.71.3 - - [17/May/2015:08:05:32 +0000] \"GET /downloads/product_1 HTTP/1.1\" 304 0 \"-\" \"-",
+            "93.180.71.3 - - [17/May/2015:08:05:32 +0000] \"GET /downloads/product_1 HTTP/1.1\" 304 0 \"\n\" \"-\""
+        };
+    }
+}
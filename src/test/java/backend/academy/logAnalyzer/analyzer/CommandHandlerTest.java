@@ -1,9 +1,15 @@
 package backend.academy.logAnalyzer.analyzer;
 
+import backend.academy.logAnalyzer.CommonTest;
+import backend.academy.logAnalyzer.dto.BotStatistics;
 import backend.academy.logAnalyzer.dto.Command;
 import backend.academy.logAnalyzer.dto.GeneralInformation;
+import backend.academy.logAnalyzer.dto.LatencyStatistics;
+import backend.academy.logAnalyzer.dto.LatencySummary;
 import backend.academy.logAnalyzer.dto.ProcessingResponse;
+import backend.academy.logAnalyzer.dto.ProcessingSettings;
 import backend.academy.logAnalyzer.dto.RequestStatistics;
+import backend.academy.logAnalyzer.dto.StatisticsSettings;
 import backend.academy.logAnalyzer.enums.FilterField;
 import backend.academy.logAnalyzer.enums.HttpMethod;
 import backend.academy.logAnalyzer.enums.HttpStatus;
@@ -11,17 +17,28 @@ import backend.academy.logAnalyzer.exception.ExitFromCurrentDirectoryException;
 import backend.academy.logAnalyzer.exception.FileDataReadException;
 import backend.academy.logAnalyzer.exception.LogFilesNotFoundException;
 import backend.academy.logAnalyzer.exception.UrlDataReadException;
+import backend.academy.logAnalyzer.filter.FilterExpressionParser;
+import backend.academy.logAnalyzer.statistics.BotSignatures;
+import java.io.IOException;
 import java.math.BigDecimal;
-import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 import static backend.academy.logAnalyzer.constants.ConstValues.BASE_PATH;
 import static backend.academy.logAnalyzer.constants.ConstValues.RESOURCES_PATH;
+import static backend.academy.logAnalyzer.constants.ConstValues.STATISTICS_LIMIT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.EXIT_FROM_CURRENT_DIRECTORY_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.FILE_DATA_READ_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.LOG_FILES_NOT_FOUND_EXCEPTION_TEXT;
@@ -29,8 +46,20 @@ import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_COM
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.URL_DATA_NOT_READ_EXCEPTION_TEXT;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
-public class CommandHandlerTest {
+public class CommandHandlerTest extends CommonTest {
+
+    private static final StatisticsSettings ROLLUP_STATISTICS_SETTINGS = StatisticsSettings.builder()
+        .percentileError(0.01)
+        .heavyHitters(100)
+        .build();
+    private static final List<String> DAY_BOUNDARY_LOGS = List.of(
+        "93.180.71.3 - - [17/Jun/2015:23:59:59 +0000] \"GET /downloads/product_1 HTTP/1.1\" 200 10 \"-\" \"agent\"",
+        "93.180.71.3 - - [18/Jun/2015:00:00:00 +0000] \"GET /downloads/product_2 HTTP/1.1\" 404 20 \"-\" \"agent\"",
+        "93.180.71.3 - - [18/Jun/2015:00:00:01 +0000] \"GET /downloads/product_3 HTTP/1.1\" 304 30 \"-\" \"agent\""
+    );
 
     private final CommandHandler commandHandler = new CommandHandler();
 
@@ -47,10 +76,7 @@ public class CommandHandlerTest {
         final String incorrectFilePath = RESOURCES_PATH + "log444.txt";
 
         assertThatThrownBy(() -> {
-            commandHandler.process(new Command(
-                incorrectFilePath, null, null, null, null, null
-                )
-            );
+            commandHandler.process(Command.builder().filePath(incorrectFilePath).build());
         }).isInstanceOf(FileDataReadException.class)
             .hasMessageContaining(FILE_DATA_READ_EXCEPTION_TEXT);
     }
@@ -60,10 +86,7 @@ public class CommandHandlerTest {
         final String incorrectUrl = "https://raw.githubusercontent.com/elastic/example";
 
         assertThatThrownBy(() -> {
-            commandHandler.process(new Command(
-                    incorrectUrl, null, null, null, null, null
-                )
-            );
+            commandHandler.process(Command.builder().filePath(incorrectUrl).build());
         }).isInstanceOf(UrlDataReadException.class)
             .hasMessageContaining(URL_DATA_NOT_READ_EXCEPTION_TEXT);
     }
@@ -73,10 +96,7 @@ public class CommandHandlerTest {
         final String incorrectFilePathByGlob = RESOURCES_PATH + "l\\*.txt";
 
         assertThatThrownBy(() -> {
-            commandHandler.process(new Command(
-                incorrectFilePathByGlob, null, null, null, null, null
-                )
-            );
+            commandHandler.process(Command.builder().filePath(incorrectFilePathByGlob).build());
         }).isInstanceOf(LogFilesNotFoundException.class)
             .hasMessageContaining(LOG_FILES_NOT_FOUND_EXCEPTION_TEXT);
     }
@@ -86,10 +106,7 @@ public class CommandHandlerTest {
         final String pathWithCurrentDirMoving = "../";
 
         assertThatThrownBy(() -> {
-            commandHandler.process(new Command(
-                    pathWithCurrentDirMoving, null, null, null, null, null
-                )
-            );
+            commandHandler.process(Command.builder().filePath(pathWithCurrentDirMoving).build());
         }).isInstanceOf(ExitFromCurrentDirectoryException.class)
             .hasMessageContaining(EXIT_FROM_CURRENT_DIRECTORY_EXCEPTION_TEXT);
     }
@@ -97,10 +114,7 @@ public class CommandHandlerTest {
     @Test
     public void processCommandWithNoData_ShouldCorrectlyProcess() {
         final String filename = RESOURCES_PATH + "empty-log.txt";
-        final Command command = new Command(
-            filename, null, null,
-            null, null, null
-        );
+        final Command command = Command.builder().filePath(filename).build();
 
         assertEquals(getProcessingResponseForNoData(filename), commandHandler.process(command));
     }
@@ -132,29 +146,26 @@ public class CommandHandlerTest {
         httpStatuses.put(HttpStatus.OK, 1);
 
         final Map<String, Integer> addresses = new LinkedHashMap<>();
-        addresses.put("91.234.194.89", 2);
         addresses.put("80.91.33.133", 2);
-        addresses.put("93.180.71.3", 1);
-        addresses.put("5.83.131.103", 1);
+        addresses.put("91.234.194.89", 2);
+        addresses.put("173.203.139.108", 1);
         addresses.put("217.168.17.5", 1);
+        addresses.put("5.83.131.103", 1);
 
         final Map<HttpMethod, Integer> httpMethods = new LinkedHashMap<>();
         httpMethods.put(HttpMethod.GET, 8);
 
         final LocalDate date = LocalDate.parse("2015-06-17", DateTimeFormatter.ISO_LOCAL_DATE);
 
-        final Command command = new Command(
-            filename, date,
-            null, null, null, null
-        );
+        final Command command = Command.builder().filePath(filename).from(date).build();
         final ProcessingResponse correctResult = new ProcessingResponse(
             new GeneralInformation(
                 Set.of(BASE_PATH + filename), date,
-                null, 8, new BigDecimal("145.25"), new BigInteger("490")
+                null, 8, new BigDecimal("145.25"), Map.of(DEFAULT_PERCENTILE, 490L)
             ),
             new RequestStatistics(
-                resources, httpStatuses, addresses, httpMethods
-            )
+                resources, httpStatuses, addresses, httpMethods, Map.of(), Map.of()
+            ), null, null
         );
 
         assertEquals(correctResult, commandHandler.process(command));
@@ -174,10 +185,10 @@ public class CommandHandlerTest {
 
         final Map<String, Integer> addresses = new LinkedHashMap<>();
         addresses.put("91.234.194.89", 2);
-        addresses.put("93.180.71.3", 1);
-        addresses.put("80.91.33.133", 1);
-        addresses.put("5.83.131.103", 1);
+        addresses.put("173.203.139.108", 1);
         addresses.put("217.168.17.5", 1);
+        addresses.put("5.83.131.103", 1);
+        addresses.put("80.91.33.133", 1);
 
         final Map<HttpMethod, Integer> httpMethods = new LinkedHashMap<>();
         httpMethods.put(HttpMethod.GET, 7);
@@ -185,18 +196,15 @@ public class CommandHandlerTest {
         final LocalDate from = LocalDate.parse("2015-06-17", DateTimeFormatter.ISO_LOCAL_DATE);
         final LocalDate to = LocalDate.parse("2015-06-18", DateTimeFormatter.ISO_LOCAL_DATE);
 
-        final Command command = new Command(
-            filename, from,
-            to, null, null, null
-        );
+        final Command command = Command.builder().filePath(filename).from(from).to(to).build();
         final ProcessingResponse correctResult = new ProcessingResponse(
             new GeneralInformation(
                 Set.of(BASE_PATH + filename), from,
-                to, 7, new BigDecimal("166.00"), new BigInteger("490")
+                to, 7, new BigDecimal("166.00"), Map.of(DEFAULT_PERCENTILE, 490L)
             ),
             new RequestStatistics(
-                resources, httpStatuses, addresses, httpMethods
-            )
+                resources, httpStatuses, addresses, httpMethods, Map.of(), Map.of()
+            ), null, null
         );
 
         assertEquals(correctResult, commandHandler.process(command));
@@ -218,18 +226,19 @@ public class CommandHandlerTest {
         final Map<HttpMethod, Integer> httpMethods = new LinkedHashMap<>();
         httpMethods.put(HttpMethod.GET, 10);
 
-        final Command command = new Command(
-            filename, null,
-            null, null, FilterField.ADDRESS, "80.91.33.133"
-        );
+        final Command command = Command.builder()
+            .filePath(filename)
+            .filterField(FilterField.ADDRESS)
+            .filterValue("80.91.33.133")
+            .build();
         final ProcessingResponse correctResult = new ProcessingResponse(
             new GeneralInformation(
                 Set.of(BASE_PATH + filename), null,
-                null, 10, new BigDecimal("32.40"), new BigInteger("324")
+                null, 10, new BigDecimal("32.40"), Map.of(DEFAULT_PERCENTILE, 324L)
             ),
             new RequestStatistics(
-                resources, httpStatuses, addresses, httpMethods
-            )
+                resources, httpStatuses, addresses, httpMethods, Map.of(), Map.of()
+            ), null, null
         );
 
         assertEquals(correctResult, commandHandler.process(command));
@@ -253,17 +262,18 @@ public class CommandHandlerTest {
         final ProcessingResponse correctResult = new ProcessingResponse(
             new GeneralInformation(
                 Set.of(BASE_PATH + filename), null, null,
-                1, new BigDecimal("490.00"), new BigInteger("490")
+                1, new BigDecimal("490.00"), Map.of(DEFAULT_PERCENTILE, 490L)
             ),
             new RequestStatistics(
-                resources, httpStatuses, addresses, httpMethods
-            )
+                resources, httpStatuses, addresses, httpMethods, Map.of(), Map.of()
+            ), null, null
         );
 
-        final Command command = new Command(
-            filename, null,
-            null, null, FilterField.USER, "artem"
-        );
+        final Command command = Command.builder()
+            .filePath(filename)
+            .filterField(FilterField.USER)
+            .filterValue("artem")
+            .build();
 
         assertEquals(correctResult, commandHandler.process(command));
     }
@@ -286,17 +296,18 @@ public class CommandHandlerTest {
         final ProcessingResponse correctResult = new ProcessingResponse(
             new GeneralInformation(
                 Set.of(BASE_PATH + filename), null, null,
-                1, new BigDecimal("951.00"), new BigInteger("951")
+                1, new BigDecimal("951.00"), Map.of(DEFAULT_PERCENTILE, 951L)
             ),
             new RequestStatistics(
-                resources, httpStatuses, addresses, httpMethods
-            )
+                resources, httpStatuses, addresses, httpMethods, Map.of(), Map.of()
+            ), null, null
         );
 
-        final Command command = new Command(
-            filename, null,
-            null, null, FilterField.HTTP_METHOD, "head"
-        );
+        final Command command = Command.builder()
+            .filePath(filename)
+            .filterField(FilterField.HTTP_METHOD)
+            .filterValue("head")
+            .build();
 
         assertEquals(correctResult, commandHandler.process(command));
     }
@@ -323,17 +334,18 @@ public class CommandHandlerTest {
         final ProcessingResponse correctResult = new ProcessingResponse(
             new GeneralInformation(
                 Set.of(BASE_PATH + filename), null, null,
-                2, new BigDecimal("643.00"), new BigInteger("951")
+                2, new BigDecimal("643.00"), Map.of(DEFAULT_PERCENTILE, 951L)
             ),
             new RequestStatistics(
-                resources, httpStatuses, addresses, httpMethods
-            )
+                resources, httpStatuses, addresses, httpMethods, Map.of(), Map.of()
+            ), null, null
         );
 
-        final Command command = new Command(
-            filename, null,
-            null, null, FilterField.AGENT, "urlgrabber/3.9.1 yum/3.4.3"
-        );
+        final Command command = Command.builder()
+            .filePath(filename)
+            .filterField(FilterField.AGENT)
+            .filterValue("urlgrabber/3.9.1 yum/3.4.3")
+            .build();
 
         assertEquals(correctResult, commandHandler.process(command));
     }
@@ -361,17 +373,18 @@ public class CommandHandlerTest {
         final ProcessingResponse correctResult = new ProcessingResponse(
             new GeneralInformation(
                 Set.of(BASE_PATH + filename), null, null,
-                7, new BigDecimal("1361.14"), new BigInteger("3316")
+                7, new BigDecimal("1361.14"), Map.of(DEFAULT_PERCENTILE, 3316L)
             ),
             new RequestStatistics(
-                resources, httpStatuses, addresses, httpMethods
-            )
+                resources, httpStatuses, addresses, httpMethods, Map.of(), Map.of()
+            ), null, null
         );
 
-        final Command command = new Command(
-            filename, null,
-            null, null, FilterField.HTTP_STATUS, "200"
-        );
+        final Command command = Command.builder()
+            .filePath(filename)
+            .filterField(FilterField.HTTP_STATUS)
+            .filterValue("200")
+            .build();
 
         assertEquals(correctResult, commandHandler.process(command));
     }
@@ -421,29 +434,447 @@ public class CommandHandlerTest {
         final ProcessingResponse correctResult = new ProcessingResponse(
             new GeneralInformation(
                 Set.of(filename), null, null,
-                51462, new BigDecimal("659509.51"), new BigInteger("1768")
+                51462, new BigDecimal("659509.51"), Map.of(DEFAULT_PERCENTILE, 1768L)
             ),
             new RequestStatistics(
-                resources, httpStatuses, addresses, httpMethods
-            )
+                resources, httpStatuses, addresses, httpMethods, Map.of(), Map.of()
+            ), null, null
         );
 
-        final Command command = new Command(
-            filename, null,
-            null, null, null, null
-        );
+        final Command command = Command.builder().filePath(filename).build();
 
         assertEquals(correctResult, commandHandler.process(command));
     }
 
+    @Test
+    public void processCommandWithPercentiles_ShouldCalculateEachPercentile() {
+        final Command command = Command.builder()
+            .filePath(RESOURCES_PATH + "log1.txt")
+            .statisticsSettings(StatisticsSettings.builder().percentiles(List.of(50.0, 90.0, 99.0, 99.9)).build())
+            .build();
+
+        final Map<Double, Long> percentiles = new LinkedHashMap<>();
+        percentiles.put(50.0, 0L);
+        percentiles.put(90.0, 490L);
+        percentiles.put(99.0, 3316L);
+        percentiles.put(99.9, 3316L);
+
+        assertEquals(percentiles, commandHandler.process(command).generalInformation().percentiles());
+    }
+
+    @Test
+    public void processCommandWithPercentileError_ShouldCalculatePercentilesWithinError() {
+        final double percentileError = 0.01;
+        final List<Double> percentiles = List.of(50.0, 90.0, 95.0, 99.0);
+        final String filename = RESOURCES_PATH + "log1.txt";
+
+        final Map<Double, Long> exactPercentiles = commandHandler.process(Command.builder()
+            .filePath(filename)
+            .statisticsSettings(StatisticsSettings.builder().percentiles(percentiles).build())
+            .build()).generalInformation().percentiles();
+        final Map<Double, Long> approximatePercentiles = commandHandler.process(Command.builder()
+            .filePath(filename)
+            .statisticsSettings(StatisticsSettings.builder()
+                .percentiles(percentiles)
+                .percentileError(percentileError)
+                .build())
+            .build()).generalInformation().percentiles();
+
+        assertEquals(exactPercentiles.keySet(), approximatePercentiles.keySet());
+        exactPercentiles.forEach((percentile, value) -> assertTrue(
+            Math.abs(approximatePercentiles.get(percentile) - value) <= value * percentileError
+        ));
+    }
+
+    @Test
+    public void processCommandWithTop_ShouldLimitEachStatistics() {
+        final RequestStatistics requestStatistics = commandHandler.process(Command.builder()
+            .filePath(RESOURCES_PATH + "log1.txt")
+            .statisticsSettings(StatisticsSettings.builder().top(1).build())
+            .build()).requestStatistics();
+
+        assertEquals(Map.of("/downloads/product_1", 32), requestStatistics.resources());
+        assertEquals(Map.of(HttpStatus.NOT_MODIFIED, 34), requestStatistics.httpStatuses());
+        assertEquals(Map.of("80.91.33.133", 10), requestStatistics.addresses());
+        assertEquals(Map.of(HttpMethod.GET, 49), requestStatistics.httpMethods());
+    }
+
+    @Test
+    public void processCommandWithHeavyHitters_ShouldReturnCountsWithinErrors() {
+        final String filename = RESOURCES_PATH + "log1.txt";
+        final int heavyHitters = 10;
+        final RequestStatistics exactStatistics = commandHandler.process(Command.builder()
+            .filePath(filename)
+            .build()).requestStatistics();
+        final RequestStatistics approximateStatistics = commandHandler.process(Command.builder()
+            .filePath(filename)
+            .statisticsSettings(StatisticsSettings.builder().heavyHitters(heavyHitters).build())
+            .build()).requestStatistics();
+
+        assertEquals(exactStatistics.resources(), approximateStatistics.resources());
+        assertEquals(Map.of("/downloads/product_1", 0, "/downloads/product_2", 0),
+            approximateStatistics.resourceErrors());
+        assertEquals(approximateStatistics.addresses().keySet(), approximateStatistics.addressErrors().keySet());
+        assertEquals(exactStatistics.addresses().get("80.91.33.133"),
+            approximateStatistics.addresses().get("80.91.33.133"));
+        approximateStatistics.addresses().forEach((address, count) -> assertTrue(
+            count - approximateStatistics.addressErrors().get(address) <= getExactCount(filename, address)
+                && getExactCount(filename, address) <= count
+        ));
+    }
+
+    @Test
+    public void processCommandWithSeveralThreads_ShouldReturnSameResultAsOneThread() {
+        final String filename = RESOURCES_PATH + "*.txt";
+        final StatisticsSettings statisticsSettings = StatisticsSettings.builder()
+            .percentiles(List.of(50.0, 90.0, 99.0))
+            .build();
+        final int threads = 4;
+
+        final ProcessingResponse sequentialResponse = commandHandler.process(Command.builder()
+            .filePath(filename)
+            .statisticsSettings(statisticsSettings)
+            .processingSettings(ProcessingSettings.builder().threads(1).build())
+            .build());
+        final ProcessingResponse parallelResponse = commandHandler.process(Command.builder()
+            .filePath(filename)
+            .statisticsSettings(statisticsSettings)
+            .processingSettings(ProcessingSettings.builder().threads(threads).build())
+            .build());
+
+        assertEquals(sequentialResponse, parallelResponse);
+    }
+
+    @Test
+    public void processCommandWithCombinedLogFormat_ShouldReturnSameResultAsDefaultFormat() {
+        final String filename = RESOURCES_PATH + "*.txt";
+        final String logFormat = "$remote_addr - $remote_user [$time_local] \"$request\" "
+            + "$status $body_bytes_sent \"$http_referer\" \"$http_user_agent\"";
+
+        final ProcessingResponse defaultResponse = commandHandler.process(Command.builder()
+            .filePath(filename)
+            .filterField(FilterField.AGENT)
+            .filterValue("wget")
+            .build());
+        final ProcessingResponse compiledResponse = commandHandler.process(Command.builder()
+            .filePath(filename)
+            .filterField(FilterField.AGENT)
+            .filterValue("wget")
+            .processingSettings(ProcessingSettings.builder().logFormat(LogFormatCompiler.compile(logFormat)).build())
+            .build());
+
+        assertEquals(defaultResponse, compiledResponse);
+    }
+
+    @Test
+    public void processCommandWithFilterExpression_ShouldReturnSameResultAsFilterFields() {
+        final String filename = RESOURCES_PATH + "*.txt";
+
+        final ProcessingResponse expressionResponse = commandHandler.process(Command.builder()
+            .filePath(filename)
+            .filterExpression(FilterExpressionParser.parse("agent~wget"))
+            .build());
+        final ProcessingResponse fieldResponse = commandHandler.process(Command.builder()
+            .filePath(filename)
+            .filterField(FilterField.AGENT)
+            .filterValue("wget")
+            .build());
+
+        assertEquals(fieldResponse, expressionResponse);
+        assertEquals(getRequestsCount(filename, "status=200") + getRequestsCount(filename, "status=404"),
+            getRequestsCount(filename, "status=404 OR status=200"));
+        assertEquals(getRequestsCount(filename, "status>=0"),
+            getRequestsCount(filename, "agent~wget") + getRequestsCount(filename, "NOT agent~wget"));
+        assertEquals(getRequestsCount(filename, "status=304 AND method=get"),
+            getRequestsCount(filename, "NOT (status!=304 OR method!=get)"));
+    }
+
+    @Test
+    public void processCommandWithAddressRanges_ShouldCountAddressesInRanges() {
+        final String filename = RESOURCES_PATH + "*.txt";
+
+        assertEquals(getRequestsCount(filename, "address=93.180.71.3 OR address=93.190.71.150"),
+            getRequestsCount(filename, "address=93.128.0.0/10"));
+        assertEquals(getRequestsCount(filename, "address=93.180.71.3 OR address=80.91.33.133"),
+            getRequestsCount(filename, "address=93.180.71.3/32,80.91.33.0/24"));
+        assertEquals(getRequestsCount(filename, "status>=0"),
+            getRequestsCount(filename, "address=0.0.0.0/0") + getRequestsCount(filename, "address!=0.0.0.0/0"));
+    }
+
+    @Test
+    public void processCommandWithBotSignatures_ShouldClassifyRequestsByUserAgent() {
+        final String filename = RESOURCES_PATH + "*.txt";
+        final BotSignatures botSignatures = BotSignatures.of(List.of("yum/", "UBUNTU", "Go 1.1"));
+        final ProcessingResponse response = commandHandler.process(Command.builder()
+            .filePath(filename)
+            .statisticsSettings(StatisticsSettings.builder().botSignatures(botSignatures).build())
+            .build());
+        final BotStatistics botStatistics = response.botStatistics();
+
+        assertEquals(getRequestsCount(filename, "agent~yum/ OR agent~ubuntu OR agent~\"go 1.1\""),
+            botStatistics.botsCount());
+        assertEquals(response.generalInformation().requestsCount(),
+            botStatistics.botsCount() + botStatistics.humansCount());
+        assertEquals(getRequestsCount(filename, "agent~ubuntu"), botStatistics.signatures().get("UBUNTU"));
+        assertNull(commandHandler.process(Command.builder().filePath(filename).build()).botStatistics());
+    }
+
+    @Test
+    public void processCommandWithLatencyLogFormat_ShouldReturnLatencyStatistics() throws IOException {
+        final String logFormat = "$remote_addr - $remote_user [$time_local] \"$request\" $status $body_bytes_sent "
+            + "$request_time $upstream_response_time";
+        final String logPrefix = " - - [17/May/2015:08:05:32 +0000] \"GET ";
+        final List<String> logs = List.of(
+            "10.0.0.1" + logPrefix + "/a HTTP/1.1\" 200 10 0.100 0.090",
+            "10.0.0.2" + logPrefix + "/a HTTP/1.1\" 200 10 0.300 0.250, 0.010",
+            "10.0.0.3" + logPrefix + "/b HTTP/1.1\" 200 10 1.000 -",
+            "10.0.0.4" + logPrefix + "/a HTTP/1.1\" 404 10 0.002 -"
+        );
+        final Path filePath = Files.createTempFile(Path.of(RESOURCES_PATH), "latency", ".log");
+
+        try {
+            Files.write(filePath, logs);
+
+            final LatencyStatistics latencyStatistics = commandHandler.process(Command.builder()
+                .filePath(RESOURCES_PATH + filePath.getFileName())
+                .processingSettings(ProcessingSettings.builder()
+                    .logFormat(LogFormatCompiler.compile(logFormat))
+                    .build())
+                .build()).latencyStatistics();
+
+            assertLatency(new LatencySummary(100_000, 1_000_000, 1_000_000, 1_000_000),
+                latencyStatistics.requestTime());
+            assertLatency(new LatencySummary(90_000, 260_000, 260_000, 260_000),
+                latencyStatistics.upstreamResponseTime());
+            assertEquals(List.of("/a", "/b"), List.copyOf(latencyStatistics.resources().keySet()));
+            assertLatency(new LatencySummary(100_000, 300_000, 300_000, 300_000),
+                latencyStatistics.resources().get("/a"));
+        } finally {
+            Files.delete(filePath);
+        }
+    }
+
+    @Test
+    public void processCommandWithIndexStride_ShouldReturnSameResultAsFullScan() throws IOException {
+        final Path filePath = Files.createTempFile(Path.of(RESOURCES_PATH), "indexed", ".log");
+        final String filename = RESOURCES_PATH + filePath.getFileName();
+        final LocalDate from = LocalDate.parse("2015-06-17");
+        final LocalDate to = LocalDate.parse("2015-06-18");
+
+        try {
+            Files.copy(Path.of(RESOURCES_PATH + "log1.txt"), filePath, StandardCopyOption.REPLACE_EXISTING);
+
+            final ProcessingResponse fullScanResponse = commandHandler.process(Command.builder()
+                .filePath(filename)
+                .from(from)
+                .to(to)
+                .build());
+            final Command indexedCommand = Command.builder()
+                .filePath(filename)
+                .from(from)
+                .to(to)
+                .processingSettings(ProcessingSettings.builder().indexStride(1).build())
+                .build();
+
+            assertEquals(fullScanResponse, commandHandler.process(indexedCommand));
+            assertTrue(Files.exists(TimeIndex.getIndexPath(filePath)));
+            assertEquals(fullScanResponse, commandHandler.process(indexedCommand));
+
+            Files.write(filePath, Files.readAllLines(Path.of(RESOURCES_PATH + "log1.txt")),
+                StandardOpenOption.APPEND);
+
+            assertEquals(commandHandler.process(Command.builder()
+                .filePath(filename)
+                .from(from)
+                .to(to)
+                .build()), commandHandler.process(indexedCommand));
+        } finally {
+            Files.deleteIfExists(TimeIndex.getIndexPath(filePath));
+            Files.delete(filePath);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForProcessCommandWithRollupDirectory")
+    public void processCommandWithRollupDirectory_ShouldReturnSameResultAsFullScan(LocalDate from, LocalDate to)
+        throws IOException {
+        final Path filePath = Files.createTempFile(Path.of(RESOURCES_PATH), "rollup", ".log");
+        final Path rollupDirectory = Files.createTempDirectory("rollup");
+        final String filename = RESOURCES_PATH + filePath.getFileName();
+        final Command fullScanCommand = Command.builder()
+            .filePath(filename)
+            .from(from)
+            .to(to)
+            .statisticsSettings(ROLLUP_STATISTICS_SETTINGS)
+            .build();
+        final Command rollupCommand = Command.builder()
+            .filePath(filename)
+            .from(from)
+            .to(to)
+            .statisticsSettings(ROLLUP_STATISTICS_SETTINGS)
+            .processingSettings(ProcessingSettings.builder().rollupDirectory(rollupDirectory).build())
+            .build();
+
+        try {
+            Files.copy(Path.of(RESOURCES_PATH + "log1.txt"), filePath, StandardCopyOption.REPLACE_EXISTING);
+            Files.writeString(filePath, String.join("\n", DAY_BOUNDARY_LOGS), StandardOpenOption.APPEND);
+
+            final ProcessingResponse fullScanResponse = commandHandler.process(fullScanCommand);
+
+            assertEquals(fullScanResponse, commandHandler.process(rollupCommand));
+            assertTrue(Files.exists(DailyRollup.getRollupPath(rollupDirectory, filePath)));
+            assertEquals(fullScanResponse, commandHandler.process(rollupCommand));
+
+            Files.writeString(filePath, "\n", StandardOpenOption.APPEND);
+            Files.write(filePath, Files.readAllLines(Path.of(RESOURCES_PATH + "log2.txt")),
+                StandardOpenOption.APPEND);
+
+            assertEquals(commandHandler.process(fullScanCommand), commandHandler.process(rollupCommand));
+        } finally {
+            Files.deleteIfExists(DailyRollup.getRollupPath(rollupDirectory, filePath));
+            Files.delete(rollupDirectory);
+            Files.delete(filePath);
+        }
+    }
+
+    @Test
+    public void processCommandWithRollupDirectoryAndSaturatedCounters_ShouldReturnCountsWithinErrors()
+        throws IOException {
+        final Path rollupDirectory = Files.createTempDirectory("rollup");
+        final String filename = RESOURCES_PATH + "log1.txt";
+        final double percentileError = 0.01;
+        final int heavyHitters = STATISTICS_LIMIT;
+        final ProcessingResponse exactResponse = commandHandler.process(Command.builder()
+            .filePath(filename)
+            .statisticsSettings(StatisticsSettings.builder().top(heavyHitters + 1).build())
+            .build());
+        final Command rollupCommand = Command.builder()
+            .filePath(filename)
+            .statisticsSettings(StatisticsSettings.builder()
+                .percentileError(percentileError)
+                .heavyHitters(heavyHitters)
+                .build())
+            .processingSettings(ProcessingSettings.builder().rollupDirectory(rollupDirectory).build())
+            .build();
+
+        try {
+            assertEquals(heavyHitters + 1, exactResponse.requestStatistics().addresses().size());
+
+            commandHandler.process(rollupCommand);
+
+            final ProcessingResponse rollupResponse = commandHandler.process(rollupCommand);
+            final RequestStatistics rollupStatistics = rollupResponse.requestStatistics();
+            final int requestsCount = exactResponse.generalInformation().requestsCount();
+
+            assertEquals(requestsCount, rollupResponse.generalInformation().requestsCount());
+            assertEquals(rollupStatistics.addresses().keySet(), rollupStatistics.addressErrors().keySet());
+            rollupStatistics.addresses().forEach((address, count) -> assertTrue(
+                count - rollupStatistics.addressErrors().get(address) <= getExactCount(filename, address)
+                    && getExactCount(filename, address) <= count
+                    && count - getExactCount(filename, address) <= requestsCount / heavyHitters
+            ));
+            exactResponse.generalInformation().percentiles().forEach((percentile, value) -> assertTrue(
+                Math.abs(rollupResponse.generalInformation().percentiles().get(percentile) - value)
+                    <= value * percentileError
+            ));
+        } finally {
+            Files.deleteIfExists(DailyRollup.getRollupPath(rollupDirectory, Path.of(filename)));
+            Files.delete(rollupDirectory);
+        }
+    }
+
+    @Test
+    public void processCommandWithCorruptedRollup_ShouldRebuildRollup() throws IOException {
+        final Path rollupDirectory = Files.createTempDirectory("rollup");
+        final Path rollupPath = DailyRollup.getRollupPath(rollupDirectory, Path.of(RESOURCES_PATH + "log1.txt"));
+        final String filename = RESOURCES_PATH + "log1.txt";
+
+        try {
+            Files.writeString(rollupPath, "corrupted rollup");
+
+            assertEquals(commandHandler.process(Command.builder()
+                .filePath(filename)
+                .statisticsSettings(ROLLUP_STATISTICS_SETTINGS)
+                .build()), commandHandler.process(Command.builder()
+                    .filePath(filename)
+                    .statisticsSettings(ROLLUP_STATISTICS_SETTINGS)
+                    .processingSettings(ProcessingSettings.builder().rollupDirectory(rollupDirectory).build())
+                    .build()));
+        } finally {
+            Files.deleteIfExists(rollupPath);
+            Files.delete(rollupDirectory);
+        }
+    }
+
+    @Test
+    public void processCommandWithoutLatencyInLogFormat_ShouldNotReturnLatencyStatistics() {
+        assertNull(commandHandler.process(Command.builder()
+            .filePath(RESOURCES_PATH + "log1.txt")
+            .build()).latencyStatistics());
+    }
+
+    @Test
+    public void processCommandWithSeveralThreadsAndNonExistentFile_ShouldThrowFileDataReadException() {
+        final String incorrectFilePath = RESOURCES_PATH + "log444.txt";
+
+        assertThatThrownBy(() -> {
+            commandHandler.process(Command.builder()
+                .filePath(incorrectFilePath)
+                .processingSettings(ProcessingSettings.builder().threads(4).build())
+                .build());
+        }).isInstanceOf(FileDataReadException.class)
+            .hasMessageContaining(FILE_DATA_READ_EXCEPTION_TEXT);
+    }
+
+    private static List<Object[]> getArgumentsForProcessCommandWithRollupDirectory() {
+        final List<Object[]> result = new ArrayList<>();
+
+        result.add(new Object[] {null, null});
+        result.add(new Object[] {LocalDate.parse("2015-05-17"), null});
+        result.add(new Object[] {null, LocalDate.parse("2015-06-18")});
+        result.add(new Object[] {LocalDate.parse("2015-06-17"), LocalDate.parse("2015-06-18")});
+        result.add(new Object[] {LocalDate.parse("2015-06-18"), null});
+        result.add(new Object[] {LocalDate.parse("2015-05-18"), LocalDate.parse("2015-06-18")});
+
+        return result;
+    }
+
+    private static void assertLatency(LatencySummary expected, LatencySummary actual) {
+        final double maxRelativeError = 1.0 / 32;
+        final long[] expectedValues = {expected.p50(), expected.p95(), expected.p99(), expected.max()};
+        final long[] actualValues = {actual.p50(), actual.p95(), actual.p99(), actual.max()};
+
+        assertEquals(expected.max(), actual.max());
+
+        for (int i = 0; i < expectedValues.length; i++) {
+            assertTrue(actualValues[i] >= expectedValues[i]);
+            assertTrue(actualValues[i] - expectedValues[i] <= expectedValues[i] * maxRelativeError);
+        }
+    }
+
+    private int getExactCount(String filename, String address) {
+        return commandHandler.process(Command.builder()
+            .filePath(filename)
+            .filterField(FilterField.ADDRESS)
+            .filterValue(address)
+            .build()).generalInformation().requestsCount();
+    }
+
+    private int getRequestsCount(String filename, String filter) {
+        return commandHandler.process(Command.builder()
+            .filePath(filename)
+            .filterExpression(FilterExpressionParser.parse(filter))
+            .build()).generalInformation().requestsCount();
+    }
+
     private static ProcessingResponse getProcessingResponseForNoData(String filename) {
         return new ProcessingResponse(
             new GeneralInformation(
-                Set.of(BASE_PATH + filename), null, null, 0, BigDecimal.ZERO, BigInteger.ZERO
+                Set.of(BASE_PATH + filename), null, null, 0, BigDecimal.ZERO, Map.of(DEFAULT_PERCENTILE, 0L)
             ),
             new RequestStatistics(
-                new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>()
-            )
+                new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>(), Map.of(), Map.of()
+            ), null, null
         );
     }
 
@@ -462,7 +893,7 @@ public class CommandHandlerTest {
         addresses.put("93.180.71.3", 7);
         addresses.put("217.168.17.5", 6);
         addresses.put("173.203.139.108", 4);
-        addresses.put("91.234.194.89", 3);
+        addresses.put("188.138.60.101", 3);
 
         final Map<HttpMethod, Integer> httpMethods = new LinkedHashMap<>();
         httpMethods.put(HttpMethod.GET, 49);
@@ -477,17 +908,14 @@ public class CommandHandlerTest {
         final ProcessingResponse correctResult = new ProcessingResponse(
             new GeneralInformation(
                 Set.of(path), null, null, 50,
-                new BigDecimal("249.88"), new BigInteger("951")
+                new BigDecimal("249.88"), Map.of(DEFAULT_PERCENTILE, 951L)
             ),
             new RequestStatistics(
-                resources, httpStatuses, addresses, httpMethods
-            )
+                resources, httpStatuses, addresses, httpMethods, Map.of(), Map.of()
+            ), null, null
         );
 
-        final Command command = new Command(
-            filename, null,
-            null, null, null, null
-        );
+        final Command command = Command.builder().filePath(filename).build();
 
         assertEquals(correctResult, commandHandler.process(command));
     }
@@ -507,7 +935,7 @@ public class CommandHandlerTest {
         addresses.put("80.91.33.133", 10);
         addresses.put("217.168.17.5", 6);
         addresses.put("173.203.139.108", 4);
-        addresses.put("91.234.194.89", 3);
+        addresses.put("188.138.60.101", 3);
 
         final Map<HttpMethod, Integer> httpMethods = new LinkedHashMap<>();
         httpMethods.put(HttpMethod.GET, 54);
@@ -520,17 +948,14 @@ public class CommandHandlerTest {
                     BASE_PATH + RESOURCES_PATH + "log1.txt",
                     BASE_PATH + RESOURCES_PATH + "log2.txt"
                 ), null, null,
-                55, new BigDecimal("227.16"), new BigInteger("951")
+                55, new BigDecimal("227.16"), Map.of(DEFAULT_PERCENTILE, 951L)
             ),
             new RequestStatistics(
-                resources, httpStatuses, addresses, httpMethods
-            )
+                resources, httpStatuses, addresses, httpMethods, Map.of(), Map.of()
+            ), null, null
         );
 
-        final Command command = new Command(
-            filename, null,
-            null, null, null, null
-        );
+        final Command command = Command.builder().filePath(filename).build();
 
         assertEquals(correctResult, commandHandler.process(command));
     }
@@ -2,9 +2,15 @@ package backend.academy.logAnalyzer.analyzer;
 
 import backend.academy.logAnalyzer.CommonTest;
 import backend.academy.logAnalyzer.dto.Command;
+import backend.academy.logAnalyzer.dto.ProcessingSettings;
+import backend.academy.logAnalyzer.dto.StatisticsSettings;
 import backend.academy.logAnalyzer.enums.FilterField;
+import backend.academy.logAnalyzer.enums.FilterOperator;
 import backend.academy.logAnalyzer.enums.OutputFormat;
+import backend.academy.logAnalyzer.exception.FileDataReadException;
 import backend.academy.logAnalyzer.exception.IncorrectCommandException;
+import backend.academy.logAnalyzer.filter.FilterExpression;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -12,16 +18,47 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.ADJACENT_LOG_FORMAT_VARIABLES_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.DUPLICATE_ARGUMENTS_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NO_LOG_ANALYZE_ARGUMENT_WITH_OTHERS_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_BEGIN_COMMAND_VALUE_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_DATE_FORMAT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_ROLLUP_SETTINGS_IN_COMMAND_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_FILE_PATH_ARGUMENT_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_FILTER_FIELD_ARGUMENT_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_FILTER_VALUE_ARGUMENT_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_FORMAT_ARGUMENT_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_FROM_ARGUMENT_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_TO_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_PERCENTILES_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_PERCENTILE_ERROR_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_PERCENTILES_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_PERCENTILE_ERROR_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_PERCENTILES_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_TOP_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_TOP_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_TOP_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_HEAVY_HITTERS_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_HEAVY_HITTERS_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_HEAVY_HITTERS_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_THREADS_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_TIME_TOLERANCE_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_THREADS_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_TIME_TOLERANCE_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_THREADS_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_TIME_TOLERANCE_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.UNBALANCED_QUOTES_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_INDEX_STRIDE_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_INDEX_STRIDE_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_INDEX_STRIDE_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_ROLLUP_DIRECTORY_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_FILTER_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_FILTER_EXPRESSION_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_ROLLUP_DIRECTORY_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_BOT_SIGNATURES_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_BOT_SIGNATURES_ARGUMENT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_LOG_FORMAT_ARGUMENT_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_COMMAND_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_FILE_PATH_ARGUMENT_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.SOME_VALUES_IN_FILTER_FIELD_EXCEPTION_TEXT;
@@ -67,6 +104,20 @@ public class CommandParserTest extends CommonTest {
             .hasMessageContaining(NO_LOG_ANALYZE_ARGUMENT_WITH_OTHERS_EXCEPTION_TEXT);
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "analyzer --path file.txt --filter-field agent --filter-value O'Reilly --format markdown",
+        "analyzer --path 'file.txt --format markdown",
+        "analyzer --path file.txt --log-format '$remote_addr $status' '",
+        "analyzer --path file.txt --filter status=200'"
+    })
+    public void parseCommandWithUnbalancedQuotes_ShouldThrowIncorrectCommandException(String incorrectCommand) {
+        assertThatThrownBy(() -> {
+            CommandParser.parse(incorrectCommand);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(UNBALANCED_QUOTES_EXCEPTION_TEXT);
+    }
+
     @ParameterizedTest
     @MethodSource("getArgumentsForParseCommandWithDuplicateArguments")
     public void parseCommandWithDuplicateArguments_ShouldThrowIncorrectCommandException(String incorrectCommand) {
@@ -225,6 +276,341 @@ public class CommandParserTest extends CommonTest {
             .hasMessageContaining(NOT_VALUE_FOR_FILTER_VALUE_ARGUMENT_EXCEPTION_TEXT);
     }
 
+    @Test
+    public void parseCommandWithNoValueForPercentilesArgument_ShouldThrowIncorrectCommandException() {
+        final String incorrectCommand = "analyzer --path file.txt --percentiles";
+
+        assertThatThrownBy(() -> {
+            CommandParser.parse(incorrectCommand);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(NOT_VALUE_FOR_PERCENTILES_ARGUMENT_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void parseCommandWithNoValueForPercentileErrorArgument_ShouldThrowIncorrectCommandException() {
+        final String incorrectCommand = "analyzer --path file.txt --percentile-error";
+
+        assertThatThrownBy(() -> {
+            CommandParser.parse(incorrectCommand);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(NOT_VALUE_FOR_PERCENTILE_ERROR_ARGUMENT_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void parseCommandWithSomeValuesInPercentilesArgument_ShouldThrowIncorrectCommandException() {
+        final String incorrectCommand = "analyzer --path file.txt --percentiles 50 99";
+
+        assertThatThrownBy(() -> {
+            CommandParser.parse(incorrectCommand);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(SOME_VALUES_IN_PERCENTILES_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForParseCommandWithIncorrectPercentiles")
+    public void parseCommandWithIncorrectPercentiles_ShouldThrowIncorrectCommandException(String percentiles) {
+        assertThatThrownBy(() -> {
+            CommandParser.parse("analyzer --path file.txt --percentiles " + percentiles);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(INCORRECT_PERCENTILES_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForParseCommandWithIncorrectPercentileError")
+    public void parseCommandWithIncorrectPercentileError_ShouldThrowIncorrectCommandException(String percentileError) {
+        assertThatThrownBy(() -> {
+            CommandParser.parse("analyzer --path file.txt --percentile-error " + percentileError);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(INCORRECT_PERCENTILE_ERROR_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void parseCommandWithNoValueForTopArgument_ShouldThrowIncorrectCommandException() {
+        final String incorrectCommand = "analyzer --path file.txt --top";
+
+        assertThatThrownBy(() -> {
+            CommandParser.parse(incorrectCommand);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(NOT_VALUE_FOR_TOP_ARGUMENT_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void parseCommandWithSomeValuesInTopArgument_ShouldThrowIncorrectCommandException() {
+        final String incorrectCommand = "analyzer --path file.txt --top 5 10";
+
+        assertThatThrownBy(() -> {
+            CommandParser.parse(incorrectCommand);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(SOME_VALUES_IN_TOP_ARGUMENT_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForParseCommandWithIncorrectTop")
+    public void parseCommandWithIncorrectTop_ShouldThrowIncorrectCommandException(String top) {
+        assertThatThrownBy(() -> {
+            CommandParser.parse("analyzer --path file.txt --top " + top);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(INCORRECT_TOP_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void parseCommandWithNoValueForHeavyHittersArgument_ShouldThrowIncorrectCommandException() {
+        final String incorrectCommand = "analyzer --path file.txt --heavy-hitters";
+
+        assertThatThrownBy(() -> {
+            CommandParser.parse(incorrectCommand);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(NOT_VALUE_FOR_HEAVY_HITTERS_ARGUMENT_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void parseCommandWithSomeValuesInHeavyHittersArgument_ShouldThrowIncorrectCommandException() {
+        final String incorrectCommand = "analyzer --path file.txt --heavy-hitters 100 1000";
+
+        assertThatThrownBy(() -> {
+            CommandParser.parse(incorrectCommand);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(SOME_VALUES_IN_HEAVY_HITTERS_ARGUMENT_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForParseCommandWithIncorrectHeavyHitters")
+    public void parseCommandWithIncorrectHeavyHitters_ShouldThrowIncorrectCommandException(String heavyHitters) {
+        assertThatThrownBy(() -> {
+            CommandParser.parse("analyzer --path file.txt --top 10 --heavy-hitters " + heavyHitters);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(INCORRECT_HEAVY_HITTERS_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void parseCommandWithNoValueForThreadsArgument_ShouldThrowIncorrectCommandException() {
+        final String incorrectCommand = "analyzer --path file.txt --threads";
+
+        assertThatThrownBy(() -> {
+            CommandParser.parse(incorrectCommand);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(NOT_VALUE_FOR_THREADS_ARGUMENT_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void parseCommandWithSomeValuesInThreadsArgument_ShouldThrowIncorrectCommandException() {
+        final String incorrectCommand = "analyzer --path file.txt --threads 2 4";
+
+        assertThatThrownBy(() -> {
+            CommandParser.parse(incorrectCommand);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(SOME_VALUES_IN_THREADS_ARGUMENT_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForParseCommandWithIncorrectTop")
+    public void parseCommandWithIncorrectThreads_ShouldThrowIncorrectCommandException(String threads) {
+        assertThatThrownBy(() -> {
+            CommandParser.parse("analyzer --path file.txt --threads " + threads);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(INCORRECT_THREADS_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void parseCommandWithNoValueForTimeToleranceArgument_ShouldThrowIncorrectCommandException() {
+        final String incorrectCommand = "analyzer --path file.txt --time-tolerance";
+
+        assertThatThrownBy(() -> {
+            CommandParser.parse(incorrectCommand);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(NOT_VALUE_FOR_TIME_TOLERANCE_ARGUMENT_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void parseCommandWithSomeValuesInTimeToleranceArgument_ShouldThrowIncorrectCommandException() {
+        final String incorrectCommand = "analyzer --path file.txt --time-tolerance 60 120";
+
+        assertThatThrownBy(() -> {
+            CommandParser.parse(incorrectCommand);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(SOME_VALUES_IN_TIME_TOLERANCE_ARGUMENT_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"-1", "1.5", "ten", "99999999999999999999"})
+    public void parseCommandWithIncorrectTimeTolerance_ShouldThrowIncorrectCommandException(String timeTolerance) {
+        assertThatThrownBy(() -> {
+            CommandParser.parse("analyzer --path file.txt --time-tolerance " + timeTolerance);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(INCORRECT_TIME_TOLERANCE_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void parseCommandWithNoValueForIndexStrideArgument_ShouldThrowIncorrectCommandException() {
+        final String incorrectCommand = "analyzer --path file.txt --index-stride";
+
+        assertThatThrownBy(() -> {
+            CommandParser.parse(incorrectCommand);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(NOT_VALUE_FOR_INDEX_STRIDE_ARGUMENT_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void parseCommandWithSomeValuesInIndexStrideArgument_ShouldThrowIncorrectCommandException() {
+        final String incorrectCommand = "analyzer --path file.txt --index-stride 64 128";
+
+        assertThatThrownBy(() -> {
+            CommandParser.parse(incorrectCommand);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(SOME_VALUES_IN_INDEX_STRIDE_ARGUMENT_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-1", "1.5", "ten", "2097152"})
+    public void parseCommandWithIncorrectIndexStride_ShouldThrowIncorrectCommandException(String indexStride) {
+        assertThatThrownBy(() -> {
+            CommandParser.parse("analyzer --path file.txt --index-stride " + indexStride);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(INCORRECT_INDEX_STRIDE_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void parseCommandWithNoValueForRollupDirectoryArgument_ShouldThrowIncorrectCommandException() {
+        final String incorrectCommand = "analyzer --path file.txt --rollup-dir";
+
+        assertThatThrownBy(() -> {
+            CommandParser.parse(incorrectCommand);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(NOT_VALUE_FOR_ROLLUP_DIRECTORY_ARGUMENT_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void parseCommandWithRollupDirectoryWithoutSketches_ShouldThrowIncorrectCommandException() {
+        final String incorrectCommand = "analyzer --path file.txt --rollup-dir rollups --heavy-hitters 1000";
+
+        assertThatThrownBy(() -> {
+            CommandParser.parse(incorrectCommand);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(INCORRECT_ROLLUP_SETTINGS_IN_COMMAND_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void parseCommandWithSomeValuesInRollupDirectoryArgument_ShouldThrowIncorrectCommandException() {
+        final String incorrectCommand = "analyzer --path file.txt --rollup-dir rollups other";
+
+        assertThatThrownBy(() -> {
+            CommandParser.parse(incorrectCommand);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(SOME_VALUES_IN_ROLLUP_DIRECTORY_ARGUMENT_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void parseCommandWithNoValueForBotSignaturesArgument_ShouldThrowIncorrectCommandException() {
+        final String incorrectCommand = "analyzer --path file.txt --bot-signatures";
+
+        assertThatThrownBy(() -> {
+            CommandParser.parse(incorrectCommand);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(NOT_VALUE_FOR_BOT_SIGNATURES_ARGUMENT_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void parseCommandWithSomeValuesInBotSignaturesArgument_ShouldThrowIncorrectCommandException() {
+        final String incorrectCommand = "analyzer --path file.txt --bot-signatures bots.txt other.txt";
+
+        assertThatThrownBy(() -> {
+            CommandParser.parse(incorrectCommand);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(SOME_VALUES_IN_BOT_SIGNATURES_ARGUMENT_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void parseCommandWithNonExistentBotSignaturesFile_ShouldThrowFileDataReadException() {
+        assertThatThrownBy(() -> {
+            CommandParser.parse("analyzer --path file.txt --bot-signatures non-existent-bots.txt");
+        }).isInstanceOf(FileDataReadException.class);
+    }
+
+    @Test
+    public void parseCommandWithNoValueForFilterArgument_ShouldThrowIncorrectCommandException() {
+        final String incorrectCommand = "analyzer --path file.txt --filter";
+
+        assertThatThrownBy(() -> {
+            CommandParser.parse(incorrectCommand);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(NOT_VALUE_FOR_FILTER_ARGUMENT_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"status>=5xx", "status>=500 AND", "(method=get", "agent>bot"})
+    public void parseCommandWithIncorrectFilter_ShouldThrowIncorrectCommandException(String filter) {
+        assertThatThrownBy(() -> {
+            CommandParser.parse("analyzer --path file.txt --filter " + filter);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(INCORRECT_FILTER_EXPRESSION_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void parseCommandWithNoValueForLogFormatArgument_ShouldThrowIncorrectCommandException() {
+        final String incorrectCommand = "analyzer --path file.txt --log-format";
+
+        assertThatThrownBy(() -> {
+            CommandParser.parse(incorrectCommand);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(NOT_VALUE_FOR_LOG_FORMAT_ARGUMENT_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void parseCommandWithAdjacentLogFormatVariables_ShouldThrowIncorrectCommandException() {
+        final String incorrectCommand = "analyzer --path file.txt --log-format "
+            + "$remote_addr$remote_user [$time_local] \"$request\" $status $body_bytes_sent";
+
+        assertThatThrownBy(() -> {
+            CommandParser.parse(incorrectCommand);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(ADJACENT_LOG_FORMAT_VARIABLES_EXCEPTION_TEXT);
+    }
+
+    private static String[] getArgumentsForParseCommandWithIncorrectHeavyHitters() {
+        return new String[] {
+            "9",
+            "0",
+            "-100",
+            "1e3",
+            "many"
+        };
+    }
+
+    private static String[] getArgumentsForParseCommandWithIncorrectTop() {
+        return new String[] {
+            "0",
+            "-1",
+            "1.5",
+            "ten",
+            "99999999999"
+        };
+    }
+
+    private static String[] getArgumentsForParseCommandWithIncorrectPercentiles() {
+        return new String[] {
+            "0",
+            "-5",
+            "100.1",
+            "p95",
+            "50,,90",
+            "50;90",
+            "NaN",
+            "Infinity"
+        };
+    }
+
+    private static String[] getArgumentsForParseCommandWithIncorrectPercentileError() {
+        return new String[] {
+            "0",
+            "1",
+            "-0.01",
+            "1e-9",
+            "0.00009",
+            "1%",
+            "NaN"
+        };
+    }
+
     private static String[] getArgumentsForParseCommandWithIncorrectDate() {
         return new String[] {
             "31-08-2024",
@@ -367,109 +753,327 @@ public class CommandParserTest extends CommonTest {
 
         result.add(new Object[]{
             "analyzer --path file.txt",
-            new Command("file.txt", null, null, null, null, null)
+            Command.builder().filePath("file.txt").build()
         });
 
         result.add(new Object[]{
             "analyzer --path file.txt --from 2024-08-31",
-            new Command("file.txt", LocalDate.parse("2024-08-31"), null, null, null, null)
+            Command.builder().filePath("file.txt").from(LocalDate.parse("2024-08-31")).build()
         });
 
         result.add(new Object[]{
             "analyzer --path file.txt --from 2024-08-31 --to 2025-08-01",
-            new Command("file.txt", LocalDate.parse("2024-08-31"), LocalDate.parse("2025-08-01"), null, null, null)
+            Command.builder()
+                .filePath("file.txt")
+                .from(LocalDate.parse("2024-08-31"))
+                .to(LocalDate.parse("2025-08-01"))
+                .build()
         });
 
         result.add(new Object[]{
             "analyzer --path file.txt --to 2024-08-31",
-            new Command("file.txt", null, LocalDate.parse("2024-08-31"), null, null, null)
+            Command.builder().filePath("file.txt").to(LocalDate.parse("2024-08-31")).build()
         });
 
         result.add(new Object[]{
             "analyzer --path file.txt --to 2024-08-31 --format markdown",
-            new Command("file.txt", null, LocalDate.parse("2024-08-31"), OutputFormat.MARKDOWN, null, null)
+            Command.builder()
+                .filePath("file.txt")
+                .to(LocalDate.parse("2024-08-31"))
+                .format(OutputFormat.MARKDOWN)
+                .build()
         });
 
         result.add(new Object[]{
             "analyzer --path file.txt --to 2024-08-31 --format adoc",
-            new Command("file.txt", null, LocalDate.parse("2024-08-31"), OutputFormat.ADOC, null, null)
+            Command.builder().filePath("file.txt").to(LocalDate.parse("2024-08-31")).format(OutputFormat.ADOC).build()
         });
 
         result.add(new Object[]{
             "analyzer --path file.txt --from 2024-08-31 --to 2025-08-31 --format adoc",
-            new Command("file.txt", LocalDate.parse("2024-08-31"), LocalDate.parse("2025-08-31"), OutputFormat.ADOC, null, null)
+            Command.builder()
+                .filePath("file.txt")
+                .from(LocalDate.parse("2024-08-31"))
+                .to(LocalDate.parse("2025-08-31"))
+                .format(OutputFormat.ADOC)
+                .build()
         });
 
         result.add(new Object[]{
             "analyzer --path file.txt --format adoc",
-            new Command("file.txt", null, null, OutputFormat.ADOC, null, null)
+            Command.builder().filePath("file.txt").format(OutputFormat.ADOC).build()
         });
 
         result.add(new Object[]{
             "analyzer --path file.txt --format markdown",
-            new Command("file.txt", null, null, OutputFormat.MARKDOWN, null, null)
+            Command.builder().filePath("file.txt").format(OutputFormat.MARKDOWN).build()
         });
 
         result.add(new Object[]{
             "analyzer --to 2025-08-31 --from 2024-08-31 --format adoc --path file.txt ",
-            new Command("file.txt", LocalDate.parse("2024-08-31"),
-                LocalDate.parse("2025-08-31"), OutputFormat.ADOC, null, null
-            )
+            Command.builder()
+                .filePath("file.txt")
+                .from(LocalDate.parse("2024-08-31"))
+                .to(LocalDate.parse("2025-08-31"))
+                .format(OutputFormat.ADOC)
+                .build()
         });
 
         result.add(new Object[]{
             "     analyzer       --to 2025-08-31       --from 2024-08-31        --format       adoc       --path    file.txt    ",
-            new Command("file.txt", LocalDate.parse("2024-08-31"),
-                LocalDate.parse("2025-08-31"), OutputFormat.ADOC, null, null
-            )
+            Command.builder()
+                .filePath("file.txt")
+                .from(LocalDate.parse("2024-08-31"))
+                .to(LocalDate.parse("2025-08-31"))
+                .format(OutputFormat.ADOC)
+                .build()
         });
 
         result.add(new Object[]{
             "     analyzer       --to 2025-08-31       --from 2024-08-31      " +
                 "  --format       adoc       --path    file.txt  --filter-field address  --filter-value 199.38.183.217   ",
-            new Command(
-                "file.txt", LocalDate.parse("2024-08-31"),
-                LocalDate.parse("2025-08-31"), OutputFormat.ADOC, FilterField.ADDRESS, "199.38.183.217")
+            Command.builder()
+                .filePath("file.txt")
+                .from(LocalDate.parse("2024-08-31"))
+                .to(LocalDate.parse("2025-08-31"))
+                .format(OutputFormat.ADOC)
+                .filterField(FilterField.ADDRESS)
+                .filterValue("199.38.183.217")
+                .build()
         });
 
         result.add(new Object[]{
             "     analyzer       --to 2025-08-31       --from 2024-08-31      " +
                 "  --format       adoc       --path    Академия.txt  --filter-field address  --filter-value 199.38.183.217   ",
-            new Command(
-                "Академия.txt", LocalDate.parse("2024-08-31"),
-                LocalDate.parse("2025-08-31"), OutputFormat.ADOC, FilterField.ADDRESS, "199.38.183.217")
+            Command.builder()
+                .filePath("Академия.txt")
+                .from(LocalDate.parse("2024-08-31"))
+                .to(LocalDate.parse("2025-08-31"))
+                .format(OutputFormat.ADOC)
+                .filterField(FilterField.ADDRESS)
+                .filterValue("199.38.183.217")
+                .build()
         });
 
         result.add(new Object[]{
             "     analyzer       --to 2025-08-31       --from 2024-08-31      " +
                 "  --format       adoc       --path    Академия.txt  --filter-field user  --filter-value -   ",
-            new Command(
-                "Академия.txt", LocalDate.parse("2024-08-31"),
-                LocalDate.parse("2025-08-31"), OutputFormat.ADOC, FilterField.USER, "-")
+            Command.builder()
+                .filePath("Академия.txt")
+                .from(LocalDate.parse("2024-08-31"))
+                .to(LocalDate.parse("2025-08-31"))
+                .format(OutputFormat.ADOC)
+                .filterField(FilterField.USER)
+                .filterValue("-")
+                .build()
         });
 
         result.add(new Object[]{
             "     analyzer       --to 2025-08-31       --from 2024-08-31      " +
                 "  --format       adoc       --path    Академия.txt  --filter-field method  --filter-value get   ",
-            new Command(
-                "Академия.txt", LocalDate.parse("2024-08-31"),
-                LocalDate.parse("2025-08-31"), OutputFormat.ADOC, FilterField.HTTP_METHOD, "get")
+            Command.builder()
+                .filePath("Академия.txt")
+                .from(LocalDate.parse("2024-08-31"))
+                .to(LocalDate.parse("2025-08-31"))
+                .format(OutputFormat.ADOC)
+                .filterField(FilterField.HTTP_METHOD)
+                .filterValue("get")
+                .build()
         });
 
         result.add(new Object[]{
             "     analyzer       --to 2025-08-31       --from 2024-08-31      " +
                 "  --format       adoc       --path    Академия.txt  --filter-field agent  --filter-value -   ",
-            new Command(
-                "Академия.txt", LocalDate.parse("2024-08-31"),
-                LocalDate.parse("2025-08-31"), OutputFormat.ADOC, FilterField.AGENT, "-")
+            Command.builder()
+                .filePath("Академия.txt")
+                .from(LocalDate.parse("2024-08-31"))
+                .to(LocalDate.parse("2025-08-31"))
+                .format(OutputFormat.ADOC)
+                .filterField(FilterField.AGENT)
+                .filterValue("-")
+                .build()
         });
 
         result.add(new Object[]{
             "     analyzer       --to 2025-08-31       --from 2024-08-31      " +
                 "  --format       adoc       --path    Академия.txt  --filter-field status  --filter-value 200   ",
-            new Command(
-                "Академия.txt", LocalDate.parse("2024-08-31"),
-                LocalDate.parse("2025-08-31"), OutputFormat.ADOC, FilterField.HTTP_STATUS, "200")
+            Command.builder()
+                .filePath("Академия.txt")
+                .from(LocalDate.parse("2024-08-31"))
+                .to(LocalDate.parse("2025-08-31"))
+                .format(OutputFormat.ADOC)
+                .filterField(FilterField.HTTP_STATUS)
+                .filterValue("200")
+                .build()
+        });
+
+        result.add(new Object[]{
+            "analyzer --path file.txt --percentiles 50,90,99,99.9",
+            Command.builder()
+                .filePath("file.txt")
+                .statisticsSettings(StatisticsSettings.builder().percentiles(List.of(50.0, 90.0, 99.0, 99.9)).build())
+                .build()
+        });
+
+        result.add(new Object[]{
+            "analyzer --path file.txt --percentiles 99,50,99 --percentile-error 0.01",
+            Command.builder()
+                .filePath("file.txt")
+                .statisticsSettings(StatisticsSettings.builder()
+                    .percentiles(List.of(99.0, 50.0))
+                    .percentileError(0.01)
+                    .build())
+                .build()
+        });
+
+        result.add(new Object[]{
+            "analyzer --percentile-error 0.05 --path file.txt",
+            Command.builder()
+                .filePath("file.txt")
+                .statisticsSettings(StatisticsSettings.builder()
+                    .percentiles(List.of(DEFAULT_PERCENTILE))
+                    .percentileError(0.05)
+                    .build())
+                .build()
+        });
+
+        result.add(new Object[]{
+            "analyzer --path file.txt --top 20",
+            Command.builder()
+                .filePath("file.txt")
+                .statisticsSettings(StatisticsSettings.builder()
+                    .percentiles(List.of(DEFAULT_PERCENTILE))
+                    .top(20)
+                    .build())
+                .build()
+        });
+
+        result.add(new Object[]{
+            "analyzer --heavy-hitters 1000 --path file.txt --top 20",
+            Command.builder()
+                .filePath("file.txt")
+                .statisticsSettings(StatisticsSettings.builder()
+                    .percentiles(List.of(DEFAULT_PERCENTILE))
+                    .top(20)
+                    .heavyHitters(1000)
+                    .build())
+                .build()
+        });
+
+        result.add(new Object[]{
+            "analyzer --path file.txt --threads 4",
+            Command.builder()
+                .filePath("file.txt")
+                .processingSettings(ProcessingSettings.builder().threads(4).build())
+                .build()
+        });
+
+        result.add(new Object[]{
+            "analyzer --log-format '$remote_addr - $remote_user [$time_local]  \"$request\" $status $body_bytes_sent' "
+                + "--path file.txt",
+            Command.builder()
+                .filePath("file.txt")
+                .processingSettings(ProcessingSettings.builder()
+                    .logFormat(LogFormatCompiler.compile(
+                        "$remote_addr - $remote_user [$time_local]  \"$request\" $status $body_bytes_sent"
+                    ))
+                    .build())
+                .build()
+        });
+
+        result.add(new Object[]{
+            "analyzer --path file.txt --log-format '$remote_addr\t$remote_user  [$time_local] \"$request\" "
+                + "$status $body_bytes_sent'",
+            Command.builder()
+                .filePath("file.txt")
+                .processingSettings(ProcessingSettings.builder()
+                    .logFormat(LogFormatCompiler.compile(
+                        "$remote_addr\t$remote_user  [$time_local] \"$request\" $status $body_bytes_sent"
+                    ))
+                    .build())
+                .build()
+        });
+
+        result.add(new Object[]{
+            "analyzer --path file.txt --filter 'agent~\"go\t  client\"'",
+            Command.builder()
+                .filePath("file.txt")
+                .filterExpression(
+                    new FilterExpression.Condition(FilterField.AGENT, FilterOperator.CONTAINS, "go\t  client")
+                )
+                .build()
+        });
+
+        result.add(new Object[]{
+            "analyzer --path 'my logs/*.log' --filter-field agent --filter-value 'a  b' --format 'markdown'",
+            Command.builder()
+                .filePath("my logs/*.log")
+                .format(OutputFormat.MARKDOWN)
+                .filterField(FilterField.AGENT)
+                .filterValue("a  b")
+                .build()
+        });
+
+        result.add(new Object[]{
+            "analyzer --path file.txt --filter-field agent --filter-value go'  'client",
+            Command.builder()
+                .filePath("file.txt")
+                .filterField(FilterField.AGENT)
+                .filterValue("go  client")
+                .build()
+        });
+
+        result.add(new Object[]{
+            "analyzer --path file.txt --from 2015-05-17 --time-tolerance 60",
+            Command.builder()
+                .filePath("file.txt")
+                .from(LocalDate.parse("2015-05-17"))
+                .processingSettings(ProcessingSettings.builder().timeTolerance(60L).build())
+                .build()
+        });
+
+        result.add(new Object[]{
+            "analyzer --path file.txt --to 2015-05-17 --index-stride 1024",
+            Command.builder()
+                .filePath("file.txt")
+                .to(LocalDate.parse("2015-05-17"))
+                .processingSettings(ProcessingSettings.builder().indexStride(1024).build())
+                .build()
+        });
+
+        result.add(new Object[]{
+            "analyzer --path file.txt --rollup-dir rollups --percentile-error 0.01 --heavy-hitters 1000",
+            Command.builder()
+                .filePath("file.txt")
+                .statisticsSettings(StatisticsSettings.builder().percentileError(0.01).heavyHitters(1000).build())
+                .processingSettings(ProcessingSettings.builder().rollupDirectory(Path.of("rollups")).build())
+                .build()
+        });
+
+        result.add(new Object[]{
+            "analyzer --path file.txt --filter status>=500 AND (method=post OR agent~bot)",
+            Command.builder()
+                .filePath("file.txt")
+                .filterExpression(new FilterExpression.And(List.of(
+                    new FilterExpression.Condition(FilterField.HTTP_STATUS, FilterOperator.GREATER_OR_EQUALS, "500"),
+                    new FilterExpression.Or(List.of(
+                        new FilterExpression.Condition(FilterField.HTTP_METHOD, FilterOperator.EQUALS, "post"),
+                        new FilterExpression.Condition(FilterField.AGENT, FilterOperator.CONTAINS, "bot")
+                    ))
+                )))
+                .build()
+        });
+
+        result.add(new Object[]{
+            "analyzer --path file.txt --filter 'not status=200' --filter-field method --filter-value get",
+            Command.builder()
+                .filePath("file.txt")
+                .filterField(FilterField.HTTP_METHOD)
+                .filterValue("get")
+                .filterExpression(new FilterExpression.Not(
+                    new FilterExpression.Condition(FilterField.HTTP_STATUS, FilterOperator.EQUALS, "200")
+                ))
+                .build()
         });
 
         result.add(new Object[]{
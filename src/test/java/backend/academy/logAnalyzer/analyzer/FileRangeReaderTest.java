@@ -0,0 +1,100 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import backend.academy.logAnalyzer.CommonTest;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static backend.academy.logAnalyzer.constants.ConstValues.RESOURCES_PATH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class FileRangeReaderTest extends CommonTest {
+
+    @ParameterizedTest
+    @MethodSource("getRangeSizes")
+    public void readLinesByRanges_ShouldReadEachLineOnce(int rangeSize) throws IOException {
+        for (String filename : List.of("log1.txt", "log2.txt")) {
+            final Path filePath = Path.of(RESOURCES_PATH + filename);
+            final long fileSize = Files.size(filePath);
+            final List<String> lines = new ArrayList<>();
+
+            for (long start = 0; start < fileSize; start += rangeSize) {
+                try (FileRangeReader reader = new FileRangeReader(filePath, start, start + rangeSize)) {
+                    reader.lines().map(CharSequence::toString).forEach(lines::add);
+                }
+            }
+
+            assertEquals(Files.readAllLines(filePath, StandardCharsets.UTF_8), lines);
+        }
+    }
+
+    @Test
+    public void readLineFromEmptyFile_ShouldReturnNull() throws IOException {
+        final Path filePath = Path.of(RESOURCES_PATH + "empty-log.txt");
+
+        try (FileRangeReader reader = new FileRangeReader(filePath, 0, Files.size(filePath))) {
+            assertNull(reader.readLine());
+        }
+    }
+
+    @Test
+    public void readLineFromRangeInsideLine_ShouldStartFromNextLine() throws IOException {
+        final Path filePath = Path.of(RESOURCES_PATH + "log1.txt");
+        final List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+
+        try (FileRangeReader reader = new FileRangeReader(filePath, 1, Files.size(filePath))) {
+            assertEquals(lines.get(1), reader.readLine().toString());
+        }
+    }
+
+    @Test
+    public void seekBackwardsInsideLine_ShouldStartFromNextLine() throws IOException {
+        final Path filePath = Path.of(RESOURCES_PATH + "log1.txt");
+        final List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+
+        try (FileRangeReader reader = new FileRangeReader(filePath, 0, Files.size(filePath))) {
+            reader.seek(Files.size(filePath) - 1);
+            assertNull(reader.readLine());
+
+            reader.seek(lines.getFirst().length() + 2);
+            assertEquals(lines.get(2), reader.readLine().toString());
+
+            reader.seek(0);
+            assertEquals(lines.getFirst(), reader.readLine().toString());
+        }
+    }
+
+    @Test
+    public void readLinesWithNonAsciiBytes_ShouldDecodeOnlyThemAsUtf8() throws IOException {
+        final List<String> lines = List.of(
+            "93.180.71.3 - - \"GET /downloads/product_1 HTTP/1.1\" 304 0", "запрос \u00e9", "", "ascii after utf-8"
+        );
+        final Path filePath = Files.createTempFile("log", ".txt");
+
+        try {
+            Files.writeString(filePath, String.join("\r\n", lines) + "\n", StandardCharsets.UTF_8);
+
+            try (FileRangeReader reader = new FileRangeReader(filePath, 0, Files.size(filePath))) {
+                final List<CharSequence> actual = reader.lines().toList();
+
+                assertEquals(lines, actual.stream().map(CharSequence::toString).toList());
+                assertInstanceOf(ByteCharSequence.class, actual.getFirst());
+                assertInstanceOf(String.class, actual.get(1));
+                assertInstanceOf(ByteCharSequence.class, actual.getLast());
+            }
+        } finally {
+            Files.delete(filePath);
+        }
+    }
+
+    private static int[] getRangeSizes() {
+        return new int[] {1, 2, 7, 100, 1000, 4096, 1 << 20};
+    }
+}
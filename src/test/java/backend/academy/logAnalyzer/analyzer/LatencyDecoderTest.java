@@ -0,0 +1,43 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import backend.academy.logAnalyzer.CommonTest;
+import backend.academy.logAnalyzer.exception.IncorrectLogFormatException;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import static backend.academy.logAnalyzer.constants.ConstValues.NO_LATENCY;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_LOG_FORMAT_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LatencyDecoderTest extends CommonTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+        "0.000;0",
+        "0.125;125000",
+        "12;12000000",
+        "1.5;1500000",
+        "0.0000019;1",
+        "0.120, 0.005;125000",
+        "0.100 : 0.050, -;150000"
+    })
+    public void decodeLatency_ShouldReturnMicroseconds(String latency, long expected) {
+        assertEquals(expected, LatencyDecoder.decode(latency));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"-", "-, -", " : "})
+    public void decodeLatencyWithoutValue_ShouldReturnNoLatency(String latency) {
+        assertEquals(NO_LATENCY, LatencyDecoder.decode(latency));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"abc", ".5", "1.", "1.2.3", "0.1s", "--", "99999999999999999999"})
+    public void decodeIncorrectLatency_ShouldThrowIncorrectLogFormatException(String latency) {
+        assertThatThrownBy(() -> {
+            LatencyDecoder.decode(latency);
+        }).isInstanceOf(IncorrectLogFormatException.class)
+            .hasMessageContaining(INCORRECT_LOG_FORMAT_EXCEPTION_TEXT);
+    }
+}
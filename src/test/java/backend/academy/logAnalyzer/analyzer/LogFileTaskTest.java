@@ -0,0 +1,54 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import backend.academy.logAnalyzer.CommonTest;
+import backend.academy.logAnalyzer.dto.StatisticsSettings;
+import backend.academy.logAnalyzer.statistics.LogStatistics;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static backend.academy.logAnalyzer.constants.ConstValues.RESOURCES_PATH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LogFileTaskTest extends CommonTest {
+
+    private static final StatisticsSettings SETTINGS = StatisticsSettings.builder()
+        .percentiles(List.of(50.0, 90.0, 99.0))
+        .build();
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 10, 500, 4096})
+    public void computeWithSmallRanges_ShouldReturnSameStatisticsAsWholeFile(long rangeSize) throws IOException {
+        final Path filePath = Path.of(RESOURCES_PATH + "log1.txt");
+        final long fileSize = Files.size(filePath);
+        final int threads = 4;
+
+        final LogStatistics expected = new LogFileTask(filePath, 0, fileSize, fileSize, LogFileTaskTest::process, null)
+            .invoke();
+
+        try (ForkJoinPool pool = new ForkJoinPool(threads)) {
+            final LogStatistics actual = pool.invoke(
+                new LogFileTask(filePath, 0, fileSize, rangeSize, LogFileTaskTest::process, null)
+            );
+
+            assertEquals(expected.requestsCount(), actual.requestsCount());
+            assertEquals(expected.bytesCount(), actual.bytesCount());
+            assertEquals(expected.getPercentiles(SETTINGS.percentiles()),
+                actual.getPercentiles(SETTINGS.percentiles()));
+            assertEquals(expected.getRequestStatistics(SETTINGS.top()), actual.getRequestStatistics(SETTINGS.top()));
+        }
+    }
+
+    private static LogStatistics process(Stream<CharSequence> logs) {
+        final LogStatistics statistics = new LogStatistics(SETTINGS);
+        final LogLine logLine = new LogLine();
+
+        logs.map(logLine::parse).map(LogLine::toLog).forEach(statistics::add);
+
+        return statistics;
+    }
+}
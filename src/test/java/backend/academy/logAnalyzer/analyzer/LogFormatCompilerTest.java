@@ -0,0 +1,156 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import backend.academy.logAnalyzer.CommonTest;
+import backend.academy.logAnalyzer.enums.LogField;
+import backend.academy.logAnalyzer.exception.IncorrectCommandException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import static backend.academy.logAnalyzer.constants.ConstValues.RESOURCES_PATH;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.ADJACENT_LOG_FORMAT_VARIABLES_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.MISSING_LOG_FORMAT_VARIABLES_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_VALUE_FOR_LOG_FORMAT_ARGUMENT_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LogFormatCompilerTest extends CommonTest {
+
+    private static final String COMBINED_LOG_FORMAT = "$remote_addr - $remote_user [$time_local] \"$request\" "
+        + "$status $body_bytes_sent \"$http_referer\" \"$http_user_agent\"";
+
+    @Test
+    public void compileCombinedLogFormat_ShouldExtractSameFieldsAsCombinedTokenizer() throws IOException {
+        final LogTokenizer compiledTokenizer = LogFormatCompiler.compile(COMBINED_LOG_FORMAT).tokenizer();
+        final CombinedLogTokenizer combinedTokenizer = new CombinedLogTokenizer();
+        final Set<LogField> fields = EnumSet.range(LogField.REMOTE_ADDRESS, LogField.HTTP_USER_AGENT);
+
+        for (String filename : List.of("log1.txt", "log2.txt")) {
+            for (String line : Files.readAllLines(Path.of(RESOURCES_PATH + filename), StandardCharsets.UTF_8)) {
+                assertTrue(combinedTokenizer.tokenize(line));
+                assertTrue(compiledTokenizer.tokenize(line));
+
+                for (LogField field : fields) {
+                    assertTrue(compiledTokenizer.contains(field));
+                    assertEquals(combinedTokenizer.text(field), compiledTokenizer.text(field));
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForTokenizeCorrectLog")
+    public void tokenizeCorrectLog_ShouldExtractFields(String logFormat, String log, Map<LogField, String> fields) {
+        final LogTokenizer tokenizer = LogFormatCompiler.compile(logFormat).tokenizer();
+
+        assertTrue(tokenizer.tokenize(log));
+        fields.forEach((field, value) -> assertEquals(value, tokenizer.text(field)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "93.180.71.3 - - [17/May/2015:08:05:32 +0000] \"GET /downloads/product_1 HTTP/1.1\" 304 0 \"-\" \"agent",
+        "93.180.71.3 - - [17/May/2015:08:05:32 +0000] \"GET /downloads/product_1\" 304 0 \"-\" \"agent\"",
+        "93.180.71.3 - - [17/May/2015:08:05:32 +0000] \"GET /downloads/product_1 HTTP/1.1\" 304 \"-\" \"agent\"",
+        " - - [17/May/2015:08:05:32 +0000] \"GET /downloads/product_1 HTTP/1.1\" 304 0 \"-\" \"agent\"",
+        ""
+    })
+    public void tokenizeIncorrectLog_ShouldReturnFalse(String log) {
+        assertFalse(LogFormatCompiler.compile(COMBINED_LOG_FORMAT).tokenizer().tokenize(log));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " "})
+    public void compileBlankLogFormat_ShouldThrowIncorrectCommandException(String logFormat) {
+        assertThatThrownBy(() -> {
+            LogFormatCompiler.compile(logFormat);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(NOT_VALUE_FOR_LOG_FORMAT_ARGUMENT_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "$remote_addr$host [$time_local] \"$request\" $status $body_bytes_sent",
+        "$remote_addr [$time_local] \"$request\" $status${body_bytes_sent}"
+    })
+    public void compileLogFormatWithAdjacentVariables_ShouldThrowIncorrectCommandException(String logFormat) {
+        assertThatThrownBy(() -> {
+            LogFormatCompiler.compile(logFormat);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(ADJACENT_LOG_FORMAT_VARIABLES_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "remote_addr time_local request status body_bytes_sent",
+        "[$time_local] \"$request\" $status $body_bytes_sent",
+        "$remote_addr \"$request\" $status $body_bytes_sent",
+        "$remote_addr [$time_local] $request_method $status $body_bytes_sent",
+        "$remote_addr [$time_local] \"$request\" $status $bytes_sent"
+    })
+    public void compileLogFormatWithoutRequiredVariables_ShouldThrowIncorrectCommandException(String logFormat) {
+        assertThatThrownBy(() -> {
+            LogFormatCompiler.compile(logFormat);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(MISSING_LOG_FORMAT_VARIABLES_EXCEPTION_TEXT);
+    }
+
+    private static List<Object[]> getArgumentsForTokenizeCorrectLog() {
+        final List<Object[]> result = new ArrayList<>();
+
+        result.add(new Object[] {
+            COMBINED_LOG_FORMAT + " $request_time $upstream_response_time $host",
+            "93.180.71.3 - - [17/May/2015:08:05:32 +0000] \"GET /downloads/product_1 HTTP/1.1\" 304 0 \"-\" "
+                + "\"Debian APT-HTTP/1.3 (0.8.16~exp12ubuntu10.21)\" 0.125 0.120 example.com",
+            Map.of(
+                LogField.REMOTE_ADDRESS, "93.180.71.3",
+                LogField.HTTP_METHOD, "GET",
+                LogField.RESOURCE, "/downloads/product_1",
+                LogField.HTTP_PROTOCOL, "HTTP/1.1",
+                LogField.HTTP_USER_AGENT, "Debian APT-HTTP/1.3 (0.8.16~exp12ubuntu10.21)",
+                LogField.REQUEST_TIME, "0.125",
+                LogField.UPSTREAM_RESPONSE_TIME, "0.120",
+                LogField.HOST, "example.com"
+            )
+        });
+
+        result.add(new Object[] {
+            "${remote_addr}|$connection|[$time_local]|$request_method $request_uri|$status|$body_bytes_sent",
+            "217.168.17.5|42|[17/May/2015:08:05:09 +0000]|HEAD /downloads/product_2|200|490",
+            Map.of(
+                LogField.REMOTE_ADDRESS, "217.168.17.5",
+                LogField.TIME_LOCAL, "17/May/2015:08:05:09 +0000",
+                LogField.HTTP_METHOD, "HEAD",
+                LogField.RESOURCE, "/downloads/product_2",
+                LogField.HTTP_STATUS, "200",
+                LogField.BODY_BYTES_SEND, "490"
+            )
+        });
+
+        result.add(new Object[] {
+            "[$time_local] $host: $remote_addr \"$request\" $status $body_bytes_sent \"$http_user_agent\"",
+            "[17/May/2015:08:05:09 +0000] example.com: 10.0.0.1 \"GET / HTTP/2.0\" 404 12 \"a\" \"b\"",
+            Map.of(
+                LogField.HOST, "example.com",
+                LogField.REMOTE_ADDRESS, "10.0.0.1",
+                LogField.RESOURCE, "/",
+                LogField.HTTP_PROTOCOL, "HTTP/2.0",
+                LogField.HTTP_STATUS, "404",
+                LogField.HTTP_USER_AGENT, "a\" \"b"
+            )
+        });
+
+        return result;
+    }
+}
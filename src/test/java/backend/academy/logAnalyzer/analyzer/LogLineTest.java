@@ -0,0 +1,52 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import backend.academy.logAnalyzer.CommonTest;
+import backend.academy.logAnalyzer.enums.HttpMethod;
+import backend.academy.logAnalyzer.enums.HttpStatus;
+import backend.academy.logAnalyzer.enums.LogField;
+import backend.academy.logAnalyzer.exception.IncorrectLogFormatException;
+import java.util.EnumSet;
+import org.junit.jupiter.api.Test;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_LOG_FORMAT_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_USER_AGENT_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class LogLineTest extends CommonTest {
+
+    private static final String LOG_WITH_INCORRECT_TIME_LOCAL =
+        "93.180.71.3 - - [17/Foo/2015:08:05:32 +0000] \"GET /downloads/product_1 HTTP/1.1\" 304 0 \"-\" \" \"";
+
+    @Test
+    public void parseLogWithAllFields_ShouldValidateTimeLocal() {
+        assertThatThrownBy(() -> {
+            new LogLine().parse(LOG_WITH_INCORRECT_TIME_LOCAL);
+        }).isInstanceOf(IncorrectLogFormatException.class)
+            .hasMessageContaining(INCORRECT_LOG_FORMAT_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void parseLogWithProjectedFields_ShouldDecodeOnlyProjectedFields() {
+        final LogLine logLine = new LogLine(new CombinedLogTokenizer(),
+            EnumSet.of(LogField.REMOTE_ADDRESS, LogField.HTTP_METHOD, LogField.HTTP_STATUS)
+        ).parse(LOG_WITH_INCORRECT_TIME_LOCAL);
+
+        assertEquals("93.180.71.3", logLine.remoteAddress().toString());
+        assertEquals(HttpMethod.GET, logLine.httpMethod());
+        assertEquals(HttpStatus.NOT_MODIFIED, logLine.httpStatus());
+        assertNull(logLine.timeLocal());
+        assertNull(logLine.httpProtocol());
+        assertEquals(0, logLine.bodyBytesSend());
+    }
+
+    @Test
+    public void parseLogWithProjectedUserAgent_ShouldValidateUserAgent() {
+        final LogLine logLine = new LogLine(new CombinedLogTokenizer(), EnumSet.of(LogField.HTTP_USER_AGENT));
+
+        assertThatThrownBy(() -> {
+            logLine.parse(LOG_WITH_INCORRECT_TIME_LOCAL);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_USER_AGENT_EXCEPTION_TEXT);
+    }
+}
@@ -10,7 +10,6 @@ import backend.academy.logAnalyzer.exception.HttpStatusNotSupportedException;
 import backend.academy.logAnalyzer.exception.IncorrectLogFormatException;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
-import java.math.BigInteger;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -71,7 +70,7 @@ public class LogParserTest extends CommonTest {
                 "93.180.71.3", "-", ZonedDateTime.parse("17/May/2015:08:05:32 +0000",
                 DateTimeFormatter.ofPattern(TIME_LOCAL_FORMAT, Locale.ENGLISH)),
                 new Request(HttpMethod.GET, "/downloads/product_1", HttpProtocol.LEGACY_HTTP),
-                HttpStatus.NOT_MODIFIED, BigInteger.ZERO, "-", "Debian APT-HTTP/1.3 (0.8.16~exp12ubuntu10.21)"
+                HttpStatus.NOT_MODIFIED, 0L, "-", "Debian APT-HTTP/1.3 (0.8.16~exp12ubuntu10.21)"
             )
         });
 
@@ -81,7 +80,7 @@ public class LogParserTest extends CommonTest {
                 "80.70.214.71", "-", ZonedDateTime.parse("17/May/2015:09:05:20 +0000",
                 DateTimeFormatter.ofPattern(TIME_LOCAL_FORMAT, Locale.ENGLISH)),
                 new Request(HttpMethod.HEAD, "/downloads/product_1", HttpProtocol.LEGACY_HTTP),
-                HttpStatus.OK, BigInteger.ZERO, "-", "Wget/1.13.4 (linux-gnu)"
+                HttpStatus.OK, 0L, "-", "Wget/1.13.4 (linux-gnu)"
             )
         });
 
@@ -91,7 +90,17 @@ public class LogParserTest extends CommonTest {
                 "202.143.95.26", "-", ZonedDateTime.parse("17/May/2015:13:05:54 +0000",
                 DateTimeFormatter.ofPattern(TIME_LOCAL_FORMAT, Locale.ENGLISH)),
                 new Request(HttpMethod.GET, "/downloads/product_2", HttpProtocol.LEGACY_HTTP),
-                HttpStatus.NOT_FOUND, new BigInteger("337"), "-", "Debian APT-HTTP/1.3 (0.8.16~exp12ubuntu10.16)"
+                HttpStatus.NOT_FOUND, 337L, "-", "Debian APT-HTTP/1.3 (0.8.16~exp12ubuntu10.16)"
+            )
+        });
+
+        result.add(new Object[] {
+            "93.180.71.3 - - [17/May/2015:08:05:32 +0000] \"GET /downloads/\"product_1\" HTTP/1.1\" 304 0 \"a\" \"b\" \"Debian\"",
+            new Log(
+                "93.180.71.3", "-", ZonedDateTime.parse("17/May/2015:08:05:32 +0000",
+                DateTimeFormatter.ofPattern(TIME_LOCAL_FORMAT, Locale.ENGLISH)),
+                new Request(HttpMethod.GET, "/downloads/\"product_1\"", HttpProtocol.LEGACY_HTTP),
+                HttpStatus.NOT_MODIFIED, 0L, "a", "b\" \"Debian"
             )
         });
 
@@ -122,7 +131,10 @@ public class LogParserTest extends CommonTest {
             "93.180.71.3 - - [17/May/2015:08:05:32 +0000] \"GET \" 304 -1 \"-\" \"Debian APT-HTTP/1.3 (0.8.16~exp12ubuntu10.21)\"",
             "93.180.71.3 - - [17/May/2015:08:05:32 +0000] \"GET HTTP/1.1\" 304 0 \"-\" \"Debian APT-HTTP/1.3 (0.8.16~exp12ubuntu10.21)\"",
             "93.180.71.3 - - [17/May/2015:08:05:32 +0000] \"GET HTTP/1.1 HTTP/1.1 HTTP/1.1\" 304 0 \"-\" \"Debian APT-HTTP/1.3 (0.8.16~exp12ubuntu10.21)\"",
-            "93.180.71.3 - - [17/May/2015:08:05:32 +00] \"GET HTTP/1.1 HTTP/1.1 HTTP/1.1\" 304 0 \"-\" \"Debian APT-HTTP/1.3 (0.8.16~exp12ubuntu10.21)\""
+            "93.180.71.3 - - [17/May/2015:08:05:32 +00] \"GET HTTP/1.1 HTTP/1.1 HTTP/1.1\" 304 0 \"-\" \"Debian APT-HTTP/1.3 (0.8.16~exp12ubuntu10.21)\"",
+            "93.180.71.3 - - [17/May/2015:08:05:32 +0000] \"GET\t/downloads/product_1 HTTP/1.1\" 304 0 \"-\" \"Debian APT-HTTP/1.3 (0.8.16~exp12ubuntu10.21)\"",
+            "93.180.71.3 - - [17/May/2015:08:05:32 +0000] \"GET /downloads/product_1 HTTP/1.1\" 99999999999 0 \"-\" \"Debian APT-HTTP/1.3 (0.8.16~exp12ubuntu10.21)\"",
+            "93.180.71.3 - - [17/May/2015:08:05:32 +0000] \"GET /downloads/product_1 HTTP/1.1\" 304 99999999999999999999 \"-\" \"Debian APT-HTTP/1.3 (0.8.16~exp12ubuntu10.21)\""
         };
     }
 }
@@ -1,12 +1,14 @@
 package backend.academy.logAnalyzer.analyzer;
 
 import backend.academy.logAnalyzer.CommonTest;
+import backend.academy.logAnalyzer.dto.BotStatistics;
 import backend.academy.logAnalyzer.dto.GeneralInformation;
+import backend.academy.logAnalyzer.dto.LatencyStatistics;
+import backend.academy.logAnalyzer.dto.LatencySummary;
 import backend.academy.logAnalyzer.enums.HttpMethod;
 import backend.academy.logAnalyzer.enums.HttpStatus;
 import backend.academy.logAnalyzer.enums.OutputFormat;
 import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -19,23 +21,31 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import static backend.academy.logAnalyzer.constants.ConstValues.ADDRESSES_TEXT;
+import static backend.academy.logAnalyzer.constants.ConstValues.BOTS_OUTPUT_TEXT;
+import static backend.academy.logAnalyzer.constants.ConstValues.BOTS_TEXT;
 import static backend.academy.logAnalyzer.constants.ConstValues.DEFAULT_FORMAT;
 import static backend.academy.logAnalyzer.constants.ConstValues.END_DATE_OUTPUT_TEXT;
 import static backend.academy.logAnalyzer.constants.ConstValues.FILES_OUTPUT_TEXT;
 import static backend.academy.logAnalyzer.constants.ConstValues.GENERAL_INFORMATION_TEXT;
 import static backend.academy.logAnalyzer.constants.ConstValues.HTTP_METHODS_TEXT;
+import static backend.academy.logAnalyzer.constants.ConstValues.HUMANS_OUTPUT_TEXT;
+import static backend.academy.logAnalyzer.constants.ConstValues.LATENCY_TEXT;
 import static backend.academy.logAnalyzer.constants.ConstValues.NO_VALUE_IN_STATISTICS;
 import static backend.academy.logAnalyzer.constants.ConstValues.PERCENTILE_OUTPUT_TEXT;
 import static backend.academy.logAnalyzer.constants.ConstValues.REQUESTED_RESOURCES_TEXT;
 import static backend.academy.logAnalyzer.constants.ConstValues.REQUESTS_COUNT_OUTPUT_TEXT;
+import static backend.academy.logAnalyzer.constants.ConstValues.REQUEST_TIME_OUTPUT_TEXT;
 import static backend.academy.logAnalyzer.constants.ConstValues.RESPONSE_AVERAGE_SIZE_OUTPUT_TEXT;
 import static backend.academy.logAnalyzer.constants.ConstValues.RESPONSE_CODES_TEXT;
 import static backend.academy.logAnalyzer.constants.ConstValues.START_DATE_OUTPUT_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_BOTS_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_ELEMENTS_STATISTICS_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_GENERAL_INFORMATION_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_LATENCY_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_STATISTICS_EXCEPTION_TEXT;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class SceneTest extends CommonTest {
 
@@ -45,7 +55,7 @@ public class SceneTest extends CommonTest {
         null,
         getRandomNumber(),
         BigDecimal.valueOf(getRandomNumber()),
-        BigInteger.valueOf(getRandomNumber())
+        Map.of(DEFAULT_PERCENTILE, (long) getRandomNumber())
     );
 
     @Test
@@ -88,8 +98,26 @@ public class SceneTest extends CommonTest {
         assertThat(averageResponseSize)
             .contains(RESPONSE_AVERAGE_SIZE_OUTPUT_TEXT, String.valueOf(generalInformation.responseAverageSize()));
 
-        assertThat(percentile)
-            .contains(PERCENTILE_OUTPUT_TEXT, String.valueOf(generalInformation.percentile()));
+        assertThat(percentile).contains(String.format(PERCENTILE_OUTPUT_TEXT, "95"),
+            String.valueOf(generalInformation.percentiles().get(DEFAULT_PERCENTILE)));
+    }
+
+    @Test
+    public void renderGeneralInformationWithPercentiles_ShouldRenderEachPercentile() {
+        final Map<Double, Long> percentiles = new LinkedHashMap<>();
+        percentiles.put(50.0, 10L);
+        percentiles.put(99.0, 200L);
+        percentiles.put(99.9, 3000L);
+
+        final GeneralInformation generalInformation = new GeneralInformation(
+            new HashSet<>(getRandomStringsList()), null, null, getRandomNumber(),
+            BigDecimal.valueOf(getRandomNumber()), percentiles
+        );
+        final String[] result = Scene.renderGeneralInformation(generalInformation, null).split("\n");
+
+        assertThat(result[8]).contains(String.format(PERCENTILE_OUTPUT_TEXT, "50"), "10b");
+        assertThat(result[9]).contains(String.format(PERCENTILE_OUTPUT_TEXT, "99"), "200b");
+        assertThat(result[10]).contains(String.format(PERCENTILE_OUTPUT_TEXT, "99.9"), "3000b");
     }
 
     @Test
@@ -214,6 +242,31 @@ public class SceneTest extends CommonTest {
         checkStatistics(httpStatuses, result, DEFAULT_FORMAT.headerSymbol(), RESPONSE_CODES_TEXT);
     }
 
+    @Test
+    public void renderAddressesInformationWithErrors_ShouldRenderErrorColumn() {
+        final Map<String, Integer> addresses = new LinkedHashMap<>();
+        addresses.put("80.91.33.133", 120);
+        addresses.put("93.180.71.3", 70);
+
+        final Map<String, Integer> errors = new LinkedHashMap<>();
+        errors.put("80.91.33.133", 0);
+        errors.put("93.180.71.3", 15);
+
+        final String[] result = Scene.renderAddressesInformation(addresses, errors, null).split("\n");
+
+        assertThat(result[1]).contains("Погрешность");
+        assertThat(result[3]).contains("80.91.33.133", "120", "0");
+        assertThat(result[4]).contains("93.180.71.3", "70", "15");
+    }
+
+    @Test
+    public void renderAddressesInformationWithNullErrors_ShouldThrowNullPointerException() {
+        assertThatThrownBy(() -> {
+            Scene.renderAddressesInformation(getRandomStatistics(), null, null);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_STATISTICS_EXCEPTION_TEXT);
+    }
+
     @Test
     public void renderAddressesInformationWithNullMap_ShouldThrowNullPointerException() {
         assertThatThrownBy(() -> {
@@ -312,6 +365,60 @@ public class SceneTest extends CommonTest {
         checkStatistics(methods, result, DEFAULT_FORMAT.headerSymbol(), HTTP_METHODS_TEXT);
     }
 
+    @Test
+    public void renderLatencyInformationWithNullStatistics_ShouldThrowNullPointerException() {
+        assertThatThrownBy(() -> {
+            Scene.renderLatencyInformation(null, null);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_LATENCY_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @EnumSource(OutputFormat.class)
+    public void renderLatencyInformation_ShouldRenderLatencyInformation(OutputFormat outputFormat) {
+        final Map<String, LatencySummary> resources = new LinkedHashMap<>();
+
+        resources.put("/downloads/product_1", new LatencySummary(1500, 20_000, 20_000, 31_250));
+
+        final String[] result = Scene.renderLatencyInformation(
+            new LatencyStatistics(new LatencySummary(125_000, 250_000, 1_000_000, 12_345_678), null, resources),
+            outputFormat
+        ).split("\n");
+
+        assertThat(result[0]).contains(String.valueOf(outputFormat.headerSymbol()), LATENCY_TEXT);
+        assertEquals(5, result.length);
+        assertThat(result[3]).contains(REQUEST_TIME_OUTPUT_TEXT, "125.000ms", "250.000ms", "1000.000ms",
+            "12345.678ms");
+        assertThat(result[4]).contains("/downloads/product_1", "1.500ms", "20.000ms", "31.250ms");
+    }
+
+    @Test
+    public void renderBotsInformationWithNullStatistics_ShouldThrowNullPointerException() {
+        assertThatThrownBy(() -> {
+            Scene.renderBotsInformation(null, null);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_BOTS_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @EnumSource(OutputFormat.class)
+    public void renderBotsInformation_ShouldRenderBotsInformation(OutputFormat outputFormat) {
+        final Map<String, Integer> signatures = new LinkedHashMap<>();
+
+        signatures.put("Googlebot", 7);
+        signatures.put("bingbot", 3);
+
+        final String[] result = Scene.renderBotsInformation(new BotStatistics(10, 90, signatures), outputFormat)
+            .split("\n");
+
+        assertThat(result[0]).contains(String.valueOf(outputFormat.headerSymbol()), BOTS_TEXT);
+        assertEquals(7, result.length);
+        assertThat(result[3]).contains(BOTS_OUTPUT_TEXT, "10");
+        assertThat(result[4]).contains(HUMANS_OUTPUT_TEXT, "90");
+        assertThat(result[5]).contains("Googlebot", "7");
+        assertThat(result[6]).contains("bingbot", "3");
+    }
+
     private static void checkStatistics(Map<?, ?> statistics, String[] result, char headerSymbol, String correctHeaderText) {
         final String header = result[0];
         int statisticsIndex = 3;
@@ -355,7 +462,7 @@ public class SceneTest extends CommonTest {
                         LocalDate.now().plusDays(daysCount),
                         i,
                         BigDecimal.valueOf(getRandomNumber()),
-                        BigInteger.valueOf(getRandomNumber())
+                        Map.of(DEFAULT_PERCENTILE, (long) getRandomNumber())
                     ),
                     outputFormat
                 });
@@ -0,0 +1,146 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import backend.academy.logAnalyzer.CommonTest;
+import backend.academy.logAnalyzer.dto.FileRange;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static backend.academy.logAnalyzer.constants.ConstValues.LOG_FORMAT;
+import static backend.academy.logAnalyzer.constants.ConstValues.RESOURCES_PATH;
+import static backend.academy.logAnalyzer.constants.ConstValues.TIME_LOCAL_FORMAT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimeIndexTest extends CommonTest {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(TIME_LOCAL_FORMAT, Locale.ENGLISH);
+    private static final ZonedDateTime FROM = ZonedDateTime.parse("17/Jun/2015:00:00:00 +0000", FORMATTER);
+    private static final ZonedDateTime TO = ZonedDateTime.parse("18/Jun/2015:00:00:00 +0000", FORMATTER);
+    private static final int SCAN_RANGES_COUNT = 7;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 512, 4096, 1 << 20})
+    public void getRangesInUnorderedFile_ShouldContainEachLineInsideDateRange(int stride) throws IOException {
+        final Path filePath = createLogFile();
+
+        try {
+            final TimeIndex index = buildIndex(filePath, stride);
+
+            assertTrue(Files.exists(TimeIndex.getIndexPath(filePath)));
+            assertTrue(index.isComplete());
+            assertEquals(getLinesInsideDateRange(Files.readAllLines(filePath, StandardCharsets.UTF_8)),
+                getLinesInsideDateRange(readRanges(filePath, index.getRanges(FROM, TO))));
+        } finally {
+            Files.deleteIfExists(TimeIndex.getIndexPath(filePath));
+            Files.delete(filePath);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "corrupted index"})
+    public void getOrCreateWithIncorrectIndexFile_ShouldRebuildIndex(String indexContent) throws IOException {
+        final Path filePath = createLogFile();
+
+        try {
+            Files.writeString(TimeIndex.getIndexPath(filePath), indexContent);
+
+            final TimeIndex index = buildIndex(filePath, 1);
+
+            assertEquals(getLinesInsideDateRange(Files.readAllLines(filePath, StandardCharsets.UTF_8)),
+                readRanges(filePath, index.getRanges(FROM, TO)));
+        } finally {
+            Files.deleteIfExists(TimeIndex.getIndexPath(filePath));
+            Files.delete(filePath);
+        }
+    }
+
+    @Test
+    public void getOrCreateForGrownFile_ShouldKeepIndexedPrefix() throws IOException {
+        final Path filePath = createLogFile();
+
+        try {
+            final long indexedSize = buildIndex(filePath, 1).getUnindexedRange().end();
+
+            Files.write(filePath, Files.readAllLines(filePath, StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+            final TimeIndex index = createIndex(filePath, 1);
+
+            assertFalse(index.isComplete());
+            assertTrue(index.getUnindexedRange().start() > 0);
+            assertTrue(index.getUnindexedRange().start() < indexedSize);
+            assertEquals(getLinesInsideDateRange(Files.readAllLines(filePath, StandardCharsets.UTF_8)),
+                getLinesInsideDateRange(readRanges(filePath, buildIndex(filePath, 1).getRanges(FROM, TO))));
+        } finally {
+            Files.deleteIfExists(TimeIndex.getIndexPath(filePath));
+            Files.delete(filePath);
+        }
+    }
+
+    private static TimeIndex buildIndex(Path filePath, int stride) throws IOException {
+        final TimeIndex index = createIndex(filePath, stride);
+        final FileRange range = index.getUnindexedRange();
+        final long rangeSize = Math.max((range.end() - range.start()) / SCAN_RANGES_COUNT, 1);
+
+        for (long start = range.start(); start < range.end(); start += rangeSize) {
+            final long end = Math.min(start + rangeSize, range.end());
+
+            try (FileRangeReader reader = new FileRangeReader(filePath, start, end)) {
+                final TimeIndex.BlockScanner scanner = index.createScanner(start, reader.position());
+
+                reader.lines().forEach(line -> scanner.add(line, reader.position()));
+            }
+        }
+
+        index.save();
+
+        return createIndex(filePath, stride);
+    }
+
+    private static TimeIndex createIndex(Path filePath, int stride) throws IOException {
+        return TimeIndex.getOrCreate(filePath, LOG_FORMAT, CombinedLogTokenizer::new, stride);
+    }
+
+    private static List<String> getLinesInsideDateRange(List<String> lines) {
+        return lines.stream()
+            .filter(line -> {
+                final ZonedDateTime timeLocal = ZonedDateTime.parse(
+                    line.substring(line.indexOf('[') + 1, line.indexOf(']')), FORMATTER
+                );
+
+                return !timeLocal.isBefore(FROM) && !timeLocal.isAfter(TO);
+            })
+            .toList();
+    }
+
+    private static List<String> readRanges(Path filePath, List<FileRange> ranges) throws IOException {
+        final List<String> lines = new ArrayList<>();
+
+        for (FileRange range : ranges) {
+            try (FileRangeReader reader = new FileRangeReader(filePath, range.start(), range.end())) {
+                reader.lines().map(CharSequence::toString).forEach(lines::add);
+            }
+        }
+
+        return lines;
+    }
+
+    private static Path createLogFile() throws IOException {
+        final Path filePath = Files.createTempFile("time-index", ".log");
+
+        Files.copy(Path.of(RESOURCES_PATH + "log1.txt"), filePath, StandardCopyOption.REPLACE_EXISTING);
+
+        return filePath;
+    }
+}
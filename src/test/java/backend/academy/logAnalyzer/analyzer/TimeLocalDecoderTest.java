@@ -0,0 +1,70 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import backend.academy.logAnalyzer.CommonTest;
+import backend.academy.logAnalyzer.exception.IncorrectLogFormatException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static backend.academy.logAnalyzer.constants.ConstValues.TIME_LOCAL_FORMAT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TimeLocalDecoderTest extends CommonTest {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER =
+        DateTimeFormatter.ofPattern(TIME_LOCAL_FORMAT, Locale.ENGLISH);
+
+    @ParameterizedTest
+    @MethodSource("getCorrectTimeLocals")
+    public void decodeCorrectTimeLocal_ShouldReturnSameValueAsFormatter(String timeLocal) {
+        final TimeLocalDecoder decoder = new TimeLocalDecoder();
+        final ZonedDateTime expected = ZonedDateTime.parse(timeLocal, DATE_TIME_FORMATTER);
+
+        assertEquals(expected, decoder.decode(timeLocal));
+        assertEquals(expected, decoder.decode(new StringBuilder(timeLocal)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("getIncorrectTimeLocals")
+    public void decodeIncorrectTimeLocal_ShouldThrowIncorrectLogFormatException(String timeLocal) {
+        final TimeLocalDecoder decoder = new TimeLocalDecoder();
+
+        assertThatThrownBy(() -> decoder.decode(timeLocal))
+            .isInstanceOf(IncorrectLogFormatException.class);
+        assertThatThrownBy(() -> decoder.decode(timeLocal))
+            .isInstanceOf(IncorrectLogFormatException.class);
+    }
+
+    private static String[] getCorrectTimeLocals() {
+        return new String[] {
+            "17/May/2015:08:05:32 +0000",
+            "31/Dec/1999:23:59:59 +0000",
+            "01/Jan/2000:00:00:00 -0000",
+            "29/Feb/2016:12:30:00 +0300",
+            "30/Apr/2015:08:05:32 -0130",
+            "17/Sep/2015:08:05:32 +1800",
+            "17/Sep/2015:08:05:32 -1800",
+            "07/Jun/0001:08:05:32 +0000",
+            "31/Apr/2015:08:05:32 +0000",
+            "29/Feb/2015:08:05:32 +0000",
+            "17/May/2015:24:00:00 +0000"
+        };
+    }
+
+    private static String[] getIncorrectTimeLocals() {
+        return new String[] {
+            "",
+            "17/May/2015:08:05:32",
+            "17/may/2015:08:05:32 +0000",
+            "17/Sept/2015:08:05:32 +0000",
+            "00/May/2015:08:05:32 +0000",
+            "17/May/2015:08:60:32 +0000",
+            "17/May/2015:08:05:60 +0000",
+            "17/May/2015:08:05:32 +1900",
+            "17/May/2015:08:05:32 +0060",
+            "17-May-2015:08:05:32 +0000"
+        };
+    }
+}
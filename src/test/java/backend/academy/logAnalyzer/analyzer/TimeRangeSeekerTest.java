@@ -0,0 +1,105 @@
+package backend.academy.logAnalyzer.analyzer;
+
+import backend.academy.logAnalyzer.CommonTest;
+import backend.academy.logAnalyzer.dto.FileRange;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static backend.academy.logAnalyzer.constants.ConstValues.TIME_LOCAL_FORMAT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TimeRangeSeekerTest extends CommonTest {
+
+    private static final ZonedDateTime FIRST_TIME_LOCAL = ZonedDateTime.of(2015, 5, 17, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(TIME_LOCAL_FORMAT, Locale.ENGLISH);
+    private static final int LINES_COUNT = 2000;
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 59, 600})
+    public void seekInOrderedFile_ShouldReturnRangeWithLinesInsideTolerance(long tolerance) throws IOException {
+        final Path filePath = createLogFile(getOrderedLines());
+        final ZonedDateTime from = FIRST_TIME_LOCAL.plusHours(5);
+        final ZonedDateTime to = FIRST_TIME_LOCAL.plusHours(7);
+
+        try {
+            final List<String> expected = getOrderedLines().stream()
+                .filter(line -> !getTimeLocal(line).isBefore(from.minusSeconds(tolerance))
+                    && !getTimeLocal(line).isAfter(to.plusSeconds(tolerance)))
+                .toList();
+
+            assertEquals(expected, readRange(filePath,
+                TimeRangeSeeker.seek(filePath, new CombinedLogTokenizer(), from, to, tolerance)));
+        } finally {
+            Files.delete(filePath);
+        }
+    }
+
+    @Test
+    public void seekWithoutBounds_ShouldReturnWholeFile() throws IOException {
+        final Path filePath = createLogFile(getOrderedLines());
+
+        try {
+            assertEquals(new FileRange(0, Files.size(filePath)),
+                TimeRangeSeeker.seek(filePath, new CombinedLogTokenizer(), null, null, 0));
+        } finally {
+            Files.delete(filePath);
+        }
+    }
+
+    @Test
+    public void seekInFileWithIncorrectLines_ShouldReturnWholeFile() throws IOException {
+        final List<String> lines = new ArrayList<>(getOrderedLines());
+
+        for (int i = 0; i < lines.size(); i += 2) {
+            lines.set(i, DEFAULT_VALUE);
+        }
+
+        final Path filePath = createLogFile(lines);
+
+        try {
+            assertEquals(new FileRange(0, Files.size(filePath)), TimeRangeSeeker.seek(filePath,
+                new CombinedLogTokenizer(), FIRST_TIME_LOCAL.plusHours(5), FIRST_TIME_LOCAL.plusHours(7), 0));
+        } finally {
+            Files.delete(filePath);
+        }
+    }
+
+    private static List<String> getOrderedLines() {
+        final List<String> lines = new ArrayList<>(LINES_COUNT);
+
+        for (int i = 0; i < LINES_COUNT; i++) {
+            lines.add("93.180.71." + i % 256 + " - - [" + FIRST_TIME_LOCAL.plusSeconds(i * 30L).format(FORMATTER)
+                + "] \"GET /downloads/product_" + i % 3 + " HTTP/1.1\" 200 " + i + " \"-\" \"agent\"");
+        }
+
+        return lines;
+    }
+
+    private static ZonedDateTime getTimeLocal(String line) {
+        return ZonedDateTime.parse(line.substring(line.indexOf('[') + 1, line.indexOf(']')), FORMATTER);
+    }
+
+    private static List<String> readRange(Path filePath, FileRange range) throws IOException {
+        try (FileRangeReader reader = new FileRangeReader(filePath, range.start(), range.end())) {
+            return reader.lines().map(CharSequence::toString).toList();
+        }
+    }
+
+    private static Path createLogFile(List<String> lines) throws IOException {
+        final Path filePath = Files.createTempFile("time-range", ".log");
+
+        Files.write(filePath, lines, StandardCharsets.UTF_8);
+
+        return filePath;
+    }
+}
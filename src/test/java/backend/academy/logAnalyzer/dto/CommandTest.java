@@ -4,11 +4,14 @@ import backend.academy.logAnalyzer.CommonTest;
 import backend.academy.logAnalyzer.enums.FilterField;
 import backend.academy.logAnalyzer.enums.HttpMethod;
 import backend.academy.logAnalyzer.enums.HttpStatus;
+import backend.academy.logAnalyzer.enums.LogField;
 import backend.academy.logAnalyzer.enums.OutputFormat;
 import backend.academy.logAnalyzer.exception.IncorrectCommandException;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -20,9 +23,14 @@ import static backend.academy.logAnalyzer.constants.ExceptionTextValues.HTTP_MET
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.HTTP_STATUS_NOT_SUPPORTED_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_DATE_RANGE_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_FILTERS_IN_COMMAND_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_ROLLUP_SETTINGS_IN_COMMAND_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_FILE_PATH_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_PROCESSING_SETTINGS_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_STATISTICS_SETTINGS_EXCEPTION_TEXT;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class CommandTest extends CommonTest {
 
@@ -81,7 +89,7 @@ public class CommandTest extends CommonTest {
     @MethodSource("getArgumentsForTestStringForNull")
     public void createCommandWithNullPath_ShouldThrowIncorrectCommandException(String incorrectValue) {
         assertThatThrownBy(() -> {
-            new Command(incorrectValue, null, null, null, null, null);
+            Command.builder().filePath(incorrectValue).build();
         }).isInstanceOf(IncorrectCommandException.class)
             .hasMessageContaining(NULL_FILE_PATH_EXCEPTION_TEXT);
     }
@@ -91,7 +99,7 @@ public class CommandTest extends CommonTest {
         assertThatThrownBy(() -> {
             final LocalDate date = LocalDate.now();
 
-            new Command(DEFAULT_VALUE, date, date, null, null, null);
+            Command.builder().filePath(DEFAULT_VALUE).from(date).to(date).build();
         }).isInstanceOf(IncorrectCommandException.class)
             .hasMessageContaining(INCORRECT_DATE_RANGE_EXCEPTION_TEXT);
     }
@@ -99,8 +107,11 @@ public class CommandTest extends CommonTest {
     @Test
     public void createCommandWithFromMoreThanTo_ShouldThrowIncorrectCommandException() {
         assertThatThrownBy(() -> {
-            new Command(DEFAULT_VALUE, LocalDate.now().plusDays(DEFAULT_DAYS_COUNT),
-                LocalDate.now(), null, null, null);
+            Command.builder()
+                .filePath(DEFAULT_VALUE)
+                .from(LocalDate.now().plusDays(DEFAULT_DAYS_COUNT))
+                .to(LocalDate.now())
+                .build();
         }).isInstanceOf(IncorrectCommandException.class)
             .hasMessageContaining(INCORRECT_DATE_RANGE_EXCEPTION_TEXT);
     }
@@ -111,8 +122,7 @@ public class CommandTest extends CommonTest {
         FilterField filterField, String incorrectFieldValue
     ) {
         assertThatThrownBy(() -> {
-            new Command(DEFAULT_VALUE, null,
-                null, null, filterField, incorrectFieldValue);
+            Command.builder().filePath(DEFAULT_VALUE).filterField(filterField).filterValue(incorrectFieldValue).build();
         }).isInstanceOf(IncorrectCommandException.class)
             .hasMessageContaining(INCORRECT_FILTERS_IN_COMMAND_EXCEPTION_TEXT);
     }
@@ -121,8 +131,7 @@ public class CommandTest extends CommonTest {
     @MethodSource("getArgumentsForCreateCommandWithFilterValueWithoutField")
     public void createCommandWithFilterValueWithoutField_ShouldThrowIncorrectCommandException(String fieldValue) {
         assertThatThrownBy(() -> {
-            new Command(DEFAULT_VALUE, null,
-                null, null, null, fieldValue);
+            Command.builder().filePath(DEFAULT_VALUE).filterValue(fieldValue).build();
         }).isInstanceOf(IncorrectCommandException.class)
             .hasMessageContaining(INCORRECT_FILTERS_IN_COMMAND_EXCEPTION_TEXT);
     }
@@ -147,12 +156,142 @@ public class CommandTest extends CommonTest {
         );
     }
 
+    @Test
+    public void createCommandWithStatisticsSettings_ShouldCreateCommand() {
+        final StatisticsSettings statisticsSettings = StatisticsSettings.builder()
+            .percentiles(List.of(50.0, 99.9))
+            .percentileError(0.01)
+            .top(10)
+            .heavyHitters(100)
+            .build();
+
+        final Command command = Command.builder()
+            .filePath(DEFAULT_VALUE)
+            .statisticsSettings(statisticsSettings)
+            .build();
+
+        assertEquals(command.statisticsSettings(), statisticsSettings);
+    }
+
+    @Test
+    public void createCommandWithoutStatisticsSettings_ShouldUseDefaultStatisticsSettings() {
+        final Command command = Command.builder().filePath(DEFAULT_VALUE).build();
+
+        assertEquals(command.statisticsSettings(), StatisticsSettings.builder().build());
+    }
+
+    @Test
+    public void createCommandWithNullStatisticsSettings_ShouldThrowIncorrectCommandException() {
+        assertThatThrownBy(() -> {
+            Command.builder().filePath(DEFAULT_VALUE).statisticsSettings(null).build();
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(NULL_STATISTICS_SETTINGS_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void createCommandWithProcessingSettings_ShouldCreateCommand() {
+        final ProcessingSettings processingSettings = ProcessingSettings.builder().threads(4).build();
+
+        final Command command = Command.builder()
+            .filePath(DEFAULT_VALUE)
+            .processingSettings(processingSettings)
+            .build();
+
+        assertEquals(command.processingSettings(), processingSettings);
+    }
+
+    @Test
+    public void createCommandWithoutProcessingSettings_ShouldUseDefaultProcessingSettings() {
+        final Command command = Command.builder().filePath(DEFAULT_VALUE).build();
+
+        assertEquals(command.processingSettings(), ProcessingSettings.builder().build());
+    }
+
+    @Test
+    public void createCommandWithNullProcessingSettings_ShouldThrowIncorrectCommandException() {
+        assertThatThrownBy(() -> {
+            Command.builder()
+                .filePath(DEFAULT_VALUE)
+                .processingSettings(null)
+                .build();
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(NULL_PROCESSING_SETTINGS_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForCreateCommandWithRollupDirectoryWithoutSketches")
+    public void createCommandWithRollupDirectoryWithoutSketches_ShouldThrowIncorrectCommandException(
+        StatisticsSettings statisticsSettings
+    ) {
+        assertThatThrownBy(() -> {
+            Command.builder()
+                .filePath(DEFAULT_VALUE)
+                .statisticsSettings(statisticsSettings)
+                .processingSettings(ProcessingSettings.builder().rollupDirectory(Path.of(DEFAULT_VALUE)).build())
+                .build();
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(INCORRECT_ROLLUP_SETTINGS_IN_COMMAND_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void createCommandWithRollupDirectoryAndSketches_ShouldCreateCommand() {
+        final StatisticsSettings statisticsSettings = StatisticsSettings.builder()
+            .percentileError(0.01)
+            .heavyHitters(100)
+            .build();
+        final ProcessingSettings processingSettings = ProcessingSettings.builder()
+            .rollupDirectory(Path.of(DEFAULT_VALUE))
+            .build();
+
+        final Command command = Command.builder()
+            .filePath(DEFAULT_VALUE)
+            .statisticsSettings(statisticsSettings)
+            .processingSettings(processingSettings)
+            .build();
+
+        assertEquals(command.statisticsSettings(), statisticsSettings);
+        assertEquals(command.processingSettings(), processingSettings);
+    }
+
+    @Test
+    public void getRequiredLogFieldsWithoutFilters_ShouldReturnOnlyStatisticsFields() {
+        final Command command = Command.builder().filePath(DEFAULT_VALUE).build();
+
+        assertEquals(EnumSet.of(LogField.REMOTE_ADDRESS, LogField.HTTP_METHOD, LogField.RESOURCE,
+            LogField.HTTP_STATUS, LogField.BODY_BYTES_SEND, LogField.REQUEST_TIME, LogField.UPSTREAM_RESPONSE_TIME
+        ), command.requiredLogFields());
+    }
+
+    @Test
+    public void getRequiredLogFieldsWithTimeRange_ShouldContainTimeLocal() {
+        final Command command = Command.builder().filePath(DEFAULT_VALUE).from(LocalDate.now()).build();
+
+        assertTrue(command.requiredLogFields().contains(LogField.TIME_LOCAL));
+    }
+
+    @ParameterizedTest
+    @EnumSource(FilterField.class)
+    public void getRequiredLogFieldsWithFilter_ShouldContainFilterLogField(FilterField filterField) {
+        final String filterValue = switch (filterField) {
+            case HTTP_METHOD -> HttpMethod.GET.value();
+            case HTTP_STATUS -> String.valueOf(HttpStatus.OK.code());
+            default -> DEFAULT_VALUE;
+        };
+        final Command command = Command.builder()
+            .filePath(DEFAULT_VALUE)
+            .filterField(filterField)
+            .filterValue(filterValue)
+            .build();
+
+        assertTrue(command.requiredLogFields().contains(filterField.logField()));
+        assertFalse(command.requiredLogFields().contains(LogField.TIME_LOCAL));
+    }
+
     private void createCommandWithNotSupportedFieldValue(
         FilterField filterField, String incorrectFieldValue, String exceptionText
     ) {
         assertThatThrownBy(() -> {
-            new Command(DEFAULT_VALUE, null,
-                null, null, filterField, incorrectFieldValue);
+            Command.builder().filePath(DEFAULT_VALUE).filterField(filterField).filterValue(incorrectFieldValue).build();
         }).isInstanceOf(IncorrectCommandException.class)
             .hasMessageContaining(exceptionText);
     }
@@ -160,9 +299,14 @@ public class CommandTest extends CommonTest {
     private void createCommandProcess(String filePath, LocalDate from, LocalDate to,
         OutputFormat format, FilterField filterField, String filterValue) {
 
-        final Command command = new Command(
-            filePath, from, to, format, filterField, filterValue
-        );
+        final Command command = Command.builder()
+            .filePath(filePath)
+            .from(from)
+            .to(to)
+            .format(format)
+            .filterField(filterField)
+            .filterValue(filterValue)
+            .build();
 
         assertEquals(command.filePath(), filePath);
         assertEquals(command.from(), from);
@@ -223,4 +367,12 @@ public class CommandTest extends CommonTest {
 
         return result;
     }
+
+    private static List<StatisticsSettings> getArgumentsForCreateCommandWithRollupDirectoryWithoutSketches() {
+        return List.of(
+            StatisticsSettings.builder().build(),
+            StatisticsSettings.builder().percentileError(0.01).build(),
+            StatisticsSettings.builder().heavyHitters(100).build()
+        );
+    }
 }
@@ -2,11 +2,11 @@ package backend.academy.logAnalyzer.dto;
 
 import backend.academy.logAnalyzer.CommonTest;
 import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -15,7 +15,7 @@ import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_POSI
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_POSITIVE_REQUESTS_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_POSITIVE_RESPONSE_AVERAGE_SIZE_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_FILE_PATH_EXCEPTION_TEXT;
-import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_PERCENTILE_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_PERCENTILES_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_RESPONSE_AVERAGE_SIZE_EXCEPTION_TEXT;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -25,21 +25,21 @@ public class GeneralInformationTest extends CommonTest {
     @Test
     public void createGeneralInformationWithPaths_ShouldCreateGeneralInformation() {
         createGeneralInformationProcess(getRandomStringsList(), null, null,
-            BigDecimal.ZERO.intValue(), BigDecimal.ZERO, BigInteger.ZERO
+            BigDecimal.ZERO.intValue(), BigDecimal.ZERO, Map.of(DEFAULT_PERCENTILE, 0L)
         );
     }
 
     @Test
     public void createGeneralInformationWithPathsAndStatisticsAndFrom_ShouldCreateGeneralInformation() {
         createGeneralInformationProcess(getRandomStringsList(), LocalDate.now(), null,
-            BigDecimal.ZERO.intValue(), BigDecimal.ZERO, BigInteger.ZERO
+            BigDecimal.ZERO.intValue(), BigDecimal.ZERO, Map.of(DEFAULT_PERCENTILE, 0L)
         );
     }
 
     @Test
     public void createGeneralInformationWithPathsAndTo_ShouldCreateGeneralInformation() {
         createGeneralInformationProcess(getRandomStringsList(), null, LocalDate.now(),
-            BigDecimal.ZERO.intValue(), BigDecimal.ZERO, BigInteger.ZERO
+            BigDecimal.ZERO.intValue(), BigDecimal.ZERO, Map.of(DEFAULT_PERCENTILE, 0L)
         );
     }
 
@@ -47,7 +47,7 @@ public class GeneralInformationTest extends CommonTest {
     public void createGeneralInformationWithPathsAndStatisticsAndTimeRange_ShouldCreateGeneralInformation() {
         createGeneralInformationProcess(getRandomStringsList(),
             LocalDate.now().minusDays(DEFAULT_DAYS_COUNT), LocalDate.now(),
-            BigDecimal.ZERO.intValue(), BigDecimal.ZERO, BigInteger.ZERO
+            BigDecimal.ZERO.intValue(), BigDecimal.ZERO, Map.of(DEFAULT_PERCENTILE, 0L)
         );
     }
 
@@ -55,7 +55,7 @@ public class GeneralInformationTest extends CommonTest {
     public void createGeneralInformationWithNullFilePathsList_ShouldThrowNullPointerException() {
         assertThatThrownBy(() -> {
             new GeneralInformation(null, null, null,
-                BigDecimal.ZERO.intValue(), BigDecimal.ZERO, BigInteger.ZERO);
+                BigDecimal.ZERO.intValue(), BigDecimal.ZERO, Map.of(DEFAULT_PERCENTILE, 0L));
         }).isInstanceOf(NullPointerException.class)
             .hasMessageContaining(NULL_FILE_PATH_EXCEPTION_TEXT);
     }
@@ -64,7 +64,7 @@ public class GeneralInformationTest extends CommonTest {
     public void createGeneralInformationWithEmptyFilePathsList_ShouldThrowNullPointerException() {
         assertThatThrownBy(() -> {
             new GeneralInformation(new HashSet<>(), null, null,
-                BigDecimal.ZERO.intValue(), BigDecimal.ZERO, BigInteger.ZERO);
+                BigDecimal.ZERO.intValue(), BigDecimal.ZERO, Map.of(DEFAULT_PERCENTILE, 0L));
         }).isInstanceOf(NullPointerException.class)
             .hasMessageContaining(NULL_FILE_PATH_EXCEPTION_TEXT);
     }
@@ -74,7 +74,7 @@ public class GeneralInformationTest extends CommonTest {
     public void createGeneralInformationWithNullFilePathInList_ShouldThrowNullPointerException(List<String> filePaths) {
         assertThatThrownBy(() -> {
             new GeneralInformation(new HashSet<>(filePaths), null, null,
-                BigDecimal.ZERO.intValue(), BigDecimal.ZERO, BigInteger.ZERO);
+                BigDecimal.ZERO.intValue(), BigDecimal.ZERO, Map.of(DEFAULT_PERCENTILE, 0L));
         }).isInstanceOf(NullPointerException.class)
             .hasMessageContaining(NULL_FILE_PATH_EXCEPTION_TEXT);
     }
@@ -85,7 +85,7 @@ public class GeneralInformationTest extends CommonTest {
             final LocalDate date = LocalDate.now();
 
             new GeneralInformation(new HashSet<>(getRandomStringsList()), date, date,
-                BigDecimal.ZERO.intValue(), BigDecimal.ZERO, BigInteger.ZERO);
+                BigDecimal.ZERO.intValue(), BigDecimal.ZERO, Map.of(DEFAULT_PERCENTILE, 0L));
         }).isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining(INCORRECT_DATE_RANGE_EXCEPTION_TEXT);
     }
@@ -94,7 +94,7 @@ public class GeneralInformationTest extends CommonTest {
     public void createGeneralInformationWithFromMoreThanTo_ShouldThrowIllegalArgumentException() {
         assertThatThrownBy(() -> {
             new GeneralInformation(new HashSet<>(getRandomStringsList()), LocalDate.now().plusDays(DEFAULT_DAYS_COUNT),
-                LocalDate.now(), BigDecimal.ZERO.intValue(), BigDecimal.ZERO, BigInteger.ZERO);
+                LocalDate.now(), BigDecimal.ZERO.intValue(), BigDecimal.ZERO, Map.of(DEFAULT_PERCENTILE, 0L));
         }).isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining(INCORRECT_DATE_RANGE_EXCEPTION_TEXT);
     }
@@ -106,7 +106,7 @@ public class GeneralInformationTest extends CommonTest {
     ) {
         assertThatThrownBy(() -> {
             new GeneralInformation(new HashSet<>(getRandomStringsList()), null, null,
-                notPositiveRequestsCount, BigDecimal.ZERO, BigInteger.ZERO);
+                notPositiveRequestsCount, BigDecimal.ZERO, Map.of(DEFAULT_PERCENTILE, 0L));
         }).isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining(NOT_POSITIVE_REQUESTS_EXCEPTION_TEXT);
     }
@@ -115,7 +115,7 @@ public class GeneralInformationTest extends CommonTest {
     public void createGeneralInformationWithNullResponseAverageSize_ShouldThrowNullPointerException() {
         assertThatThrownBy(() -> {
             new GeneralInformation(new HashSet<>(getRandomStringsList()), null,
-                null, BigInteger.ZERO.intValue(), null, BigInteger.ZERO);
+                null, 0, null, Map.of(DEFAULT_PERCENTILE, 0L));
         }).isInstanceOf(NullPointerException.class)
             .hasMessageContaining(NULL_RESPONSE_AVERAGE_SIZE_EXCEPTION_TEXT);
     }
@@ -127,39 +127,39 @@ public class GeneralInformationTest extends CommonTest {
     ) {
         assertThatThrownBy(() -> {
             new GeneralInformation(new HashSet<>(getRandomStringsList()), null,
-                null, BigInteger.ZERO.intValue(), notPositiveResponseAverageSize, BigInteger.ZERO);
+                null, 0, notPositiveResponseAverageSize, Map.of(DEFAULT_PERCENTILE, 0L));
         }).isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining(NOT_POSITIVE_RESPONSE_AVERAGE_SIZE_EXCEPTION_TEXT);
     }
 
     @Test
-    public void createGeneralInformationWithNullPercentile_ShouldThrowNullPointerException() {
+    public void createGeneralInformationWithNullPercentiles_ShouldThrowNullPointerException() {
         assertThatThrownBy(() -> {
             new GeneralInformation(new HashSet<>(getRandomStringsList()), null,
-                null, BigInteger.ZERO.intValue(), BigDecimal.ZERO, null);
+                null, 0, BigDecimal.ZERO, null);
         }).isInstanceOf(NullPointerException.class)
-            .hasMessageContaining(NULL_PERCENTILE_EXCEPTION_TEXT);
+            .hasMessageContaining(NULL_PERCENTILES_EXCEPTION_TEXT);
     }
 
     @ParameterizedTest
-    @MethodSource("getNotPositiveBigNumbers")
+    @MethodSource("getNotPositiveLongNumbers")
     public void createGeneralInformationWithNotPositivePercentile_ShouldThrowIllegalArgumentException(
-        BigInteger notPositivePercentile
+        long notPositivePercentile
     ) {
         assertThatThrownBy(() -> {
             new GeneralInformation(new HashSet<>(getRandomStringsList()), null,
-                null, BigInteger.ZERO.intValue(), BigDecimal.ZERO, notPositivePercentile);
+                null, 0, BigDecimal.ZERO, Map.of(DEFAULT_PERCENTILE, notPositivePercentile));
         }).isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining(NOT_POSITIVE_PERCENTILE_EXCEPTION_TEXT);
     }
 
     private void createGeneralInformationProcess(
         List<String> filePaths, LocalDate from, LocalDate to,
-        int requestsCount, BigDecimal responseAverageSize, BigInteger percentile
+        int requestsCount, BigDecimal responseAverageSize, Map<Double, Long> percentiles
     ) {
 
         final GeneralInformation generalInformation = new GeneralInformation(
-            new HashSet<>(filePaths), from, to, requestsCount, responseAverageSize, percentile
+            new HashSet<>(filePaths), from, to, requestsCount, responseAverageSize, percentiles
         );
 
         assertEquals(generalInformation.filePaths(), new HashSet<>(filePaths));
@@ -167,7 +167,7 @@ public class GeneralInformationTest extends CommonTest {
         assertEquals(generalInformation.to(), to);
         assertEquals(generalInformation.requestsCount(), requestsCount);
         assertEquals(generalInformation.responseAverageSize(), responseAverageSize);
-        assertEquals(generalInformation.percentile(), percentile);
+        assertEquals(generalInformation.percentiles(), percentiles);
     }
 
     private static List<List<String>> getArgumentsForCreateGeneralInformationWithNullInList() {
@@ -4,7 +4,6 @@ import backend.academy.logAnalyzer.CommonTest;
 import backend.academy.logAnalyzer.enums.HttpMethod;
 import backend.academy.logAnalyzer.enums.HttpProtocol;
 import backend.academy.logAnalyzer.enums.HttpStatus;
-import java.math.BigInteger;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -17,7 +16,6 @@ import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_HTT
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_HTTP_REQUEST_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_HTTP_STATUS_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_REMOTE_USER_EXCEPTION_TEXT;
-import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_SEND_BYTES_COUNT_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_TIME_LOCAL_EXCEPTION_TEXT;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_USER_AGENT_EXCEPTION_TEXT;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -32,7 +30,7 @@ public class LogTest extends CommonTest {
     @ParameterizedTest
     @MethodSource("getArgumentsForCreateLog")
     public void createLog_ShouldCreateLog(String remoteAddress, String remoteUser, ZonedDateTime timeLocal,
-        Request request, HttpStatus httpStatus, BigInteger bodyBytesSend, String httpReferer, String httpUserAgent) {
+        Request request, HttpStatus httpStatus, long bodyBytesSend, String httpReferer, String httpUserAgent) {
 
         final Log log = new Log(remoteAddress, remoteUser, timeLocal,
             request, httpStatus, bodyBytesSend, httpReferer, httpUserAgent);
@@ -55,7 +53,7 @@ public class LogTest extends CommonTest {
         assertThatThrownBy(() -> {
             new Log(
                 incorrectValue, DEFAULT_VALUE, ZonedDateTime.now(),
-                DEFAULT_REQUEST, HttpStatus.OK, new BigInteger(String.valueOf(getRandomNumber())),
+                DEFAULT_REQUEST, HttpStatus.OK, getRandomNumber(),
                 DEFAULT_VALUE, DEFAULT_VALUE
             );
         }).isInstanceOf(NullPointerException.class)
@@ -68,7 +66,7 @@ public class LogTest extends CommonTest {
         assertThatThrownBy(() -> {
             new Log(
                 DEFAULT_VALUE, incorrectValue, ZonedDateTime.now(),
-                DEFAULT_REQUEST, HttpStatus.OK, new BigInteger(String.valueOf(getRandomNumber())),
+                DEFAULT_REQUEST, HttpStatus.OK, getRandomNumber(),
                 DEFAULT_VALUE, DEFAULT_VALUE
             );
         }).isInstanceOf(NullPointerException.class)
@@ -80,7 +78,7 @@ public class LogTest extends CommonTest {
         assertThatThrownBy(() -> {
             new Log(
                 DEFAULT_VALUE, DEFAULT_VALUE, null,
-                DEFAULT_REQUEST, HttpStatus.OK, new BigInteger(String.valueOf(getRandomNumber())),
+                DEFAULT_REQUEST, HttpStatus.OK, getRandomNumber(),
                 DEFAULT_VALUE, DEFAULT_VALUE
             );
         }).isInstanceOf(NullPointerException.class)
@@ -92,7 +90,7 @@ public class LogTest extends CommonTest {
         assertThatThrownBy(() -> {
             new Log(
                 DEFAULT_VALUE, DEFAULT_VALUE, ZonedDateTime.now(),
-                null, HttpStatus.OK, new BigInteger(String.valueOf(getRandomNumber())),
+                null, HttpStatus.OK, getRandomNumber(),
                 DEFAULT_VALUE, DEFAULT_VALUE
             );
         }).isInstanceOf(NullPointerException.class)
@@ -104,28 +102,16 @@ public class LogTest extends CommonTest {
         assertThatThrownBy(() -> {
             new Log(
                 DEFAULT_VALUE, DEFAULT_VALUE, ZonedDateTime.now(),
-                DEFAULT_REQUEST, null, new BigInteger(String.valueOf(getRandomNumber())),
+                DEFAULT_REQUEST, null, getRandomNumber(),
                 DEFAULT_VALUE, DEFAULT_VALUE
             );
         }).isInstanceOf(NullPointerException.class)
             .hasMessageContaining(NULL_HTTP_STATUS_EXCEPTION_TEXT);
     }
 
-    @Test
-    public void createLogWithNullBodyBytesSend_ShouldThrowNullPointerException() {
-        assertThatThrownBy(() -> {
-            new Log(
-                DEFAULT_VALUE, DEFAULT_VALUE, ZonedDateTime.now(),
-                DEFAULT_REQUEST, HttpStatus.OK, null,
-                DEFAULT_VALUE, DEFAULT_VALUE
-            );
-        }).isInstanceOf(NullPointerException.class)
-            .hasMessageContaining(NULL_SEND_BYTES_COUNT_EXCEPTION_TEXT);
-    }
-
     @ParameterizedTest
-    @MethodSource("getNotPositiveBigNumbers")
-    public void createLogWithNotPositiveBodyBytesSend_ShouldThrowIllegalArgumentException(BigInteger notPositiveValue) {
+    @MethodSource("getNotPositiveLongNumbers")
+    public void createLogWithNotPositiveBodyBytesSend_ShouldThrowIllegalArgumentException(long notPositiveValue) {
         assertThatThrownBy(() -> {
             new Log(
                 DEFAULT_VALUE, DEFAULT_VALUE, ZonedDateTime.now(),
@@ -142,7 +128,7 @@ public class LogTest extends CommonTest {
         assertThatThrownBy(() -> {
             new Log(
                 DEFAULT_VALUE, DEFAULT_VALUE, ZonedDateTime.now(),
-                DEFAULT_REQUEST, HttpStatus.OK, new BigInteger(String.valueOf(getRandomNumber())),
+                DEFAULT_REQUEST, HttpStatus.OK, getRandomNumber(),
                 incorrectValue, DEFAULT_VALUE
             );
         }).isInstanceOf(NullPointerException.class)
@@ -155,7 +141,7 @@ public class LogTest extends CommonTest {
         assertThatThrownBy(() -> {
             new Log(
                 DEFAULT_VALUE, DEFAULT_VALUE, ZonedDateTime.now(),
-                DEFAULT_REQUEST, HttpStatus.OK, new BigInteger(String.valueOf(getRandomNumber())),
+                DEFAULT_REQUEST, HttpStatus.OK, getRandomNumber(),
                 DEFAULT_VALUE, incorrectValue
             );
         }).isInstanceOf(NullPointerException.class)
@@ -172,7 +158,7 @@ public class LogTest extends CommonTest {
                 result.add(new Object[]{
                     getRandomString(), getRandomString(), ZonedDateTime.now(),
                     new Request((HttpMethod) request[0], (String) request[1], (HttpProtocol) request[2]),
-                    httpStatus, new BigInteger(String.valueOf(getRandomNumber())), getRandomString(), getRandomString()
+                    httpStatus, getRandomNumber(), getRandomString(), getRandomString()
                 });
             }
         }
@@ -180,7 +166,7 @@ public class LogTest extends CommonTest {
         result.add(new Object[]{
             DEFAULT_VALUE, DEFAULT_VALUE, ZonedDateTime.now(),
             DEFAULT_REQUEST,
-            HttpStatus.OK, new BigInteger(String.valueOf(getRandomNumber())), DEFAULT_VALUE, DEFAULT_VALUE
+            HttpStatus.OK, getRandomNumber(), DEFAULT_VALUE, DEFAULT_VALUE
         });
 
         return result;
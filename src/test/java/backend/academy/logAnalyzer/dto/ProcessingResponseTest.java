@@ -2,8 +2,8 @@ package backend.academy.logAnalyzer.dto;
 
 import backend.academy.logAnalyzer.CommonTest;
 import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NULL_GENERAL_INFORMATION_EXCEPTION_TEXT;
@@ -14,15 +14,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 public class ProcessingResponseTest extends CommonTest {
 
     private final RequestStatistics defaultRequestStatistics
-        = new RequestStatistics(new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>());
+        = new RequestStatistics(new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>(), Map.of(), Map.of());
     private final GeneralInformation defaultGeneralInformation = new GeneralInformation(
-            Set.of(getRandomString()), null, null, BigInteger.ZERO.intValue(), BigDecimal.ZERO, BigInteger.ZERO
+            Set.of(getRandomString()), null, null, 0, BigDecimal.ZERO, Map.of(DEFAULT_PERCENTILE, 0L)
     );
 
     @Test
     public void createProcessingResponse_ShouldCreateProcessingResponse() {
-        final ProcessingResponse
-            processingResponse = new ProcessingResponse(defaultGeneralInformation, defaultRequestStatistics);
+        final ProcessingResponse processingResponse
+            = new ProcessingResponse(defaultGeneralInformation, defaultRequestStatistics, null, null);
 
         assertEquals(processingResponse.generalInformation(), defaultGeneralInformation);
         assertEquals(processingResponse.requestStatistics(), defaultRequestStatistics);
@@ -31,7 +31,7 @@ public class ProcessingResponseTest extends CommonTest {
     @Test
     public void createProcessingResponseWithNullGeneralInformation_ShouldThrowNullPointerException() {
         assertThatThrownBy(() -> {
-            new ProcessingResponse(null, defaultRequestStatistics);
+            new ProcessingResponse(null, defaultRequestStatistics, null, null);
         }).isInstanceOf(NullPointerException.class)
             .hasMessageContaining(NULL_GENERAL_INFORMATION_EXCEPTION_TEXT);
     }
@@ -39,7 +39,7 @@ public class ProcessingResponseTest extends CommonTest {
     @Test
     public void createProcessingResponseWithNullRequestStatistics_ShouldThrowNullPointerException() {
         assertThatThrownBy(() -> {
-            new ProcessingResponse(defaultGeneralInformation, null);
+            new ProcessingResponse(defaultGeneralInformation, null, null, null);
         }).isInstanceOf(NullPointerException.class)
             .hasMessageContaining(NULL_REQUEST_STATISTICS_EXCEPTION_TEXT);
     }
@@ -0,0 +1,67 @@
+package backend.academy.logAnalyzer.dto;
+
+import backend.academy.logAnalyzer.CommonTest;
+import backend.academy.logAnalyzer.exception.IncorrectCommandException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import static backend.academy.logAnalyzer.constants.ConstValues.DEFAULT_THREADS;
+import static backend.academy.logAnalyzer.constants.ConstValues.MAX_INDEX_STRIDE;
+import static backend.academy.logAnalyzer.constants.ConstValues.MAX_THREADS;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_INDEX_STRIDE_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_THREADS_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_TIME_TOLERANCE_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ProcessingSettingsTest extends CommonTest {
+
+    @Test
+    public void createProcessingSettings_ShouldCreateProcessingSettings() {
+        final int threads = 4;
+
+        final ProcessingSettings processingSettings = ProcessingSettings.builder().threads(threads).build();
+
+        assertEquals(processingSettings.threads(), threads);
+    }
+
+    @Test
+    public void createDefaultProcessingSettings_ShouldUseDefaultValues() {
+        assertEquals(ProcessingSettings.builder().build().threads(), DEFAULT_THREADS);
+    }
+
+    @ParameterizedTest
+    @MethodSource("getNotPositiveNumbers")
+    public void createProcessingSettingsWithIncorrectThreads_ShouldThrowIncorrectCommandException(int threads) {
+        assertThatThrownBy(() -> {
+            ProcessingSettings.builder().threads(threads).build();
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(INCORRECT_THREADS_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void createProcessingSettingsWithNegativeTimeTolerance_ShouldThrowIncorrectCommandException() {
+        assertThatThrownBy(() -> {
+            ProcessingSettings.builder().timeTolerance(-1L).build();
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(INCORRECT_TIME_TOLERANCE_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, MAX_INDEX_STRIDE + 1})
+    public void createProcessingSettingsWithIncorrectIndexStride_ShouldThrowIncorrectCommandException(int stride) {
+        assertThatThrownBy(() -> {
+            ProcessingSettings.builder().indexStride(stride).build();
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(INCORRECT_INDEX_STRIDE_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void createProcessingSettingsWithTooManyThreads_ShouldThrowIncorrectCommandException() {
+        assertThatThrownBy(() -> {
+            ProcessingSettings.builder().threads(MAX_THREADS + 1).build();
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(INCORRECT_THREADS_EXCEPTION_TEXT);
+    }
+}
@@ -31,7 +31,7 @@ public class RequestStatisticsTest extends CommonTest {
         Map<String, Integer> addresses, Map<HttpMethod, Integer> httpMethods
     ) {
         final RequestStatistics requestStatistics = new RequestStatistics(
-            resources, httpStatuses, addresses, httpMethods
+            resources, httpStatuses, addresses, httpMethods, Map.of(), Map.of()
         );
 
         assertEquals(requestStatistics.resources(), resources);
@@ -43,18 +43,37 @@ public class RequestStatisticsTest extends CommonTest {
     @Test
     public void createRequestStatisticsWithNullResources_ShouldThrowNullPointerException() {
         assertThatThrownBy(() -> {
-            new RequestStatistics(null, new HashMap<>(), new HashMap<>(), new HashMap<>());
+            new RequestStatistics(null, new HashMap<>(), new HashMap<>(), new HashMap<>(), Map.of(), Map.of());
         }).isInstanceOf(NullPointerException.class)
             .hasMessageContaining(NULL_RESOURCES_EXCEPTION_TEXT);
     }
 
+    @Test
+    public void createRequestStatisticsWithNullResourceErrors_ShouldThrowNullPointerException() {
+        assertThatThrownBy(() -> {
+            new RequestStatistics(new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>(),
+                null, new HashMap<>());
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_RESOURCES_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void createRequestStatisticsWithNullAddressErrors_ShouldThrowNullPointerException() {
+        assertThatThrownBy(() -> {
+            new RequestStatistics(new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>(),
+                new HashMap<>(), null);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_ADDRESSES_EXCEPTION_TEXT);
+    }
+
     @Test
     public void createRequestsStatisticsWithNullKeyInResource_ShouldThrowNullPointerException() {
         final Map<String, Integer> incorrectStatistics = new HashMap<>();
         incorrectStatistics.put(null, DEFAULT_COUNT_VALUE);
 
         assertThatThrownBy(() -> {
-            new RequestStatistics(incorrectStatistics, new HashMap<>(), new HashMap<>(), new HashMap<>());
+            new RequestStatistics(incorrectStatistics, new HashMap<>(), new HashMap<>(), new HashMap<>(),
+                new HashMap<>(), new HashMap<>());
         }).isInstanceOf(NullPointerException.class)
             .hasMessageContaining(NULL_RESOURCES_EXCEPTION_TEXT);
     }
@@ -65,7 +84,8 @@ public class RequestStatisticsTest extends CommonTest {
         incorrectStatistics.put(getRandomString(), null);
 
         assertThatThrownBy(() -> {
-            new RequestStatistics(incorrectStatistics, new HashMap<>(), new HashMap<>(), new HashMap<>());
+            new RequestStatistics(incorrectStatistics, new HashMap<>(), new HashMap<>(), new HashMap<>(),
+                new HashMap<>(), new HashMap<>());
         }).isInstanceOf(NullPointerException.class)
             .hasMessageContaining(NULL_COUNT_EXCEPTION_TEXT);
     }
@@ -77,7 +97,8 @@ public class RequestStatisticsTest extends CommonTest {
         incorrectStatistics.put(getRandomString(), notPositiveNumber);
 
         assertThatThrownBy(() -> {
-            new RequestStatistics(incorrectStatistics, new HashMap<>(), new HashMap<>(), new HashMap<>());
+            new RequestStatistics(incorrectStatistics, new HashMap<>(), new HashMap<>(), new HashMap<>(),
+                new HashMap<>(), new HashMap<>());
         }).isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining(NOT_POSITIVE_COUNT_EXCEPTION_TEXT);
     }
@@ -85,7 +106,7 @@ public class RequestStatisticsTest extends CommonTest {
     @Test
     public void createRequestStatisticsWithNullHttpStatuses_ShouldThrowNullPointerException() {
         assertThatThrownBy(() -> {
-            new RequestStatistics(new HashMap<>(), null, new HashMap<>(), new HashMap<>());
+            new RequestStatistics(new HashMap<>(), null, new HashMap<>(), new HashMap<>(), Map.of(), Map.of());
         }).isInstanceOf(NullPointerException.class)
             .hasMessageContaining(NULL_HTTP_STATUSES_EXCEPTION_TEXT);
     }
@@ -96,7 +117,8 @@ public class RequestStatisticsTest extends CommonTest {
         incorrectStatistics.put(null, DEFAULT_COUNT_VALUE);
 
         assertThatThrownBy(() -> {
-            new RequestStatistics( new HashMap<>(), incorrectStatistics, new HashMap<>(), new HashMap<>());
+            new RequestStatistics( new HashMap<>(), incorrectStatistics, new HashMap<>(), new HashMap<>(),
+                new HashMap<>(), new HashMap<>());
         }).isInstanceOf(NullPointerException.class)
             .hasMessageContaining(NULL_HTTP_STATUSES_EXCEPTION_TEXT);
     }
@@ -108,7 +130,8 @@ public class RequestStatisticsTest extends CommonTest {
         incorrectStatistics.put(httpStatus, null);
 
         assertThatThrownBy(() -> {
-            new RequestStatistics(new HashMap<>(), incorrectStatistics, new HashMap<>(), new HashMap<>());
+            new RequestStatistics(new HashMap<>(), incorrectStatistics, new HashMap<>(), new HashMap<>(),
+                new HashMap<>(), new HashMap<>());
         }).isInstanceOf(NullPointerException.class)
             .hasMessageContaining(NULL_COUNT_EXCEPTION_TEXT);
     }
@@ -123,7 +146,8 @@ public class RequestStatisticsTest extends CommonTest {
         incorrectStatistics.put(httpStatus, getRandomNumber(minValue, maxValue));
 
         assertThatThrownBy(() -> {
-            new RequestStatistics(new HashMap<>(), incorrectStatistics, new HashMap<>(), new HashMap<>());
+            new RequestStatistics(new HashMap<>(), incorrectStatistics, new HashMap<>(), new HashMap<>(),
+                new HashMap<>(), new HashMap<>());
         }).isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining(NOT_POSITIVE_COUNT_EXCEPTION_TEXT);
     }
@@ -131,7 +155,7 @@ public class RequestStatisticsTest extends CommonTest {
     @Test
     public void createRequestStatisticsWithNullAddresses_ShouldThrowNullPointerException() {
         assertThatThrownBy(() -> {
-            new RequestStatistics(new HashMap<>(), new HashMap<>(), null, new HashMap<>());
+            new RequestStatistics(new HashMap<>(), new HashMap<>(), null, new HashMap<>(), Map.of(), Map.of());
         }).isInstanceOf(NullPointerException.class)
             .hasMessageContaining(NULL_ADDRESSES_EXCEPTION_TEXT);
     }
@@ -142,7 +166,8 @@ public class RequestStatisticsTest extends CommonTest {
         incorrectStatistics.put(null, DEFAULT_COUNT_VALUE);
 
         assertThatThrownBy(() -> {
-            new RequestStatistics(new HashMap<>(), new HashMap<>(), incorrectStatistics, new HashMap<>());
+            new RequestStatistics(new HashMap<>(), new HashMap<>(), incorrectStatistics, new HashMap<>(),
+                new HashMap<>(), new HashMap<>());
         }).isInstanceOf(NullPointerException.class)
             .hasMessageContaining(NULL_ADDRESSES_EXCEPTION_TEXT);
     }
@@ -153,7 +178,8 @@ public class RequestStatisticsTest extends CommonTest {
         incorrectStatistics.put(getRandomString(), null);
 
         assertThatThrownBy(() -> {
-            new RequestStatistics(new HashMap<>(), new HashMap<>(), incorrectStatistics, new HashMap<>());
+            new RequestStatistics(new HashMap<>(), new HashMap<>(), incorrectStatistics, new HashMap<>(),
+                new HashMap<>(), new HashMap<>());
         }).isInstanceOf(NullPointerException.class)
             .hasMessageContaining(NULL_COUNT_EXCEPTION_TEXT);
     }
@@ -165,7 +191,8 @@ public class RequestStatisticsTest extends CommonTest {
         incorrectStatistics.put(getRandomString(), notPositiveNumber);
 
         assertThatThrownBy(() -> {
-            new RequestStatistics(new HashMap<>(), new HashMap<>(), incorrectStatistics, new HashMap<>());
+            new RequestStatistics(new HashMap<>(), new HashMap<>(), incorrectStatistics, new HashMap<>(),
+                new HashMap<>(), new HashMap<>());
         }).isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining(NOT_POSITIVE_COUNT_EXCEPTION_TEXT);
     }
@@ -173,7 +200,7 @@ public class RequestStatisticsTest extends CommonTest {
     @Test
     public void createRequestStatisticsWithNullHttpMethods_ShouldThrowNullPointerException() {
         assertThatThrownBy(() -> {
-            new RequestStatistics(new HashMap<>(), new HashMap<>(), new HashMap<>(), null);
+            new RequestStatistics(new HashMap<>(), new HashMap<>(), new HashMap<>(), null, Map.of(), Map.of());
         }).isInstanceOf(NullPointerException.class)
             .hasMessageContaining(NULL_HTTP_METHODS_EXCEPTION_TEXT);
     }
@@ -184,7 +211,8 @@ public class RequestStatisticsTest extends CommonTest {
         incorrectStatistics.put(null, DEFAULT_COUNT_VALUE);
 
         assertThatThrownBy(() -> {
-            new RequestStatistics(new HashMap<>(), new HashMap<>(), new HashMap<>(), incorrectStatistics);
+            new RequestStatistics(new HashMap<>(), new HashMap<>(), new HashMap<>(), incorrectStatistics,
+                new HashMap<>(), new HashMap<>());
         }).isInstanceOf(NullPointerException.class)
             .hasMessageContaining(NULL_HTTP_METHODS_EXCEPTION_TEXT);
     }
@@ -196,7 +224,8 @@ public class RequestStatisticsTest extends CommonTest {
         incorrectStatistics.put(httpMethod, null);
 
         assertThatThrownBy(() -> {
-            new RequestStatistics(new HashMap<>(), new HashMap<>(), new HashMap<>(), incorrectStatistics);
+            new RequestStatistics(new HashMap<>(), new HashMap<>(), new HashMap<>(), incorrectStatistics,
+                new HashMap<>(), new HashMap<>());
         }).isInstanceOf(NullPointerException.class)
             .hasMessageContaining(NULL_COUNT_EXCEPTION_TEXT);
     }
@@ -211,7 +240,8 @@ public class RequestStatisticsTest extends CommonTest {
         incorrectStatistics.put(httpMethod, getRandomNumber(minValue, maxValue));
 
         assertThatThrownBy(() -> {
-            new RequestStatistics(new HashMap<>(), new HashMap<>(), new HashMap<>(), incorrectStatistics);
+            new RequestStatistics(new HashMap<>(), new HashMap<>(), new HashMap<>(), incorrectStatistics,
+                new HashMap<>(), new HashMap<>());
         }).isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining(NOT_POSITIVE_COUNT_EXCEPTION_TEXT);
     }
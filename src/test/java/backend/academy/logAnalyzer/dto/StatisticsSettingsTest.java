@@ -0,0 +1,116 @@
+package backend.academy.logAnalyzer.dto;
+
+import backend.academy.logAnalyzer.CommonTest;
+import backend.academy.logAnalyzer.exception.IncorrectCommandException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static backend.academy.logAnalyzer.constants.ConstValues.DEFAULT_PERCENTILES;
+import static backend.academy.logAnalyzer.constants.ConstValues.STATISTICS_LIMIT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_HEAVY_HITTERS_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_PERCENTILES_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_PERCENTILE_ERROR_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_TOP_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class StatisticsSettingsTest extends CommonTest {
+
+    @Test
+    public void createStatisticsSettings_ShouldCreateStatisticsSettings() {
+        final List<Double> percentiles = List.of(50.0, 99.9, 100.0);
+        final double percentileError = 0.01;
+        final int top = 10;
+        final int heavyHitters = 1000;
+
+        final StatisticsSettings statisticsSettings = StatisticsSettings.builder()
+            .percentiles(percentiles)
+            .percentileError(percentileError)
+            .top(top)
+            .heavyHitters(heavyHitters)
+            .build();
+
+        assertEquals(statisticsSettings.percentiles(), percentiles);
+        assertEquals(statisticsSettings.percentileError(), percentileError);
+        assertEquals(statisticsSettings.top(), top);
+        assertEquals(statisticsSettings.heavyHitters(), heavyHitters);
+    }
+
+    @Test
+    public void createDefaultStatisticsSettings_ShouldUseDefaultValues() {
+        final StatisticsSettings statisticsSettings = StatisticsSettings.builder().build();
+
+        assertEquals(statisticsSettings.percentiles(), DEFAULT_PERCENTILES);
+        assertNull(statisticsSettings.percentileError());
+        assertEquals(statisticsSettings.top(), STATISTICS_LIMIT);
+        assertNull(statisticsSettings.heavyHitters());
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForCreateStatisticsSettingsWithIncorrectPercentiles")
+    public void createStatisticsSettingsWithIncorrectPercentiles_ShouldThrowIncorrectCommandException(
+        List<Double> percentiles
+    ) {
+        assertThatThrownBy(() -> {
+            StatisticsSettings.builder().percentiles(percentiles).build();
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(INCORRECT_PERCENTILES_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForCreateStatisticsSettingsWithIncorrectPercentileError")
+    public void createStatisticsSettingsWithIncorrectPercentileError_ShouldThrowIncorrectCommandException(
+        double percentileError
+    ) {
+        assertThatThrownBy(() -> {
+            StatisticsSettings.builder().percentileError(percentileError).build();
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(INCORRECT_PERCENTILE_ERROR_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @MethodSource("getNotPositiveNumbers")
+    public void createStatisticsSettingsWithIncorrectTop_ShouldThrowIncorrectCommandException(int top) {
+        assertThatThrownBy(() -> {
+            StatisticsSettings.builder().top(top).build();
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(INCORRECT_TOP_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForCreateStatisticsSettingsWithIncorrectHeavyHitters")
+    public void createStatisticsSettingsWithIncorrectHeavyHitters_ShouldThrowIncorrectCommandException(
+        int heavyHitters
+    ) {
+        assertThatThrownBy(() -> {
+            StatisticsSettings.builder().heavyHitters(heavyHitters).build();
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(INCORRECT_HEAVY_HITTERS_EXCEPTION_TEXT);
+    }
+
+    private static List<List<Double>> getArgumentsForCreateStatisticsSettingsWithIncorrectPercentiles() {
+        final List<List<Double>> result = new ArrayList<>();
+
+        result.add(null);
+        result.add(List.of());
+        result.add(List.of(0.0));
+        result.add(List.of(50.0, -1.0));
+        result.add(List.of(100.5));
+        result.add(List.of(Double.NaN));
+        result.add(Arrays.asList(50.0, null));
+
+        return result;
+    }
+
+    private static double[] getArgumentsForCreateStatisticsSettingsWithIncorrectPercentileError() {
+        return new double[] {0, 1, -0.01, 1.5, 1e-9, 0.00009, Double.NaN, Double.POSITIVE_INFINITY};
+    }
+
+    private static int[] getArgumentsForCreateStatisticsSettingsWithIncorrectHeavyHitters() {
+        return new int[] {STATISTICS_LIMIT - 1, 1, 0, -1};
+    }
+}
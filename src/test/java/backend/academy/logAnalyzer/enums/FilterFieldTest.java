@@ -2,6 +2,7 @@ package backend.academy.logAnalyzer.enums;
 
 import backend.academy.logAnalyzer.CommonTest;
 import backend.academy.logAnalyzer.exception.FilterFieldNotSupportedException;
+import java.util.Locale;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -17,6 +18,12 @@ public class FilterFieldTest extends CommonTest {
         assertEquals(filterField, FilterField.getFilterFieldByValue(filterField.value()));
     }
 
+    @ParameterizedTest
+    @EnumSource(FilterField.class)
+    public void getFilterFieldByValueInUpperCase_ShouldReturnFilterField(FilterField filterField) {
+        assertEquals(filterField, FilterField.getFilterFieldByValue(filterField.value().toUpperCase(Locale.ROOT)));
+    }
+
     @ParameterizedTest
     @MethodSource("getArgumentsForGetEnumByIncorrectValue")
     public void getFilterFieldByIncorrectValue_ShouldThrowFilterFieldNotSupportedException(String incorrectValue) {
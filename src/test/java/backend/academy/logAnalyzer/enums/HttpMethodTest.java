@@ -2,9 +2,11 @@ package backend.academy.logAnalyzer.enums;
 
 import backend.academy.logAnalyzer.CommonTest;
 import backend.academy.logAnalyzer.exception.HttpMethodNotSupportedException;
+import java.util.Locale;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.HTTP_METHOD_NOT_SUPPORTED_EXCEPTION_TEXT;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -17,6 +19,15 @@ public class HttpMethodTest extends CommonTest {
         assertEquals(httpMethod, HttpMethod.getHttpMethodByValue(httpMethod.value()));
     }
 
+    @ParameterizedTest
+    @EnumSource(HttpMethod.class)
+    public void getHttpMethodByValueInAnyCase_ShouldReturnHttpMethod(HttpMethod httpMethod) {
+        final String upperCaseValue = httpMethod.value().toUpperCase(Locale.ROOT);
+
+        assertEquals(httpMethod, HttpMethod.getHttpMethodByValue(upperCaseValue));
+        assertEquals(httpMethod, HttpMethod.getHttpMethodByValue(new StringBuilder(upperCaseValue)));
+    }
+
     @ParameterizedTest
     @MethodSource("getArgumentsForGetEnumByIncorrectValue")
     public void getHttpMethodByIncorrectValue_ShouldThrowHttpMethodNotSupportedException(String incorrectValue) {
@@ -25,4 +36,13 @@ public class HttpMethodTest extends CommonTest {
         }).isInstanceOf(HttpMethodNotSupportedException.class)
             .hasMessageContaining(HTTP_METHOD_NOT_SUPPORTED_EXCEPTION_TEXT);
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"g", "ge", "gets", "pot", "posts", "pat", "deleted", "opt", "tracer", "xget"})
+    public void getHttpMethodBySimilarValue_ShouldThrowHttpMethodNotSupportedException(String similarValue) {
+        assertThatThrownBy(() -> {
+            HttpMethod.getHttpMethodByValue(similarValue);
+        }).isInstanceOf(HttpMethodNotSupportedException.class)
+            .hasMessageContaining(HTTP_METHOD_NOT_SUPPORTED_EXCEPTION_TEXT);
+    }
 }
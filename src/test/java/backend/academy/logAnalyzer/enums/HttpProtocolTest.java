@@ -2,9 +2,11 @@ package backend.academy.logAnalyzer.enums;
 
 import backend.academy.logAnalyzer.CommonTest;
 import backend.academy.logAnalyzer.exception.HttpProtocolNotSupportedException;
+import java.util.Locale;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import static backend.academy.logAnalyzer.constants.ExceptionTextValues.HTTP_PROTOCOL_NOT_SUPPORTED_EXCEPTION_TEXT;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -17,6 +19,15 @@ public class HttpProtocolTest extends CommonTest {
         assertEquals(httpProtocol, HttpProtocol.getHttpProtocolByValue(httpProtocol.value()));
     }
 
+    @ParameterizedTest
+    @EnumSource(HttpProtocol.class)
+    public void getHttpProtocolByValueInAnyCase_ShouldReturnHttpProtocol(HttpProtocol httpProtocol) {
+        final String upperCaseValue = httpProtocol.value().toUpperCase(Locale.ROOT);
+
+        assertEquals(httpProtocol, HttpProtocol.getHttpProtocolByValue(upperCaseValue));
+        assertEquals(httpProtocol, HttpProtocol.getHttpProtocolByValue(new StringBuilder(upperCaseValue)));
+    }
+
     @ParameterizedTest
     @MethodSource("getArgumentsForGetEnumByIncorrectValue")
     public void getHttpProtocolByIncorrectValue_ShouldThrowHttpProtocolNotSupportedException(String incorrectValue) {
@@ -25,4 +36,13 @@ public class HttpProtocolTest extends CommonTest {
         }).isInstanceOf(HttpProtocolNotSupportedException.class)
             .hasMessageContaining(HTTP_PROTOCOL_NOT_SUPPORTED_EXCEPTION_TEXT);
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1", "http/1", "http/2.1", "https/3", "http/1.0", "HTTP/4"})
+    public void getHttpProtocolBySimilarValue_ShouldThrowHttpProtocolNotSupportedException(String similarValue) {
+        assertThatThrownBy(() -> {
+            HttpProtocol.getHttpProtocolByValue(similarValue);
+        }).isInstanceOf(HttpProtocolNotSupportedException.class)
+            .hasMessageContaining(HTTP_PROTOCOL_NOT_SUPPORTED_EXCEPTION_TEXT);
+    }
 }
@@ -31,7 +31,13 @@ public class HttpStatusTest extends CommonTest {
         final int minIncorrectValue = -100;
         final int maxIncorrectValue = 99;
 
-        return IntStream.range(minIncorrectValue, maxIncorrectValue + 1).toArray();
+        final int minUnknownValue = 512;
+        final int maxUnknownValue = 1000;
+
+        return IntStream.concat(
+            IntStream.range(minIncorrectValue, maxIncorrectValue + 1),
+            IntStream.range(minUnknownValue, maxUnknownValue + 1)
+        ).toArray();
     }
 }
 
@@ -0,0 +1,48 @@
+package backend.academy.logAnalyzer.filter;
+
+import backend.academy.logAnalyzer.CommonTest;
+import backend.academy.logAnalyzer.analyzer.LogTokenizer;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AdaptiveJunctionMatcherTest extends CommonTest {
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void createMatcher_ShouldOrderOperandsByCost(boolean conjunction) {
+        final LogMatcher expensive = new ConstantMatcher(true, 4);
+        final LogMatcher cheap = new ConstantMatcher(true, 1);
+        final AdaptiveJunctionMatcher matcher = new AdaptiveJunctionMatcher(conjunction,
+            new LogMatcher[] {expensive, cheap});
+
+        assertArrayEquals(new LogMatcher[] {cheap, expensive}, matcher.operands());
+        assertEquals(expensive.cost() + cheap.cost(), matcher.cost());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void matchLogs_ShouldMoveDecidingOperandFirst(boolean conjunction) {
+        final LogMatcher neutral = new ConstantMatcher(conjunction, 1);
+        final LogMatcher deciding = new ConstantMatcher(!conjunction, 2);
+        final AdaptiveJunctionMatcher matcher = new AdaptiveJunctionMatcher(conjunction,
+            new LogMatcher[] {neutral, deciding});
+
+        assertArrayEquals(new LogMatcher[] {neutral, deciding}, matcher.operands());
+
+        for (int i = 0; i < AdaptiveJunctionMatcher.REORDER_INTERVAL; i++) {
+            assertEquals(!conjunction, matcher.matches(null));
+        }
+
+        assertArrayEquals(new LogMatcher[] {deciding, neutral}, matcher.operands());
+    }
+
+    private record ConstantMatcher(boolean result, int cost) implements LogMatcher {
+
+        @Override
+        public boolean matches(LogTokenizer tokenizer) {
+            return result;
+        }
+    }
+}
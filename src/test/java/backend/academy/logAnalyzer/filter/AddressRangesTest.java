@@ -0,0 +1,83 @@
+package backend.academy.logAnalyzer.filter;
+
+import backend.academy.logAnalyzer.CommonTest;
+import backend.academy.logAnalyzer.exception.FileDataReadException;
+import backend.academy.logAnalyzer.exception.IncorrectCommandException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_ADDRESS_RANGE_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AddressRangesTest extends CommonTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "10.0.0.0/8 | 10.255.1.2 | true",
+        "10.0.0.0/8 | 11.0.0.1 | false",
+        "93.180.71.3 | 93.180.71.3 | true",
+        "93.180.71.3 | 93.180.71.30 | false",
+        "0.0.0.0/0 | 217.168.17.5 | true",
+        "192.168.0.0/16, 172.16.0.0/12 | 172.31.255.255 | true",
+        "192.168.0.0/16, 172.16.0.0/12 | 172.32.0.0 | false",
+        "10.1.0.0/16, 10.0.0.0/8 | 10.2.0.1 | true",
+        "2001:db8::/32 | 2001:DB8:ffff::1 | true",
+        "2001:db8::/32 | 2001:db9::1 | false",
+        "::/0 | fe80::1 | true",
+        "::/0 | 10.0.0.1 | false",
+        "10.0.0.0/8 | ::ffff:10.0.0.1 | true",
+        "10.0.0.0/8 | unknown | false",
+        "10.0.0.0/8 | - | false"
+    })
+    public void containsAddress_ShouldMatchRanges(String ranges, String address, boolean expected) {
+        assertEquals(expected, AddressRanges.parse(ranges).contains(address));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"10.0.0.0/33", "10.0.0.0/-1", "10.0.0.0/", "10.0.0/8", "2001:db8::/129", "::g/8", ",",
+        "10.0.0.0/+8", "10.0.0.0/\u0668", "\u0661::/8", "2001:db8::/\uff13\uff12"})
+    public void parseIncorrectRanges_ShouldThrowIncorrectCommandException(String ranges) {
+        assertThatThrownBy(() -> {
+            AddressRanges.parse(ranges).contains("10.0.0.1");
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(INCORRECT_ADDRESS_RANGE_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void parseRangesFile_ShouldLoadEachRange() throws IOException {
+        final Path rangesPath = Files.createTempFile("ranges", ".txt");
+        final List<String> lines = new ArrayList<>(List.of("# cloud ranges", "", "2001:db8::/32"));
+
+        for (int i = 0; i < 4096; i++) {
+            lines.add("10." + (i >> 8) + "." + (i & 255) + ".0/24");
+        }
+
+        try {
+            Files.write(rangesPath, lines);
+
+            final AddressRanges ranges = AddressRanges.parse("@" + rangesPath);
+
+            assertTrue(ranges.contains("10.15.255.7"));
+            assertTrue(ranges.contains("2001:db8::7"));
+            assertFalse(ranges.contains("10.16.0.1"));
+        } finally {
+            Files.delete(rangesPath);
+        }
+    }
+
+    @Test
+    public void parseNonExistentRangesFile_ShouldThrowFileDataReadException() {
+        assertThatThrownBy(() -> {
+            AddressRanges.parse("@non-existent-ranges.txt");
+        }).isInstanceOf(FileDataReadException.class);
+    }
+}
@@ -0,0 +1,81 @@
+package backend.academy.logAnalyzer.filter;
+
+import backend.academy.logAnalyzer.CommonTest;
+import backend.academy.logAnalyzer.enums.FilterField;
+import backend.academy.logAnalyzer.enums.FilterOperator;
+import backend.academy.logAnalyzer.exception.FilterFieldNotSupportedException;
+import backend.academy.logAnalyzer.exception.IncorrectCommandException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_FILTER_EXPRESSION_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FilterExpressionParserTest extends CommonTest {
+
+    private static final FilterExpression SERVER_ERROR = new FilterExpression.Condition(
+        FilterField.HTTP_STATUS, FilterOperator.GREATER_OR_EQUALS, "500");
+    private static final FilterExpression POST_METHOD = new FilterExpression.Condition(
+        FilterField.HTTP_METHOD, FilterOperator.EQUALS, "POST");
+    private static final FilterExpression BOT_AGENT = new FilterExpression.Condition(
+        FilterField.AGENT, FilterOperator.CONTAINS, "bot");
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForParseExpression")
+    public void parseExpression_ShouldBuildExpressionTree(String expression, FilterExpression result) {
+        assertEquals(result, FilterExpressionParser.parse(expression));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "status", "status>=", "status=>500", "status>=500 AND", "status>=500 method=get", "(status>=500",
+        "status>=500)", "status~500", "status=ok", "agent<bot", "method=\"get", "method=\"\"", "method post"
+    })
+    public void parseIncorrectExpression_ShouldThrowIncorrectCommandException(String expression) {
+        assertThatThrownBy(() -> {
+            FilterExpressionParser.parse(expression);
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(INCORRECT_FILTER_EXPRESSION_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void parseExpressionWithUnknownField_ShouldThrowFilterFieldNotSupportedException() {
+        assertThatThrownBy(() -> {
+            FilterExpressionParser.parse("referer~google");
+        }).isInstanceOf(FilterFieldNotSupportedException.class);
+    }
+
+    private static List<Object[]> getArgumentsForParseExpression() {
+        final List<Object[]> result = new ArrayList<>();
+
+        result.add(new Object[] {"status>=500", SERVER_ERROR});
+        result.add(new Object[] {"status >= 500", SERVER_ERROR});
+        result.add(new Object[] {
+            "status>=500 AND method=POST AND agent~bot",
+            new FilterExpression.And(List.of(SERVER_ERROR, POST_METHOD, BOT_AGENT))
+        });
+        result.add(new Object[] {
+            "status>=500 or method=POST and agent~bot",
+            new FilterExpression.Or(List.of(SERVER_ERROR, new FilterExpression.And(List.of(POST_METHOD, BOT_AGENT))))
+        });
+        result.add(new Object[] {
+            "(status>=500 OR method=POST) AND NOT agent~bot",
+            new FilterExpression.And(List.of(
+                new FilterExpression.Or(List.of(SERVER_ERROR, POST_METHOD)), new FilterExpression.Not(BOT_AGENT)
+            ))
+        });
+        result.add(new Object[] {
+            "agent!~\"Mozilla/5.0 (X11)\" AND address!=127.0.0.1",
+            new FilterExpression.And(List.of(
+                new FilterExpression.Condition(FilterField.AGENT, FilterOperator.NOT_CONTAINS, "Mozilla/5.0 (X11)"),
+                new FilterExpression.Condition(FilterField.ADDRESS, FilterOperator.NOT_EQUALS, "127.0.0.1")
+            ))
+        });
+
+        return result;
+    }
+}
@@ -0,0 +1,93 @@
+package backend.academy.logAnalyzer.filter;
+
+import backend.academy.logAnalyzer.CommonTest;
+import backend.academy.logAnalyzer.analyzer.CombinedLogTokenizer;
+import backend.academy.logAnalyzer.analyzer.LogFormatCompiler;
+import backend.academy.logAnalyzer.analyzer.LogTokenizer;
+import backend.academy.logAnalyzer.enums.FilterField;
+import backend.academy.logAnalyzer.exception.IncorrectLogFormatException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_LOG_FORMAT_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LogFilterCompilerTest extends CommonTest {
+
+    private static final String LOG = "93.180.71.3 - - [17/May/2015:08:05:32 +0000] "
+        + "\"POST /downloads/product_1 HTTP/1.1\" 503 0 \"-\" \"Googlebot/2.1\"";
+    private static final String LOG_FORMAT = "$remote_addr - $remote_user [$time_local] \"$request\" $status "
+        + "$body_bytes_sent \"$http_referer\" \"$http_user_agent\"";
+
+    @Test
+    public void compileWithoutFilterField_ShouldReturnNull() {
+        assertNull(LogFilterCompiler.compile(null, null));
+    }
+
+    @ParameterizedTest
+    @EnumSource(FilterField.class)
+    public void compileFilter_ShouldTestFilterLogField(FilterField filterField) {
+        final String filterValue = filterField == FilterField.HTTP_STATUS ? "200" : "get";
+
+        assertEquals(filterField.logField(), LogFilterCompiler.compile(filterField, filterValue).field());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "ADDRESS, 93.180.71.3, 93.180.71.3, true",
+        "ADDRESS, 93.180.71.3, 93.180.71.30, false",
+        "USER, Admin, admin, true",
+        "HTTP_METHOD, get, GET, true",
+        "HTTP_METHOD, get, HEAD, false",
+        "AGENT, wget, Wget/1.13.4 (linux-gnu), true",
+        "AGENT, curl, Wget/1.13.4 (linux-gnu), false",
+        "HTTP_STATUS, 500, 500, true",
+        "HTTP_STATUS, 500, 0500, true",
+        "HTTP_STATUS, 500, 404, false"
+    })
+    public void testRawValue_ShouldMatchFilterValue(FilterField filterField, String filterValue, String value,
+        boolean expected) {
+        assertEquals(expected, LogFilterCompiler.compile(filterField, filterValue).test(value));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "status=500, 5x0",
+        "NOT status=500, 5x0",
+        "status!=500, -",
+        "NOT status>=500, 1234567890"
+    })
+    public void compileStatusExpressionWithMalformedStatus_ShouldThrowIncorrectLogFormatException(String expression,
+        String status) {
+        final LogTokenizer tokenizer = LogFormatCompiler.compile(LOG_FORMAT).tokenizer();
+        final LogMatcher matcher = LogFilterCompiler.compile(FilterExpressionParser.parse(expression));
+
+        assertTrue(tokenizer.tokenize(LOG.replace(" 503 ", " " + status + " ")));
+        assertThatThrownBy(() -> {
+            matcher.matches(tokenizer);
+        }).isInstanceOf(IncorrectLogFormatException.class)
+            .hasMessageContaining(INCORRECT_LOG_FORMAT_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "status>=500 | true",
+        "status>503 | false",
+        "status<=503 AND status<600 | true",
+        "status<500 OR method=post | true",
+        "status!=503 | false",
+        "agent!~bot | false",
+        "address!=93.180.71.3 OR NOT (method=post AND agent~googlebot) | false",
+        "user=- AND (status=404 OR status=503) | true"
+    })
+    public void compileExpression_ShouldMatchLog(String expression, boolean expected) {
+        final LogTokenizer tokenizer = new CombinedLogTokenizer();
+
+        assertTrue(tokenizer.tokenize(LOG));
+        assertEquals(expected, LogFilterCompiler.compile(FilterExpressionParser.parse(expression)).matches(tokenizer));
+    }
+}
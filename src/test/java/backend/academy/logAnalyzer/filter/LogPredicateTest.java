@@ -0,0 +1,64 @@
+package backend.academy.logAnalyzer.filter;
+
+import backend.academy.logAnalyzer.CommonTest;
+import backend.academy.logAnalyzer.dto.Command;
+import backend.academy.logAnalyzer.enums.FilterField;
+import backend.academy.logAnalyzer.enums.FilterOperator;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LogPredicateTest extends CommonTest {
+
+    @Test
+    public void compileCommandWithoutFilters_ShouldAcceptAnyTime() {
+        final LogPredicate predicate = LogPredicate.compile(Command.builder().filePath("logs/*").build());
+
+        assertNull(predicate.expression());
+        assertNull(predicate.createMatcher());
+        assertTrue(predicate.testTime(Long.MIN_VALUE));
+        assertTrue(predicate.testTime(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void compileCommandWithTimeRange_ShouldTestStartOfDayBounds() {
+        final LocalDate from = LocalDate.of(2015, 5, 17);
+        final LocalDate to = LocalDate.of(2015, 5, 18);
+        final long fromSecond = from.atStartOfDay(ZoneId.systemDefault()).toEpochSecond();
+        final long toSecond = to.atStartOfDay(ZoneId.systemDefault()).toEpochSecond();
+        final LogPredicate predicate = LogPredicate.compile(
+            Command.builder()
+                .filePath("logs/*")
+                .from(from)
+                .to(to)
+                .filterField(FilterField.HTTP_METHOD)
+                .filterValue("get")
+                .build());
+
+        assertEquals(FilterExpression.Condition.of(FilterField.HTTP_METHOD, "get"), predicate.expression());
+        assertFalse(predicate.testTime(fromSecond - 1));
+        assertTrue(predicate.testTime(fromSecond));
+        assertTrue(predicate.testTime(toSecond));
+        assertFalse(predicate.testTime(toSecond + 1));
+    }
+
+    @Test
+    public void compileCommandWithFilterFieldAndExpression_ShouldCombineThemWithAnd() {
+        final FilterExpression expression = new FilterExpression.Condition(
+            FilterField.HTTP_STATUS, FilterOperator.GREATER_OR_EQUALS, "500");
+        final LogPredicate predicate = LogPredicate.compile(Command.builder()
+            .filePath("logs/*")
+            .filterField(FilterField.AGENT)
+            .filterValue("bot")
+            .filterExpression(expression)
+            .build());
+
+        assertEquals(new FilterExpression.And(List.of(FilterExpression.Condition.of(FilterField.AGENT, "bot"),
+            expression)), predicate.expression());
+    }
+}
@@ -0,0 +1,114 @@
+package backend.academy.logAnalyzer.statistics;
+
+import backend.academy.logAnalyzer.CommonTest;
+import backend.academy.logAnalyzer.analyzer.ByteCharSequence;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AddressFrequencyCounterTest extends CommonTest {
+
+    private static final List<String> ADDRESSES = List.of(
+        "93.180.71.3", "2001:db8::1", "93.180.71.3", "unknown", "0.0.0.0", "2001:db8::1", "::ffff:10.0.0.1",
+        "93.180.71.3", "unknown", "10.0.0.1"
+    );
+
+    @Test
+    public void add_ShouldCountAddressesByValue() {
+        final AddressFrequencyCounter counter = new AddressFrequencyCounter();
+
+        ADDRESSES.forEach(counter::add);
+
+        final Map<String, Integer> top = counter.getTop(10);
+
+        assertEquals(List.of("93.180.71.3", "2001:db8::1", "unknown", "0.0.0.0", "10.0.0.1", "::ffff:10.0.0.1"),
+            List.copyOf(top.keySet()));
+        assertEquals(Map.of("93.180.71.3", 3, "2001:db8::1", 2, "unknown", 2, "0.0.0.0", 1, "10.0.0.1", 1,
+            "::ffff:10.0.0.1", 1), top);
+        assertEquals(List.of("93.180.71.3", "2001:db8::1"), List.copyOf(counter.getTop(2).keySet()));
+        assertEquals(Map.of(), counter.getTop(0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "010.0.0.1", "10.0.0.01", "2001:DB8::1", "2001:db8:0:0:0:0:0:1", "2001:0db8::1", "::ffff:5db4:4703",
+        "::93.180.71.3"
+    })
+    public void addNonCanonicalAddress_ShouldKeepOriginalSpelling(String address) {
+        final AddressFrequencyCounter counter = new AddressFrequencyCounter();
+
+        counter.add(address);
+        counter.add(address);
+
+        assertEquals(Map.of(address, 2), counter.getTop(10));
+    }
+
+    @Test
+    public void addBytes_ShouldCountSameAsString() {
+        final AddressFrequencyCounter counter = new AddressFrequencyCounter();
+        final String address = "93.180.71.3";
+        final ByteBuffer buffer = ByteBuffer.wrap(address.getBytes(StandardCharsets.ISO_8859_1));
+
+        counter.add(address);
+        counter.add(new ByteCharSequence(buffer, 0, buffer.limit()));
+
+        assertEquals(Map.of(address, 2), counter.getTop(1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 100})
+    public void addManyAddresses_ShouldReturnSameTopAsExactCounter(int limit) {
+        final AddressFrequencyCounter counter = new AddressFrequencyCounter();
+        final AddressFrequencyCounter other = new AddressFrequencyCounter();
+        final ExactFrequencyCounter<String> exactCounter = new ExactFrequencyCounter<>();
+        final Random random = new Random(limit);
+
+        for (int i = 0; i < 100_000; i++) {
+            final int key = (int) (10_000 * Math.pow(random.nextDouble(), 4));
+            final String address = i % 3 == 0
+                ? "2001:db8::" + Integer.toHexString(key + 1)
+                : "10.0." + key / 256 + "." + key % 256;
+
+            (i % 2 == 0 ? counter : other).add(address);
+            exactCounter.add(address);
+        }
+
+        counter.merge(other);
+
+        assertEquals(List.copyOf(exactCounter.getTop(limit).entrySet()), List.copyOf(counter.getTop(limit).entrySet()));
+    }
+
+    @Test
+    public void writeAndRead_ShouldRestoreCounts() throws IOException {
+        final AddressFrequencyCounter counter = new AddressFrequencyCounter();
+        final AddressFrequencyCounter restored = new AddressFrequencyCounter();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        ADDRESSES.forEach(counter::add);
+        counter.write(new DataOutputStream(bytes), new StringKeyCodec());
+        restored.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), new StringKeyCodec());
+
+        assertEquals(counter.getTop(10), restored.getTop(10));
+    }
+
+    @Test
+    public void mergeWithDifferentCounter_ShouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> {
+            new AddressFrequencyCounter().merge(new ExactFrequencyCounter<>());
+        }).isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining(DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT);
+    }
+}
@@ -0,0 +1,114 @@
+package backend.academy.logAnalyzer.statistics;
+
+import backend.academy.logAnalyzer.CommonTest;
+import backend.academy.logAnalyzer.analyzer.ByteCharSequence;
+import backend.academy.logAnalyzer.exception.FileDataReadException;
+import backend.academy.logAnalyzer.exception.IncorrectCommandException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import static backend.academy.logAnalyzer.constants.ConstValues.NO_SIGNATURE;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_BOT_SIGNATURES_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BotSignaturesTest extends CommonTest {
+
+    private static final BotSignatures SIGNATURES = BotSignatures.of(List.of("Googlebot", "bot", "hers", "she", "he"));
+
+    @ParameterizedTest
+    @CsvSource(value = {
+        "Mozilla/5.0 (compatible; Googlebot/2.1)|Googlebot",
+        "Mozilla/5.0 (compatible; GOOGLEBOT/2.1)|Googlebot",
+        "Mozilla/5.0 (compatible; Googlebo)|-",
+        "Mozilla/5.0 (compatible; YandexBot/3.0)|bot",
+        "ushers|she",
+        "HERS|he",
+        "curl/7.68.0|-",
+        "Ünicode bot|bot"
+    }, delimiter = '|')
+    public void match_ShouldReturnFirstEndingSignature(String userAgent, String signature) {
+        final int index = SIGNATURES.match(userAgent);
+
+        assertEquals(signature, index != NO_SIGNATURE ? SIGNATURES.signature(index) : "-");
+    }
+
+    @Test
+    public void matchBytes_ShouldReturnSameSignatureAsString() {
+        final String userAgent = "Mozilla/5.0 (compatible; Googlebot/2.1)";
+        final ByteBuffer buffer = ByteBuffer.wrap(userAgent.getBytes(StandardCharsets.ISO_8859_1));
+
+        assertEquals(SIGNATURES.match(userAgent), SIGNATURES.match(new ByteCharSequence(buffer, 0, buffer.limit())));
+    }
+
+    @Test
+    public void matchManySignatures_ShouldFindEachSignature() {
+        final List<String> signatures = new ArrayList<>();
+
+        for (int i = 0; i < 500; i++) {
+            signatures.add("crawler-" + i + "/");
+        }
+
+        final BotSignatures botSignatures = BotSignatures.of(signatures);
+
+        for (int i = 0; i < signatures.size(); i++) {
+            assertEquals(i, botSignatures.match("Mozilla/5.0 (compatible; Crawler-" + i + "/1.0)"));
+        }
+
+        assertEquals(NO_SIGNATURE, botSignatures.match("Mozilla/5.0 (compatible; crawler-500/1.0)"));
+    }
+
+    @Test
+    public void ofDuplicateSignatures_ShouldKeepFirstSignature() {
+        final BotSignatures botSignatures = BotSignatures.of(List.of("Bot", "bot", "spider"));
+
+        assertEquals(2, botSignatures.size());
+        assertEquals("Bot", botSignatures.signature(botSignatures.match("some bot")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "бот"})
+    public void ofIncorrectSignature_ShouldThrowIncorrectCommandException(String signature) {
+        assertThatThrownBy(() -> {
+            BotSignatures.of(List.of("bot", signature));
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(INCORRECT_BOT_SIGNATURES_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void ofNoSignatures_ShouldThrowIncorrectCommandException() {
+        assertThatThrownBy(() -> {
+            BotSignatures.of(List.of());
+        }).isInstanceOf(IncorrectCommandException.class)
+            .hasMessageContaining(INCORRECT_BOT_SIGNATURES_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void loadSignaturesFile_ShouldSkipCommentsAndBlankLines() throws IOException {
+        final Path signaturesPath = Files.createTempFile("bots", ".txt");
+
+        try {
+            Files.write(signaturesPath, List.of("# crawlers", "", "  Googlebot  ", "bingbot"));
+
+            assertEquals(BotSignatures.of(List.of("Googlebot", "bingbot")),
+                BotSignatures.load(signaturesPath.toString()));
+        } finally {
+            Files.delete(signaturesPath);
+        }
+    }
+
+    @Test
+    public void loadNonExistentSignaturesFile_ShouldThrowFileDataReadException() {
+        assertThatThrownBy(() -> {
+            BotSignatures.load("non-existent-bots.txt");
+        }).isInstanceOf(FileDataReadException.class);
+    }
+}
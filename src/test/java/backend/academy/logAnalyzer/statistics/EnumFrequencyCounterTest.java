@@ -0,0 +1,74 @@
+package backend.academy.logAnalyzer.statistics;
+
+import backend.academy.logAnalyzer.CommonTest;
+import backend.academy.logAnalyzer.enums.HttpStatus;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class EnumFrequencyCounterTest extends CommonTest {
+
+    @Test
+    public void getTopWithoutValues_ShouldReturnEmptyMap() {
+        assertEquals(Map.of(), new EnumFrequencyCounter<>(HttpStatus.class).getTop(DEFAULT_DAYS_COUNT));
+    }
+
+    @ParameterizedTest
+    @EnumSource(HttpStatus.class)
+    public void add_ShouldCountEachValue(HttpStatus httpStatus) {
+        final EnumFrequencyCounter<HttpStatus> counter = new EnumFrequencyCounter<>(HttpStatus.class);
+        final int valuesCount = 3;
+
+        for (int i = 0; i < valuesCount; i++) {
+            counter.add(httpStatus);
+        }
+
+        assertEquals(Map.of(httpStatus, valuesCount), counter.getTop(DEFAULT_DAYS_COUNT));
+    }
+
+    @Test
+    public void getTop_ShouldReturnMostFrequentValues() {
+        final EnumFrequencyCounter<HttpStatus> counter = new EnumFrequencyCounter<>(HttpStatus.class);
+
+        for (HttpStatus httpStatus : List.of(HttpStatus.OK, HttpStatus.NOT_FOUND, HttpStatus.OK,
+            HttpStatus.NOT_MODIFIED, HttpStatus.NOT_FOUND, HttpStatus.OK)) {
+            counter.add(httpStatus);
+        }
+
+        final Map<HttpStatus, Integer> top = counter.getTop(2);
+
+        assertEquals(List.of(HttpStatus.OK, HttpStatus.NOT_FOUND), List.copyOf(top.keySet()));
+        assertEquals(Map.of(HttpStatus.OK, 3, HttpStatus.NOT_FOUND, 2), top);
+    }
+
+    @Test
+    public void merge_ShouldSumCounts() {
+        final EnumFrequencyCounter<HttpStatus> first = new EnumFrequencyCounter<>(HttpStatus.class);
+        final EnumFrequencyCounter<HttpStatus> second = new EnumFrequencyCounter<>(HttpStatus.class);
+
+        for (HttpStatus httpStatus : List.of(HttpStatus.OK, HttpStatus.NOT_FOUND, HttpStatus.OK)) {
+            first.add(httpStatus);
+        }
+
+        for (HttpStatus httpStatus : List.of(HttpStatus.NOT_FOUND, HttpStatus.NOT_FOUND, HttpStatus.NOT_MODIFIED)) {
+            second.add(httpStatus);
+        }
+
+        first.merge(second);
+
+        assertEquals(Map.of(HttpStatus.NOT_FOUND, 3, HttpStatus.OK, 2, HttpStatus.NOT_MODIFIED, 1), first.getTop(3));
+    }
+
+    @Test
+    public void mergeWithExactCounter_ShouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> {
+            new EnumFrequencyCounter<>(HttpStatus.class).merge(new ExactFrequencyCounter<>());
+        }).isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining(DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT);
+    }
+}
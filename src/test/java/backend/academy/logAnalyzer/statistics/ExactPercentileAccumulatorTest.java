@@ -0,0 +1,156 @@
+package backend.academy.logAnalyzer.statistics;
+
+import backend.academy.logAnalyzer.CommonTest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ExactPercentileAccumulatorTest extends CommonTest {
+
+    @Test
+    public void getPercentileWithoutValues_ShouldReturnZero() {
+        assertEquals(0, new ExactPercentileAccumulator().getPercentile(DEFAULT_PERCENTILE));
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForGetPercentile")
+    public void getPercentile_ShouldReturnNearestRankValue(double percentile, long expected) {
+        final ExactPercentileAccumulator accumulator = new ExactPercentileAccumulator();
+        final int valuesCount = 100;
+
+        for (int i = valuesCount; i > 0; i--) {
+            accumulator.add(i);
+        }
+
+        assertEquals(expected, accumulator.getPercentile(percentile));
+    }
+
+    @Test
+    public void addAfterGetPercentile_ShouldTakeNewValueIntoAccount() {
+        final ExactPercentileAccumulator accumulator = new ExactPercentileAccumulator();
+
+        accumulator.add(1);
+        assertEquals(1, accumulator.getPercentile(DEFAULT_PERCENTILE));
+
+        accumulator.add(2);
+        assertEquals(2, accumulator.getPercentile(DEFAULT_PERCENTILE));
+    }
+
+    @Test
+    public void getPercentiles_ShouldReturnEachPercentileInRequestedOrder() {
+        final ExactPercentileAccumulator accumulator = new ExactPercentileAccumulator();
+        final int valuesCount = 1000;
+
+        for (int i = valuesCount; i > 0; i--) {
+            accumulator.add(i);
+        }
+
+        final Map<Double, Long> percentiles = accumulator.getPercentiles(List.of(99.0, 50.0, 90.0, 50.0));
+
+        assertEquals(List.of(99.0, 50.0, 90.0), List.copyOf(percentiles.keySet()));
+        assertEquals(990L, percentiles.get(99.0));
+        assertEquals(500L, percentiles.get(50.0));
+        assertEquals(900L, percentiles.get(90.0));
+    }
+
+    @Test
+    public void getPercentilesWithDuplicates_ShouldReturnNearestRankValues() {
+        final ExactPercentileAccumulator accumulator = new ExactPercentileAccumulator();
+        final int zerosCount = 900;
+        final int valuesCount = 100;
+
+        for (int i = 0; i < zerosCount; i++) {
+            accumulator.add(0);
+        }
+
+        for (int i = 0; i < valuesCount; i++) {
+            accumulator.add(valuesCount);
+        }
+
+        final Map<Double, Long> percentiles = accumulator.getPercentiles(List.of(50.0, 90.0, 90.1, 100.0));
+
+        assertEquals(0L, percentiles.get(50.0));
+        assertEquals(0L, percentiles.get(90.0));
+        assertEquals(100L, percentiles.get(90.1));
+        assertEquals(100L, percentiles.get(100.0));
+    }
+
+    @ParameterizedTest
+    @MethodSource("getValuesCounts")
+    public void getPercentilesWithRandomValues_ShouldMatchSortedValues(int valuesCount) {
+        final ExactPercentileAccumulator accumulator = new ExactPercentileAccumulator();
+        final Random random = new Random(valuesCount);
+        final long[] values = new long[valuesCount];
+        final int maxValue = 5000;
+        final List<Double> requestedPercentiles = List.of(0.1, 25.0, 50.0, 75.0, 90.0, 95.0, 99.0, 99.9, 100.0);
+
+        for (int i = 0; i < valuesCount; i++) {
+            values[i] = random.nextInt(maxValue);
+            accumulator.add(values[i]);
+        }
+
+        Arrays.sort(values);
+
+        final Map<Double, Long> percentiles = accumulator.getPercentiles(requestedPercentiles);
+
+        for (Double percentile : requestedPercentiles) {
+            assertEquals(values[(int) PercentileAccumulator.getRankIndex(percentile, valuesCount)],
+                percentiles.get(percentile));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("getValuesCounts")
+    public void merge_ShouldGiveSameResultAsSingleAccumulator(int valuesCount) {
+        final ExactPercentileAccumulator accumulator = new ExactPercentileAccumulator();
+        final ExactPercentileAccumulator first = new ExactPercentileAccumulator();
+        final ExactPercentileAccumulator second = new ExactPercentileAccumulator();
+        final Random random = new Random(valuesCount);
+        final int maxValue = 5000;
+        final List<Double> requestedPercentiles = List.of(0.1, 50.0, 95.0, 99.9, 100.0);
+
+        for (int i = 0; i < valuesCount; i++) {
+            final long value = random.nextInt(maxValue);
+
+            accumulator.add(value);
+            (random.nextBoolean() ? first : second).add(value);
+        }
+
+        first.merge(second);
+
+        assertEquals(accumulator.getPercentiles(requestedPercentiles), first.getPercentiles(requestedPercentiles));
+    }
+
+    @Test
+    public void mergeWithSketchAccumulator_ShouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> {
+            new ExactPercentileAccumulator().merge(new SketchPercentileAccumulator(0.01));
+        }).isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining(DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT);
+    }
+
+    private static int[] getValuesCounts() {
+        return new int[] {1, 2, 15, 17, 100, 1001, 100_000};
+    }
+
+    private static List<Object[]> getArgumentsForGetPercentile() {
+        final List<Object[]> result = new ArrayList<>();
+
+        result.add(new Object[] {0.5, 1L});
+        result.add(new Object[] {1.0, 1L});
+        result.add(new Object[] {50.0, 50L});
+        result.add(new Object[] {95.0, 95L});
+        result.add(new Object[] {99.9, 100L});
+        result.add(new Object[] {100.0, 100L});
+
+        return result;
+    }
+}
@@ -0,0 +1,140 @@
+package backend.academy.logAnalyzer.statistics;
+
+import backend.academy.logAnalyzer.CommonTest;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.NOT_POSITIVE_LATENCY_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTest extends CommonTest {
+
+    private static final double MAX_RELATIVE_ERROR = 1.0 / 32;
+
+    @Test
+    public void getPercentileWithoutValues_ShouldReturnZero() {
+        assertEquals(0, new LatencyHistogram().getPercentile(DEFAULT_PERCENTILE));
+    }
+
+    @Test
+    public void getBucketIndex_ShouldGrowMonotonicallyAndCoverValue() {
+        int previousIndex = 0;
+
+        for (long value = 0; value < 1 << 20; value++) {
+            final int index = LatencyHistogram.getBucketIndex(value);
+
+            assertTrue(index == previousIndex || index == previousIndex + 1);
+            assertTrue(value <= LatencyHistogram.getBucketUpperBound(index));
+            assertTrue(index == 0 || value > LatencyHistogram.getBucketUpperBound(index - 1));
+
+            previousIndex = index;
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {50, 90, 95, 99, 99.9, 100})
+    public void getPercentile_ShouldReturnValueWithinRelativeError(double percentile) {
+        final Random random = new Random((long) percentile);
+        final int valuesCount = 100_000;
+        final long[] values = new long[valuesCount];
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        for (int i = 0; i < valuesCount; i++) {
+            values[i] = (long) Math.exp(random.nextDouble() * 20);
+            histogram.add(values[i]);
+        }
+
+        Arrays.sort(values);
+
+        final long expected = values[(int) Math.max(Math.ceil(percentile / 100 * valuesCount) - 1, 0)];
+        final long actual = histogram.getPercentile(percentile);
+
+        assertTrue(actual >= expected);
+        assertTrue(actual - expected <= Math.max(1, expected * MAX_RELATIVE_ERROR));
+    }
+
+    @Test
+    public void addHugeValue_ShouldKeepExactMaxValue() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.add(1);
+        histogram.add(Long.MAX_VALUE);
+
+        assertEquals(Long.MAX_VALUE, histogram.maxValue());
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(100));
+        assertEquals(1, histogram.getPercentile(50));
+    }
+
+    @Test
+    public void addNegativeValue_ShouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> {
+            new LatencyHistogram().add(-1);
+        }).isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining(NOT_POSITIVE_LATENCY_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void mergeHistograms_ShouldReturnSameResultAsSingleHistogram() {
+        final Random random = new Random(42);
+        final LatencyHistogram single = new LatencyHistogram();
+        final LatencyHistogram first = new LatencyHistogram();
+        final LatencyHistogram second = new LatencyHistogram();
+        final int valuesCount = 10_000;
+
+        for (int i = 0; i < valuesCount; i++) {
+            final long value = random.nextLong(1, 10_000_000);
+
+            single.add(value);
+            (i % 3 == 0 ? first : second).add(value);
+        }
+
+        first.merge(second);
+
+        assertEquals(single.count(), first.count());
+        assertEquals(single.maxValue(), first.maxValue());
+
+        for (double percentile : new double[] {1, 50, 95, 99, 100}) {
+            assertEquals(single.getPercentile(percentile), first.getPercentile(percentile));
+        }
+    }
+
+    @Test
+    public void writeAndRead_ShouldRestoreSameHistogram() throws IOException {
+        final Random random = new Random(42);
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final LatencyHistogram restored = new LatencyHistogram();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        for (int i = 0; i < 1000; i++) {
+            histogram.add(random.nextLong(0, 10_000_000));
+        }
+
+        histogram.write(new DataOutputStream(bytes));
+        restored.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(histogram.count(), restored.count());
+        assertEquals(histogram.maxValue(), restored.maxValue());
+
+        for (double percentile : new double[] {1, 50, 95, 99, 100}) {
+            assertEquals(histogram.getPercentile(percentile), restored.getPercentile(percentile));
+        }
+    }
+
+    @Test
+    public void mergeWithDifferentAccumulator_ShouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> {
+            new LatencyHistogram().merge(new ExactPercentileAccumulator());
+        }).isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining(DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT);
+    }
+}
@@ -0,0 +1,133 @@
+package backend.academy.logAnalyzer.statistics;
+
+import backend.academy.logAnalyzer.CommonTest;
+import backend.academy.logAnalyzer.dto.LatencyStatistics;
+import backend.academy.logAnalyzer.dto.StatisticsSettings;
+import backend.academy.logAnalyzer.enums.HttpMethod;
+import backend.academy.logAnalyzer.enums.HttpStatus;
+import backend.academy.logAnalyzer.exception.StatisticsOverflowException;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import static backend.academy.logAnalyzer.constants.ConstValues.STATISTICS_LIMIT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.STATISTICS_OVERFLOW_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LogStatisticsTest extends CommonTest {
+
+    private static final String ADDRESS = "127.0.0.1";
+    private static final String RESOURCE = "/downloads/product_1";
+    private static final String COLD_RESOURCE = "/downloads/product_";
+    private static final int HEAVY_HITTERS = 3;
+    private static final long HOT_LATENCY = 1000;
+    private static final int DISTINCT_RESOURCES = 10_000;
+    private static final int MAX_LATENCY_RESOURCES = STATISTICS_LIMIT * 10;
+
+    @Test
+    public void addOverflowingBytes_ShouldThrowStatisticsOverflowException() {
+        final LogStatistics statistics = new LogStatistics(StatisticsSettings.builder().build());
+
+        statistics.add(ADDRESS, HttpMethod.GET, RESOURCE, HttpStatus.OK, Long.MAX_VALUE);
+
+        assertEquals(Long.MAX_VALUE, statistics.bytesCount());
+        assertThatThrownBy(() -> {
+            statistics.add(ADDRESS, HttpMethod.GET, RESOURCE, HttpStatus.OK, 1);
+        }).isInstanceOf(StatisticsOverflowException.class)
+            .hasMessageContaining(STATISTICS_OVERFLOW_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void mergeOverflowingBytes_ShouldThrowStatisticsOverflowException() {
+        final LogStatistics statistics = new LogStatistics(StatisticsSettings.builder().build());
+        final LogStatistics other = new LogStatistics(StatisticsSettings.builder().build());
+
+        statistics.add(ADDRESS, HttpMethod.GET, RESOURCE, HttpStatus.OK, Long.MAX_VALUE);
+        other.add(ADDRESS, HttpMethod.GET, RESOURCE, HttpStatus.OK, 1);
+
+        assertThatThrownBy(() -> {
+            statistics.merge(other);
+        }).isInstanceOf(StatisticsOverflowException.class)
+            .hasMessageContaining(STATISTICS_OVERFLOW_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void addHotResourceAfterColdResources_ShouldTrackHotResourceLatency() {
+        final LogStatistics statistics = new LogStatistics(
+            StatisticsSettings.builder().top(1).heavyHitters(HEAVY_HITTERS).build()
+        );
+
+        addColdResources(statistics);
+        addHotResource(statistics);
+
+        final LatencyStatistics latencyStatistics = statistics.getLatencyStatistics(1);
+
+        assertEquals(Set.of(RESOURCE), latencyStatistics.resources().keySet());
+        assertEquals(HOT_LATENCY, latencyStatistics.resources().get(RESOURCE).max());
+    }
+
+    @Test
+    public void mergeHotResourceAfterColdResources_ShouldTrackHotResourceLatency() {
+        final LogStatistics statistics = new LogStatistics(
+            StatisticsSettings.builder().top(1).heavyHitters(HEAVY_HITTERS).build()
+        );
+        final LogStatistics other = new LogStatistics(
+            StatisticsSettings.builder().top(1).heavyHitters(HEAVY_HITTERS).build()
+        );
+
+        addColdResources(statistics);
+        addHotResource(other);
+        statistics.merge(other);
+
+        final LatencyStatistics latencyStatistics = statistics.getLatencyStatistics(1);
+
+        assertEquals(Set.of(RESOURCE), latencyStatistics.resources().keySet());
+        assertEquals(HOT_LATENCY, latencyStatistics.resources().get(RESOURCE).max());
+    }
+
+    @Test
+    public void addManyDistinctResourcesWithoutHeavyHitters_ShouldBoundResourceLatencies() {
+        final LogStatistics statistics = new LogStatistics(StatisticsSettings.builder().build());
+        final LogStatistics other = new LogStatistics(StatisticsSettings.builder().build());
+
+        addDistinctResources(statistics);
+        addDistinctResources(other);
+        addHotResource(statistics);
+
+        assertTrue(statistics.getLatencyStatistics(DISTINCT_RESOURCES).resources().size() <= MAX_LATENCY_RESOURCES);
+
+        statistics.merge(other);
+
+        final LatencyStatistics latencyStatistics = statistics.getLatencyStatistics(DISTINCT_RESOURCES);
+
+        assertEquals(DISTINCT_RESOURCES + 1, statistics.getRequestStatistics(DISTINCT_RESOURCES * 2)
+            .resources().size());
+        assertTrue(latencyStatistics.resources().size() <= MAX_LATENCY_RESOURCES);
+        assertEquals(HOT_LATENCY, latencyStatistics.resources().get(RESOURCE).max());
+    }
+
+    private static void addDistinctResources(LogStatistics statistics) {
+        for (int i = 0; i < DISTINCT_RESOURCES; i++) {
+            final String resource = COLD_RESOURCE + (i + 2);
+
+            statistics.add(ADDRESS, HttpMethod.GET, resource, HttpStatus.OK, 1);
+            statistics.addLatency(resource, 1, 1);
+        }
+    }
+
+    private static void addColdResources(LogStatistics statistics) {
+        for (int i = 0; i < HEAVY_HITTERS * 2; i++) {
+            final String resource = COLD_RESOURCE + (i + 2);
+
+            statistics.add(ADDRESS, HttpMethod.GET, resource, HttpStatus.OK, 1);
+            statistics.addLatency(resource, 1, 1);
+        }
+    }
+
+    private static void addHotResource(LogStatistics statistics) {
+        for (int i = 0; i < HEAVY_HITTERS * 2; i++) {
+            statistics.add(ADDRESS, HttpMethod.GET, RESOURCE, HttpStatus.OK, 1);
+            statistics.addLatency(RESOURCE, HOT_LATENCY, HOT_LATENCY);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package backend.academy.logAnalyzer.statistics;
+
+import backend.academy.logAnalyzer.CommonTest;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static backend.academy.logAnalyzer.constants.ConstValues.MIN_PERCENTILE_ERROR;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.DIFFERENT_PERCENTILE_ERRORS_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_PERCENTILE_ERROR_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_STATISTICS_DATA_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SketchPercentileAccumulatorTest extends CommonTest {
+
+    private static final double[] PERCENTILES = {1, 10, 50, 90, 95, 99, 99.9, 100};
+    private static final int VALUES_COUNT = 100_000;
+    private static final int MAX_VALUE_LOGARITHM = 25;
+
+    @Test
+    public void getPercentileWithoutValues_ShouldReturnZero() {
+        assertEquals(0, new SketchPercentileAccumulator(0.01).getPercentile(DEFAULT_PERCENTILE));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.001, 0.01, 0.05})
+    public void getPercentile_ShouldStayWithinRelativeError(double relativeError) {
+        final ExactPercentileAccumulator exact = new ExactPercentileAccumulator();
+        final SketchPercentileAccumulator sketch = new SketchPercentileAccumulator(relativeError);
+
+        fillWithRandomValues(exact, sketch);
+
+        for (double percentile : PERCENTILES) {
+            final long expected = exact.getPercentile(percentile);
+
+            assertTrue(Math.abs(sketch.getPercentile(percentile) - expected) <= expected * relativeError);
+        }
+    }
+
+    @Test
+    public void merge_ShouldGiveSameResultAsSingleSketch() {
+        final double relativeError = 0.01;
+        final SketchPercentileAccumulator sketch = new SketchPercentileAccumulator(relativeError);
+        final SketchPercentileAccumulator first = new SketchPercentileAccumulator(relativeError);
+        final SketchPercentileAccumulator second = new SketchPercentileAccumulator(relativeError);
+
+        fillWithRandomValues(sketch, first);
+        fillWithRandomValues(sketch, second);
+        first.merge(second);
+
+        for (double percentile : PERCENTILES) {
+            assertEquals(sketch.getPercentile(percentile), first.getPercentile(percentile));
+        }
+    }
+
+    @Test
+    public void writeAndRead_ShouldRestoreSameSketch() throws IOException {
+        final double relativeError = 0.01;
+        final SketchPercentileAccumulator sketch = new SketchPercentileAccumulator(relativeError);
+        final SketchPercentileAccumulator restored = new SketchPercentileAccumulator(relativeError);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        fillWithRandomValues(sketch, new SketchPercentileAccumulator(relativeError));
+        sketch.write(new DataOutputStream(bytes));
+        restored.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        for (double percentile : PERCENTILES) {
+            assertEquals(sketch.getPercentile(percentile), restored.getPercentile(percentile));
+        }
+    }
+
+    @Test
+    public void readWithDifferentRelativeError_ShouldThrowIOException() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        new SketchPercentileAccumulator(0.01).write(new DataOutputStream(bytes));
+
+        assertThatThrownBy(() -> {
+            new SketchPercentileAccumulator(0.02)
+                .read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        }).isInstanceOf(IOException.class)
+            .hasMessageContaining(INCORRECT_STATISTICS_DATA_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void readWithTooManyBuckets_ShouldThrowIOException() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+
+        output.writeDouble(0.01);
+        output.writeInt(Integer.MAX_VALUE);
+
+        assertThatThrownBy(() -> {
+            new SketchPercentileAccumulator(0.01)
+                .read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        }).isInstanceOf(IOException.class)
+            .hasMessageContaining(INCORRECT_STATISTICS_DATA_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {Long.MAX_VALUE, Long.MAX_VALUE - 1, 1L << 62, 1_000_000})
+    public void addLargeValueWithMinRelativeError_ShouldStayWithinRelativeError(long value) {
+        final SketchPercentileAccumulator sketch = new SketchPercentileAccumulator(MIN_PERCENTILE_ERROR);
+
+        sketch.add(1);
+        sketch.add(value);
+
+        assertEquals(1, sketch.getPercentile(1));
+        assertTrue(Math.abs((double) sketch.getPercentile(100) - value) <= value * MIN_PERCENTILE_ERROR);
+    }
+
+    @Test
+    public void writeAndReadLargeValues_ShouldRestoreSameSketch() throws IOException {
+        final double relativeError = 0.05;
+        final SketchPercentileAccumulator sketch = new SketchPercentileAccumulator(relativeError);
+        final SketchPercentileAccumulator restored = new SketchPercentileAccumulator(relativeError);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        sketch.add(10_000_000_000_000L);
+        sketch.add(Long.MAX_VALUE);
+        sketch.write(new DataOutputStream(bytes));
+        restored.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        for (double percentile : PERCENTILES) {
+            assertEquals(sketch.getPercentile(percentile), restored.getPercentile(percentile));
+        }
+    }
+
+    @Test
+    public void mergeWithDifferentRelativeError_ShouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> {
+            new SketchPercentileAccumulator(0.01).merge(new SketchPercentileAccumulator(0.02));
+        }).isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining(DIFFERENT_PERCENTILE_ERRORS_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void mergeWithExactAccumulator_ShouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> {
+            new SketchPercentileAccumulator(0.01).merge(new ExactPercentileAccumulator());
+        }).isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining(DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0, 1, -0.01, 2, 1e-9, 0.00009, Double.NaN})
+    public void createWithIncorrectRelativeError_ShouldThrowIllegalArgumentException(double relativeError) {
+        assertThatThrownBy(() -> {
+            new SketchPercentileAccumulator(relativeError);
+        }).isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining(INCORRECT_PERCENTILE_ERROR_EXCEPTION_TEXT);
+    }
+
+    private static void fillWithRandomValues(PercentileAccumulator first, PercentileAccumulator second) {
+        final Random random = new Random(getRandomNumber());
+        final int zeroShare = 10;
+
+        for (int i = 0; i < VALUES_COUNT; i++) {
+            final long value = random.nextInt(zeroShare) == 0
+                ? 0
+                : (long) Math.exp(random.nextDouble() * MAX_VALUE_LOGARITHM);
+
+            first.add(value);
+            second.add(value);
+        }
+    }
+}
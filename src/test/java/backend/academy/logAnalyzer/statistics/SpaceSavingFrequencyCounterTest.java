@@ -0,0 +1,227 @@
+package backend.academy.logAnalyzer.statistics;
+
+import backend.academy.logAnalyzer.CommonTest;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_HEAVY_HITTERS_EXCEPTION_TEXT;
+import static backend.academy.logAnalyzer.constants.ExceptionTextValues.INCORRECT_STATISTICS_DATA_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SpaceSavingFrequencyCounterTest extends CommonTest {
+
+    @ParameterizedTest
+    @MethodSource("getNotPositiveNumbers")
+    public void createCounterWithIncorrectCapacity_ShouldThrowIllegalArgumentException(int capacity) {
+        assertThatThrownBy(() -> {
+            new SpaceSavingFrequencyCounter<String>(capacity);
+        }).isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining(INCORRECT_HEAVY_HITTERS_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void addWithinCapacity_ShouldCountExactly() {
+        final SpaceSavingFrequencyCounter<String> counter = new SpaceSavingFrequencyCounter<>(3);
+
+        for (String key : List.of("a", "b", "a", "c", "a", "b")) {
+            counter.add(key);
+        }
+
+        final Map<String, Integer> top = counter.getTop(3);
+
+        assertEquals(List.of("a", "b", "c"), List.copyOf(top.keySet()));
+        assertEquals(Map.of("a", 3, "b", 2, "c", 1), top);
+        assertEquals(Map.of("a", 0, "b", 0, "c", 0), counter.getErrors(top.keySet()));
+    }
+
+    @Test
+    public void addOverCapacity_ShouldReplaceMinimalCounter() {
+        final SpaceSavingFrequencyCounter<String> counter = new SpaceSavingFrequencyCounter<>(2);
+
+        for (String key : List.of("a", "a", "a", "b", "c")) {
+            counter.add(key);
+        }
+
+        final Map<String, Integer> top = counter.getTop(2);
+
+        assertEquals(Map.of("a", 3, "c", 2), top);
+        assertEquals(Map.of("a", 0, "c", 1), counter.getErrors(top.keySet()));
+    }
+
+    @Test
+    public void addAndGetEvictedOverCapacity_ShouldReturnReplacedKey() {
+        final SpaceSavingFrequencyCounter<String> counter = new SpaceSavingFrequencyCounter<>(2);
+
+        assertNull(counter.addAndGetEvicted("a"));
+        assertNull(counter.addAndGetEvicted("a"));
+        assertNull(counter.addAndGetEvicted("b"));
+        assertEquals("b", counter.addAndGetEvicted("c"));
+        assertTrue(counter.contains("c"));
+        assertFalse(counter.contains("b"));
+    }
+
+    @Test
+    public void mergeWithinCapacity_ShouldCountExactly() {
+        final SpaceSavingFrequencyCounter<String> first = new SpaceSavingFrequencyCounter<>(3);
+        final SpaceSavingFrequencyCounter<String> second = new SpaceSavingFrequencyCounter<>(3);
+
+        for (String key : List.of("a", "b", "a")) {
+            first.add(key);
+        }
+
+        for (String key : List.of("c", "a", "b")) {
+            second.add(key);
+        }
+
+        first.merge(second);
+
+        final Map<String, Integer> top = first.getTop(3);
+
+        assertEquals(List.of("a", "b", "c"), List.copyOf(top.keySet()));
+        assertEquals(Map.of("a", 3, "b", 2, "c", 1), top);
+        assertEquals(Map.of("a", 0, "b", 0, "c", 0), first.getErrors(top.keySet()));
+    }
+
+    @Test
+    public void mergeOverCapacity_ShouldAddMinimalCountsToErrors() {
+        final SpaceSavingFrequencyCounter<String> first = new SpaceSavingFrequencyCounter<>(2);
+        final SpaceSavingFrequencyCounter<String> second = new SpaceSavingFrequencyCounter<>(2);
+
+        for (String key : List.of("a", "a", "a", "b")) {
+            first.add(key);
+        }
+
+        for (String key : List.of("c", "c", "d")) {
+            second.add(key);
+        }
+
+        first.merge(second);
+
+        final Map<String, Integer> top = first.getTop(2);
+
+        assertEquals(Map.of("a", 4, "c", 3), top);
+        assertEquals(Map.of("a", 1, "c", 1), first.getErrors(top.keySet()));
+    }
+
+    @Test
+    public void writeAndRead_ShouldRestoreCountsAndErrors() throws IOException {
+        final SpaceSavingFrequencyCounter<String> counter = new SpaceSavingFrequencyCounter<>(2);
+        final SpaceSavingFrequencyCounter<String> restored = new SpaceSavingFrequencyCounter<>(2);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        for (String key : List.of("a", "a", "a", "b", "c")) {
+            counter.add(key);
+        }
+
+        counter.write(new DataOutputStream(bytes), new StringKeyCodec());
+        restored.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), new StringKeyCodec());
+        restored.add("c");
+
+        assertEquals(Map.of("a", 3, "c", 3), restored.getTop(2));
+        assertEquals(Map.of("a", 0, "c", 1), restored.getErrors(Set.of("a", "c")));
+    }
+
+    @Test
+    public void readWithDifferentCapacity_ShouldThrowIOException() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        new SpaceSavingFrequencyCounter<String>(2).write(new DataOutputStream(bytes), new StringKeyCodec());
+
+        assertThatThrownBy(() -> {
+            new SpaceSavingFrequencyCounter<String>(3)
+                .read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), new StringKeyCodec());
+        }).isInstanceOf(IOException.class)
+            .hasMessageContaining(INCORRECT_STATISTICS_DATA_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void mergeWithDifferentCapacity_ShouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> {
+            new SpaceSavingFrequencyCounter<String>(2).merge(new SpaceSavingFrequencyCounter<>(3));
+        }).isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining(DIFFERENT_STATISTICS_TYPES_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    public void mergeSkewedStreams_ShouldKeepCountsWithinErrors(int capacity) {
+        final SpaceSavingFrequencyCounter<String> counter = new SpaceSavingFrequencyCounter<>(capacity);
+        final SpaceSavingFrequencyCounter<String> other = new SpaceSavingFrequencyCounter<>(capacity);
+        final Object2IntOpenHashMap<String> exactCounts = new Object2IntOpenHashMap<>();
+        final Random random = new Random(capacity);
+        final int valuesCount = 100_000;
+        final int keysCount = 10_000;
+        final int topCount = 5;
+
+        for (int i = 0; i < valuesCount; i++) {
+            final String key = String.valueOf((int) (keysCount * Math.pow(random.nextDouble(), 8)));
+
+            (i % 2 == 0 ? counter : other).add(key);
+            exactCounts.addTo(key, 1);
+        }
+
+        counter.merge(other);
+
+        final Map<String, Integer> top = counter.getTop(topCount);
+        final Map<String, Integer> errors = counter.getErrors(top.keySet());
+
+        TopKSelector.select(exactCounts, topCount).forEach((key, count) -> {
+            if (count > valuesCount / capacity) {
+                assertTrue(top.containsKey(key));
+            }
+        });
+        top.forEach((key, count) -> {
+            assertTrue(count - errors.get(key) <= exactCounts.getInt(key));
+            assertTrue(exactCounts.getInt(key) <= count);
+            assertTrue(errors.get(key) <= valuesCount / capacity);
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    public void addSkewedStream_ShouldKeepCountsWithinErrors(int capacity) {
+        final SpaceSavingFrequencyCounter<String> counter = new SpaceSavingFrequencyCounter<>(capacity);
+        final Object2IntOpenHashMap<String> exactCounts = new Object2IntOpenHashMap<>();
+        final Random random = new Random(capacity);
+        final int valuesCount = 100_000;
+        final int keysCount = 10_000;
+        final int topCount = 5;
+
+        for (int i = 0; i < valuesCount; i++) {
+            final String key = String.valueOf((int) (keysCount * Math.pow(random.nextDouble(), 8)));
+
+            counter.add(key);
+            exactCounts.addTo(key, 1);
+        }
+
+        final Map<String, Integer> top = counter.getTop(topCount);
+        final Map<String, Integer> errors = counter.getErrors(top.keySet());
+
+        TopKSelector.select(exactCounts, topCount).forEach((key, count) -> {
+            if (count > valuesCount / capacity) {
+                assertTrue(top.containsKey(key));
+            }
+        });
+        top.forEach((key, count) -> {
+            assertTrue(count - errors.get(key) <= exactCounts.getInt(key));
+            assertTrue(exactCounts.getInt(key) <= count);
+            assertTrue(errors.get(key) <= valuesCount / capacity);
+        });
+    }
+}
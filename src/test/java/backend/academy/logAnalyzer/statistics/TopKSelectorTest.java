@@ -0,0 +1,78 @@
+package backend.academy.logAnalyzer.statistics;
+
+import backend.academy.logAnalyzer.CommonTest;
+import backend.academy.logAnalyzer.enums.HttpMethod;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TopKSelectorTest extends CommonTest {
+
+    @Test
+    public void selectFromEmptyMap_ShouldReturnEmptyMap() {
+        assertEquals(Map.of(), TopKSelector.select(new Object2IntOpenHashMap<String>(), DEFAULT_DAYS_COUNT));
+    }
+
+    @Test
+    public void selectWithLimitGreaterThanSize_ShouldReturnAllEntriesSorted() {
+        final Object2IntMap<HttpMethod> counts = new Object2IntOpenHashMap<>();
+        counts.put(HttpMethod.HEAD, 1);
+        counts.put(HttpMethod.GET, 49);
+        counts.put(HttpMethod.POST, 7);
+
+        final Map<HttpMethod, Integer> result = TopKSelector.select(counts, 10);
+
+        assertEquals(List.of(HttpMethod.GET, HttpMethod.POST, HttpMethod.HEAD), List.copyOf(result.keySet()));
+        assertEquals(counts, result);
+    }
+
+    @Test
+    public void selectWithTies_ShouldOrderByCountThenByKey() {
+        final Object2IntMap<String> counts = new Object2IntOpenHashMap<>();
+        counts.put("d", 2);
+        counts.put("c", 5);
+        counts.put("b", 2);
+        counts.put("a", 2);
+        counts.put("e", 1);
+
+        final Map<String, Integer> result = TopKSelector.select(counts, 3);
+
+        assertEquals(List.of("c", "a", "b"), List.copyOf(result.keySet()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 100, 10_000})
+    public void selectWithRandomCounts_ShouldMatchFullSort(int limit) {
+        final Random random = new Random(limit);
+        final Object2IntMap<String> counts = new Object2IntOpenHashMap<>();
+        final int keysCount = 20_000;
+        final int maxCount = 50;
+
+        for (int i = 0; i < keysCount; i++) {
+            counts.put(String.valueOf(i), random.nextInt(maxCount));
+        }
+
+        final Map<String, Integer> expected = counts.entrySet().stream()
+            .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()))
+            .limit(limit)
+            .collect(Collectors.toMap(
+                Map.Entry::getKey,
+                Map.Entry::getValue,
+                (oldValue, newValue) -> oldValue,
+                LinkedHashMap::new
+            ));
+
+        final Map<String, Integer> result = TopKSelector.select(counts, limit);
+
+        assertEquals(List.copyOf(expected.entrySet()), List.copyOf(result.entrySet()));
+    }
+}